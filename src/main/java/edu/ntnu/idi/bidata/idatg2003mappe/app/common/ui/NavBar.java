@@ -24,7 +24,7 @@ import java.util.logging.Logger;
  * and game-specific functionality.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.2
+ * @version 0.0.3
  * @since 21.05.2025
  */
 public class NavBar {
@@ -82,6 +82,37 @@ public class NavBar {
     this.missingDiamondGUI = gui;
   }
 
+  /**
+   * <p>Starts saving the game automatically after every turn.</p>
+   * <p>The Missing Diamond game is autosaved, and every turn of both games is recorded
+   * so the game can be recovered after a crash.</p>
+   */
+  public void startAutosave() {
+    if (gameController instanceof MissingDiamondController missingController) {
+      gameSaveLoadHandler.startAutosave(missingController);
+    } else if (gameController instanceof LadderGameController ladderController) {
+      gameSaveLoadHandler.startAutosave(ladderController);
+    }
+  }
+
+  /**
+   * <p>Offers to continue a ladder game that was not ended properly.</p>
+   *
+   * @return The controller of the recovered game, or <code>null</code> to start a new game
+   */
+  public LadderGameController recoverLadderGame() {
+    return gameSaveLoadHandler.recoverLadderGame();
+  }
+
+  /**
+   * <p>Offers to continue a Missing Diamond game that was not ended properly.</p>
+   *
+   * @return The controller of the recovered game, or <code>null</code> to start a new game
+   */
+  public MissingDiamondController recoverMissingDiamond() {
+    return gameSaveLoadHandler.recoverMissingDiamond();
+  }
+
   /**
    * <p>Gets or creates the BoardGameSelector instance (lazy initialization).</p>
    * <p>Creates the instance only when first needed to avoid unnecessary coupling.</p>
@@ -141,6 +172,7 @@ public class NavBar {
           showNavigationAlert("Already in main menu.");
           return;
         }
+        gameSaveLoadHandler.stopAutosave();
         selector.start(getStage());
       } catch (Exception e) {
         logger.severe("Error navigating to main menu: " + e.getMessage());
@@ -204,7 +236,11 @@ public class NavBar {
     MenuItem quickSaveMenuItem = new MenuItem("Quick Save");
     quickSaveMenuItem.setOnAction(event -> {
       List<Player> players = getPlayersFromController();
-      if (players != null && !players.isEmpty()) {
+      if (gameController instanceof MissingDiamondController missingController && !players.isEmpty()) {
+        gameSaveLoadHandler.quickSaveMissingDiamond(missingController).handle(event);
+      } else if (gameController instanceof LadderGameController ladderController && !players.isEmpty()) {
+        gameSaveLoadHandler.quickSaveLadderGame(ladderController).handle(event);
+      } else if (players != null && !players.isEmpty()) {
         gameSaveLoadHandler.quickSaveGame(players).handle(event);
       } else {
         // Show error message
@@ -241,12 +277,17 @@ public class NavBar {
 
   /**
    * <p>Creates an event handler that closes the application.</p>
-   * <p>When triggered, this handler will terminate the application completely.</p>
+   * <p>When triggered, this handler writes any saves still waiting and then
+   * terminates the application completely.</p>
    *
    * @return EventHandler for closing the application
    */
   private EventHandler<ActionEvent> closeFile() {
-    return event -> System.exit(0);
+    return event -> {
+      // Let the background writers finish the last save
+      gameSaveLoadHandler.stopAutosave();
+      System.exit(0);
+    };
   }
 
   /**
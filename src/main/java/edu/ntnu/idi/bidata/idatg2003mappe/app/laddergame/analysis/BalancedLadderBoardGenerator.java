@@ -0,0 +1,179 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardLinear;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
+
+import java.util.Random;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * <p>Generates random ladder boards whose length falls inside a target band.</p>
+ * <p>Candidate layouts are produced with the placement rules of
+ * {@link LadderGameBoardFactory} and scored in parallel with the exact
+ * {@link LadderBoardAnalyzer}, without creating any tiles. The first candidate whose
+ * expected length and variance are inside the band is turned into a board.</p>
+ * <p>Candidates are derived from the seed and their index only, and are checked in index
+ * order, so the same seed always gives the same board regardless of thread scheduling.
+ * If no candidate fits the band, the one closest to it is used.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public class BalancedLadderBoardGenerator {
+  private static final Logger logger = Logger.getLogger(BalancedLadderBoardGenerator.class.getName());
+
+  /**
+   * <p>Default lower bound for the expected number of turns of a single player.</p>
+   */
+  public static final double DEFAULT_MIN_EXPECTED_TURNS = 32.0;
+
+  /**
+   * <p>Default upper bound for the expected number of turns of a single player.</p>
+   */
+  public static final double DEFAULT_MAX_EXPECTED_TURNS = 45.0;
+
+  /**
+   * <p>Default upper bound for the variance of the number of turns (standard deviation 22).</p>
+   */
+  public static final double DEFAULT_MAX_VARIANCE = 484.0;
+
+  private static final int DEFAULT_MAX_CANDIDATES = 4_096;
+  private static final int BATCH_SIZE = 64;
+  private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+  private final double minExpectedTurns;
+  private final double maxExpectedTurns;
+  private final double minVariance;
+  private final double maxVariance;
+  private final int maxCandidates;
+
+  /**
+   * <p>Creates a generator with the default target band.</p>
+   */
+  public BalancedLadderBoardGenerator() {
+    this(DEFAULT_MIN_EXPECTED_TURNS, DEFAULT_MAX_EXPECTED_TURNS, 0.0, DEFAULT_MAX_VARIANCE,
+        DEFAULT_MAX_CANDIDATES);
+  }
+
+  /**
+   * <p>Creates a generator with a custom target band.</p>
+   * <p>The band is measured for a single player, in that player's turns.</p>
+   *
+   * @param minExpectedTurns Lowest accepted expected number of turns
+   * @param maxExpectedTurns Highest accepted expected number of turns
+   * @param minVariance      Lowest accepted variance of the number of turns
+   * @param maxVariance      Highest accepted variance of the number of turns
+   * @param maxCandidates    Number of candidates to try before settling for the closest one
+   * @throws IllegalArgumentException If a range is empty or the candidate count is not positive
+   */
+  public BalancedLadderBoardGenerator(double minExpectedTurns, double maxExpectedTurns,
+                                      double minVariance, double maxVariance, int maxCandidates) {
+    if (minExpectedTurns > maxExpectedTurns) {
+      throw new IllegalArgumentException("Minimum expected turns cannot exceed the maximum.");
+    }
+    if (minVariance > maxVariance) {
+      throw new IllegalArgumentException("Minimum variance cannot exceed the maximum.");
+    }
+    if (maxCandidates < 1) {
+      throw new IllegalArgumentException("At least one candidate must be tried.");
+    }
+    this.minExpectedTurns = minExpectedTurns;
+    this.maxExpectedTurns = maxExpectedTurns;
+    this.minVariance = minVariance;
+    this.maxVariance = maxVariance;
+    this.maxCandidates = maxCandidates;
+  }
+
+  /**
+   * <p>Generates a board inside the target band.</p>
+   *
+   * @param seed The seed deciding which board is generated
+   * @return A {@link BoardLinear} with balanced ladders and snakes
+   */
+  public BoardLinear generate(long seed) {
+    return LadderGameBoardFactory.createLadderBoard(generateConnections(seed));
+  }
+
+  /**
+   * <p>Generates the connection table of a board inside the target band.</p>
+   *
+   * @param seed The seed deciding which board is generated
+   * @return The destination position of every tile, see
+   *     {@link LadderGameBoardFactory#createLadderBoard(int[])}
+   */
+  public int[] generateConnections(long seed) {
+    Candidate closest = null;
+    for (int batchStart = 0; batchStart < maxCandidates; batchStart += BATCH_SIZE) {
+      int batchEnd = Math.min(maxCandidates, batchStart + BATCH_SIZE);
+      Candidate[] batch = IntStream.range(batchStart, batchEnd)
+          .parallel()
+          .mapToObj(index -> scoreCandidate(seed, index))
+          .toArray(Candidate[]::new);
+
+      for (Candidate candidate : batch) {
+        if (candidate.distance == 0.0) {
+          return candidate.connections;
+        }
+        if (closest == null || candidate.distance < closest.distance) {
+          closest = candidate;
+        }
+      }
+    }
+
+    logger.warning("No ladder board within the target band after " + maxCandidates
+        + " candidates; using the closest one.");
+    return closest.connections;
+  }
+
+  /**
+   * <p>Checks whether an analysis lies inside the target band.</p>
+   *
+   * @param analysis The analysis of a board
+   * @return <code>true</code> if both expected length and variance are inside the band
+   */
+  public boolean isInBand(LadderBoardAnalysis analysis) {
+    return distanceToBand(analysis) == 0.0;
+  }
+
+  private Candidate scoreCandidate(long seed, int index) {
+    int[] connections = LadderGameBoardFactory.generateRandomConnections(
+        new Random(seed + index * SEED_STRIDE));
+    LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyzeWithoutCaching(
+        LadderGameBoardFactory.createLayout(connections));
+    return new Candidate(connections, distanceToBand(analysis));
+  }
+
+  /**
+   * <p>Measures how far an analysis is from the band, relative to the band limits.</p>
+   *
+   * @return Zero inside the band, otherwise a positive distance
+   */
+  private double distanceToBand(LadderBoardAnalysis analysis) {
+    if (!analysis.isFinishable()) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double mean = analysis.getExpectedTurns();
+    double variance = analysis.getVariance();
+    double meanDistance = Math.max(0.0, Math.max(minExpectedTurns - mean, mean - maxExpectedTurns))
+        / Math.max(1.0, maxExpectedTurns);
+    double varianceDistance =
+        Math.max(0.0, Math.max(minVariance - variance, variance - maxVariance))
+            / Math.max(1.0, maxVariance);
+    return meanDistance + varianceDistance;
+  }
+
+  /**
+   * <p>A scored candidate layout.</p>
+   */
+  private static final class Candidate {
+    private final int[] connections;
+    private final double distance;
+
+    private Candidate(int[] connections, double distance) {
+      this.connections = connections;
+      this.distance = distance;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderLayout;
+
+import java.util.Arrays;
+
+/**
+ * <p>Exact results of the Markov-chain analysis of a ladder board.</p>
+ * <p>All numbers describe a single player moving on their own, counted in that
+ * player's turns (a skipped turn counts as a turn):</p>
+ * <ul>
+ *   <li>Expected number of turns to reach the goal and its variance</li>
+ *   <li>Expected number of turns started on each tile</li>
+ *   <li>Probability that each tile is ever occupied</li>
+ * </ul>
+ * <p>Boards where the goal cannot always be reached report an infinite expected length.
+ * Visit probabilities are computed on first use, since board generators usually only
+ * need the length statistics.</p>
+ * <p>Only the derived numbers are kept, not the transition matrix, so cached analyses
+ * stay small.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class LadderBoardAnalysis {
+  private final LadderLayout layout;
+  private final int boardSize;
+  private final boolean finishable;
+  private final double expectedTurns;
+  private final double variance;
+  private final double[] expectedVisits;
+  private double[] visitProbabilities;
+
+  /**
+   * <p>Runs the analysis on a board layout.</p>
+   *
+   * @param layout The layout of the board
+   */
+  LadderBoardAnalysis(LadderLayout layout) {
+    LadderTransitionMatrix matrix = new LadderTransitionMatrix(layout);
+    this.layout = layout;
+    this.boardSize = layout.size();
+    this.finishable = matrix.isAbsorbing();
+    this.expectedVisits = new double[boardSize];
+
+    if (!finishable) {
+      this.expectedTurns = Double.POSITIVE_INFINITY;
+      this.variance = Double.POSITIVE_INFINITY;
+      Arrays.fill(expectedVisits, Double.NaN);
+      return;
+    }
+
+    int states = matrix.getStateCount();
+    int start = matrix.getStartState();
+
+    // t = N 1, w = N t, variance = 2 w - t - t^2 (N is the fundamental matrix)
+    double[] ones = new double[states];
+    Arrays.fill(ones, 1.0);
+    double[] turns = matrix.solve(ones, false);
+    double[] weighted = matrix.solve(turns, false);
+    this.expectedTurns = turns[start];
+    this.variance = 2 * weighted[start] - turns[start] - turns[start] * turns[start];
+
+    // Row of N for the start state: expected turns started in each state
+    double[] unit = new double[states];
+    unit[start] = 1.0;
+    double[] visits = matrix.solve(unit, true);
+    for (int state = 0; state < states; state++) {
+      expectedVisits[matrix.positionOf(state)] += visits[state];
+    }
+  }
+
+  /**
+   * <p>Gets the expected number of turns to finish the board.</p>
+   *
+   * @return The expected number of turns, or infinity if the goal may be unreachable
+   */
+  public double getExpectedTurns() {
+    return expectedTurns;
+  }
+
+  /**
+   * <p>Gets the variance of the number of turns to finish the board.</p>
+   *
+   * @return The variance, or infinity if the goal may be unreachable
+   */
+  public double getVariance() {
+    return variance;
+  }
+
+  /**
+   * <p>Gets the standard deviation of the number of turns to finish the board.</p>
+   *
+   * @return The standard deviation, or infinity if the goal may be unreachable
+   */
+  public double getStandardDeviation() {
+    return Math.sqrt(variance);
+  }
+
+  /**
+   * <p>Checks whether the goal is reached with probability one.</p>
+   *
+   * @return <code>true</code> if the expected length is finite
+   */
+  public boolean isFinishable() {
+    return finishable;
+  }
+
+  /**
+   * <p>Gets the expected number of turns started on a tile.</p>
+   * <p>The values over all tiles add up to {@link #getExpectedTurns()}.</p>
+   *
+   * @param position The board position of the tile
+   * @return The expected number of turns started on the tile
+   */
+  public double getExpectedVisits(int position) {
+    return expectedVisits[position];
+  }
+
+  /**
+   * <p>Gets the probability that a tile is ever occupied during a game.</p>
+   * <p>The goal tile has probability one on finishable boards. Tiles holding a ladder
+   * or snake are never occupied and have probability zero.</p>
+   *
+   * @param position The board position of the tile
+   * @return The probability of occupying the tile at least once
+   * @throws IllegalStateException If the board has too many states to compute the
+   *                               probabilities exactly
+   */
+  public synchronized double getVisitProbability(int position) {
+    if (visitProbabilities == null) {
+      visitProbabilities = computeVisitProbabilities();
+    }
+    return visitProbabilities[position];
+  }
+
+  /**
+   * <p>Computes the probability of ever occupying each tile.</p>
+   * <p>For a state <code>j</code> this is <code>N[start][j] / N[j][j]</code>, read from
+   * the fundamental matrix, which is computed once for all tiles. The transition matrix
+   * is rebuilt from the layout for this, since it is not kept between calls. A pending
+   * skip always returns to the same tile without a skip, so the skip-free state decides
+   * whether a tile is occupied.</p>
+   */
+  private double[] computeVisitProbabilities() {
+    double[] probabilities = new double[boardSize];
+    if (!finishable) {
+      Arrays.fill(probabilities, Double.NaN);
+      return probabilities;
+    }
+
+    LadderTransitionMatrix matrix = new LadderTransitionMatrix(layout);
+    int states = matrix.getStateCount();
+    int startRow = matrix.getStartState() * states;
+    double[] fundamental = matrix.fundamentalMatrix();
+    for (int position = 0; position < boardSize; position++) {
+      int state = matrix.stateOf(position);
+      if (state < 0) {
+        continue;
+      }
+      double visits = fundamental[startRow + state];
+      double returns = fundamental[state * states + state];
+      probabilities[position] = Math.min(1.0, visits / returns);
+    }
+    probabilities[boardSize - 1] = 1.0;
+    return probabilities;
+  }
+
+  /**
+   * <p>Gets the number of tiles on the analyzed board.</p>
+   *
+   * @return The number of tiles
+   */
+  public int getBoardSize() {
+    return boardSize;
+  }
+}
@@ -0,0 +1,110 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardLinear;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderLayout;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>Exact analyzer for ladder boards based on absorbing Markov chains.</p>
+ * <p>The board is converted into a sparse transition matrix over (tile, pending skip)
+ * states, including ladders, snakes and the <code>skipTurn</code> and
+ * <code>backToStart</code> effects. The expected length, its variance and the
+ * per-tile visit statistics are then solved for directly, so no games need to be
+ * simulated to compare boards.</p>
+ * <p>Results are cached by {@link LadderLayout}, so analyzing the same layout again
+ * is a single map lookup. The cache holds only the derived results, keeps the most
+ * recently used layouts when it is full, and is safe to use from several threads.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class LadderBoardAnalyzer {
+  static final int MAX_CACHED_LAYOUTS = 4_096;
+  private static final Map<LadderLayout, LadderBoardAnalysis> cache =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LadderLayout, LadderBoardAnalysis> eldest) {
+          return size() > MAX_CACHED_LAYOUTS;
+        }
+      };
+
+  private LadderBoardAnalyzer() {
+    // Static utility class
+  }
+
+  /**
+   * <p>Analyzes a ladder board.</p>
+   *
+   * @param board The board to analyze
+   * @return The analysis of the board's layout
+   * @throws IllegalArgumentException If the board is null
+   * @throws IllegalStateException    If the board has no tiles
+   */
+  public static LadderBoardAnalysis analyze(BoardLinear board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+    return analyze(board.getCompiledBoard().getLayout());
+  }
+
+  /**
+   * <p>Analyzes a ladder board layout, reusing a cached result when available.</p>
+   *
+   * @param layout The layout to analyze
+   * @return The analysis of the layout
+   * @throws IllegalArgumentException If the layout is null
+   */
+  public static LadderBoardAnalysis analyze(LadderLayout layout) {
+    if (layout == null) {
+      throw new IllegalArgumentException("Layout cannot be null.");
+    }
+    synchronized (cache) {
+      LadderBoardAnalysis cached = cache.get(layout);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    // Analyze outside the lock, so other threads can use the cache meanwhile
+    LadderBoardAnalysis analysis = analyzeWithoutCaching(layout);
+    synchronized (cache) {
+      LadderBoardAnalysis existing = cache.putIfAbsent(layout, analysis);
+      return existing != null ? existing : analysis;
+    }
+  }
+
+  /**
+   * <p>Analyzes a layout without reading or filling the cache.</p>
+   * <p>Used for throwaway candidate layouts that would otherwise push useful
+   * entries out of the cache.</p>
+   *
+   * @param layout The layout to analyze
+   * @return The analysis of the layout
+   */
+  static LadderBoardAnalysis analyzeWithoutCaching(LadderLayout layout) {
+    return new LadderBoardAnalysis(layout);
+  }
+
+  /**
+   * <p>Removes all cached analyses.</p>
+   */
+  public static void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * <p>Gets the number of cached analyses.</p>
+   *
+   * @return The number of layouts in the cache
+   */
+  public static int getCacheSize() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+}
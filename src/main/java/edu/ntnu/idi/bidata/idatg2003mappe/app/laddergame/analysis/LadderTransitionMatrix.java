@@ -0,0 +1,377 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderLayout;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LandingTable;
+
+import java.util.Arrays;
+
+/**
+ * <p>Sparse transition matrix of the absorbing Markov chain for one ladder player.</p>
+ * <p>A state is a board position combined with a pending skip flag. Only states
+ * reachable from the start are kept. The transient part of the chain is stored in
+ * compressed sparse row (CSR) form, both as rows and transposed, together with the
+ * probability of moving from each state straight into the absorbing goal.</p>
+ * <p>The chain follows the turn rules of the ladder controller: a pending skip consumes
+ * the turn, otherwise the roll is resolved through the layout's {@link LandingTable},
+ * which applies the tile effect and follows chained ladders and snakes. Reaching the
+ * goal tile ends the chain.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+final class LadderTransitionMatrix {
+  private static final int DIE_FACES = LandingTable.MAX_ROLL;
+  private static final double ROLL_PROBABILITY = 1.0 / DIE_FACES;
+  private static final double TOLERANCE = 1e-12;
+  private static final int MAX_SWEEPS = 1_000_000;
+  private static final int ABSORBED = -1;
+  private static final int MAX_DENSE_STATES = 2_048;
+
+  private final int stateCount;
+  private final int[] positionOfState;
+  private final int[] sweepOrder;
+  private final int[] stateOfPosition;
+  private final int[] rowStart;
+  private final int[] column;
+  private final double[] value;
+  private final double[] diagonal;
+  private final double[] absorption;
+  private final int[] transposedRowStart;
+  private final int[] transposedColumn;
+  private final double[] transposedValue;
+  private final boolean absorbing;
+
+  /**
+   * <p>Builds the transition matrix for a layout.</p>
+   *
+   * @param layout The board layout to build the chain for
+   */
+  LadderTransitionMatrix(LadderLayout layout) {
+    int positions = layout.size();
+    int rawStates = positions * 2;
+
+    // Discover states reachable from the start, breadth first
+    int[] compact = new int[rawStates];
+    Arrays.fill(compact, -1);
+    int[] order = new int[rawStates];
+    int count = 0;
+    int startRaw = rawState(layout.getStartIndex(), false);
+    compact[startRaw] = count;
+    order[count++] = startRaw;
+
+    int[] targets = new int[DIE_FACES];
+    double[] weights = new double[DIE_FACES];
+    int[] rowLength = new int[rawStates];
+    int[][] rowTargets = new int[rawStates][];
+    double[][] rowWeights = new double[rawStates][];
+    double[] absorb = new double[rawStates];
+
+    for (int head = 0; head < count; head++) {
+      int raw = order[head];
+      int length = successors(layout, raw, targets, weights, absorb, head);
+      rowLength[head] = length;
+      rowTargets[head] = Arrays.copyOf(targets, length);
+      rowWeights[head] = Arrays.copyOf(weights, length);
+      for (int k = 0; k < length; k++) {
+        if (compact[targets[k]] < 0) {
+          compact[targets[k]] = count;
+          order[count++] = targets[k];
+        }
+      }
+    }
+
+    this.stateCount = count;
+    this.positionOfState = new int[count];
+    this.stateOfPosition = new int[positions];
+    Arrays.fill(stateOfPosition, -1);
+    for (int state = 0; state < count; state++) {
+      positionOfState[state] = order[state] >> 1;
+      if ((order[state] & 1) == 0) {
+        stateOfPosition[order[state] >> 1] = state;
+      }
+    }
+
+    // Gauss-Seidel converges fastest when sweeping against the direction of play,
+    // since the expected remaining length of a tile mostly depends on the tiles ahead
+    this.sweepOrder = new int[count];
+    int nextSlot = 0;
+    for (int position = positions - 1; position >= 0; position--) {
+      for (int skip = 1; skip >= 0; skip--) {
+        int state = compact[position * 2 + skip];
+        if (state >= 0) {
+          sweepOrder[nextSlot++] = state;
+        }
+      }
+    }
+
+    // Pack rows into CSR, keeping the diagonal separately for Gauss-Seidel
+    this.rowStart = new int[count + 1];
+    this.diagonal = new double[count];
+    this.absorption = Arrays.copyOf(absorb, count);
+    int entries = 0;
+    for (int state = 0; state < count; state++) {
+      entries += rowLength[state];
+    }
+    int[] columns = new int[entries];
+    double[] values = new double[entries];
+    int cursor = 0;
+    for (int state = 0; state < count; state++) {
+      rowStart[state] = cursor;
+      for (int k = 0; k < rowLength[state]; k++) {
+        int target = compact[rowTargets[state][k]];
+        if (target == state) {
+          diagonal[state] += rowWeights[state][k];
+        } else {
+          columns[cursor] = target;
+          values[cursor] = rowWeights[state][k];
+          cursor++;
+        }
+      }
+    }
+    rowStart[count] = cursor;
+    this.column = Arrays.copyOf(columns, cursor);
+    this.value = Arrays.copyOf(values, cursor);
+
+    // Transposed copy for solving against the columns of the fundamental matrix
+    this.transposedRowStart = new int[count + 1];
+    for (int k = 0; k < cursor; k++) {
+      transposedRowStart[column[k] + 1]++;
+    }
+    for (int state = 0; state < count; state++) {
+      transposedRowStart[state + 1] += transposedRowStart[state];
+    }
+    this.transposedColumn = new int[cursor];
+    this.transposedValue = new double[cursor];
+    int[] fill = Arrays.copyOf(transposedRowStart, count);
+    for (int state = 0; state < count; state++) {
+      for (int k = rowStart[state]; k < rowStart[state + 1]; k++) {
+        int slot = fill[column[k]]++;
+        transposedColumn[slot] = state;
+        transposedValue[slot] = value[k];
+      }
+    }
+
+    this.absorbing = everyStateCanFinish();
+  }
+
+  private static int rawState(int position, boolean skipPending) {
+    return position * 2 + (skipPending ? 1 : 0);
+  }
+
+  /**
+   * <p>Lists the transient successors of a state and records its absorption probability.</p>
+   *
+   * @return The number of distinct transient successors written to the arrays
+   */
+  private static int successors(LadderLayout layout, int raw, int[] targets, double[] weights,
+                                double[] absorb, int compactState) {
+    int position = raw >> 1;
+    if ((raw & 1) == 1) {
+      targets[0] = rawState(position, false);
+      weights[0] = 1.0;
+      return 1;
+    }
+
+    int length = 0;
+    for (int roll = 1; roll <= DIE_FACES; roll++) {
+      int target = resolve(layout, position, roll);
+      if (target == ABSORBED) {
+        absorb[compactState] += ROLL_PROBABILITY;
+        continue;
+      }
+      int existing = indexOf(targets, length, target);
+      if (existing >= 0) {
+        weights[existing] += ROLL_PROBABILITY;
+      } else {
+        targets[length] = target;
+        weights[length] = ROLL_PROBABILITY;
+        length++;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * <p>Applies one roll from a position and returns the resulting raw state.</p>
+   *
+   * @return The raw state after the roll, or {@link #ABSORBED} if the goal is reached
+   */
+  private static int resolve(LadderLayout layout, int position, int roll) {
+    LandingTable landings = layout.getLandingTable();
+    int landed = landings.restingIndexOf(position, roll);
+    boolean skip = landings.effectOf(position, roll) == CompiledLadderBoard.EFFECT_SKIP_TURN;
+    return landed == layout.getGoalIndex() ? ABSORBED : rawState(landed, skip);
+  }
+
+  private static int indexOf(int[] values, int length, int target) {
+    for (int i = 0; i < length; i++) {
+      if (values[i] == target) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * <p>Checks that the goal can be reached from every reachable state.</p>
+   * <p>Without this the system is singular and the expected length is infinite,
+   * for example when a snake sits on the goal tile.</p>
+   */
+  private boolean everyStateCanFinish() {
+    boolean[] finishes = new boolean[stateCount];
+    int[] queue = new int[stateCount];
+    int tail = 0;
+    for (int state = 0; state < stateCount; state++) {
+      if (absorption[state] > 0) {
+        finishes[state] = true;
+        queue[tail++] = state;
+      }
+    }
+    for (int head = 0; head < tail; head++) {
+      int state = queue[head];
+      for (int k = transposedRowStart[state]; k < transposedRowStart[state + 1]; k++) {
+        int predecessor = transposedColumn[k];
+        if (!finishes[predecessor]) {
+          finishes[predecessor] = true;
+          queue[tail++] = predecessor;
+        }
+      }
+    }
+    return tail == stateCount;
+  }
+
+  /**
+   * <p>Solves <code>(I - Q) x = b</code> with Gauss-Seidel sweeps.</p>
+   *
+   * @param b          The right-hand side
+   * @param transposed Whether to solve against <code>(I - Q)</code> transposed
+   * @return The solution vector
+   * @throws IllegalStateException If the iteration does not converge
+   */
+  double[] solve(double[] b, boolean transposed) {
+    int[] starts = transposed ? transposedRowStart : rowStart;
+    int[] columns = transposed ? transposedColumn : column;
+    double[] values = transposed ? transposedValue : value;
+
+    double[] x = new double[stateCount];
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double largestChange = 0;
+      for (int step = 0; step < stateCount; step++) {
+        // Transposed systems propagate along the direction of play instead
+        int state = transposed ? sweepOrder[stateCount - 1 - step] : sweepOrder[step];
+        double sum = b[state];
+        for (int k = starts[state]; k < starts[state + 1]; k++) {
+          sum += values[k] * x[columns[k]];
+        }
+        double updated = sum / (1.0 - diagonal[state]);
+        double change = Math.abs(updated - x[state]) / Math.max(1.0, Math.abs(updated));
+        largestChange = Math.max(largestChange, change);
+        x[state] = updated;
+      }
+      if (largestChange < TOLERANCE) {
+        return x;
+      }
+    }
+    throw new IllegalStateException("Markov chain solver did not converge.");
+  }
+
+  /**
+   * <p>Computes the fundamental matrix <code>N = (I - Q)^-1</code> in one elimination.</p>
+   * <p><code>I - Q</code> is a nonsingular M-matrix on absorbing chains, so Gauss-Jordan
+   * elimination needs no pivoting. The matrix is dense, so the state count is limited to
+   * keep it within a few tens of megabytes.</p>
+   *
+   * @return The fundamental matrix in row-major order, <code>stateCount</code> wide
+   * @throws IllegalStateException If the chain is not absorbing or has too many states
+   */
+  double[] fundamentalMatrix() {
+    if (!absorbing) {
+      throw new IllegalStateException("The fundamental matrix only exists for absorbing chains.");
+    }
+    if (stateCount > MAX_DENSE_STATES) {
+      throw new IllegalStateException("Board has too many states for a dense fundamental matrix: "
+          + stateCount + " (max " + MAX_DENSE_STATES + ").");
+    }
+
+    int n = stateCount;
+    double[] a = new double[n * n];
+    for (int state = 0; state < n; state++) {
+      int row = state * n;
+      a[row + state] = 1.0 - diagonal[state];
+      for (int k = rowStart[state]; k < rowStart[state + 1]; k++) {
+        a[row + column[k]] -= value[k];
+      }
+    }
+
+    // In-place Gauss-Jordan inversion
+    for (int pivot = 0; pivot < n; pivot++) {
+      int pivotRow = pivot * n;
+      double scale = 1.0 / a[pivotRow + pivot];
+      a[pivotRow + pivot] = 1.0;
+      for (int col = 0; col < n; col++) {
+        a[pivotRow + col] *= scale;
+      }
+      for (int state = 0; state < n; state++) {
+        int row = state * n;
+        double factor = a[row + pivot];
+        if (state == pivot || factor == 0.0) {
+          continue;
+        }
+        a[row + pivot] = 0.0;
+        for (int col = 0; col < n; col++) {
+          a[row + col] -= factor * a[pivotRow + col];
+        }
+      }
+    }
+    return a;
+  }
+
+  /**
+   * <p>Gets the number of reachable states.</p>
+   *
+   * @return The number of transient states in the chain
+   */
+  int getStateCount() {
+    return stateCount;
+  }
+
+  /**
+   * <p>Gets the compact index of the start state.</p>
+   *
+   * @return The start state, always <code>0</code>
+   */
+  int getStartState() {
+    return 0;
+  }
+
+  /**
+   * <p>Gets the board position of a state.</p>
+   *
+   * @param state The compact state index
+   * @return The board position of the state
+   */
+  int positionOf(int state) {
+    return positionOfState[state];
+  }
+
+  /**
+   * <p>Gets the state for a board position without a pending skip.</p>
+   *
+   * @param position The board position
+   * @return The compact state index, or <code>-1</code> if the position is never reached
+   */
+  int stateOf(int position) {
+    return stateOfPosition[position];
+  }
+
+  /**
+   * <p>Checks whether every reachable state eventually reaches the goal.</p>
+   *
+   * @return <code>true</code> if the expected game length is finite
+   */
+  boolean isAbsorbing() {
+    return absorbing;
+  }
+}
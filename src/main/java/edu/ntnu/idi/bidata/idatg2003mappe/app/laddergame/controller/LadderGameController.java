@@ -2,11 +2,14 @@ package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller;
 
 import edu.ntnu.idi.bidata.idatg2003mappe.app.common.observer.BoardGameObserver;
 import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model.LadderGame;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model.PackedLadderState;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.die.Die;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
 import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game.GameState;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game.GameType;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
-import edu.ntnu.idi.bidata.idatg2003mappe.movement.EffectTile;
-import edu.ntnu.idi.bidata.idatg2003mappe.movement.LadderAction;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LandingTable;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,7 +22,7 @@ import java.util.stream.IntStream;
  * This controller manages game state, processes player actions, and notifies
  * observers about game events using the Observer pattern.</p>
  *
- * @version 1.0.0
+ * @version 1.0.1
  * @since 21.05.2025
  */
 public class LadderGameController {
@@ -27,6 +30,8 @@ public class LadderGameController {
   private final boolean randomLadders;
   // Observer pattern for UI updates - CopyOnWriteArrayList for thread-safe iteration
   private final List<BoardGameObserver> observers = new CopyOnWriteArrayList<>();
+  // Reused by the text-based playTurn() so only the rendered message is allocated
+  private final TurnResult lastTurn = new TurnResult();
   private int currentPlayerIndex;
 
   /**
@@ -41,6 +46,34 @@ public class LadderGameController {
     this.game = new LadderGame(randomLadders);
   }
 
+  /**
+   * <p>Creates a new controller for a reproducible game.</p>
+   * <p>The seed decides the board layout and all die rolls, see {@link LadderGame#getSeed()}.</p>
+   *
+   * @param randomLadders <code>true</code> for random ladder placement, <code>false</code> for classic
+   * @param seed          The seed of the game
+   */
+  public LadderGameController(boolean randomLadders, long seed) {
+    this.randomLadders = randomLadders;
+    this.currentPlayerIndex = 0;
+    this.game = new LadderGame(randomLadders, seed);
+  }
+
+  /**
+   * <p>Creates a new controller for a reproducible game on a board of the given size.</p>
+   * <p>Large random boards allow long "marathon" games; see
+   * {@link LadderGame#LadderGame(boolean, long, int)}.</p>
+   *
+   * @param randomLadders Whether to use random ladder placement
+   * @param seed          The seed of the game
+   * @param boardSize     The number of tiles on the board
+   */
+  public LadderGameController(boolean randomLadders, long seed, int boardSize) {
+    this.randomLadders = randomLadders;
+    this.currentPlayerIndex = 0;
+    this.game = new LadderGame(randomLadders, seed, boardSize);
+  }
+
   /**
    * <p>Plays a complete turn for the current player.</p>
    * <p>This method handles the entire turn sequence including:</p>
@@ -55,90 +88,110 @@ public class LadderGameController {
    * @return A detailed message describing what happened during the turn
    */
   public String playTurn() {
-    List<Player> players = game.getPlayers();
-    if (players.isEmpty()) {
+    if (game.getPlayerCount() == 0) {
       return "No players in the game.";
     }
+    playTurn(lastTurn);
+    return describeTurn(lastTurn);
+  }
+
+  /**
+   * <p>Plays a complete turn for the current player without producing any text.</p>
+   * <p>The outcome is written into the given {@link TurnResult}, which can be reused
+   * for every turn. Observers are notified exactly as with {@link #playTurn()}.</p>
+   *
+   * @param result The result object to write the turn outcome into
+   * @return The same result object, filled in
+   * @throws IllegalArgumentException If the result is null
+   * @throws IllegalStateException    If the game has no players
+   */
+  public TurnResult playTurn(TurnResult result) {
+    if (result == null) {
+      throw new IllegalArgumentException("Turn result cannot be null.");
+    }
+    if (game.getPlayerCount() == 0) {
+      throw new IllegalStateException("No players in the game.");
+    }
 
-    Player currentPlayer = players.get(currentPlayerIndex);
-    StringBuilder message = new StringBuilder();
+    Player currentPlayer = game.getPlayer(currentPlayerIndex);
+    result.reset(currentPlayerIndex, currentPlayer.getCurrentTile().getTileId());
 
     // Handle skip turn
     if (currentPlayer.isSkipTurn()) {
-      message.append(currentPlayer.getName()).append(" skips their turn!\n");
+      result.markSkipped();
       currentPlayer.setSkipTurn(false);
       advanceToNextPlayer();
-      return message.toString();
+      return result;
     }
 
     // Roll dice and move
     int roll = game.getDie().rollDie();
-    message.append(currentPlayer.getName()).append(" rolled: ").append(roll).append("\n");
 
+    CompiledLadderBoard compiledBoard = game.getBoard().getCompiledBoard();
     Tile oldTile = currentPlayer.getCurrentTile();
-    currentPlayer.movePlayer(roll);
+    int startIndex = compiledBoard.indexOf(oldTile);
+    currentPlayer.movePlayer(roll, compiledBoard);
     Tile newTile = currentPlayer.getCurrentTile();
 
-    message.append("Moved to tile ").append(newTile.getTileId()).append("\n");
+    result.recordMove(roll, newTile.getTileId());
     notifyPlayerMoved(currentPlayer, oldTile, newTile);
 
-    // Handle tile effects
-    handleTileEffects(currentPlayer, message);
-
-    // Handle ladders
-    handleLadders(currentPlayer, message);
+    // Handle tile effects, ladders and snakes in one table lookup
+    handleLanding(currentPlayer, compiledBoard, startIndex, roll, result);
 
     // Check win condition
     if (currentPlayer.getCurrentTile().getTileId() == game.getNumberOfTiles()) {
-      message.append(currentPlayer.getName()).append(" wins the game!");
+      result.markWon();
       notifyGameEnded(currentPlayer);
-      return message.toString();
+      return result;
     }
 
     // Next player's turn
     advanceToNextPlayer();
-    return message.toString();
+    return result;
   }
 
   /**
-   * <p>Handles special tile effects like skip turn or back to start.</p>
-   * <p>When a player lands on a tile with special effects, this method
-   * processes the effect and applies it to the player.</p>
+   * <p>Renders a turn result as game log text.</p>
    *
-   * @param player  The player affected by the tile effect
-   * @param message StringBuilder to append effect messages to
+   * @param result The result of a turn played by this controller
+   * @return A detailed message describing what happened during the turn
    */
-  private void handleTileEffects(Player player, StringBuilder message) {
-    String effect = player.getCurrentTile().getEffect();
-    if (effect == null) return;
-
-    Tile startTile = getTileByIdLinear(1);
-    EffectTile effectTile = new EffectTile(player.getCurrentTile(), effect, startTile);
-
-    if ("skipTurn".equals(effect)) {
-      message.append("Effect! ").append(player.getName()).append(" will skip next turn\n");
-    } else if ("backToStart".equals(effect)) {
-      message.append("Effect! ").append(player.getName()).append(" goes back to start\n");
-    }
-
-    effectTile.performAction(player);
+  public String describeTurn(TurnResult result) {
+    return result.toMessage(game.getPlayer(result.getPlayerIndex()).getName());
   }
 
   /**
-   * <p>Handles ladder actions when player lands on a ladder tile.</p>
-   * <p>Moves the player to the destination of the ladder and updates
-   * the message log with the resulting movement.</p>
+   * <p>Handles special tile effects, ladders and snakes after a move.</p>
+   * <p>The outcome is read from the board's {@link LandingTable}, which applies the
+   * effect of the landed tile (skip turn or back to start) and then follows ladders
+   * and snakes until the player comes to rest, including a ladder that ends on
+   * another ladder.</p>
    *
-   * @param player  The player to move via ladder
-   * @param message StringBuilder to append ladder movement messages to
+   * @param player        The player who moved
+   * @param compiledBoard The compiled board holding the landing table
+   * @param startIndex    The board position the player moved from
+   * @param roll          The rolled value
+   * @param result        The turn result to record the effect and jump in
    */
-  private void handleLadders(Player player, StringBuilder message) {
-    if (player.getCurrentTile().getDestinationTile() != null) {
+  private void handleLanding(Player player, CompiledLadderBoard compiledBoard, int startIndex,
+                             int roll, TurnResult result) {
+    LandingTable landings = compiledBoard.getLandingTable();
+    byte effect = landings.effectOf(startIndex, roll);
+
+    if (effect == CompiledLadderBoard.EFFECT_SKIP_TURN) {
+      player.setSkipTurn(true);
+      result.recordEffect(effect, player.getCurrentTile().getTileId());
+    } else if (effect == CompiledLadderBoard.EFFECT_BACK_TO_START) {
+      player.placePlayer(compiledBoard.tileAt(compiledBoard.getStartIndex()));
+      result.recordEffect(effect, player.getCurrentTile().getTileId());
+    }
+
+    if (landings.isJumped(startIndex, roll)) {
       Tile oldTile = player.getCurrentTile();
-      LadderAction ladderAction = new LadderAction(player.getCurrentTile());
-      ladderAction.performAction(player);
+      player.placePlayer(compiledBoard.tileAt(landings.restingIndexOf(startIndex, roll)));
 
-      message.append("Ladder! Moved to tile ").append(player.getCurrentTile().getTileId()).append("\n");
+      result.recordJump(player.getCurrentTile().getTileId());
       notifyPlayerMoved(player, oldTile, player.getCurrentTile());
     }
   }
@@ -148,8 +201,8 @@ public class LadderGameController {
    * <p>Updates the current player index and notifies observers about the turn change.</p>
    */
   private void advanceToNextPlayer() {
-    currentPlayerIndex = (currentPlayerIndex + 1) % game.getPlayers().size();
-    notifyTurnChanged(game.getPlayers().get(currentPlayerIndex));
+    currentPlayerIndex = (currentPlayerIndex + 1) % game.getPlayerCount();
+    notifyTurnChanged(game.getPlayer(currentPlayerIndex));
   }
 
   /**
@@ -184,8 +237,8 @@ public class LadderGameController {
   }
 
   /**
-   * <p>Gets a tile by its ID using linear search.</p>
-   * <p>Delegates to the board's linear tile lookup method.</p>
+   * <p>Gets a tile by its ID.</p>
+   * <p>Delegates to the board's tile lookup, which takes constant time.</p>
    *
    * @param tileNumber The tile ID to search for
    * @return The {@link Tile} with the specified ID, or <code>null</code> if not found
@@ -203,6 +256,42 @@ public class LadderGameController {
     return game.getPlayers();
   }
 
+  /**
+   * <p>Gets the index of the player whose turn it is.</p>
+   *
+   * @return The index of the current player in {@link #getPlayers()}
+   */
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * <p>Gets the die of the game.</p>
+   *
+   * @return The {@link Die} rolled by {@link #playTurn()}
+   */
+  public Die getDie() {
+    return game.getDie();
+  }
+
+  /**
+   * <p>Gets the seed of the game.</p>
+   *
+   * @return The seed, see {@link LadderGame#getSeed()}
+   */
+  public long getSeed() {
+    return game.getSeed();
+  }
+
+  /**
+   * <p>Gets the number of tiles on the board.</p>
+   *
+   * @return The board size
+   */
+  public int getBoardSize() {
+    return game.getNumberOfTiles();
+  }
+
   /**
    * <p>Checks if the game is using random ladders.</p>
    *
@@ -220,7 +309,9 @@ public class LadderGameController {
    * @return A {@link GameState} object containing the current game state
    */
   public GameState createGameState() {
-    return new GameState(currentPlayerIndex, randomLadders, game.getPlayers());
+    GameState state = new GameState(currentPlayerIndex, randomLadders, game.getPlayers());
+    state.setGameType(GameType.LADDER_GAME);
+    return state;
   }
 
   /**
@@ -250,6 +341,70 @@ public class LadderGameController {
     });
   }
 
+  /**
+   * <p>Captures the current game state in packed form.</p>
+   * <p>Unlike {@link #createGameState()} this keeps skip flags and is cheap enough
+   * to call every turn, for example to record a replay.</p>
+   *
+   * @return A new {@link PackedLadderState} describing the game
+   */
+  public PackedLadderState capturePackedState() {
+    CompiledLadderBoard compiledBoard = game.getBoard().getCompiledBoard();
+    PackedLadderState state = new PackedLadderState(game.getPlayerCount(), compiledBoard.size());
+    capturePackedState(state);
+    return state;
+  }
+
+  /**
+   * <p>Writes the current game state into an existing packed state.</p>
+   *
+   * @param state The state to overwrite, created for this game's players and board
+   * @throws IllegalArgumentException If the state does not match the players or the board
+   */
+  public void capturePackedState(PackedLadderState state) {
+    CompiledLadderBoard compiledBoard = checkPackedState(state);
+    for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+      Player player = game.getPlayer(seat);
+      state.setPosition(seat, compiledBoard.indexOf(player.getCurrentTile()));
+      state.setSkipTurn(seat, player.isSkipTurn());
+    }
+    state.setCurrentPlayerIndex(currentPlayerIndex);
+  }
+
+  /**
+   * <p>Restores the game from a packed state.</p>
+   * <p>Game observers are not notified, like with {@link #applyGameState(GameState)}.</p>
+   *
+   * @param state The state to restore
+   * @throws IllegalArgumentException If the state does not match the players or the board
+   */
+  public void applyPackedState(PackedLadderState state) {
+    CompiledLadderBoard compiledBoard = checkPackedState(state);
+    for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+      Player player = game.getPlayer(seat);
+      player.placePlayer(compiledBoard.tileAt(state.getPosition(seat)));
+      player.setSkipTurn(state.isSkipTurn(seat));
+    }
+    this.currentPlayerIndex = state.getCurrentPlayerIndex();
+  }
+
+  /**
+   * <p>Checks that a packed state belongs to this game.</p>
+   *
+   * @param state The state to check
+   * @return The compiled board of the game
+   * @throws IllegalArgumentException If the state is null or does not match the players or the board
+   */
+  private CompiledLadderBoard checkPackedState(PackedLadderState state) {
+    if (state == null) {
+      throw new IllegalArgumentException("Packed state cannot be null.");
+    }
+    CompiledLadderBoard compiledBoard = game.getBoard().getCompiledBoard();
+    if (state.getPlayerCount() != game.getPlayerCount() || state.getBoardSize() != compiledBoard.size()) {
+      throw new IllegalArgumentException("Packed state does not match this game.");
+    }
+    return compiledBoard;
+  }
 
   // Observer notification methods
 
@@ -261,7 +416,9 @@ public class LadderGameController {
    * @param to     The destination {@link Tile}
    */
   private void notifyPlayerMoved(Player player, Tile from, Tile to) {
-    observers.forEach(observer -> observer.onPlayerMoved(player, from, to));
+    for (BoardGameObserver observer : observers) {
+      observer.onPlayerMoved(player, from, to);
+    }
   }
 
   /**
@@ -270,7 +427,9 @@ public class LadderGameController {
    * @param winner The winning {@link Player}
    */
   private void notifyGameEnded(Player winner) {
-    observers.forEach(observer -> observer.onGameEnded(winner));
+    for (BoardGameObserver observer : observers) {
+      observer.onGameEnded(winner);
+    }
   }
 
   /**
@@ -279,6 +438,8 @@ public class LadderGameController {
    * @param newPlayer The {@link Player} whose turn it is now
    */
   private void notifyTurnChanged(Player newPlayer) {
-    observers.forEach(observer -> observer.onTurnChanged(newPlayer));
+    for (BoardGameObserver observer : observers) {
+      observer.onTurnChanged(newPlayer);
+    }
   }
 }
@@ -0,0 +1,203 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard;
+
+/**
+ * <p>Structured outcome of a single Ladder Game turn.</p>
+ * <p>The controller writes the roll, the path taken, the applied tile effect and any
+ * ladder or snake jump into primitive fields. A single instance is meant to be reused
+ * turn after turn, so headless play does not allocate anything per turn. Text for the
+ * game log is only produced when {@link #toMessage(String)} is called.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class TurnResult {
+  private int playerIndex;
+  private boolean skipped;
+  private int roll;
+  private int startTileId;
+  private int landedTileId;
+  private byte effect;
+  private boolean jumped;
+  private int finalTileId;
+  private boolean won;
+
+  /**
+   * <p>Clears all fields before a new turn is written.</p>
+   *
+   * @param playerIndex The index of the player taking the turn
+   * @param startTileId The tile the player starts the turn on
+   */
+  void reset(int playerIndex, int startTileId) {
+    this.playerIndex = playerIndex;
+    this.skipped = false;
+    this.roll = 0;
+    this.startTileId = startTileId;
+    this.landedTileId = startTileId;
+    this.effect = CompiledLadderBoard.EFFECT_NONE;
+    this.jumped = false;
+    this.finalTileId = startTileId;
+    this.won = false;
+  }
+
+  /**
+   * <p>Marks the turn as skipped.</p>
+   */
+  void markSkipped() {
+    this.skipped = true;
+  }
+
+  /**
+   * <p>Records the roll and the tile it walked to.</p>
+   *
+   * @param roll         The rolled value
+   * @param landedTileId The tile reached by walking the roll
+   */
+  void recordMove(int roll, int landedTileId) {
+    this.roll = roll;
+    this.landedTileId = landedTileId;
+    this.finalTileId = landedTileId;
+  }
+
+  /**
+   * <p>Records the tile effect that was applied.</p>
+   *
+   * @param effect            The effect code
+   * @param tileIdAfterEffect The tile the player is on after the effect
+   */
+  void recordEffect(byte effect, int tileIdAfterEffect) {
+    this.effect = effect;
+    this.finalTileId = tileIdAfterEffect;
+  }
+
+  /**
+   * <p>Records a ladder or snake jump.</p>
+   *
+   * @param destinationTileId The tile the jump led to
+   */
+  void recordJump(int destinationTileId) {
+    this.jumped = true;
+    this.finalTileId = destinationTileId;
+  }
+
+  /**
+   * <p>Marks the turn as the winning turn.</p>
+   */
+  void markWon() {
+    this.won = true;
+  }
+
+  /**
+   * <p>Gets the index of the player who took the turn.</p>
+   *
+   * @return The player index in turn order
+   */
+  public int getPlayerIndex() {
+    return playerIndex;
+  }
+
+  /**
+   * <p>Checks whether the turn was skipped because of an earlier skip effect.</p>
+   *
+   * @return <code>true</code> if the player did not roll this turn
+   */
+  public boolean isSkipped() {
+    return skipped;
+  }
+
+  /**
+   * <p>Gets the rolled value.</p>
+   *
+   * @return The roll, or <code>0</code> if the turn was skipped
+   */
+  public int getRoll() {
+    return roll;
+  }
+
+  /**
+   * <p>Gets the tile the player started the turn on.</p>
+   *
+   * @return The starting tile id
+   */
+  public int getStartTileId() {
+    return startTileId;
+  }
+
+  /**
+   * <p>Gets the tile reached by walking the roll, before effects and ladders.</p>
+   *
+   * @return The landed tile id
+   */
+  public int getLandedTileId() {
+    return landedTileId;
+  }
+
+  /**
+   * <p>Gets the effect applied on the landed tile.</p>
+   *
+   * @return One of the effect codes of {@link CompiledLadderBoard}
+   */
+  public byte getEffect() {
+    return effect;
+  }
+
+  /**
+   * <p>Checks whether a ladder or snake moved the player.</p>
+   *
+   * @return <code>true</code> if the player jumped this turn
+   */
+  public boolean isJumped() {
+    return jumped;
+  }
+
+  /**
+   * <p>Gets the tile the player ended the turn on.</p>
+   *
+   * @return The final tile id
+   */
+  public int getFinalTileId() {
+    return finalTileId;
+  }
+
+  /**
+   * <p>Checks whether the player won with this turn.</p>
+   *
+   * @return <code>true</code> if the game ended with this turn
+   */
+  public boolean isWon() {
+    return won;
+  }
+
+  /**
+   * <p>Renders the turn as game log text.</p>
+   *
+   * @param playerName The name of the player who took the turn
+   * @return A message describing what happened during the turn
+   */
+  public String toMessage(String playerName) {
+    StringBuilder message = new StringBuilder();
+    if (skipped) {
+      return message.append(playerName).append(" skips their turn!\n").toString();
+    }
+
+    message.append(playerName).append(" rolled: ").append(roll).append("\n");
+    message.append("Moved to tile ").append(landedTileId).append("\n");
+
+    if (effect == CompiledLadderBoard.EFFECT_SKIP_TURN) {
+      message.append("Effect! ").append(playerName).append(" will skip next turn\n");
+    } else if (effect == CompiledLadderBoard.EFFECT_BACK_TO_START) {
+      message.append("Effect! ").append(playerName).append(" goes back to start\n");
+    }
+
+    if (jumped) {
+      message.append("Ladder! Moved to tile ").append(finalTileId).append("\n");
+    }
+
+    if (won) {
+      message.append(playerName).append(" wins the game!");
+    }
+    return message.toString();
+  }
+}
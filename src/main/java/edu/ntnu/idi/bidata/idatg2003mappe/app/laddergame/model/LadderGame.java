@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model;
 
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis.BalancedLadderBoardGenerator;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.die.Die;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.PlayerFactory;
@@ -8,13 +9,16 @@ import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * <p>Represents a Ladder Game (Snakes and Ladders) with configurable board setup.</p>
  * <p>This class handles the core game logic including board creation, player management,
  * and turn-based gameplay mechanics. It supports both classic and random ladder
  * configurations.</p>
- * <p>The game consists of a 100-tile board where players roll dice to advance.
+ * <p>The game is played on a 100-tile board by default, or on a random board of any
+ * size for longer games, where players roll dice to advance.
  * Special ladder tiles move players forward or backward, while effect tiles
  * trigger special actions like skipping turns or returning to start.</p>
  *
@@ -22,11 +26,12 @@ import java.util.List;
  * <p>This class handles the core game logic including board creation, player management,
  * and turn-based gameplay mechanics. It supports both classic and random ladder
  * configurations.</p>
- * <p>The game consists of a 100-tile board where players roll dice to advance.
+ * <p>The game is played on a 100-tile board by default, or on a random board of any
+ * size for longer games, where players roll dice to advance.
  * Special ladder tiles move players forward or backward, while effect tiles
  * trigger special actions like skipping turns or returning to start.</p>
  *
- * @version 1.0.0
+ * @version 1.0.1
  * @since 21.05.2025
  */
 public class LadderGame {
@@ -36,26 +41,66 @@ public class LadderGame {
    * User data directory for player saves (not in src/main/resources which is for bundled resources).
    */
   private static final String PLAYER_DATA_FILE = "data/saves/playerData/Players.csv";
-  private static final int BOARD_SIZE = 100;
 
   // Core game components
   private final BoardLinear board;
   private final List<Player> players;
   private final Die die;
+  private final long seed;
+  private final int boardSize;
 
   /**
    * <p>Creates a new Ladder Game with the specified configuration.</p>
    * <p>Initializes the board, loads players, and sets up the game based on
    * whether a random or classic ladder layout is desired.</p>
+   * <p>A random board is searched for with {@link BalancedLadderBoardGenerator}, which may
+   * score a few thousand candidate layouts, so a UI should create the game off its
+   * application thread.</p>
    *
    * @param randomLadders <code>true</code> for random ladder placement, <code>false</code> for classic setup
    * @throws IllegalStateException If no players could be loaded for the game
    */
   public LadderGame(boolean randomLadders) {
-    this.die = new Die();
+    this(randomLadders, new SplittableRandom().nextLong());
+  }
+
+  /**
+   * <p>Creates a new, reproducible Ladder Game.</p>
+   * <p>The seed decides both the random board layout and every die roll, so two games
+   * created with the same seed and players play out identically.</p>
+   *
+   * @param randomLadders <code>true</code> for random ladder placement, <code>false</code> for classic setup
+   * @param seed          The seed of the game
+   * @throws IllegalStateException If no players could be loaded for the game
+   */
+  public LadderGame(boolean randomLadders, long seed) {
+    this(randomLadders, seed, LadderGameBoardFactory.CLASSIC_BOARD_SIZE);
+  }
+
+  /**
+   * <p>Creates a new, reproducible Ladder Game on a board of the given size.</p>
+   * <p>Boards other than the 100-tile board are always random, with ladders, snakes
+   * and effect tiles in proportion to the size.</p>
+   *
+   * @param randomLadders <code>true</code> for random ladder placement, <code>false</code> for classic setup
+   * @param seed          The seed of the game
+   * @param boardSize     The number of tiles on the board
+   * @throws IllegalArgumentException If a classic board of another size than 100 tiles is requested,
+   *                                  or the board is too small for random ladders
+   * @throws IllegalStateException    If no players could be loaded for the game
+   */
+  public LadderGame(boolean randomLadders, long seed, int boardSize) {
+    if (!randomLadders && boardSize != LadderGameBoardFactory.CLASSIC_BOARD_SIZE) {
+      throw new IllegalArgumentException("The classic board always has "
+          + LadderGameBoardFactory.CLASSIC_BOARD_SIZE + " tiles.");
+    }
+    this.seed = seed;
+    this.boardSize = boardSize;
+    SplittableRandom seeds = new SplittableRandom(seed);
+    this.die = new Die(seeds.nextLong());
 
     // Create board using BoardFactory
-    this.board = createBoard(randomLadders);
+    this.board = createBoard(randomLadders, seeds.nextLong());
     this.players = loadPlayers();
 
     if (players.isEmpty()) {
@@ -65,14 +110,20 @@ public class LadderGame {
 
   /**
    * <p>Creates and configures the game board with tiles, ladders, and effects.</p>
-   * <p>Uses the {@link LadderGameBoardFactory} to create either a random or classic board layout.</p>
+   * <p>Uses the {@link LadderGameBoardFactory} to create either a random or classic board layout.
+   * Random 100-tile boards come from the {@link BalancedLadderBoardGenerator}, so players are
+   * never served a board that is far shorter or longer than intended. Boards of other sizes
+   * are placed directly by the factory, since the length band only applies to 100 tiles.</p>
    *
    * @param randomLadders Whether to use random ladder placement
+   * @param boardSeed     The seed for random ladder placement
    * @return Fully configured {@link BoardLinear} instance
    */
-  private BoardLinear createBoard(boolean randomLadders) {
-    if (randomLadders) {
-      return LadderGameBoardFactory.createRandomLadderBoard();
+  private BoardLinear createBoard(boolean randomLadders, long boardSeed) {
+    if (randomLadders && boardSize != LadderGameBoardFactory.CLASSIC_BOARD_SIZE) {
+      return LadderGameBoardFactory.createRandomLadderBoard(boardSize, new Random(boardSeed));
+    } else if (randomLadders) {
+      return new BalancedLadderBoardGenerator().generate(boardSeed);
     } else {
       return LadderGameBoardFactory.createClassicLadderBoard();
     }
@@ -100,6 +151,26 @@ public class LadderGame {
     return new ArrayList<>(players);
   }
 
+  /**
+   * <p>Gets a player by turn order index without copying the player list.</p>
+   *
+   * @param index The index of the player in turn order
+   * @return The {@link Player} at the index
+   * @throws IndexOutOfBoundsException If the index is outside the player list
+   */
+  public Player getPlayer(int index) {
+    return players.get(index);
+  }
+
+  /**
+   * <p>Gets the number of players in the game.</p>
+   *
+   * @return The number of players
+   */
+  public int getPlayerCount() {
+    return players.size();
+  }
+
   /**
    * <p>Gets the game board.</p>
    *
@@ -119,13 +190,23 @@ public class LadderGame {
     return die;
   }
 
+  /**
+   * <p>Gets the seed of the game.</p>
+   * <p>Creating a new game with this seed reproduces the board and the die rolls.</p>
+   *
+   * @return The seed of the game
+   */
+  public long getSeed() {
+    return seed;
+  }
+
   /**
    * <p>Gets the total number of tiles on the board.</p>
    *
    * @return The number of tiles (100 for standard game)
    */
   public int getNumberOfTiles() {
-    return BOARD_SIZE;
+    return boardSize;
   }
 
 }
@@ -0,0 +1,238 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model;
+
+import java.util.Arrays;
+
+/**
+ * <p>Compact, bit-packed snapshot of a Ladder Game in progress.</p>
+ * <p>The state holds everything needed to continue a game on a known board: the board
+ * position of every player, every player's skip flag and the index of the player whose
+ * turn it is. All of it is packed into a <code>long[]</code> using only as many bits as
+ * the board size and player count require, so four players on a 100-tile board fit in
+ * a single <code>long</code>.</p>
+ * <p>The layout of the bits is:</p>
+ * <ul>
+ *   <li>The current player index, in just enough bits to count the players</li>
+ *   <li>For every player, the skip flag followed by the board position</li>
+ * </ul>
+ * <p>Board positions are zero-based indices into the board, as used by
+ * {@link edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard}. States are
+ * mutable so simulations can update them in place; {@link #copy()} takes a snapshot.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class PackedLadderState {
+  private final int playerCount;
+  private final int boardSize;
+  private final int playerIndexBits;
+  private final int positionBits;
+  private final long[] words;
+
+  /**
+   * <p>Creates a state with every player on the start position, no skip flags and
+   * the first player to move.</p>
+   *
+   * @param playerCount The number of players
+   * @param boardSize   The number of tiles on the board
+   * @throws IllegalArgumentException If the player count or board size is not positive
+   */
+  public PackedLadderState(int playerCount, int boardSize) {
+    if (playerCount < 1) {
+      throw new IllegalArgumentException("At least one player is required.");
+    }
+    if (boardSize < 1) {
+      throw new IllegalArgumentException("Board size must be positive.");
+    }
+    this.playerCount = playerCount;
+    this.boardSize = boardSize;
+    this.playerIndexBits = bitsFor(playerCount - 1);
+    this.positionBits = bitsFor(boardSize - 1);
+    long totalBits = playerIndexBits + (long) playerCount * (positionBits + 1);
+    this.words = new long[(int) ((totalBits + Long.SIZE - 1) / Long.SIZE)];
+  }
+
+  private PackedLadderState(PackedLadderState other) {
+    this.playerCount = other.playerCount;
+    this.boardSize = other.boardSize;
+    this.playerIndexBits = other.playerIndexBits;
+    this.positionBits = other.positionBits;
+    this.words = other.words.clone();
+  }
+
+  private static int bitsFor(int maxValue) {
+    return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(maxValue));
+  }
+
+  /**
+   * <p>Gets the board position of a player.</p>
+   *
+   * @param seat The index of the player in turn order
+   * @return The zero-based board position of the player
+   * @throws IndexOutOfBoundsException If the seat does not exist
+   */
+  public int getPosition(int seat) {
+    return (int) readBits(seatOffset(seat) + 1, positionBits);
+  }
+
+  /**
+   * <p>Sets the board position of a player.</p>
+   *
+   * @param seat     The index of the player in turn order
+   * @param position The zero-based board position
+   * @throws IndexOutOfBoundsException If the seat does not exist
+   * @throws IllegalArgumentException  If the position is outside the board
+   */
+  public void setPosition(int seat, int position) {
+    if (position < 0 || position >= boardSize) {
+      throw new IllegalArgumentException("Position " + position + " is outside the board.");
+    }
+    writeBits(seatOffset(seat) + 1, positionBits, position);
+  }
+
+  /**
+   * <p>Checks whether a player will skip their next turn.</p>
+   *
+   * @param seat The index of the player in turn order
+   * @return <code>true</code> if the player's skip flag is set
+   * @throws IndexOutOfBoundsException If the seat does not exist
+   */
+  public boolean isSkipTurn(int seat) {
+    return readBits(seatOffset(seat), 1) != 0;
+  }
+
+  /**
+   * <p>Sets whether a player will skip their next turn.</p>
+   *
+   * @param seat     The index of the player in turn order
+   * @param skipTurn The new skip flag
+   * @throws IndexOutOfBoundsException If the seat does not exist
+   */
+  public void setSkipTurn(int seat, boolean skipTurn) {
+    writeBits(seatOffset(seat), 1, skipTurn ? 1 : 0);
+  }
+
+  /**
+   * <p>Gets the index of the player whose turn it is.</p>
+   *
+   * @return The current player index
+   */
+  public int getCurrentPlayerIndex() {
+    return (int) readBits(0, playerIndexBits);
+  }
+
+  /**
+   * <p>Sets the index of the player whose turn it is.</p>
+   *
+   * @param playerIndex The current player index
+   * @throws IndexOutOfBoundsException If the index is not a player
+   */
+  public void setCurrentPlayerIndex(int playerIndex) {
+    if (playerIndex < 0 || playerIndex >= playerCount) {
+      throw new IndexOutOfBoundsException("No player at index " + playerIndex);
+    }
+    writeBits(0, playerIndexBits, playerIndex);
+  }
+
+  /**
+   * <p>Gets the number of players in the state.</p>
+   *
+   * @return The number of players
+   */
+  public int getPlayerCount() {
+    return playerCount;
+  }
+
+  /**
+   * <p>Gets the number of tiles on the board the state belongs to.</p>
+   *
+   * @return The board size
+   */
+  public int getBoardSize() {
+    return boardSize;
+  }
+
+  /**
+   * <p>Creates an independent copy of this state.</p>
+   *
+   * @return A new state equal to this one
+   */
+  public PackedLadderState copy() {
+    return new PackedLadderState(this);
+  }
+
+  /**
+   * <p>Gets the packed words of the state.</p>
+   *
+   * @return A copy of the packed representation
+   */
+  public long[] toWords() {
+    return words.clone();
+  }
+
+  private long seatOffset(int seat) {
+    if (seat < 0 || seat >= playerCount) {
+      throw new IndexOutOfBoundsException("No player at index " + seat);
+    }
+    return playerIndexBits + (long) seat * (positionBits + 1);
+  }
+
+  /**
+   * <p>Reads a field of up to 32 bits, which may span two words.</p>
+   */
+  private long readBits(long offset, int width) {
+    int word = (int) (offset >>> 6);
+    int shift = (int) (offset & 63);
+    long mask = (1L << width) - 1;
+    long value = words[word] >>> shift;
+    if (shift + width > Long.SIZE) {
+      value |= words[word + 1] << (Long.SIZE - shift);
+    }
+    return value & mask;
+  }
+
+  /**
+   * <p>Writes a field of up to 32 bits, which may span two words.</p>
+   */
+  private void writeBits(long offset, int width, long value) {
+    int word = (int) (offset >>> 6);
+    int shift = (int) (offset & 63);
+    long mask = (1L << width) - 1;
+    words[word] = (words[word] & ~(mask << shift)) | ((value & mask) << shift);
+    if (shift + width > Long.SIZE) {
+      int spill = Long.SIZE - shift;
+      words[word + 1] = (words[word + 1] & ~(mask >>> spill)) | ((value & mask) >>> spill);
+    }
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof PackedLadderState state)) {
+      return false;
+    }
+    return playerCount == state.playerCount
+        && boardSize == state.boardSize
+        && Arrays.equals(words, state.words);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * playerCount + boardSize) + Arrays.hashCode(words);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder("PackedLadderState[current=")
+        .append(getCurrentPlayerIndex());
+    for (int seat = 0; seat < playerCount; seat++) {
+      text.append(", ").append(getPosition(seat));
+      if (isSkipTurn(seat)) {
+        text.append(" (skip)");
+      }
+    }
+    return text.append(']').toString();
+  }
+}
@@ -0,0 +1,265 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.simulation;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.die.Die;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardLinear;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LandingTable;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntSupplier;
+
+/**
+ * <p>Headless Monte Carlo simulator for the Ladder Game.</p>
+ * <p>Plays complete games on a {@link CompiledLadderBoard} without JavaFX and
+ * spreads the work over all cores with fork-join. Each game follows the same
+ * rules as {@link edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.LadderGameController}:</p>
+ * <ul>
+ *   <li>A player with the skip flag set loses one turn</li>
+ *   <li>The roll is walked along the board, stopping at the last tile</li>
+ *   <li>Tile effects are applied before ladders and snakes, and chained ladders
+ *       and snakes are followed to the end</li>
+ *   <li>The first player to reach the last tile wins</li>
+ * </ul>
+ * <p>Each roll is resolved with a single lookup in the board's {@link LandingTable}.
+ * Games that reach the turn cap are reported as unfinished.</p>
+ * <p>Every fork-join task gets its own {@link Die}, split from its parent's die before
+ * the task is forked. A seeded run therefore produces the same report no matter how the
+ * pool schedules the tasks.</p>
+ * <p>Single games can also be played with {@link #playGame(IntSupplier)} from any
+ * thread, for callers that bring their own source of rolls.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.3
+ * @since 17.10.2026
+ */
+public class LadderGameSimulator {
+  private static final int GAMES_PER_TASK = 2_000;
+  private static final int DEFAULT_MAX_TURNS = 10_000;
+  private static final int ROLL_BUFFER_SIZE = 256;
+
+  private final CompiledLadderBoard board;
+  private final LandingTable landings;
+  private final int players;
+  private final int maxTurns;
+
+  /**
+   * <p>Creates a simulator for the given board.</p>
+   *
+   * @param board    The board to play on
+   * @param players  The number of players in each game
+   * @param maxTurns The number of turns after which a game is abandoned
+   * @throws IllegalArgumentException If the board is null or the player count or turn cap is not positive
+   */
+  public LadderGameSimulator(BoardLinear board, int players, int maxTurns) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+    if (players < 1) {
+      throw new IllegalArgumentException("At least one player is required.");
+    }
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Turn cap must be positive.");
+    }
+    this.board = board.getCompiledBoard();
+    this.landings = this.board.getLandingTable();
+    this.players = players;
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * <p>Plays the given number of games in parallel.</p>
+   *
+   * @param games The number of games to play
+   * @return The combined statistics of all games
+   * @throws IllegalArgumentException If the number of games is negative
+   */
+  public LadderSimulationReport run(int games) {
+    return run(games, new Die());
+  }
+
+  /**
+   * <p>Plays the given number of games in parallel with a reproducible roll sequence.</p>
+   * <p>The same seed and number of games always give the same report.</p>
+   *
+   * @param games The number of games to play
+   * @param seed  The seed of the dice
+   * @return The combined statistics of all games
+   * @throws IllegalArgumentException If the number of games is negative
+   */
+  public LadderSimulationReport run(int games, long seed) {
+    return run(games, new Die(seed));
+  }
+
+  private LadderSimulationReport run(int games, Die die) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative.");
+    }
+    return ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> simulate(games, die)));
+  }
+
+  /**
+   * <p>Splits a range of games in fork-join tasks until it is small enough to play
+   * sequentially.</p>
+   *
+   * @param games The number of games to play
+   * @param die   The die of this range, used by no other range
+   * @return The combined statistics of the games
+   */
+  private LadderSimulationReport simulate(int games, Die die) {
+    if (games <= GAMES_PER_TASK) {
+      LadderSimulationReport report = new LadderSimulationReport(maxTurns, players, board.size());
+      playGames(games, new RollBuffer(die), report);
+      return report;
+    }
+    // Split the die before forking so the task tree alone decides the roll streams
+    Die leftDie = die.split();
+    ForkJoinTask<LadderSimulationReport> left =
+        ForkJoinTask.adapt(() -> simulate(games / 2, leftDie)).fork();
+    LadderSimulationReport rightReport = simulate(games - games / 2, die);
+    return left.join().merge(rightReport);
+  }
+
+  /**
+   * <p>Plays one game with rolls from the given source.</p>
+   * <p>Players take turns in seat order starting with seat 0, and a skipped turn still
+   * counts as a turn, so the winner sits in seat <code>(turn - 1) % players</code>. The
+   * simulator is not changed by a game, so games may be played from several threads at
+   * once.</p>
+   *
+   * @param rolls The source of every roll, each from 1 to {@link LandingTable#MAX_ROLL}
+   * @return The turn the game was won in, or 0 if it reached the turn cap
+   * @throws IllegalArgumentException If the roll source is null
+   */
+  public int playGame(IntSupplier rolls) {
+    if (rolls == null) {
+      throw new IllegalArgumentException("Roll source cannot be null.");
+    }
+    return playGame(rolls, new int[players], new boolean[players], null);
+  }
+
+  /**
+   * <p>Gets the number of players in each game.</p>
+   *
+   * @return The player count
+   */
+  public int getPlayers() {
+    return players;
+  }
+
+  /**
+   * <p>Plays games sequentially into a report.</p>
+   *
+   * @param games  The number of games to play
+   * @param rolls  The source of every roll
+   * @param report The report to record into
+   */
+  private void playGames(int games, RollBuffer rolls, LadderSimulationReport report) {
+    int[] positions = new int[players];
+    boolean[] skipTurn = new boolean[players];
+    for (int game = 0; game < games; game++) {
+      playGame(rolls, positions, skipTurn, report);
+    }
+  }
+
+  /**
+   * <p>Plays one complete game.</p>
+   *
+   * @param rolls     The source of every roll
+   * @param positions Scratch array for player positions
+   * @param skipTurn  Scratch array for skip flags
+   * @param report    The report to record into, or null for none
+   * @return The turn the game was won in, or 0 if it reached the turn cap
+   */
+  private int playGame(IntSupplier rolls, int[] positions, boolean[] skipTurn,
+                       LadderSimulationReport report) {
+    int start = board.getStartIndex();
+    int goal = board.size() - 1;
+    for (int seat = 0; seat < players; seat++) {
+      positions[seat] = start;
+      skipTurn[seat] = false;
+    }
+
+    int seat = 0;
+    for (int turn = 1; turn <= maxTurns; turn++) {
+      if (skipTurn[seat]) {
+        skipTurn[seat] = false;
+      } else {
+        int roll = rolls.getAsInt();
+        int position = landings.restingIndexOf(positions[seat], roll);
+        if (landings.effectOf(positions[seat], roll) == CompiledLadderBoard.EFFECT_SKIP_TURN) {
+          skipTurn[seat] = true;
+        }
+
+        positions[seat] = position;
+        if (report != null) {
+          report.recordLanding(position);
+        }
+        if (position == goal) {
+          if (report != null) {
+            report.recordWin(turn, seat);
+          }
+          return turn;
+        }
+      }
+      seat = (seat + 1) % players;
+    }
+    if (report != null) {
+      report.recordUnfinished();
+    }
+    return 0;
+  }
+
+  /**
+   * <p>Hands out rolls from a buffer that is refilled in bulk, so the simulation
+   * does not pay for a die call and observer check on every single roll.</p>
+   */
+  private static final class RollBuffer implements IntSupplier {
+    private final Die die;
+    private final int[] rolls = new int[ROLL_BUFFER_SIZE];
+    private int cursor = ROLL_BUFFER_SIZE;
+
+    private RollBuffer(Die die) {
+      this.die = die;
+    }
+
+    @Override
+    public int getAsInt() {
+      if (cursor == rolls.length) {
+        die.rollMany(rolls);
+        cursor = 0;
+      }
+      return rolls[cursor++];
+    }
+  }
+
+  /**
+   * <p>Command line entry point.</p>
+   * <p>Arguments, all optional: number of games (default 100000), number of players
+   * (default 4), <code>classic</code> or <code>random</code> board (default classic) and
+   * a seed for reproducible runs.</p>
+   *
+   * @param args The command line arguments
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+    boolean random = args.length > 2 && "random".equalsIgnoreCase(args[2]);
+    long seed = args.length > 3 ? Long.parseLong(args[3]) : new Random().nextLong();
+
+    BoardLinear board = random
+        ? LadderGameBoardFactory.createRandomLadderBoard(new Random(seed))
+        : LadderGameBoardFactory.createClassicLadderBoard();
+
+    long startTime = System.nanoTime();
+    LadderSimulationReport report = new LadderGameSimulator(board, players, DEFAULT_MAX_TURNS)
+        .run(games, seed);
+    long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+    System.out.println((random ? "Random" : "Classic") + " board, " + players + " players, seed " + seed);
+    System.out.print(report);
+    System.out.println("Elapsed: " + elapsedMillis + " ms");
+  }
+}
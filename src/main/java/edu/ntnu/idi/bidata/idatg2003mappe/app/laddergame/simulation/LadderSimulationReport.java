@@ -0,0 +1,208 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.simulation;
+
+import java.util.Arrays;
+
+/**
+ * <p>Aggregated statistics from a batch of simulated ladder games.</p>
+ * <p>The report collects:</p>
+ * <ul>
+ *   <li>A histogram of game lengths, counted in turns</li>
+ *   <li>Wins per seat in turn order</li>
+ *   <li>How often a turn ended on each tile of the board</li>
+ * </ul>
+ * <p>Reports from separate workers are combined with {@link #merge(LadderSimulationReport)}.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class LadderSimulationReport {
+  private final long[] lengthHistogram;
+  private final long[] winsBySeat;
+  private final long[] landingCounts;
+  private long gamesPlayed;
+  private long unfinishedGames;
+
+  /**
+   * <p>Creates an empty report.</p>
+   *
+   * @param maxTurns  The longest game length that can be recorded
+   * @param seats     The number of players in each game
+   * @param boardSize The number of tiles on the board
+   */
+  LadderSimulationReport(int maxTurns, int seats, int boardSize) {
+    this.lengthHistogram = new long[maxTurns + 1];
+    this.winsBySeat = new long[seats];
+    this.landingCounts = new long[boardSize];
+  }
+
+  /**
+   * <p>Records a finished game.</p>
+   *
+   * @param turns      The number of turns the game lasted
+   * @param winnerSeat The seat of the winning player
+   */
+  void recordWin(int turns, int winnerSeat) {
+    gamesPlayed++;
+    lengthHistogram[turns]++;
+    winsBySeat[winnerSeat]++;
+  }
+
+  /**
+   * <p>Records a game that hit the turn cap without a winner.</p>
+   */
+  void recordUnfinished() {
+    gamesPlayed++;
+    unfinishedGames++;
+  }
+
+  /**
+   * <p>Records that a turn ended on a tile.</p>
+   *
+   * @param boardIndex The board position where the turn ended
+   */
+  void recordLanding(int boardIndex) {
+    landingCounts[boardIndex]++;
+  }
+
+  /**
+   * <p>Adds the statistics of another report to this one.</p>
+   *
+   * @param other The report to merge into this one
+   * @return This report, for chaining
+   */
+  LadderSimulationReport merge(LadderSimulationReport other) {
+    gamesPlayed += other.gamesPlayed;
+    unfinishedGames += other.unfinishedGames;
+    addInto(lengthHistogram, other.lengthHistogram);
+    addInto(winsBySeat, other.winsBySeat);
+    addInto(landingCounts, other.landingCounts);
+    return this;
+  }
+
+  private static void addInto(long[] target, long[] source) {
+    for (int i = 0; i < target.length; i++) {
+      target[i] += source[i];
+    }
+  }
+
+  /**
+   * <p>Gets the number of games played, finished or not.</p>
+   *
+   * @return The number of games
+   */
+  public long getGamesPlayed() {
+    return gamesPlayed;
+  }
+
+  /**
+   * <p>Gets the number of games stopped by the turn cap.</p>
+   *
+   * @return The number of unfinished games
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * <p>Gets the game length histogram.</p>
+   * <p>Entry <code>n</code> holds the number of games won after exactly <code>n</code> turns.</p>
+   *
+   * @return A copy of the histogram
+   */
+  public long[] getLengthHistogram() {
+    return lengthHistogram.clone();
+  }
+
+  /**
+   * <p>Gets the wins per seat in turn order.</p>
+   *
+   * @return A copy of the wins per seat
+   */
+  public long[] getWinsBySeat() {
+    return winsBySeat.clone();
+  }
+
+  /**
+   * <p>Gets how often a turn ended on each tile.</p>
+   * <p>Counts are indexed by board position, after ladders and tile effects are applied.</p>
+   *
+   * @return A copy of the landing counts
+   */
+  public long[] getLandingCounts() {
+    return landingCounts.clone();
+  }
+
+  /**
+   * <p>Gets the win rate of a seat among finished games.</p>
+   *
+   * @param seat The seat in turn order, starting at 0
+   * @return The share of finished games won by the seat, or 0 if no game finished
+   */
+  public double getWinRate(int seat) {
+    long finished = gamesPlayed - unfinishedGames;
+    return finished == 0 ? 0.0 : (double) winsBySeat[seat] / finished;
+  }
+
+  /**
+   * <p>Gets the mean length of finished games.</p>
+   *
+   * @return The mean number of turns, or 0 if no game finished
+   */
+  public double getMeanLength() {
+    long finished = 0;
+    long total = 0;
+    for (int turns = 0; turns < lengthHistogram.length; turns++) {
+      finished += lengthHistogram[turns];
+      total += turns * lengthHistogram[turns];
+    }
+    return finished == 0 ? 0.0 : (double) total / finished;
+  }
+
+  /**
+   * <p>Gets a percentile of the length of finished games.</p>
+   *
+   * @param percentile The percentile, between 0 and 100
+   * @return The smallest length such that the given share of finished games is at most that long
+   * @throws IllegalArgumentException If the percentile is outside 0..100
+   */
+  public int getLengthPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+    }
+    long finished = Arrays.stream(lengthHistogram).sum();
+    long threshold = (long) Math.ceil(finished * percentile / 100.0);
+    long seen = 0;
+    for (int turns = 0; turns < lengthHistogram.length; turns++) {
+      seen += lengthHistogram[turns];
+      if (seen >= threshold && seen > 0) {
+        return turns;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * <p>Formats the report as human-readable text.</p>
+   *
+   * @return A multi-line summary of the report
+   */
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder();
+    text.append("Games played: ").append(gamesPlayed)
+        .append(" (unfinished: ").append(unfinishedGames).append(")\n");
+    text.append(String.format("Game length: mean %.2f turns, median %d, p90 %d, p99 %d%n",
+        getMeanLength(), getLengthPercentile(50), getLengthPercentile(90),
+        getLengthPercentile(99)));
+    for (int seat = 0; seat < winsBySeat.length; seat++) {
+      text.append(String.format("Seat %d: %d wins (%.2f%%)%n",
+          seat + 1, winsBySeat[seat], getWinRate(seat) * 100));
+    }
+    text.append("Landings per board position:\n");
+    for (int index = 0; index < landingCounts.length; index++) {
+      text.append(index + 1).append(": ").append(landingCounts[index]).append('\n');
+    }
+    return text.toString();
+  }
+}
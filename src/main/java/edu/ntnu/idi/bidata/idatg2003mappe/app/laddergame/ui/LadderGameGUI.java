@@ -6,10 +6,14 @@ import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
 import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game.GameSaveLoadHandler;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.scene.effect.DropShadow;
@@ -22,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
 
@@ -42,7 +47,7 @@ import java.util.stream.IntStream;
  * <p>The GUI supports both classic mode with fixed ladder positions and random mode
  * where ladder positions are generated randomly at the start of the game.</p>
  *
- * @version 0.5
+ * @version 0.6
  * @since 20.02.2025
  */
 public class LadderGameGUI extends Application {
@@ -96,28 +101,88 @@ public class LadderGameGUI extends Application {
    * <p>Initializes and starts the Ladder Game GUI.</p>
    * <p>This method sets up the entire game interface including:</p>
    * <ul>
-   *   <li>Creating the game controller</li>
+   *   <li>Creating the game controller, or recovering an unfinished game</li>
    *   <li>Setting up the board layout</li>
    *   <li>Initializing the player tokens</li>
    *   <li>Creating the control buttons and score display</li>
    * </ul>
    * <p>The method applies consistent styling to all UI elements according to
    * the game's color scheme.</p>
+   * <p>A new random game searches for a balanced board, which can take a moment, so the
+   * controller is then built off the JavaFX thread while a loading view is shown, and the
+   * game view is built once the board is ready.</p>
    *
    * @param primaryStage the primary stage for this application
    */
   @Override
   public void start(Stage primaryStage) {
-    gameController = new LadderGameController(randomLadders);
+    navBar = new NavBar();
+    navBar.setStage(primaryStage);
+
+    // Continue a game left by a crash, if the player wants to
+    LadderGameController recovered = navBar.recoverLadderGame();
+    if (recovered != null) {
+      randomLadders = recovered.isRandomLadders();
+      showGame(primaryStage, recovered);
+    } else if (!randomLadders) {
+      showGame(primaryStage, new LadderGameController(false));
+    } else {
+      showLoading(primaryStage);
+      CompletableFuture.supplyAsync(() -> new LadderGameController(true))
+          .whenComplete((controller, error) -> Platform.runLater(() -> {
+            if (error != null) {
+              logger.severe("Failed to generate a random ladder board: " + error.getMessage());
+              Alert alert = new Alert(Alert.AlertType.ERROR);
+              alert.setTitle("Error");
+              alert.setHeaderText("Board Error");
+              alert.setContentText("Could not generate a random board. Starting a classic game.");
+              alert.showAndWait();
+              randomLadders = false;
+              showGame(primaryStage, new LadderGameController(false));
+            } else {
+              showGame(primaryStage, controller);
+            }
+          }));
+    }
+  }
+
+  /**
+   * <p>Shows a loading view while a random board is being generated.</p>
+   *
+   * @param primaryStage the primary stage for this application
+   */
+  private void showLoading(Stage primaryStage) {
+    ProgressIndicator indicator = new ProgressIndicator();
+    Label label = new Label("Generating a balanced board...");
+    label.getStyleClass().add("md-title-small");
+
+    VBox loadingBox = new VBox(16, indicator, label);
+    loadingBox.setAlignment(Pos.CENTER);
+    loadingBox.setPrefSize(1440, 840);
+    loadingBox.getStyleClass().add("md-game-background");
+
+    Scene scene = new Scene(loadingBox);
+    loadCSS(scene);
+    primaryStage.setScene(scene);
+    primaryStage.setTitle("Ladder Game - Random Mode");
+    primaryStage.show();
+  }
+
+  /**
+   * <p>Builds the game view around the given controller and shows it.</p>
+   *
+   * @param primaryStage the primary stage for this application
+   * @param controller   the controller of the game to show
+   */
+  private void showGame(Stage primaryStage, LadderGameController controller) {
+    gameController = controller;
+    navBar.setGameController(gameController);
+    navBar.startAutosave();
 
     BorderPane borderPane = new BorderPane();
     borderPane.setPrefSize(1440, 840);
     borderPane.getStyleClass().add("md-game-background");
 
-    navBar = new NavBar();
-    navBar.setStage(primaryStage);
-    navBar.setGameController(gameController);
-
     borderPane.setTop(navBar.createMenuBar());
 
     HBox centerBox = new HBox(24);
@@ -0,0 +1,111 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+/**
+ * <p>A single action chosen by {@link MissingDiamondBot}.</p>
+ * <p>A decision either moves the current player to a tile or settles the token the
+ * player stands on: opening it for free, buying a guaranteed flip or leaving it and
+ * ending the turn.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class BotDecision {
+  private static final BotDecision OPEN_TOKEN = new BotDecision(Kind.OPEN_TOKEN, -1);
+  private static final BotDecision BUY_TOKEN_FLIP = new BotDecision(Kind.BUY_TOKEN_FLIP, -1);
+  private static final BotDecision END_TURN = new BotDecision(Kind.END_TURN, -1);
+
+  private final Kind kind;
+  private final int tileId;
+
+  private BotDecision(Kind kind, int tileId) {
+    this.kind = kind;
+    this.tileId = tileId;
+  }
+
+  /**
+   * <p>Creates a decision to move to a tile.</p>
+   *
+   * @param tileId The ID of the destination tile
+   * @return The move decision
+   */
+  public static BotDecision moveTo(int tileId) {
+    return new BotDecision(Kind.MOVE, tileId);
+  }
+
+  /**
+   * <p>Gets the decision to try opening the token for free.</p>
+   *
+   * @return The open token decision
+   */
+  public static BotDecision openToken() {
+    return OPEN_TOKEN;
+  }
+
+  /**
+   * <p>Gets the decision to buy a guaranteed token flip.</p>
+   *
+   * @return The buy token flip decision
+   */
+  public static BotDecision buyTokenFlip() {
+    return BUY_TOKEN_FLIP;
+  }
+
+  /**
+   * <p>Gets the decision to leave the token and end the turn.</p>
+   *
+   * @return The end turn decision
+   */
+  public static BotDecision endTurn() {
+    return END_TURN;
+  }
+
+  /**
+   * <p>Gets the kind of action.</p>
+   *
+   * @return The kind of the decision
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * <p>Gets the destination of a move.</p>
+   *
+   * @return The ID of the destination tile, or <code>-1</code> if the decision is not a move
+   */
+  public int getTileId() {
+    return tileId;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof BotDecision decision)) {
+      return false;
+    }
+    return kind == decision.kind && tileId == decision.tileId;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * kind.hashCode() + tileId;
+  }
+
+  @Override
+  public String toString() {
+    return kind == Kind.MOVE ? "MOVE to " + tileId : kind.toString();
+  }
+
+  /**
+   * <p>The kinds of action a bot can take.</p>
+   */
+  public enum Kind {
+    MOVE,
+    OPEN_TOKEN,
+    BUY_TOKEN_FLIP,
+    END_TURN
+  }
+}
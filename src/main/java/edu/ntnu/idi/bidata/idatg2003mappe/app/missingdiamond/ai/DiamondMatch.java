@@ -0,0 +1,134 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.MoveIndex;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p>Headless Missing Diamond match between {@link DiamondStrategy strategies}.</p>
+ * <p>The match starts from a copy of a captured state with the face-down tokens shuffled,
+ * so every match gets its own token layout. Each turn follows the controller:</p>
+ * <ul>
+ *   <li>The die is rolled and the seat's strategy picks one of the legal destinations</li>
+ *   <li>A move onto a start tile with the diamond, or with a visa once the diamond is
+ *       found, wins the game</li>
+ *   <li>On a token the strategy may try the free roll, buy a flip or leave it</li>
+ * </ul>
+ * <p>All randomness comes from the given {@link SplittableRandom}, so a match with the
+ * same seed and deterministic strategies is always played the same way.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class DiamondMatch {
+  private final DiamondStrategy[] seats;
+  private final DiamondSearchState state;
+  private int turns;
+
+  /**
+   * <p>Creates a match from a captured start state.</p>
+   *
+   * @param start The state to start from; it is copied and not changed
+   * @param seats The strategy of every seat, in turn order
+   * @throws IllegalArgumentException If the start state is null or the seats do not match its players
+   */
+  public DiamondMatch(DiamondSearchState start, DiamondStrategy... seats) {
+    if (start == null) {
+      throw new IllegalArgumentException("Start state cannot be null.");
+    }
+    if (seats == null || seats.length != start.getPlayerCount()) {
+      throw new IllegalArgumentException("Every player needs exactly one strategy.");
+    }
+    for (DiamondStrategy seat : seats) {
+      if (seat == null) {
+        throw new IllegalArgumentException("Strategy cannot be null.");
+      }
+    }
+    this.seats = seats.clone();
+    this.state = start.copy();
+  }
+
+  /**
+   * <p>Plays the match until a player wins or the turn cap is reached.</p>
+   *
+   * @param random   The source of the token layout and every roll
+   * @param maxTurns The number of turns after which the match is abandoned
+   * @return The winning seat, or <code>-1</code> if the match was abandoned
+   * @throws IllegalArgumentException If the random source is null or the turn cap is not positive
+   * @throws IllegalStateException    If the match has already been played or a strategy makes an illegal decision
+   */
+  public int play(SplittableRandom random, int maxTurns) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random source cannot be null.");
+    }
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Turn cap must be positive.");
+    }
+    if (turns > 0) {
+      throw new IllegalStateException("Match has already been played.");
+    }
+    state.determinize(random);
+    while (turns < maxTurns && !state.isFinished()) {
+      turns++;
+      playTurn(random);
+    }
+    return state.getWinner();
+  }
+
+  /**
+   * <p>Gets the number of turns played.</p>
+   *
+   * @return The number of turns, counting the winning turn
+   */
+  public int getTurns() {
+    return turns;
+  }
+
+  private void playTurn(SplittableRandom random) {
+    DiamondStrategy strategy = seats[state.getCurrentPlayer()];
+    int roll = random.nextInt(1, MoveIndex.MAX_ROLL + 1);
+    int[] destinations = state.destinations(roll);
+    if (destinations.length > 0) {
+      state.moveTo(destinationOf(strategy.chooseMove(state, roll), destinations));
+      if (state.isFinished()) {
+        return;
+      }
+      if (state.hasTokenHere()) {
+        applyTokenAction(strategy.chooseTokenAction(state), random);
+      }
+    }
+    state.endTurn();
+  }
+
+  private int destinationOf(BotDecision decision, int[] destinations) {
+    if (decision.getKind() == BotDecision.Kind.MOVE) {
+      for (int destination : destinations) {
+        if (state.tileIdOf(destination) == decision.getTileId()) {
+          return destination;
+        }
+      }
+    }
+    throw new IllegalStateException("Strategy chose an illegal move: " + decision);
+  }
+
+  private void applyTokenAction(BotDecision decision, SplittableRandom random) {
+    switch (decision.getKind()) {
+      case OPEN_TOKEN -> {
+        if (random.nextInt(1, MoveIndex.MAX_ROLL + 1) >= DiamondSearchState.FREE_FLIP_MIN_ROLL) {
+          state.openToken();
+        }
+      }
+      case BUY_TOKEN_FLIP -> {
+        if (!state.canBuyTokenFlip()) {
+          throw new IllegalStateException("Strategy bought a token flip it cannot afford.");
+        }
+        state.buyTokenFlip();
+      }
+      case END_TURN -> {
+        // The token stays face down
+      }
+      default -> throw new IllegalStateException("Strategy chose an illegal token action: " + decision);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.MoveIndex;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardGraph;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenEffectResult;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * <p>Immutable board data shared by every copy of a {@link DiamondSearchState}.</p>
+ * <p>Holds the legal destinations for every tile and roll, the start tiles, the number
+ * of steps from every tile to the nearest start tile and the effects of the token kinds
+ * in play. Copies of a search state only clone their own small arrays and keep pointing
+ * to the same rules.</p>
+ * <p>The rules are reused for every capture of the same board graph, also while earlier
+ * captures are being searched, so token kinds are added copy-on-write.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+final class DiamondRules {
+  static final int ITEM_DIAMOND = 1;
+  static final int ITEM_VISA = 2;
+
+  private final BoardGraph graph;
+  private final int[][] moves;
+  private final boolean[] startTile;
+  private final int[] homeDistance;
+  private final int flipCost;
+  private volatile TokenEffectResult[] effects = new TokenEffectResult[0];
+
+  /**
+   * <p>Builds the rules for a board.</p>
+   *
+   * @param graph          The graph of the board
+   * @param specialTileIds The IDs of the tiles where a player may stop early
+   * @param startTile      Whether each tile of the graph is a start tile
+   * @param flipCost       The cost of buying a token flip
+   */
+  DiamondRules(BoardGraph graph, Set<Integer> specialTileIds, boolean[] startTile, int flipCost) {
+    this.graph = graph;
+    this.startTile = startTile;
+    this.flipCost = flipCost;
+
+    MoveIndex index = new MoveIndex(graph, specialTileIds);
+    this.moves = new int[graph.size() * MoveIndex.MAX_ROLL][];
+    for (int tile = 0; tile < graph.size(); tile++) {
+      for (int roll = 1; roll <= MoveIndex.MAX_ROLL; roll++) {
+        moves[tile * MoveIndex.MAX_ROLL + roll - 1] = index.getDestinationIndices(tile, roll);
+      }
+    }
+
+    // Spread a frontier from every start tile to find the way home
+    this.homeDistance = new int[graph.size()];
+    Arrays.fill(homeDistance, Integer.MAX_VALUE);
+    BitSet frontier = new BitSet(graph.size());
+    for (int tile = 0; tile < startTile.length; tile++) {
+      if (startTile[tile]) {
+        frontier.set(tile);
+      }
+    }
+    BitSet visited = (BitSet) frontier.clone();
+    for (int steps = 0; !frontier.isEmpty(); steps++) {
+      for (int tile = frontier.nextSetBit(0); tile >= 0; tile = frontier.nextSetBit(tile + 1)) {
+        homeDistance[tile] = steps;
+      }
+      BitSet next = new BitSet(graph.size());
+      graph.expand(frontier, next);
+      next.andNot(visited);
+      visited.or(next);
+      frontier = next;
+    }
+  }
+
+  /**
+   * <p>Gets the kind number of a token effect, registering it if it is new.</p>
+   * <p>Called while a state is captured. Kinds are never renumbered, so states that
+   * are already being searched keep reading the same effects.</p>
+   *
+   * @param effect The effect of a token
+   * @return The kind number of the effect
+   */
+  synchronized int kindOf(TokenEffectResult effect) {
+    TokenEffectResult[] known = effects;
+    for (int kind = 0; kind < known.length; kind++) {
+      if (known[kind].getMoneyChange() == effect.getMoneyChange()
+          && known[kind].isDiamond() == effect.isDiamond()
+          && itemsOf(known[kind]) == itemsOf(effect)) {
+        return kind;
+      }
+    }
+    if (known.length >= Byte.MAX_VALUE) {
+      throw new IllegalStateException("Too many different token effects.");
+    }
+    TokenEffectResult[] grown = Arrays.copyOf(known, known.length + 1);
+    grown[known.length] = effect;
+    effects = grown;
+    return known.length;
+  }
+
+  BoardGraph graph() {
+    return graph;
+  }
+
+  int tileCount() {
+    return graph.size();
+  }
+
+  int[] destinations(int tile, int roll) {
+    return moves[tile * MoveIndex.MAX_ROLL + roll - 1];
+  }
+
+  boolean isStartTile(int tile) {
+    return startTile[tile];
+  }
+
+  int homeDistance(int tile) {
+    return homeDistance[tile];
+  }
+
+  int flipCost() {
+    return flipCost;
+  }
+
+  int moneyChange(int kind) {
+    return effects[kind].getMoneyChange();
+  }
+
+  boolean losesAllMoney(int kind) {
+    return effects[kind].isLoseAllMoney();
+  }
+
+  boolean isDiamond(int kind) {
+    return effects[kind].isDiamond();
+  }
+
+  int items(int kind) {
+    return itemsOf(effects[kind]);
+  }
+
+  private static int itemsOf(TokenEffectResult effect) {
+    int items = effect.isDiamond() ? ITEM_DIAMOND : 0;
+    if ("diamond".equals(effect.getInventoryItem())) {
+      items |= ITEM_DIAMOND;
+    } else if ("visa".equals(effect.getInventoryItem())) {
+      items |= ITEM_VISA;
+    }
+    return items;
+  }
+}
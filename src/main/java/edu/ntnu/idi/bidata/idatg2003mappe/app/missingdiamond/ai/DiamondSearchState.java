@@ -0,0 +1,373 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.TokenSystem;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardGraph;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.Marker;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * <p>Cheaply copyable snapshot of a Missing Diamond game, used by {@link MissingDiamondBot}
+ * to play out many possible futures.</p>
+ * <p>The state holds the position, money and items of every player, the token kind lying
+ * on every tile, whose turn it is and whether the game has been won. Everything lives in
+ * small primitive arrays, so a copy is a handful of array clones. Board data that never
+ * changes during a game is shared between all copies.</p>
+ * <p>Tokens lie face down, so a fair player does not know which kind lies where. A captured
+ * state knows the real layout, and {@link #determinize(SplittableRandom)} shuffles the
+ * kinds among the tiles that still hold tokens. The search does this before every playout
+ * so the bot never uses hidden information.</p>
+ * <p>The rules follow the game and controller:</p>
+ * <ul>
+ *   <li>Moves are the same tiles {@link edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.MovementCalculator}
+ *       allows</li>
+ *   <li>A move onto a start tile wins with the diamond, or with a visa once the diamond has been found</li>
+ *   <li>A token can be opened for free on a roll of 4-6 or bought for
+ *       {@value TokenSystem#TOKEN_FLIP_COST}</li>
+ * </ul>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class DiamondSearchState {
+  /**
+   * The lowest roll that opens a token for free.
+   */
+  public static final int FREE_FLIP_MIN_ROLL = 4;
+
+  private static final byte NO_TOKEN = -1;
+
+  // Rules of the last captured board, reused while its graph is unchanged
+  private static volatile DiamondRules lastRules;
+
+  private final DiamondRules rules;
+  private final int[] positions;
+  private final int[] money;
+  private final byte[] items;
+  private final byte[] tokens;
+  private int currentPlayer;
+  private boolean diamondFound;
+  private int winner = -1;
+
+  private DiamondSearchState(DiamondRules rules, int playerCount) {
+    this.rules = rules;
+    this.positions = new int[playerCount];
+    this.money = new int[playerCount];
+    this.items = new byte[playerCount];
+    this.tokens = new byte[rules.tileCount()];
+    Arrays.fill(tokens, NO_TOKEN);
+  }
+
+  private DiamondSearchState(DiamondSearchState other) {
+    this.rules = other.rules;
+    this.positions = other.positions.clone();
+    this.money = other.money.clone();
+    this.items = other.items.clone();
+    this.tokens = other.tokens.clone();
+    this.currentPlayer = other.currentPlayer;
+    this.diamondFound = other.diamondFound;
+    this.winner = other.winner;
+  }
+
+  /**
+   * <p>Captures the current state of a game.</p>
+   *
+   * @param game The game to capture
+   * @return A new state matching the game
+   * @throws IllegalArgumentException If the game is null
+   * @throws IllegalStateException    If a player stands on a tile that is not on the board
+   */
+  public static DiamondSearchState capture(MissingDiamond game) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null.");
+    }
+    BoardGraph graph = game.getBoard().getGraph();
+    TokenSystem tokenSystem = game.getTokenSystem();
+    DiamondRules rules = rulesFor(game, graph);
+
+    List<Player> players = game.getPlayers();
+    DiamondSearchState state = new DiamondSearchState(rules, players.size());
+    Banker banker = game.getBanker();
+    for (int seat = 0; seat < players.size(); seat++) {
+      Player player = players.get(seat);
+      int position = graph.indexOf(player.getCurrentTile());
+      if (position < 0) {
+        throw new IllegalStateException(player.getName() + " is not on the board.");
+      }
+      state.positions[seat] = position;
+      state.money[seat] = banker.getBalance(player);
+      if (player.hasInventoryItem("diamond")) {
+        state.items[seat] |= DiamondRules.ITEM_DIAMOND;
+        state.diamondFound = true;
+      }
+      if (player.hasInventoryItem("visa")) {
+        state.items[seat] |= DiamondRules.ITEM_VISA;
+      }
+    }
+    if (tokenSystem.getGraph() == graph) {
+      // The token store shares the board's indices, so only the occupied tiles are visited
+      BitSet tokenTiles = tokenSystem.getTokenTiles();
+      for (int tile = tokenTiles.nextSetBit(0); tile >= 0; tile = tokenTiles.nextSetBit(tile + 1)) {
+        state.tokens[tile] = (byte) rules.kindOf(tokenSystem.getTokenAtTile(graph.getTile(tile)).getEffect());
+      }
+    } else {
+      for (int tile = 0; tile < graph.size(); tile++) {
+        Marker token = tokenSystem.getTokenAtTile(graph.getTile(tile));
+        if (token != null) {
+          state.tokens[tile] = (byte) rules.kindOf(token.getEffect());
+        }
+      }
+    }
+    state.currentPlayer = Math.max(0, players.indexOf(game.getCurrentPlayer()));
+    state.diamondFound |= tokenSystem.isDiamondFound();
+    if (game.isGameFinished()) {
+      state.winner = state.currentPlayer;
+    }
+    return state;
+  }
+
+  /**
+   * <p>Gets the rules of a board, building them only when the board graph has changed.</p>
+   * <p>The board keeps its graph until the board is modified, so the move index, the
+   * distances home and the start tiles are built once per board rather than for every
+   * captured state.</p>
+   */
+  private static DiamondRules rulesFor(MissingDiamond game, BoardGraph graph) {
+    DiamondRules rules = lastRules;
+    if (rules != null && rules.graph() == graph) {
+      return rules;
+    }
+    TokenSystem tokenSystem = game.getTokenSystem();
+    boolean[] startTile = new boolean[graph.size()];
+    for (int tile = 0; tile < graph.size(); tile++) {
+      startTile[tile] = tokenSystem.isStartingTile(graph.getTile(tile));
+    }
+    rules = new DiamondRules(graph, game.getSpecialTileIds(), startTile, TokenSystem.TOKEN_FLIP_COST);
+    lastRules = rules;
+    return rules;
+  }
+
+  /**
+   * <p>Creates an independent copy of this state.</p>
+   *
+   * @return A new state equal to this one
+   */
+  public DiamondSearchState copy() {
+    return new DiamondSearchState(this);
+  }
+
+  /**
+   * <p>Overwrites this state with another state of the same game.</p>
+   * <p>Lets a playout reuse one scratch state instead of allocating a copy.</p>
+   *
+   * @param other The state to copy from
+   * @throws IllegalArgumentException If the other state belongs to a different game
+   */
+  public void copyFrom(DiamondSearchState other) {
+    if (other == null || other.rules != rules) {
+      throw new IllegalArgumentException("States must belong to the same game.");
+    }
+    System.arraycopy(other.positions, 0, positions, 0, positions.length);
+    System.arraycopy(other.money, 0, money, 0, money.length);
+    System.arraycopy(other.items, 0, items, 0, items.length);
+    System.arraycopy(other.tokens, 0, tokens, 0, tokens.length);
+    currentPlayer = other.currentPlayer;
+    diamondFound = other.diamondFound;
+    winner = other.winner;
+  }
+
+  /**
+   * <p>Shuffles the face-down tokens among the tiles that hold them.</p>
+   * <p>The tiles with tokens and the number of tokens of each kind stay the same.</p>
+   *
+   * @param random The source of randomness
+   */
+  public void determinize(SplittableRandom random) {
+    int count = 0;
+    int[] tiles = new int[tokens.length];
+    for (int tile = 0; tile < tokens.length; tile++) {
+      if (tokens[tile] != NO_TOKEN) {
+        tiles[count++] = tile;
+      }
+    }
+    for (int i = count - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      byte swap = tokens[tiles[i]];
+      tokens[tiles[i]] = tokens[tiles[j]];
+      tokens[tiles[j]] = swap;
+    }
+  }
+
+  /**
+   * <p>Gets the number of players.</p>
+   *
+   * @return The number of players
+   */
+  public int getPlayerCount() {
+    return positions.length;
+  }
+
+  /**
+   * <p>Gets the seat of the player whose turn it is.</p>
+   *
+   * @return The current player's index in turn order
+   */
+  public int getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  /**
+   * <p>Gets the seat of the winner.</p>
+   *
+   * @return The winner's index in turn order, or <code>-1</code> if nobody has won
+   */
+  public int getWinner() {
+    return winner;
+  }
+
+  /**
+   * <p>Checks whether a player has won.</p>
+   *
+   * @return <code>true</code> if the game is over
+   */
+  public boolean isFinished() {
+    return winner >= 0;
+  }
+
+  /**
+   * <p>Gets the ID of the tile a player stands on.</p>
+   *
+   * @param seat The player's index in turn order
+   * @return The tile ID of the player's position
+   */
+  public int getPositionTileId(int seat) {
+    return rules.graph().getTile(positions[seat]).getTileId();
+  }
+
+  /**
+   * <p>Gets the money of a player.</p>
+   *
+   * @param seat The player's index in turn order
+   * @return The player's balance
+   */
+  public int getMoney(int seat) {
+    return money[seat];
+  }
+
+  /**
+   * <p>Gets the number of tokens still on the board.</p>
+   *
+   * @return The number of tiles holding a token
+   */
+  public int getTokenCount() {
+    int count = 0;
+    for (byte token : tokens) {
+      if (token != NO_TOKEN) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * <p>Checks whether a tile holds a token.</p>
+   *
+   * @param tileId The ID of the tile
+   * @return <code>true</code> if the tile is on the board and holds a token
+   */
+  public boolean hasTokenAtTileId(int tileId) {
+    int tile = rules.graph().indexOfId(tileId);
+    return tile >= 0 && tokens[tile] != NO_TOKEN;
+  }
+
+  int getPosition(int seat) {
+    return positions[seat];
+  }
+
+  int tileIdOf(int tile) {
+    return rules.graph().getTile(tile).getTileId();
+  }
+
+  int[] destinations(int roll) {
+    return rules.destinations(positions[currentPlayer], roll);
+  }
+
+  int homeDistance(int tile) {
+    return rules.homeDistance(tile);
+  }
+
+  boolean hasToken(int tile) {
+    return tokens[tile] != NO_TOKEN;
+  }
+
+  boolean hasTokenHere() {
+    return hasToken(positions[currentPlayer]);
+  }
+
+  /**
+   * <p>Checks whether the current player would win by reaching a start tile.</p>
+   */
+  boolean isHeadingHome() {
+    int held = items[currentPlayer];
+    return (held & DiamondRules.ITEM_DIAMOND) != 0
+        || (diamondFound && (held & DiamondRules.ITEM_VISA) != 0);
+  }
+
+  /**
+   * <p>Moves the current player and checks the victory condition.</p>
+   */
+  void moveTo(int tile) {
+    positions[currentPlayer] = tile;
+    if (rules.isStartTile(tile) && isHeadingHome()) {
+      winner = currentPlayer;
+    }
+  }
+
+  boolean canAffordTokenFlip() {
+    return money[currentPlayer] >= rules.flipCost();
+  }
+
+  boolean canBuyTokenFlip() {
+    return hasTokenHere() && canAffordTokenFlip();
+  }
+
+  /**
+   * <p>Pays for a token flip and opens the token.</p>
+   */
+  void buyTokenFlip() {
+    money[currentPlayer] -= rules.flipCost();
+    openToken();
+  }
+
+  /**
+   * <p>Opens the token under the current player and applies its effect.</p>
+   */
+  void openToken() {
+    int tile = positions[currentPlayer];
+    int kind = tokens[tile];
+    tokens[tile] = NO_TOKEN;
+    if (rules.isDiamond(kind)) {
+      diamondFound = true;
+    }
+    if (rules.losesAllMoney(kind)) {
+      money[currentPlayer] = 0;
+    } else if (rules.moneyChange(kind) > 0) {
+      money[currentPlayer] += rules.moneyChange(kind);
+    } else if (rules.moneyChange(kind) < 0 && money[currentPlayer] >= -rules.moneyChange(kind)) {
+      money[currentPlayer] += rules.moneyChange(kind);
+    }
+    items[currentPlayer] |= (byte) rules.items(kind);
+  }
+
+  void endTurn() {
+    currentPlayer = (currentPlayer + 1) % positions.length;
+  }
+}
@@ -0,0 +1,31 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+/**
+ * <p>Decision maker for one seat in a Missing Diamond game.</p>
+ * <p>A strategy is asked where to move after every roll, and what to do with a token
+ * after moving onto one. It only reads the state it is given; the caller applies the
+ * returned decision.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public interface DiamondStrategy {
+
+  /**
+   * <p>Chooses where the current player moves after a roll.</p>
+   *
+   * @param state The state of the game before the move
+   * @param roll  The rolled value
+   * @return A move to one of the legal destinations
+   */
+  BotDecision chooseMove(DiamondSearchState state, int roll);
+
+  /**
+   * <p>Chooses what to do with the token the current player stands on.</p>
+   *
+   * @param state The state of the game after the move
+   * @return An open, buy or end turn decision
+   */
+  BotDecision chooseTokenAction(DiamondSearchState state);
+}
@@ -0,0 +1,474 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.MoveIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * <p>Computer opponent for Missing Diamond based on Monte Carlo tree search.</p>
+ * <p>For every decision the bot grows a search tree over the turns that follow. A turn
+ * is a chance node for the die roll followed by a decision node for the player to move,
+ * whose actions are a destination together with the token choice on arrival: leave the
+ * token, try the free roll, or buy the flip. Every iteration of the search:</p>
+ * <ol>
+ *   <li>Shuffles the face-down tokens on a copy of the game, so the search never relies
+ *       on where the tokens really lie</li>
+ *   <li>Selects down the tree with the UCB1 rule, drawing a roll at every chance node;
+ *       every player picks the actions that have won most for themself</li>
+ *   <li>Expands the first action that has not been tried from its node</li>
+ *   <li>Plays the rest of the game out quickly with a simple policy</li>
+ *   <li>Backs the result up through every action on the path</li>
+ * </ol>
+ * <p>Since the shuffled tokens change what players can afford, the actions of a node
+ * are those legal in the current iteration, and UCB1 counts how often each action was
+ * available instead of how often its node was visited. The playout policy:</p>
+ * <ul>
+ *   <li>Heads for the nearest start tile when holding the diamond, or a visa after the
+ *       diamond is found</li>
+ *   <li>Otherwise prefers destinations with tokens</li>
+ *   <li>Buys token flips when affordable and tries the free roll otherwise</li>
+ * </ul>
+ * <p>The search is root-parallel: every worker on the common fork-join pool grows its own
+ * tree with its own random stream, and the statistics of the root actions are added up
+ * when the time budget runs out. The action tried most often is chosen. With a seed and
+ * a playout cap the chosen action is reproducible.</p>
+ * <p>A move and the token choice that follows it are one action, since no new
+ * information is revealed in between. The token choice is searched again once the bot
+ * stands on the token.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.3
+ * @since 17.10.2026
+ */
+public final class MissingDiamondBot implements DiamondStrategy {
+  /**
+   * The default thinking time per decision, in milliseconds.
+   */
+  public static final long DEFAULT_TIME_BUDGET_MILLIS = 500;
+
+  private static final int MAX_PLAYOUT_TURNS = 400;
+  private static final int MAX_TREE_DEPTH = 64;
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  private static final int TOKEN_END_TURN = 0;
+  private static final int TOKEN_OPEN = 1;
+  private static final int TOKEN_BUY = 2;
+  private static final int TOKEN_CHOICES = 3;
+  // The action of a turn whose roll gives no moves
+  private static final int PASS = -1;
+
+  private final long timeBudgetNanos;
+  private final int workers;
+  private final int maxPlayoutsPerWorker;
+  private final SplittableRandom random;
+
+  /**
+   * <p>Creates a bot with the default time budget that uses every core.</p>
+   */
+  public MissingDiamondBot() {
+    this(DEFAULT_TIME_BUDGET_MILLIS);
+  }
+
+  /**
+   * <p>Creates a bot with the given time budget that uses every core.</p>
+   *
+   * @param timeBudgetMillis The thinking time per decision, in milliseconds
+   * @throws IllegalArgumentException If the time budget is not positive
+   */
+  public MissingDiamondBot(long timeBudgetMillis) {
+    this(timeBudgetMillis, Runtime.getRuntime().availableProcessors(), Integer.MAX_VALUE,
+        new SplittableRandom().nextLong());
+  }
+
+  /**
+   * <p>Creates a fully configured bot.</p>
+   *
+   * @param timeBudgetMillis     The thinking time per decision, in milliseconds
+   * @param workers              The number of parallel searches per decision
+   * @param maxPlayoutsPerWorker The number of playouts after which a worker stops early
+   * @param seed                 The seed of the bot's random choices
+   * @throws IllegalArgumentException If the time budget, worker count or playout cap is not positive
+   */
+  public MissingDiamondBot(long timeBudgetMillis, int workers, int maxPlayoutsPerWorker, long seed) {
+    if (timeBudgetMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be positive.");
+    }
+    if (workers < 1) {
+      throw new IllegalArgumentException("At least one worker is required.");
+    }
+    if (maxPlayoutsPerWorker < 1) {
+      throw new IllegalArgumentException("Playout cap must be positive.");
+    }
+    this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+    this.workers = workers;
+    this.maxPlayoutsPerWorker = maxPlayoutsPerWorker;
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * <p>Chooses where the current player moves after a roll.</p>
+   *
+   * @param state The state of the game before the move
+   * @param roll  The rolled value
+   * @return A move decision, or an end turn decision if the roll gives no moves
+   * @throws IllegalArgumentException If the state is null or the roll is not on the die
+   */
+  @Override
+  public BotDecision chooseMove(DiamondSearchState state, int roll) {
+    if (state == null) {
+      throw new IllegalArgumentException("State cannot be null.");
+    }
+    if (roll < 1 || roll > MoveIndex.MAX_ROLL) {
+      throw new IllegalArgumentException("Roll must be between 1 and " + MoveIndex.MAX_ROLL + ".");
+    }
+    int[] actions = moveActions(state, roll);
+    if (actions[0] == PASS) {
+      return BotDecision.endTurn();
+    }
+    return BotDecision.moveTo(state.tileIdOf(destinationOf(search(state, actions))));
+  }
+
+  /**
+   * <p>Chooses what to do with the token the current player stands on.</p>
+   *
+   * @param state The state of the game after the move
+   * @return An open, buy or end turn decision
+   * @throws IllegalArgumentException If the state is null
+   */
+  @Override
+  public BotDecision chooseTokenAction(DiamondSearchState state) {
+    if (state == null) {
+      throw new IllegalArgumentException("State cannot be null.");
+    }
+    if (!state.hasTokenHere()) {
+      return BotDecision.endTurn();
+    }
+
+    int[] actions = state.canBuyTokenFlip()
+        ? new int[] {actionOf(-1, TOKEN_END_TURN), actionOf(-1, TOKEN_OPEN), actionOf(-1, TOKEN_BUY)}
+        : new int[] {actionOf(-1, TOKEN_END_TURN), actionOf(-1, TOKEN_OPEN)};
+    return switch (tokenChoiceOf(search(state, actions))) {
+      case TOKEN_OPEN -> BotDecision.openToken();
+      case TOKEN_BUY -> BotDecision.buyTokenFlip();
+      default -> BotDecision.endTurn();
+    };
+  }
+
+  /**
+   * <p>Runs the parallel search over the given root actions.</p>
+   *
+   * @return The action that was tried most often
+   */
+  private int search(DiamondSearchState state, int[] actions) {
+    if (actions.length == 1) {
+      return actions[0];
+    }
+    SplittableRandom decisionRandom;
+    synchronized (random) {
+      decisionRandom = random.split();
+    }
+
+    long deadline = System.nanoTime() + timeBudgetNanos;
+    List<SearchWorker> tasks = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      tasks.add(new SearchWorker(state, actions, deadline, decisionRandom.split()));
+    }
+    if (workers == 1) {
+      // A single search runs on the calling thread, which may already be one of many
+      tasks.get(0).run();
+    } else {
+      List<ForkJoinTask<?>> forks = new ArrayList<>(tasks.size());
+      tasks.forEach(task -> forks.add(ForkJoinTask.adapt(task)));
+      ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> {
+        ForkJoinTask.invokeAll(forks);
+      }));
+    }
+
+    long[] visits = new long[actions.length];
+    double[] wins = new double[actions.length];
+    for (SearchWorker task : tasks) {
+      for (int a = 0; a < actions.length; a++) {
+        Edge edge = task.tree.edge(actions[a]);
+        visits[a] += edge.visits;
+        wins[a] += edge.wins;
+      }
+    }
+    int best = 0;
+    for (int a = 1; a < actions.length; a++) {
+      if (visits[a] > visits[best]
+          || (visits[a] == visits[best] && wins[a] > wins[best])) {
+        best = a;
+      }
+    }
+    return actions[best];
+  }
+
+  // ==================== Actions ====================
+
+  /**
+   * <p>Lists the actions of the current player for a roll.</p>
+   *
+   * @return The actions, or only {@link #PASS} if the roll gives no moves
+   */
+  private static int[] moveActions(DiamondSearchState state, int roll) {
+    int[] destinations = state.destinations(roll);
+    if (destinations.length == 0) {
+      return new int[] {PASS};
+    }
+    int[] actions = new int[destinations.length * TOKEN_CHOICES];
+    int count = 0;
+    for (int destination : destinations) {
+      actions[count++] = actionOf(destination, TOKEN_END_TURN);
+      if (state.hasToken(destination)) {
+        actions[count++] = actionOf(destination, TOKEN_OPEN);
+        if (state.canAffordTokenFlip()) {
+          actions[count++] = actionOf(destination, TOKEN_BUY);
+        }
+      }
+    }
+    return Arrays.copyOf(actions, count);
+  }
+
+  /**
+   * <p>Packs a destination and a token choice into one action.</p>
+   *
+   * @param destination The destination tile index, or <code>-1</code> to stay
+   * @param tokenChoice The token choice on arrival
+   */
+  private static int actionOf(int destination, int tokenChoice) {
+    return (destination + 1) * TOKEN_CHOICES + tokenChoice;
+  }
+
+  private static int destinationOf(int action) {
+    return action / TOKEN_CHOICES - 1;
+  }
+
+  private static int tokenChoiceOf(int action) {
+    return action % TOKEN_CHOICES;
+  }
+
+  /**
+   * <p>Plays an action and ends the turn, unless the action wins the game.</p>
+   */
+  private static void applyAction(DiamondSearchState state, int action, SplittableRandom random) {
+    if (action != PASS) {
+      int destination = destinationOf(action);
+      if (destination >= 0) {
+        state.moveTo(destination);
+        if (state.isFinished()) {
+          return;
+        }
+      }
+      applyTokenChoice(state, tokenChoiceOf(action), random);
+    }
+    state.endTurn();
+  }
+
+  private static void applyTokenChoice(DiamondSearchState state, int choice, SplittableRandom random) {
+    if (!state.hasTokenHere()) {
+      return;
+    }
+    if (choice == TOKEN_BUY && state.canBuyTokenFlip()) {
+      state.buyTokenFlip();
+    } else if (choice == TOKEN_OPEN
+        && random.nextInt(1, MoveIndex.MAX_ROLL + 1) >= DiamondSearchState.FREE_FLIP_MIN_ROLL) {
+      state.openToken();
+    }
+  }
+
+  // ==================== Playouts ====================
+
+  /**
+   * <p>Plays one turn of the current player with the playout policy.</p>
+   */
+  private static void playPolicyTurn(DiamondSearchState state, SplittableRandom random) {
+    int[] destinations = state.destinations(random.nextInt(1, MoveIndex.MAX_ROLL + 1));
+    if (destinations.length > 0) {
+      state.moveTo(pickPolicyDestination(state, destinations, random));
+      if (state.isFinished()) {
+        return;
+      }
+      applyTokenChoice(state, state.canBuyTokenFlip() ? TOKEN_BUY : TOKEN_OPEN, random);
+    }
+    state.endTurn();
+  }
+
+  private static int pickPolicyDestination(DiamondSearchState state, int[] destinations,
+                                           SplittableRandom random) {
+    if (state.isHeadingHome()) {
+      int best = destinations[0];
+      for (int destination : destinations) {
+        if (state.homeDistance(destination) < state.homeDistance(best)) {
+          best = destination;
+        }
+      }
+      return best;
+    }
+    int withTokens = 0;
+    int chosen = -1;
+    for (int destination : destinations) {
+      // Reservoir sampling picks a uniform destination with a token in one pass
+      if (state.hasToken(destination) && random.nextInt(++withTokens) == 0) {
+        chosen = destination;
+      }
+    }
+    return chosen >= 0 ? chosen : destinations[random.nextInt(destinations.length)];
+  }
+
+  // ==================== Search Tree ====================
+
+  /**
+   * <p>Decision node of the search tree: one turn of a player after a given roll.</p>
+   * <p>Nodes have few actions, so edges are found by scanning a list.</p>
+   */
+  private static final class Node {
+    private final List<Edge> edges = new ArrayList<>(4);
+
+    private Edge edge(int action) {
+      for (Edge edge : edges) {
+        if (edge.action == action) {
+          return edge;
+        }
+      }
+      Edge edge = new Edge(action);
+      edges.add(edge);
+      return edge;
+    }
+  }
+
+  /**
+   * <p>Action of a decision node, with its statistics for the player who took it.</p>
+   * <p>The chance node of the next turn's roll lives on the edge as one child per roll.</p>
+   */
+  private static final class Edge {
+    private final int action;
+    private long visits;
+    private long available;
+    private double wins;
+    private Node[] next;
+
+    private Edge(int action) {
+      this.action = action;
+    }
+
+    private Node child(int roll) {
+      if (next == null) {
+        next = new Node[MoveIndex.MAX_ROLL];
+      }
+      if (next[roll - 1] == null) {
+        next[roll - 1] = new Node();
+      }
+      return next[roll - 1];
+    }
+  }
+
+  /**
+   * <p>One root-parallel search with its own tree and random stream.</p>
+   * <p>Run on the fork-join pool through {@link ForkJoinTask#adapt(Runnable)}, so the
+   * worker itself is not a serializable task.</p>
+   */
+  private final class SearchWorker implements Runnable {
+    private final DiamondSearchState root;
+    private final int[] rootActions;
+    private final long deadline;
+    private final SplittableRandom random;
+    private final Node tree = new Node();
+    private final Edge[] path = new Edge[MAX_TREE_DEPTH];
+    private final int[] seats = new int[MAX_TREE_DEPTH];
+
+    private SearchWorker(DiamondSearchState root, int[] rootActions, long deadline,
+                         SplittableRandom random) {
+      this.root = root;
+      this.rootActions = rootActions;
+      this.deadline = deadline;
+      this.random = random;
+    }
+
+    @Override
+    public void run() {
+      DiamondSearchState scratch = root.copy();
+      for (int playouts = 0; playouts < maxPlayoutsPerWorker && System.nanoTime() < deadline;
+           playouts++) {
+        scratch.copyFrom(root);
+        scratch.determinize(random);
+        int depth = descend(scratch);
+        for (int turn = 0; turn < MAX_PLAYOUT_TURNS && !scratch.isFinished(); turn++) {
+          playPolicyTurn(scratch, random);
+        }
+        backUp(depth, scratch.isFinished() ? scratch.getWinner() : -1, scratch.getPlayerCount());
+      }
+    }
+
+    /**
+     * <p>Selects down the tree and expands one new action.</p>
+     *
+     * @return The number of actions on the path
+     */
+    private int descend(DiamondSearchState scratch) {
+      Node node = tree;
+      int[] actions = rootActions;
+      int depth = 0;
+      while (true) {
+        Edge edge = select(node, actions);
+        boolean expanded = edge.visits == 0;
+        seats[depth] = scratch.getCurrentPlayer();
+        path[depth++] = edge;
+        applyAction(scratch, edge.action, random);
+        if (expanded || scratch.isFinished() || depth == MAX_TREE_DEPTH) {
+          return depth;
+        }
+        int roll = random.nextInt(1, MoveIndex.MAX_ROLL + 1);
+        node = edge.child(roll);
+        actions = moveActions(scratch, roll);
+      }
+    }
+
+    /**
+     * <p>Picks the first untried action, or the action with the best UCB1 score.</p>
+     * <p>Every listed action counts as available, whichever is picked.</p>
+     */
+    private Edge select(Node node, int[] actions) {
+      Edge untried = null;
+      Edge best = null;
+      double bestScore = Double.NEGATIVE_INFINITY;
+      for (int action : actions) {
+        Edge edge = node.edge(action);
+        edge.available++;
+        if (edge.visits == 0) {
+          if (untried == null) {
+            untried = edge;
+          }
+          continue;
+        }
+        double score = edge.wins / edge.visits
+            + EXPLORATION * Math.sqrt(Math.log(edge.available) / edge.visits);
+        if (score > bestScore) {
+          bestScore = score;
+          best = edge;
+        }
+      }
+      return untried != null ? untried : best;
+    }
+
+    /**
+     * <p>Adds the result of a playout to every action on the path.</p>
+     * <p>An unfinished playout counts as an equal share for every player.</p>
+     */
+    private void backUp(int depth, int winner, int playerCount) {
+      for (int k = 0; k < depth; k++) {
+        Edge edge = path[k];
+        edge.visits++;
+        if (winner < 0) {
+          edge.wins += 1.0 / playerCount;
+        } else if (winner == seats[k]) {
+          edge.wins += 1.0;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p>Baseline strategy that picks uniformly among the legal moves.</p>
+ * <p>Tokens are always tried with the free roll. Useful as the weakest opponent when
+ * rating other strategies.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class RandomDiamondStrategy implements DiamondStrategy {
+  private final SplittableRandom random;
+
+  /**
+   * <p>Creates a random strategy with a reproducible sequence of choices.</p>
+   *
+   * @param seed The seed of the strategy's choices
+   */
+  public RandomDiamondStrategy(long seed) {
+    this.random = new SplittableRandom(seed);
+  }
+
+  @Override
+  public BotDecision chooseMove(DiamondSearchState state, int roll) {
+    int[] destinations = state.destinations(roll);
+    if (destinations.length == 0) {
+      return BotDecision.endTurn();
+    }
+    return BotDecision.moveTo(state.tileIdOf(destinations[random.nextInt(destinations.length)]));
+  }
+
+  @Override
+  public BotDecision chooseTokenAction(DiamondSearchState state) {
+    return state.hasTokenHere() ? BotDecision.openToken() : BotDecision.endTurn();
+  }
+}
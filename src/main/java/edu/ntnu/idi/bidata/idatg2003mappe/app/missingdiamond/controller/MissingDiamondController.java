@@ -1,17 +1,26 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller;
 
 import edu.ntnu.idi.bidata.idatg2003mappe.app.common.observer.BoardGameObserver;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.BotDecision;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.DiamondSearchState;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.MissingDiamondBot;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.TokenAdvice;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.TokenSystem;
 import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
 import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.die.Die;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
 import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game.GameState;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game.MissingDiamondSnapshot;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
 import edu.ntnu.idi.bidata.idatg2003mappe.markers.Marker;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenEffectResult;
 import edu.ntnu.idi.bidata.idatg2003mappe.util.map.MapDesignerListener;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.stream.IntStream;
 
 /**
@@ -30,7 +39,7 @@ import java.util.stream.IntStream;
  * </ul>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.3
+ * @version 0.0.5
  * @since 23.05.2025
  */
 public class MissingDiamondController {
@@ -39,6 +48,11 @@ public class MissingDiamondController {
   private final MissingDiamond game;
   // Available actions for the current state (Skip action removed)
   private final Map<ActionState, List<String>> availableActions = new HashMap<>();
+  private final PossibleMoveCache possibleMoves;
+  private MissingDiamondBot bot = new MissingDiamondBot();
+  private volatile boolean botThinking;
+  // Counts turns, so a bot decision can tell whether its turn is still being played
+  private int turnNumber;
   private boolean hasRolled = false;
   private MapDesignerListener view;
   private ActionState currentState = ActionState.AWAITING_ROLL;
@@ -50,6 +64,7 @@ public class MissingDiamondController {
    */
   public MissingDiamondController() {
     this.game = new MissingDiamond();
+    this.possibleMoves = new PossibleMoveCache(game);
     initializeAvailableActions();
   }
 
@@ -96,10 +111,10 @@ public class MissingDiamondController {
     String result = game.playTurn();
     hasRolled = true;
     currentState = ActionState.AWAITING_MOVE;
+    possibleMoves.invalidate();
 
     // Check if there are any valid moves
-    List<Tile> possibleMoves = getPossibleMoves();
-    if (possibleMoves.isEmpty()) {
+    if (!hasPossibleMoves()) {
       result += "\nNo valid moves available. Turn passed to next player.";
       endTurn();
     }
@@ -134,18 +149,20 @@ public class MissingDiamondController {
     }
 
     // Check if the destination tile is a valid move
-    Set<Tile> validMoves = game.getPossibleMovesForCurrentRoll();
-    if (!validMoves.contains(destinationTile)) {
+    if (!isPossibleMove(tileId)) {
       return "Cannot move to tile " + tileId + " - it's not exactly " +
           game.getCurrentRoll() + " steps away.";
     }
 
     // Move the player
     String moveResult = game.movePlayerToTile(destinationTile);
+    possibleMoves.invalidate();
 
     // Check if game is finished (win condition)
     if (game.isGameFinished()) {
       // Don't end turn - game is over
+      Player winner = game.getWinner();
+      observers.forEach(observer -> observer.onGameEnded(winner));
       return moveResult;
     }
 
@@ -205,6 +222,239 @@ public class MissingDiamondController {
     return success;
   }
 
+  /**
+   * <p>Buys a token flip for the current player on the tile they stand on.</p>
+   * <p>The token's effect is applied by the token system, the same way as for a free
+   * flip, and the turn ends if the flip was bought.</p>
+   *
+   * @return A message describing the flip and what the token gave
+   */
+  public String buyTokenFlip() {
+    Player player = game.getCurrentPlayer();
+    Tile tile = player.getCurrentTile();
+    Marker token = game.getTokenAtTile(tile);
+    if (currentState != ActionState.AWAITING_TOKEN_DECISION || token == null) {
+      return "There is no token to buy right now.";
+    }
+    Banker banker = game.getBanker();
+    int balance = banker.getBalance(player);
+    if (balance < TokenSystem.TOKEN_FLIP_COST) {
+      return player.getName() + " needs £" + TokenSystem.TOKEN_FLIP_COST + " to buy a token flip but only has £"
+          + balance + ".";
+    }
+    if (!buyTokenFlip(tile)) {
+      return player.getName() + " could not buy a token flip.";
+    }
+    int change = banker.getBalance(player) - balance + TokenSystem.TOKEN_FLIP_COST;
+    return player.getName() + " paid £" + TokenSystem.TOKEN_FLIP_COST + " and got the token: "
+        + describeToken(token, change);
+  }
+
+  /**
+   * <p>Tries to open the token on the current player's tile for free.</p>
+   * <p>The player rolls the die and gets the token on a roll of 4-6. The turn ends
+   * whether or not the token was opened.</p>
+   *
+   * @return A message describing the attempt
+   */
+  public String openToken() {
+    if (currentState != ActionState.AWAITING_TOKEN_DECISION) {
+      return "There is no token to open right now.";
+    }
+
+    Player currentPlayer = game.getCurrentPlayer();
+    int roll = game.getDie().rollDie();
+    String result;
+    if (roll >= DiamondSearchState.FREE_FLIP_MIN_ROLL) {
+      Banker banker = game.getBanker();
+      int balance = banker.getBalance(currentPlayer);
+      Marker token = game.getTokenSystem()
+          .openToken(currentPlayer, currentPlayer.getCurrentTile(), banker);
+      result = currentPlayer.getName() + " rolled " + roll + " and got the token: "
+          + (token != null ? describeToken(token, banker.getBalance(currentPlayer) - balance) : "nothing!");
+    } else {
+      result = currentPlayer.getName() + " rolled " + roll + " but couldn't get the token (need 4-6).";
+    }
+
+    endTurn();
+    return result;
+  }
+
+  /**
+   * <p>Sets the computer opponent used by {@link #playBotTurn(Executor)}.</p>
+   *
+   * @param bot The bot to use
+   * @throws IllegalArgumentException If the bot is null
+   */
+  public void setBot(MissingDiamondBot bot) {
+    if (bot == null) {
+      throw new IllegalArgumentException("Bot cannot be null.");
+    }
+    this.bot = bot;
+  }
+
+  /**
+   * <p>Checks whether the computer is busy playing a turn.</p>
+   *
+   * @return <code>true</code> while a turn started by {@link #playBotTurn(Executor)} is running
+   */
+  public boolean isBotThinking() {
+    return botThinking;
+  }
+
+  /**
+   * <p>Lets the computer play the current player's turn.</p>
+   * <p>The die is rolled on the calling thread. The search for a move, and for a token
+   * action if the move lands on a token, runs on worker threads so the calling thread is
+   * never blocked. Each decision is handed to <code>deliveryExecutor</code>, which applies
+   * it to this controller, so a JavaFX caller passes <code>Platform::runLater</code>.
+   * The turn ends once the bot's decisions are applied.</p>
+   * <p>A decision is dropped if, by the time it is delivered, the game has finished or the
+   * player, turn or action it was searched for is no longer the current one, for example
+   * because a saved game was loaded while the bot was thinking.</p>
+   *
+   * @param deliveryExecutor The executor that applies decisions to the game
+   * @return A future completed with a description of the turn on the delivery executor
+   * @throws IllegalArgumentException If the executor is null
+   */
+  public CompletableFuture<String> playBotTurn(Executor deliveryExecutor) {
+    if (deliveryExecutor == null) {
+      throw new IllegalArgumentException("Delivery executor cannot be null.");
+    }
+    if (botThinking) {
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("The computer is already playing a turn."));
+    }
+    if (game.isGameFinished()) {
+      return CompletableFuture.failedFuture(new IllegalStateException("The game is finished."));
+    }
+
+    StringBuilder log = new StringBuilder();
+    if (currentState == ActionState.AWAITING_ROLL) {
+      log.append(playTurn());
+      if (currentState == ActionState.AWAITING_ROLL) {
+        // No moves for this roll, so the turn has already passed
+        return CompletableFuture.completedFuture(log.toString());
+      }
+    }
+
+    botThinking = true;
+    MissingDiamondBot searcher = bot;
+    CompletableFuture<String> turn;
+    if (currentState == ActionState.AWAITING_MOVE && game.getCurrentRoll() > 0) {
+      DiamondSearchState snapshot = DiamondSearchState.capture(game);
+      int roll = game.getCurrentRoll();
+      Player player = game.getCurrentPlayer();
+      int turnSearched = turnNumber;
+      turn = CompletableFuture.supplyAsync(() -> searcher.chooseMove(snapshot, roll))
+          .thenComposeAsync(decision -> {
+            if (!applyBotDecision(decision, player, turnSearched, ActionState.AWAITING_MOVE, log)) {
+              return CompletableFuture.completedFuture(log.toString());
+            }
+            return finishBotTurn(searcher, log, deliveryExecutor);
+          }, deliveryExecutor);
+    } else {
+      turn = finishBotTurn(searcher, log, deliveryExecutor);
+    }
+    return turn.whenComplete((result, error) -> botThinking = false);
+  }
+
+  /**
+   * <p>Settles a token after the bot's move and ends the bot's turn.</p>
+   */
+  private CompletableFuture<String> finishBotTurn(MissingDiamondBot searcher, StringBuilder log,
+                                                  Executor deliveryExecutor) {
+    if (game.isGameFinished()) {
+      return CompletableFuture.completedFuture(log.toString());
+    }
+    if (currentState != ActionState.AWAITING_TOKEN_DECISION) {
+      endTurn();
+      return CompletableFuture.completedFuture(log.toString());
+    }
+    DiamondSearchState snapshot = DiamondSearchState.capture(game);
+    Player player = game.getCurrentPlayer();
+    int turnSearched = turnNumber;
+    return CompletableFuture.supplyAsync(() -> searcher.chooseTokenAction(snapshot))
+        .thenApplyAsync(decision -> {
+          applyBotDecision(decision, player, turnSearched, ActionState.AWAITING_TOKEN_DECISION, log);
+          return log.toString();
+        }, deliveryExecutor);
+  }
+
+  /**
+   * <p>Applies a bot decision if the game is still where it was when the decision was
+   * searched for, and logs the result.</p>
+   *
+   * @return <code>true</code> if the decision was applied, <code>false</code> if it was dropped
+   */
+  private boolean applyBotDecision(BotDecision decision, Player player, int turnSearched,
+                                   ActionState state, StringBuilder log) {
+    if (game.isGameFinished() || turnSearched != turnNumber
+        || game.getCurrentPlayer() != player || currentState != state) {
+      appendLine(log, "Computer decision dropped: the turn it was made for is over.");
+      return false;
+    }
+    appendLine(log, applyBotDecision(decision));
+    return true;
+  }
+
+  /**
+   * <p>Describes a revealed token and what it did to the player.</p>
+   */
+  private static String describeToken(Marker token, int moneyChange) {
+    StringBuilder text = new StringBuilder(token.getType());
+    if (moneyChange > 0) {
+      text.append(" (+£").append(moneyChange).append(')');
+    } else if (moneyChange < 0) {
+      text.append(" (-£").append(-moneyChange).append(')');
+    }
+    text.append('!');
+    TokenEffectResult effect = token.getEffect();
+    if (effect.isDiamond()) {
+      text.append(" MISSING DIAMOND FOUND! Return to start to win!");
+    } else if (effect.getInventoryItem() != null) {
+      text.append(" You got a ").append(effect.getInventoryItem()).append('.');
+    }
+    return text.toString();
+  }
+
+  private static void appendLine(StringBuilder log, String line) {
+    if (!log.isEmpty()) {
+      log.append('\n');
+    }
+    log.append(line);
+  }
+
+  /**
+   * <p>Applies a decision made by a {@link MissingDiamondBot} for the current player.</p>
+   *
+   * @param decision The decision to apply
+   * @return A message describing the result
+   * @throws IllegalArgumentException If the decision is null
+   */
+  public String applyBotDecision(BotDecision decision) {
+    if (decision == null) {
+      throw new IllegalArgumentException("Decision cannot be null.");
+    }
+    return switch (decision.getKind()) {
+      case MOVE -> movePlayer(decision.getTileId());
+      case OPEN_TOKEN -> openToken();
+      case BUY_TOKEN_FLIP -> {
+        String result = buyTokenFlip();
+        if (currentState == ActionState.AWAITING_TOKEN_DECISION) {
+          // The flip was not bought, so the bot leaves the token
+          endTurn();
+          result += " Turn ended.";
+        }
+        yield result;
+      }
+      case END_TURN -> {
+        endTurn();
+        yield "Turn ended.";
+      }
+    };
+  }
+
   /**
    * <p>Checks if the specified tile is a special tile with a token.</p>
    * <p>Special tiles are locations where tokens can be placed and interacted with.</p>
@@ -252,8 +502,10 @@ public class MissingDiamondController {
     game.nextPlayer();
 
     // Reset controller state completely
+    turnNumber++;
     hasRolled = false;
     currentState = ActionState.AWAITING_ROLL;
+    possibleMoves.invalidate();
 
     // Notify observers about turn change
     Player newPlayer = game.getCurrentPlayer();
@@ -282,8 +534,54 @@ public class MissingDiamondController {
     });
 
     // Reset controller state
+    turnNumber++;
     hasRolled = false;
     currentState = ActionState.AWAITING_ROLL;
+    possibleMoves.invalidate();
+  }
+
+  /**
+   * <p>Captures the complete state of the game, including the current action.</p>
+   *
+   * @return A {@link MissingDiamondSnapshot} of the game
+   */
+  public MissingDiamondSnapshot createSnapshot() {
+    return MissingDiamondSnapshot.capture(game, currentState == ActionState.AWAITING_TOKEN_DECISION);
+  }
+
+  /**
+   * <p>Restores the game from a snapshot.</p>
+   * <p>Players, balances, tokens and the turn are restored, and the controller continues
+   * with the action the current player was on when the snapshot was taken.</p>
+   *
+   * @param snapshot The {@link MissingDiamondSnapshot} to restore
+   * @throws IllegalArgumentException If the snapshot is null or does not fit this game
+   */
+  public void applySnapshot(MissingDiamondSnapshot snapshot) {
+    if (snapshot == null) {
+      throw new IllegalArgumentException("Snapshot cannot be null");
+    }
+    snapshot.restore(game);
+
+    turnNumber++;
+    hasRolled = snapshot.getCurrentRoll() > 0;
+    if (hasRolled) {
+      currentState = ActionState.AWAITING_MOVE;
+    } else if (snapshot.isAwaitingTokenDecision()) {
+      currentState = ActionState.AWAITING_TOKEN_DECISION;
+    } else {
+      currentState = ActionState.AWAITING_ROLL;
+    }
+    possibleMoves.invalidate();
+  }
+
+  /**
+   * <p>Checks whether the current player is deciding what to do with a token.</p>
+   *
+   * @return <code>true</code> if the player may open, buy or leave the token on their tile
+   */
+  public boolean isAwaitingTokenDecision() {
+    return currentState == ActionState.AWAITING_TOKEN_DECISION;
   }
 
   /**
@@ -307,15 +605,52 @@ public class MissingDiamondController {
 
   /**
    * <p>Gets a list of possible moves based on the current roll.</p>
-   * <p>These are the tiles that are exactly the rolled number of steps away.</p>
+   * <p>These are the tiles that are exactly the rolled number of steps away.
+   * The moves are computed once per turn and shared by all callers.</p>
    *
-   * @return A list of tiles that the player can move to
+   * @return An unmodifiable list of tiles that the player can move to
    */
   public List<Tile> getPossibleMoves() {
     if (!hasRolled) {
-      return new ArrayList<>();
+      return List.of();
+    }
+    return possibleMoves.getMoves();
+  }
+
+  /**
+   * <p>Checks whether the current player can move to a tile with the current roll.</p>
+   * <p>Uses the moves cached for this turn, so the check takes constant time.</p>
+   *
+   * @param tileId The ID of the tile to check
+   * @return <code>true</code> if the player has rolled and can move to the tile
+   */
+  public boolean isPossibleMove(int tileId) {
+    return hasRolled && possibleMoves.contains(tileId);
+  }
+
+  /**
+   * <p>Checks whether the current player has any possible move with the current roll.</p>
+   *
+   * @return <code>true</code> if the player has rolled and can move somewhere
+   */
+  public boolean hasPossibleMoves() {
+    return !getPossibleMoves().isEmpty();
+  }
+
+  /**
+   * <p>Compares the free roll with the paid flip for the current player.</p>
+   * <p>The odds come from the tokens still face down, which the token system keeps
+   * counted as tokens are revealed.</p>
+   *
+   * @return The expected outcome of both options, or <code>null</code> if the current
+   *     player does not stand on a token
+   */
+  public TokenAdvice getTokenAdvice() {
+    Player player = game.getCurrentPlayer();
+    if (player == null || !game.hasTokenAtTile(player.getCurrentTile())) {
+      return null;
     }
-    return new ArrayList<>(game.getPossibleMovesForCurrentRoll());
+    return game.getTokenSystem().adviseTokenDecision(player, game.getBanker());
   }
 
   /**
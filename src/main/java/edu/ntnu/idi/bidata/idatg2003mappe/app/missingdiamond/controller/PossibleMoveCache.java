@@ -0,0 +1,107 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * <p>Turn-scoped cache of the current player's possible moves.</p>
+ * <p>During a single turn the possible moves are asked for by the controller, the board
+ * view, the tile highlighter and the control panel. The cache computes them once and
+ * reuses them for as long as the player, the player's tile, the roll and the board stay
+ * the same. Any change to one of those is detected on the next lookup, and the controller
+ * also invalidates the cache explicitly on rolls, moves and turn changes.</p>
+ * <p>Tile IDs of the moves are kept in a {@link BitSet}, so checking a single tile
+ * takes constant time.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+final class PossibleMoveCache {
+  private final MissingDiamond game;
+  private final BitSet moveIds = new BitSet();
+
+  private boolean valid;
+  private Player player;
+  private Tile tile;
+  private int roll;
+  private int boardModificationCount;
+  private List<Tile> moves = List.of();
+  private boolean hasNegativeIds;
+
+  /**
+   * <p>Creates a cache for the given game.</p>
+   *
+   * @param game The game to compute moves for
+   */
+  PossibleMoveCache(MissingDiamond game) {
+    this.game = game;
+  }
+
+  /**
+   * <p>Gets the possible moves of the current player for the current roll.</p>
+   *
+   * @return An unmodifiable list of the tiles the player can move to
+   */
+  List<Tile> getMoves() {
+    refresh();
+    return moves;
+  }
+
+  /**
+   * <p>Checks whether the current player can move to a tile.</p>
+   *
+   * @param tileId The ID of the tile to check
+   * @return <code>true</code> if the tile is a possible move
+   */
+  boolean contains(int tileId) {
+    refresh();
+    if (tileId >= 0) {
+      return moveIds.get(tileId);
+    }
+    // Negative IDs cannot be stored in the bit set and are rare enough to scan for
+    return hasNegativeIds && moves.stream().anyMatch(move -> move.getTileId() == tileId);
+  }
+
+  /**
+   * <p>Discards the cached moves.</p>
+   */
+  void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * <p>Recomputes the moves if anything they depend on has changed.</p>
+   */
+  private void refresh() {
+    Player currentPlayer = game.getCurrentPlayer();
+    Tile currentTile = currentPlayer != null ? currentPlayer.getCurrentTile() : null;
+    int currentRoll = game.getCurrentRoll();
+    int modificationCount = game.getBoard().getModificationCount();
+    if (valid && player == currentPlayer && tile == currentTile && roll == currentRoll
+        && boardModificationCount == modificationCount) {
+      return;
+    }
+
+    moves = List.copyOf(game.getPossibleMovesForCurrentRoll());
+    moveIds.clear();
+    hasNegativeIds = false;
+    for (Tile move : moves) {
+      if (move.getTileId() >= 0) {
+        moveIds.set(move.getTileId());
+      } else {
+        hasNegativeIds = true;
+      }
+    }
+
+    player = currentPlayer;
+    tile = currentTile;
+    roll = currentRoll;
+    boardModificationCount = modificationCount;
+    valid = true;
+  }
+}
@@ -0,0 +1,185 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.Marker;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenEffectResult;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Keeps track of the tokens that still lie face down on the board.</p>
+ * <p>Players cannot see which token lies where, so every hidden token is equally likely
+ * to be the one under a player. The pool counts the hidden tokens of every type, and the
+ * totals needed for the odds: the money the gems would pay out, the bandits, the visas
+ * and the diamond. {@link TokenSystem} adds a token when it is placed and removes it when
+ * it is revealed, so every update is a handful of counter changes instead of a recount of
+ * the board.</p>
+ * <p>The odds follow the effects exactly as {@link TokenSystem} applies them: gems pay
+ * their reward, a bandit takes the whole balance, and a token that costs money is only
+ * charged if the player can pay all of it.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class HiddenTokenPool {
+  /**
+   * The chance of opening a token for free: a roll of 4, 5 or 6.
+   */
+  public static final double FREE_FLIP_CHANCE = 0.5;
+
+  private final Map<String, Integer> countsByType = new LinkedHashMap<>();
+  // Hidden tokens that cost money, by the amount they cost
+  private final TreeMap<Integer, Integer> countsByCost = new TreeMap<>();
+  private int hidden;
+  private long payoutTotal;
+  private int bandits;
+  private int visas;
+  private int diamonds;
+
+  /**
+   * <p>Records a token placed face down.</p>
+   *
+   * @param token The token
+   */
+  void add(Marker token) {
+    update(token, 1);
+  }
+
+  /**
+   * <p>Records a token that has been revealed or taken off the board.</p>
+   *
+   * @param token The token
+   */
+  void remove(Marker token) {
+    update(token, -1);
+  }
+
+  /**
+   * <p>Forgets every token.</p>
+   */
+  void clear() {
+    countsByType.clear();
+    countsByCost.clear();
+    hidden = 0;
+    payoutTotal = 0;
+    bandits = 0;
+    visas = 0;
+    diamonds = 0;
+  }
+
+  private void update(Marker token, int change) {
+    TokenEffectResult effect = token.getEffect();
+    countsByType.merge(token.getType(), change, Integer::sum);
+    hidden += change;
+    if (effect.isLoseAllMoney()) {
+      bandits += change;
+    } else if (effect.getMoneyChange() > 0) {
+      payoutTotal += (long) change * effect.getMoneyChange();
+    } else if (effect.getMoneyChange() < 0) {
+      countsByCost.merge(-effect.getMoneyChange(), change, (a, b) -> a + b == 0 ? null : a + b);
+    }
+    if (effect.isDiamond()) {
+      diamonds += change;
+    }
+    if ("visa".equals(effect.getInventoryItem())) {
+      visas += change;
+    }
+  }
+
+  /**
+   * <p>Gets the number of hidden tokens.</p>
+   *
+   * @return The number of tokens still face down
+   */
+  public int getHiddenCount() {
+    return hidden;
+  }
+
+  /**
+   * <p>Gets the number of hidden tokens of a type.</p>
+   *
+   * @param type The marker type, for example <code>"RedGem"</code>
+   * @return The number of hidden tokens of the type
+   */
+  public int getHiddenCount(String type) {
+    return countsByType.getOrDefault(type, 0);
+  }
+
+  /**
+   * <p>Gets the number of hidden tokens of every type, in the order the types were placed.</p>
+   *
+   * @return An unmodifiable map from marker type to number of hidden tokens
+   */
+  public Map<String, Integer> getHiddenCounts() {
+    return Collections.unmodifiableMap(countsByType);
+  }
+
+  /**
+   * <p>Gets the chance that a hidden token is the diamond.</p>
+   *
+   * @return The chance, or 0 if no token is hidden
+   */
+  public double getDiamondChance() {
+    return chanceOf(diamonds);
+  }
+
+  /**
+   * <p>Gets the chance that a hidden token is a visa.</p>
+   *
+   * @return The chance, or 0 if no token is hidden
+   */
+  public double getVisaChance() {
+    return chanceOf(visas);
+  }
+
+  /**
+   * <p>Gets the chance that a hidden token is a bandit.</p>
+   *
+   * @return The chance, or 0 if no token is hidden
+   */
+  public double getBanditChance() {
+    return chanceOf(bandits);
+  }
+
+  /**
+   * <p>Gets the expected change of a player's money from revealing one hidden token.</p>
+   * <p>Gems pay their reward, a bandit takes the whole balance, and a token that costs
+   * more than the balance costs nothing.</p>
+   *
+   * @param balance The player's balance when the token is revealed
+   * @return The expected change in money, or 0 if no token is hidden
+   */
+  public double getExpectedMoneyChange(int balance) {
+    if (hidden == 0) {
+      return 0.0;
+    }
+    double losses = (double) bandits * Math.max(0, balance);
+    for (Map.Entry<Integer, Integer> cost : countsByCost.headMap(balance, true).entrySet()) {
+      losses += (double) cost.getKey() * cost.getValue();
+    }
+    return (payoutTotal - losses) / hidden;
+  }
+
+  /**
+   * <p>Compares the free roll with the paid flip for a player standing on a token.</p>
+   *
+   * @param balance The player's balance
+   * @return The expected outcome of both options
+   */
+  public TokenAdvice advise(int balance) {
+    double free = FREE_FLIP_CHANCE * getExpectedMoneyChange(balance);
+    boolean affordable = balance >= TokenSystem.TOKEN_FLIP_COST;
+    double paid = affordable
+        ? getExpectedMoneyChange(balance - TokenSystem.TOKEN_FLIP_COST) - TokenSystem.TOKEN_FLIP_COST
+        : 0.0;
+    return new TokenAdvice(hidden, free, FREE_FLIP_CHANCE * getDiamondChance(),
+        affordable, paid, affordable ? getDiamondChance() : 0.0);
+  }
+
+  private double chanceOf(int count) {
+    return hidden == 0 ? 0.0 : (double) count / hidden;
+  }
+}
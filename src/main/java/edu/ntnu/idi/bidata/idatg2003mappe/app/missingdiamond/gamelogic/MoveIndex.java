@@ -0,0 +1,266 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardGraph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>Precomputed legal destinations for every tile and die roll of a Missing Diamond board.</p>
+ *
+ * <p>The index is built once from the board's tiles. For every (tile, roll) pair it runs the
+ * same depth-first search as {@link MovementCalculator}, with the same neighbour order and the
+ * same rule that each tile is explored at most once per search, and stores the result as
+ * primitive arrays:</p>
+ * <ul>
+ *   <li>Special tiles reached within the roll are valid stops</li>
+ *   <li>Other tiles are valid only when reached after exactly the rolled number of steps</li>
+ * </ul>
+ * <p>Lookups then cost a single array slice instead of a graph search. Tiles linked from the
+ * board but not added to it are indexed as well, in the order given by {@link BoardGraph}.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class MoveIndex {
+  /**
+   * The highest roll covered by the index.
+   */
+  public static final int MAX_ROLL = 6;
+
+  private final Tile[] tiles;
+  private final Map<Tile, Integer> indexOfTile;
+  private final int[] offsets;
+  private final int[] destinationIndices;
+  private final int[] destinationIds;
+
+  /**
+   * <p>Builds the index for the given tiles.</p>
+   *
+   * @param boardTiles     The tiles of the board
+   * @param specialTileIds The IDs of the tiles where a player may stop early
+   * @throws IllegalArgumentException If the tile list is null
+   */
+  public MoveIndex(List<Tile> boardTiles, Set<Integer> specialTileIds) {
+    this(new BoardGraph(boardTiles), specialTileIds);
+  }
+
+  /**
+   * <p>Builds the index for the tiles of a board graph.</p>
+   * <p>Repeated connections are already removed from the graph. They never changed the
+   * result of the search, since a tile is explored at most once per search.</p>
+   *
+   * @param graph          The graph of the board
+   * @param specialTileIds The IDs of the tiles where a player may stop early
+   * @throws IllegalArgumentException If the graph is null
+   */
+  public MoveIndex(BoardGraph graph, Set<Integer> specialTileIds) {
+    if (graph == null) {
+      throw new IllegalArgumentException("Graph cannot be null.");
+    }
+
+    this.tiles = new Tile[graph.size()];
+    this.indexOfTile = new IdentityHashMap<>();
+    int[][] neighbors = new int[tiles.length][];
+    boolean[] special = new boolean[tiles.length];
+    for (int i = 0; i < tiles.length; i++) {
+      tiles[i] = graph.getTile(i);
+      indexOfTile.put(tiles[i], i);
+      neighbors[i] = graph.neighborsOf(i);
+      special[i] = specialTileIds != null && specialTileIds.contains(tiles[i].getTileId());
+    }
+
+    // Run the search for every tile and roll, appending results in CSR form
+    this.offsets = new int[tiles.length * MAX_ROLL + 1];
+    int[] visited = new int[tiles.length];
+    int[] found = new int[Math.max(16, tiles.length)];
+    int count = 0;
+    int stamp = 0;
+    for (int start = 0; start < tiles.length; start++) {
+      for (int roll = 1; roll <= MAX_ROLL; roll++) {
+        stamp++;
+        visited[start] = stamp;
+        if (found.length - count < tiles.length) {
+          found = Arrays.copyOf(found, found.length * 2 + tiles.length);
+        }
+        count = search(start, roll, 0, neighbors, special, visited, stamp, found, count);
+        offsets[start * MAX_ROLL + roll] = count;
+      }
+    }
+    this.destinationIndices = Arrays.copyOf(found, count);
+    this.destinationIds = new int[count];
+    for (int k = 0; k < count; k++) {
+      destinationIds[k] = tiles[destinationIndices[k]].getTileId();
+    }
+  }
+
+  /**
+   * <p>Depth-first search matching the recursive move finder of {@link MovementCalculator}.</p>
+   *
+   * @return The new number of found destinations
+   */
+  private static int search(int current, int roll, int depth, int[][] neighbors, boolean[] special,
+                            int[] visited, int stamp, int[] found, int count) {
+    if (depth > 0 && (special[current] || depth == roll)) {
+      found[count++] = current;
+    }
+    if (depth >= roll) {
+      return count;
+    }
+    for (int neighbor : neighbors[current]) {
+      if (visited[neighbor] != stamp) {
+        visited[neighbor] = stamp;
+        count = search(neighbor, roll, depth + 1, neighbors, special, visited, stamp, found, count);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * <p>Checks whether the index holds the moves for a tile and roll.</p>
+   *
+   * @param from The tile the move starts from
+   * @param roll The rolled value
+   * @return <code>true</code> if the tile is indexed and the roll is between 1 and {@value #MAX_ROLL}
+   */
+  public boolean covers(Tile from, int roll) {
+    return roll >= 1 && roll <= MAX_ROLL && from != null && indexOfTile.containsKey(from);
+  }
+
+  /**
+   * <p>Gets the IDs of the legal destinations for a tile and roll.</p>
+   *
+   * @param from The tile the move starts from
+   * @param roll The rolled value
+   * @return A new array with the destination tile IDs
+   * @throws IllegalArgumentException If the tile and roll are not covered by the index
+   */
+  public int[] getDestinationIds(Tile from, int roll) {
+    int slot = slot(from, roll);
+    return Arrays.copyOfRange(destinationIds, offsets[slot], offsets[slot + 1]);
+  }
+
+  /**
+   * <p>Gets the indices of the legal destinations for a tile index and roll.</p>
+   * <p>Tiles are numbered as in the {@link BoardGraph} the index was built from.</p>
+   *
+   * @param fromIndex The index of the tile the move starts from
+   * @param roll      The rolled value
+   * @return A new array with the destination tile indices
+   * @throws IllegalArgumentException If the index or roll is outside the index
+   */
+  public int[] getDestinationIndices(int fromIndex, int roll) {
+    if (fromIndex < 0 || fromIndex >= tiles.length || roll < 1 || roll > MAX_ROLL) {
+      throw new IllegalArgumentException("No moves indexed for this tile and roll.");
+    }
+    int slot = fromIndex * MAX_ROLL + roll - 1;
+    return Arrays.copyOfRange(destinationIndices, offsets[slot], offsets[slot + 1]);
+  }
+
+  /**
+   * <p>Gets the legal destinations for a tile and roll.</p>
+   * <p>The set is a view over the index, so no tiles are copied. A search never finds
+   * the same tile twice, so the slice holds no duplicates.</p>
+   *
+   * @param from The tile the move starts from
+   * @param roll The rolled value
+   * @return An unmodifiable set with the destination tiles
+   * @throws IllegalArgumentException If the tile and roll are not covered by the index
+   */
+  public Set<Tile> getDestinations(Tile from, int roll) {
+    int slot = slot(from, roll);
+    return new DestinationSet(offsets[slot], offsets[slot + 1]);
+  }
+
+  /**
+   * <p>Checks whether a tile is a legal destination for a tile and roll.</p>
+   *
+   * @param from        The tile the move starts from
+   * @param roll        The rolled value
+   * @param destination The tile to check
+   * @return <code>true</code> if the move is legal
+   * @throws IllegalArgumentException If the tile and roll are not covered by the index
+   */
+  public boolean contains(Tile from, int roll, Tile destination) {
+    int slot = slot(from, roll);
+    for (int k = offsets[slot]; k < offsets[slot + 1]; k++) {
+      if (tiles[destinationIndices[k]] == destination) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * <p>Gets the number of tiles in the index.</p>
+   *
+   * @return The number of indexed tiles
+   */
+  public int size() {
+    return tiles.length;
+  }
+
+  private int slot(Tile from, int roll) {
+    if (!covers(from, roll)) {
+      throw new IllegalArgumentException("No moves indexed for this tile and roll.");
+    }
+    return indexOfTile.get(from) * MAX_ROLL + roll - 1;
+  }
+
+  /**
+   * <p>Unmodifiable set of the destinations in one slice of the index.</p>
+   * <p>Slices hold at most a few tiles, so lookups scan the slice.</p>
+   */
+  private final class DestinationSet extends AbstractSet<Tile> {
+    private final int start;
+    private final int end;
+
+    private DestinationSet(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Iterator<Tile> iterator() {
+      return new Iterator<>() {
+        private int next = start;
+
+        @Override
+        public boolean hasNext() {
+          return next < end;
+        }
+
+        @Override
+        public Tile next() {
+          if (next >= end) {
+            throw new NoSuchElementException();
+          }
+          return tiles[destinationIndices[next++]];
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object tile) {
+      for (int k = start; k < end; k++) {
+        if (tiles[destinationIndices[k]] == tile) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
+  }
+}
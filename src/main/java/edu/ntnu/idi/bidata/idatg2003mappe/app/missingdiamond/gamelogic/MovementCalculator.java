@@ -2,7 +2,9 @@ package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic;
 
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardBranching;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -13,13 +15,20 @@ import java.util.Set;
  * move to based on their die roll and special tile rules. Special tiles allow
  * players to stop before reaching their exact die roll distance.</p>
  *
+ * <p>When created for a board, the moves for every tile and roll are looked up in a
+ * {@link MoveIndex} that is rebuilt only when the board reports a modification.
+ * Without a board, or for rolls outside the die, the moves are searched directly.</p>
+ *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 1.0.0
+ * @version 1.0.1
  * @since 05.01.2026
  */
 public class MovementCalculator {
 
   private final Set<Integer> specialTileIds;
+  private final BoardBranching board;
+  private MoveIndex moveIndex;
+  private int indexedModificationCount;
 
   /**
    * <p>Creates a new MovementCalculator with the specified special tile IDs.</p>
@@ -27,7 +36,19 @@ public class MovementCalculator {
    * @param specialTileIds Set of tile IDs that are considered special (allow early stopping)
    */
   public MovementCalculator(Set<Integer> specialTileIds) {
-    this.specialTileIds = specialTileIds != null ? specialTileIds : new HashSet<>();
+    this(specialTileIds, null);
+  }
+
+  /**
+   * <p>Creates a new MovementCalculator that indexes the moves of a board.</p>
+   * <p>The special tile IDs are copied, so they must be complete when the calculator is created.</p>
+   *
+   * @param specialTileIds Set of tile IDs that are considered special (allow early stopping)
+   * @param board          The board to index, or <code>null</code> to search moves directly
+   */
+  public MovementCalculator(Set<Integer> specialTileIds, BoardBranching board) {
+    this.specialTileIds = specialTileIds != null ? new HashSet<>(specialTileIds) : new HashSet<>();
+    this.board = board;
   }
 
   /**
@@ -41,15 +62,20 @@ public class MovementCalculator {
    *
    * @param player      The player to calculate moves for
    * @param currentRoll The die roll value
-   * @return A set of tiles that the player can legally move to
+   * @return An unmodifiable set of tiles that the player can legally move to
    */
   public Set<Tile> getPossibleMoves(Player player, int currentRoll) {
-    Set<Tile> possibleMoves = new HashSet<>();
     if (currentRoll < 1 || player == null || player.getCurrentTile() == null) {
-      return possibleMoves;
+      return Set.of();
     }
 
     Tile startTile = player.getCurrentTile();
+    MoveIndex index = currentMoveIndex();
+    if (index != null && index.covers(startTile, currentRoll)) {
+      return index.getDestinations(startTile, currentRoll);
+    }
+
+    Set<Tile> possibleMoves = new HashSet<>();
     Set<Tile> visitedForThisCall = new HashSet<>();
 
     // Add the start tile itself to visited so the recursion starts by exploring its neighbors
@@ -58,7 +84,7 @@ public class MovementCalculator {
     // Call the recursive helper, starting at depth 0 for the player's current tile.
     recursiveMoveFinder(startTile, currentRoll, visitedForThisCall, possibleMoves, 0);
 
-    return possibleMoves;
+    return Collections.unmodifiableSet(possibleMoves);
   }
 
   /**
@@ -73,10 +99,30 @@ public class MovementCalculator {
     if (destinationTile == null) {
       return false;
     }
+    MoveIndex index = currentMoveIndex();
+    if (index != null && player != null && index.covers(player.getCurrentTile(), currentRoll)) {
+      return index.contains(player.getCurrentTile(), currentRoll, destinationTile);
+    }
     Set<Tile> validMoves = getPossibleMoves(player, currentRoll);
     return validMoves.contains(destinationTile);
   }
 
+  /**
+   * <p>Gets the move index of the board, rebuilding it if the board has changed.</p>
+   *
+   * @return The up-to-date index, or <code>null</code> if the calculator has no board
+   */
+  private MoveIndex currentMoveIndex() {
+    if (board == null || board.getTiles() == null) {
+      return null;
+    }
+    if (moveIndex == null || indexedModificationCount != board.getModificationCount()) {
+      moveIndex = new MoveIndex(board.getGraph(), specialTileIds);
+      indexedModificationCount = board.getModificationCount();
+    }
+    return moveIndex;
+  }
+
   /**
    * <p>Determines if a tile is a special tile where players can optionally stop.</p>
    *
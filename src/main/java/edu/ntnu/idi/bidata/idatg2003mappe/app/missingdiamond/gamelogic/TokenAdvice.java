@@ -0,0 +1,95 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic;
+
+/**
+ * <p>Expected outcome of the two ways to open a token.</p>
+ * <p>The free option opens the token on a roll of 4-6 and otherwise leaves it. The paid
+ * option always opens the token for {@value TokenSystem#TOKEN_FLIP_COST}. Both end the
+ * turn. Money is the expected change in the player's balance, including the price of
+ * the flip, and the diamond chance is the chance of coming away with the diamond.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class TokenAdvice {
+  private final int hiddenTokens;
+  private final double freeExpectedMoney;
+  private final double freeDiamondChance;
+  private final boolean paidAffordable;
+  private final double paidExpectedMoney;
+  private final double paidDiamondChance;
+
+  TokenAdvice(int hiddenTokens, double freeExpectedMoney, double freeDiamondChance,
+              boolean paidAffordable, double paidExpectedMoney, double paidDiamondChance) {
+    this.hiddenTokens = hiddenTokens;
+    this.freeExpectedMoney = freeExpectedMoney;
+    this.freeDiamondChance = freeDiamondChance;
+    this.paidAffordable = paidAffordable;
+    this.paidExpectedMoney = paidExpectedMoney;
+    this.paidDiamondChance = paidDiamondChance;
+  }
+
+  /**
+   * <p>Gets the number of tokens the advice is based on.</p>
+   *
+   * @return The number of hidden tokens
+   */
+  public int getHiddenTokens() {
+    return hiddenTokens;
+  }
+
+  /**
+   * <p>Gets the expected change in money from the free roll.</p>
+   *
+   * @return The expected change in money
+   */
+  public double getFreeExpectedMoney() {
+    return freeExpectedMoney;
+  }
+
+  /**
+   * <p>Gets the chance of finding the diamond with the free roll.</p>
+   *
+   * @return The chance, between 0 and 1
+   */
+  public double getFreeDiamondChance() {
+    return freeDiamondChance;
+  }
+
+  /**
+   * <p>Checks whether the player can pay for a flip.</p>
+   *
+   * @return <code>true</code> if the player has enough money
+   */
+  public boolean isPaidAffordable() {
+    return paidAffordable;
+  }
+
+  /**
+   * <p>Gets the expected change in money from the paid flip, including its price.</p>
+   *
+   * @return The expected change in money, or 0 if the flip is not affordable
+   */
+  public double getPaidExpectedMoney() {
+    return paidExpectedMoney;
+  }
+
+  /**
+   * <p>Gets the chance of finding the diamond with the paid flip.</p>
+   *
+   * @return The chance, between 0 and 1, or 0 if the flip is not affordable
+   */
+  public double getPaidDiamondChance() {
+    return paidDiamondChance;
+  }
+
+  @Override
+  public String toString() {
+    String free = String.format("Free: £%+.0f, diamond %.1f%%", freeExpectedMoney,
+        100 * freeDiamondChance);
+    String paid = paidAffordable
+        ? String.format("Paid: £%+.0f, diamond %.1f%%", paidExpectedMoney, 100 * paidDiamondChance)
+        : "Paid: not affordable";
+    return free + "\n" + paid;
+  }
+}
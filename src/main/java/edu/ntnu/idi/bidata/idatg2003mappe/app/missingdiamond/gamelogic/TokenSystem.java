@@ -1,21 +1,18 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic;
 
 import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map.MapConfig;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardGraph;
 import edu.ntnu.idi.bidata.idatg2003mappe.markers.Diamond;
 import edu.ntnu.idi.bidata.idatg2003mappe.markers.Marker;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenCatalog;
 import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenEffectResult;
-import edu.ntnu.idi.bidata.idatg2003mappe.markers.RedGem;
-import edu.ntnu.idi.bidata.idatg2003mappe.markers.GreenGem;
-import edu.ntnu.idi.bidata.idatg2003mappe.markers.YellowGem;
-import edu.ntnu.idi.bidata.idatg2003mappe.markers.Bandit;
-import edu.ntnu.idi.bidata.idatg2003mappe.markers.Visa;
-import edu.ntnu.idi.bidata.idatg2003mappe.markers.BlankMarker;
 
 import java.util.*;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * <p>Manages the token system for the Missing Diamond game.</p>
@@ -34,25 +31,34 @@ import java.util.stream.Stream;
  *   <li>Visas - alternative way to win if another player finds the diamond</li>
  *   <li>Blank markers - no effect</li>
  * </ul>
+ * <p>Tokens are stored in an array indexed by the tile indices of the board graph, with
+ * bit sets of the tiles that hold a token and the tiles whose token has been revealed.
+ * Lookups by tile are array reads, and questions about many tiles at once, such as which
+ * tiles in reach hold a token, are answered by intersecting bit sets.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.2
+ * @version 0.0.3
  * @since 23.05.2025
  */
 public class TokenSystem {
-  // Constants for token quantities
-  private static final int NUM_RED_GEMS = 5;    // Rubies
-  private static final int NUM_GREEN_GEMS = 5;  // Emeralds
-  private static final int NUM_YELLOW_GEMS = 5; // Topazes
-  private static final int NUM_BANDITS = 4;     // Robbers
-  private static final int NUM_VISAS = 3;
-  // Token interaction costs
-  private static final int TOKEN_FLIP_COST = 300;  // NEW: Cost to buy a token flip
-  // Map of tokens placed on tiles
-  private final Map<Tile, Marker> tokenMap = new HashMap<>();
-  private final Map<Integer, Marker> tokensByTileId = new HashMap<>();
+  /**
+   * Cost of buying a guaranteed token flip.
+   */
+  public static final int TOKEN_FLIP_COST = 300;
+  // Tokens by compact tile index, with the tiles that still hold one and the tiles
+  // whose token has been revealed and taken
+  private final BitSet occupied = new BitSet();
+  private final BitSet revealed = new BitSet();
+  // The board graph, or a graph of the cities alone that is rebuilt when tokens are placed
+  private BoardGraph graph = new BoardGraph(List.of());
+  private boolean citiesOnly = true;
+  private Marker[] tokens = new Marker[0];
+  // Counts of the tokens still face down, updated on every placement and reveal
+  private final HiddenTokenPool hiddenTokens = new HiddenTokenPool();
   // Starting locations (Cairo and Tangiers)
   private final Collection<Tile> startingTiles = new ArrayList<>();
+  // Shuffles the token indices dealt to the cities when tokens are placed
+  private final Random random;
   // Token state tracking
   private boolean diamondFound = false;
   private Tile diamondLocation = null;
@@ -61,7 +67,21 @@ public class TokenSystem {
    * Constructor for TokenSystem.
    */
   public TokenSystem() {
-    // Empty constructor
+    this(new Random());
+  }
+
+  /**
+   * Constructor for TokenSystem with a given source of randomness, so token
+   * placement can be reproduced.
+   *
+   * @param random The source of randomness for placing tokens
+   * @throws IllegalArgumentException If random is null
+   */
+  public TokenSystem(Random random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random cannot be null.");
+    }
+    this.random = random;
   }
 
   /**
@@ -75,68 +95,140 @@ public class TokenSystem {
   }
 
   /**
-   * Initializes and distributes tokens randomly on city tiles.
+   * Sets the graph of the board, whose tile indices key the token store.
+   *
+   * <p>Without a board graph, tokens are indexed by a graph of the city tiles alone,
+   * which is enough for lookups but not for queries about reach.</p>
+   *
+   * @param boardGraph The graph of the board, or null to index the cities alone
+   */
+  public void setBoardGraph(BoardGraph boardGraph) {
+    this.citiesOnly = boardGraph == null;
+    if (boardGraph != null) {
+      this.graph = boardGraph;
+    }
+  }
+
+  /**
+   * Initializes and distributes the standard token mix randomly on city tiles.
    *
    * @param cityTiles List of city tiles to place tokens on
    */
   public void initializeTokens(Collection<Tile> cityTiles) {
-    // Clear existing token mappings
-    tokenMap.clear();
-    tokensByTileId.clear();
-
-    // Create all tokens
-    List<Marker> tokens = createAllTokens(cityTiles.size());
-
-    // Shuffle the tokens
-    Collections.shuffle(tokens);
-
-    // Place tokens on city tiles
-    IntStream.range(0, Math.min(cityTiles.size(), tokens.size()))
-        .forEach(i -> {
-          List<Tile> cityTileList = new ArrayList<>(cityTiles);
-          Tile cityTile = cityTileList.get(i);
-          Marker token = tokens.get(i);
-          token.setLocation(cityTile);
-          tokenMap.put(cityTile, token);
-          tokensByTileId.put(cityTile.getTileId(), token);
-
-          // Keep track of diamond location
-          if (token instanceof Diamond) {
-            diamondLocation = cityTile;
-          }
-        });
+    initializeTokens(cityTiles, TokenCatalog.standard());
   }
 
   /**
-   * Creates all the tokens for the game.
+   * Initializes and distributes the tokens of a map's token mix randomly on city tiles.
    *
-   * @param cityCount The number of cities to create tokens for
-   * @return List of all created markers
+   * @param cityTiles List of city tiles to place tokens on
+   * @param mix       The token mix of the map, or null for the standard mix
    */
-  private List<Marker> createAllTokens(int cityCount) {
-    List<Marker> tokens = new ArrayList<>();
-
-    // Add the diamond (Star of Africa)
-    tokens.add(new Diamond());
-
-    // Add gems
-    Stream.generate(RedGem::new).limit(NUM_RED_GEMS).forEach(tokens::add);
-    Stream.generate(GreenGem::new).limit(NUM_GREEN_GEMS).forEach(tokens::add);
-    Stream.generate(YellowGem::new).limit(NUM_YELLOW_GEMS).forEach(tokens::add);
-
-    // Add bandits (robbers)
-    Stream.generate(Bandit::new).limit(NUM_BANDITS).forEach(tokens::add);
+  public void initializeTokens(Collection<Tile> cityTiles, MapConfig.TokenMix mix) {
+    initializeTokens(cityTiles, mix != null ? mix.toCatalog() : TokenCatalog.standard());
+  }
 
-    // Add visas
-    Stream.generate(Visa::new).limit(NUM_VISAS).forEach(tokens::add);
+  /**
+   * Initializes and distributes the tokens of a catalog randomly on city tiles.
+   *
+   * <p>The catalog is scaled to the number of cities, and cities left over get blank
+   * tokens. Each city is dealt a token along a single shuffled permutation of token
+   * indices, so placement takes linear time even on very large maps. When there are
+   * more tokens than cities, the permutation also decides which tokens are left out.</p>
+   *
+   * @param cityTiles List of city tiles to place tokens on
+   * @param catalog   The token catalog of the map, or null for the standard catalog
+   */
+  public void initializeTokens(Collection<Tile> cityTiles, TokenCatalog catalog) {
+    Tile[] cities = cityTiles.toArray(new Tile[0]);
 
-    // Add blank tokens based on city count
-    int blankTokensNeeded = Math.max(0, cityCount - tokens.size());
-    Stream.generate(BlankMarker::new).limit(blankTokensNeeded).forEach(tokens::add);
+    // Clear existing tokens and index the tiles
+    if (citiesOnly) {
+      graph = new BoardGraph(Arrays.asList(cities));
+    }
+    tokens = new Marker[graph.size()];
+    occupied.clear();
+    revealed.clear();
+    hiddenTokens.clear();
+    diamondLocation = null;
+
+    TokenCatalog scaled = (catalog != null ? catalog : TokenCatalog.standard()).scaledTo(cities.length);
+    List<Marker> created = scaled.createTokens(cities.length);
+
+    // Fisher-Yates shuffle of token indices; city i gets token order[i]
+    int[] order = IntStream.range(0, created.size()).toArray();
+    for (int i = order.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = order[i];
+      order[i] = order[j];
+      order[j] = swap;
+    }
 
-    return tokens;
+    int placed = Math.min(cities.length, created.size());
+    for (int i = 0; i < placed; i++) {
+      Tile cityTile = cities[i];
+      int index = graph.indexOf(cityTile);
+      if (index < 0) {
+        throw new IllegalArgumentException("City tile " + cityTile.getTileId() + " is not on the board.");
+      }
+      Marker token = created.get(order[i]);
+      token.setLocation(cityTile);
+      tokens[index] = token;
+      occupied.set(index);
+      hiddenTokens.add(token);
+
+      // Keep track of diamond location
+      if (token.getEffect().isDiamond()) {
+        diamondLocation = cityTile;
+      }
+    }
   }
 
+  /**
+   * Replaces the tokens on the board with saved ones, for restoring a saved game.
+   *
+   * <p>The tokens are given by tile index in {@link #getGraph()}, which must already
+   * index the board the game was saved on.</p>
+   *
+   * @param tokensByIndex The token on every tile index, or null for tiles without one
+   * @param revealedTiles The tiles whose token has been revealed and taken
+   * @param diamondFound  Whether the diamond has been found
+   * @throws IllegalArgumentException If the tokens do not match the tiles of the graph,
+   *                                  or a revealed tile holds a token
+   */
+  public void restoreTokens(Marker[] tokensByIndex, BitSet revealedTiles, boolean diamondFound) {
+    if (tokensByIndex == null || tokensByIndex.length != graph.size()) {
+      throw new IllegalArgumentException("Saved tokens do not match the tiles of the board.");
+    }
+    if (revealedTiles == null || revealedTiles.length() > graph.size()) {
+      throw new IllegalArgumentException("Revealed tiles do not match the tiles of the board.");
+    }
+    tokens = new Marker[graph.size()];
+    occupied.clear();
+    revealed.clear();
+    revealed.or(revealedTiles);
+    hiddenTokens.clear();
+    diamondLocation = null;
+    this.diamondFound = diamondFound;
+
+    for (int index = 0; index < tokensByIndex.length; index++) {
+      Marker token = tokensByIndex[index];
+      if (token == null) {
+        continue;
+      }
+      if (revealed.get(index)) {
+        throw new IllegalArgumentException("Revealed tile " + index + " cannot hold a token.");
+      }
+      Tile tile = graph.getTile(index);
+      token.setLocation(tile);
+      tokens[index] = token;
+      occupied.set(index);
+      hiddenTokens.add(token);
+      if (token.getEffect().isDiamond()) {
+        diamondLocation = tile;
+      }
+    }
+  }
 
   /**
    * Gets the token at a specific tile.
@@ -145,7 +237,32 @@ public class TokenSystem {
    * @return The marker at the tile, or null if no marker exists
    */
   public Marker getTokenAtTile(Tile tile) {
-    return tokenMap.get(tile);
+    return getTokenAtIndex(graph.indexOf(tile));
+  }
+
+  /**
+   * Gets the token at the tile with a specific ID.
+   *
+   * @param tileId The ID of the tile to check
+   * @return The marker at the tile, or null if no marker exists
+   */
+  public Marker getTokenAtTileId(int tileId) {
+    return getTokenAtIndex(graph.indexOfId(tileId));
+  }
+
+  /**
+   * Checks whether a tile holds a token that has not been revealed.
+   *
+   * @param tile The tile to check
+   * @return True if the tile holds a token, false otherwise
+   */
+  public boolean hasTokenAtTile(Tile tile) {
+    int index = graph.indexOf(tile);
+    return index >= 0 && occupied.get(index);
+  }
+
+  private Marker getTokenAtIndex(int index) {
+    return index >= 0 && occupied.get(index) ? tokens[index] : null;
   }
 
   /**
@@ -155,14 +272,82 @@ public class TokenSystem {
    * @return The removed marker, or null if no marker existed
    */
   public Marker removeTokenFromTile(Tile tile) {
-    Marker marker = tokenMap.remove(tile);
+    int index = graph.indexOf(tile);
+    Marker marker = getTokenAtIndex(index);
     if (marker != null) {
-      tokensByTileId.remove(tile.getTileId());
+      tokens[index] = null;
+      occupied.clear(index);
+      revealed.set(index);
+      hiddenTokens.remove(marker);
       marker.removeFromLocation();
     }
     return marker;
   }
 
+  /**
+   * Gets the graph whose tile indices are used by the bulk token queries.
+   *
+   * @return The board graph, or a graph of the cities if no board graph was set
+   */
+  public BoardGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Gets the tiles that still hold a token.
+   *
+   * @return A new set of tile indices in {@link #getGraph()}
+   */
+  public BitSet getTokenTiles() {
+    return (BitSet) occupied.clone();
+  }
+
+  /**
+   * Gets the tiles whose token has been revealed and taken.
+   *
+   * @return A new set of tile indices in {@link #getGraph()}
+   */
+  public BitSet getRevealedTiles() {
+    return (BitSet) revealed.clone();
+  }
+
+  /**
+   * Keeps only the candidate tiles that hold a token.
+   *
+   * <p>Use this with the destinations of a move to find the moves that land on a token,
+   * with one word-wise intersection instead of a lookup per tile.</p>
+   *
+   * @param candidates Tile indices in {@link #getGraph()}
+   * @return A new set of the candidates that hold a token
+   */
+  public BitSet tokenTilesAmong(BitSet candidates) {
+    BitSet result = (BitSet) candidates.clone();
+    result.and(occupied);
+    return result;
+  }
+
+  /**
+   * Gets the tiles with unrevealed tokens within a number of steps of a tile.
+   *
+   * @param from  The tile to measure from
+   * @param steps The largest number of steps
+   * @return The tiles holding a token, in board order
+   * @throws IllegalArgumentException If the tile is not on the board or the steps are negative
+   */
+  public List<Tile> getTokenTilesWithin(Tile from, int steps) {
+    int source = graph.indexOf(from);
+    if (source < 0) {
+      throw new IllegalArgumentException("Tile is not on the board.");
+    }
+    BitSet sources = new BitSet(graph.size());
+    sources.set(source);
+    BitSet reached = graph.reachableWithin(sources, steps);
+    reached.and(occupied);
+    List<Tile> result = new ArrayList<>(reached.cardinality());
+    reached.stream().mapToObj(graph::getTile).forEach(result::add);
+    return result;
+  }
+
   /**
    * NEW: Buys a token flip for 300 coins and automatically reveals the token.
    * This is a guaranteed way to get the token without rolling dice.
@@ -184,20 +369,44 @@ public class TokenSystem {
       return false; // Not enough money
     }
 
-    // Attempt to pay for the token flip
-    if (!banker.withdraw(player, TOKEN_FLIP_COST)) {
-      return false; // Transaction failed
+    // Pay for the flip and apply the token's money effect as one transaction
+    boolean paid = banker.transaction(() -> {
+      if (!banker.withdraw(player, TOKEN_FLIP_COST, TransactionKind.TOKEN_FLIP)) {
+        return false; // Transaction failed
+      }
+      // Process the token (guaranteed success)
+      processToken(token, player, banker);
+      return true;
+    });
+    if (!paid) {
+      return false;
     }
 
-    // Process the token (guaranteed success)
-    processToken(token, player, banker);
-
     // Remove the token from the board
     removeTokenFromTile(tile);
 
     return true;
   }
 
+  /**
+   * Opens a token for free and applies its effects.
+   * The caller decides whether the player earned the token, for example by rolling 4-6.
+   *
+   * @param player The player opening the token
+   * @param tile   The tile with the token
+   * @param banker The banker handling the transaction
+   * @return The opened marker, or null if there was no token on the tile
+   */
+  public Marker openToken(Player player, Tile tile, Banker banker) {
+    Marker token = getTokenAtTile(tile);
+    if (token == null) {
+      return null;
+    }
+    processToken(token, player, banker);
+    removeTokenFromTile(tile);
+    return token;
+  }
+
   /**
    * Processes a token's effects for a player.
    *
@@ -216,8 +425,10 @@ public class TokenSystem {
     TokenEffectResult effect = token.getEffect();
 
     // Handle diamond special case (needs to call find() method)
-    if (effect.isDiamond() && token instanceof Diamond diamond) {
-      diamond.find();
+    if (effect.isDiamond()) {
+      if (token instanceof Diamond diamond) {
+        diamond.find();
+      }
       this.diamondFound = true;
     }
 
@@ -225,12 +436,12 @@ public class TokenSystem {
     if (effect.isLoseAllMoney()) {
       int currentBalance = banker.getBalance(player);
       if (currentBalance > 0) {
-        banker.withdraw(player, currentBalance);
+        banker.withdraw(player, currentBalance, TransactionKind.TOKEN_LOSS);
       }
     } else if (effect.getMoneyChange() > 0) {
-      banker.deposit(player, effect.getMoneyChange());
+      banker.deposit(player, effect.getMoneyChange(), TransactionKind.TOKEN_PAYOUT);
     } else if (effect.getMoneyChange() < 0) {
-      banker.withdraw(player, -effect.getMoneyChange());
+      banker.withdraw(player, -effect.getMoneyChange(), TransactionKind.TOKEN_LOSS);
     }
 
     // Apply inventory effects
@@ -239,6 +450,36 @@ public class TokenSystem {
     }
   }
 
+  /**
+   * Gets the tokens that are still face down on the board.
+   *
+   * @return The pool of hidden tokens
+   */
+  public HiddenTokenPool getHiddenTokens() {
+    return hiddenTokens;
+  }
+
+  /**
+   * Compares the free roll with the paid flip for a player, based on the tokens still
+   * face down.
+   *
+   * @param player The player standing on a token
+   * @param banker The banker holding the player's money
+   * @return The expected outcome of both options
+   */
+  public TokenAdvice adviseTokenDecision(Player player, Banker banker) {
+    return hiddenTokens.advise(banker.getBalance(player));
+  }
+
+  /**
+   * Checks if the diamond has been found by any player.
+   *
+   * @return True if the diamond token has been opened, false otherwise
+   */
+  public boolean isDiamondFound() {
+    return diamondFound;
+  }
+
   /**
    * Checks if a tile is a starting tile (Cairo or Tangiers).
    *
@@ -12,6 +12,7 @@ import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.player.PlayerFileHandler;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardBranching;
 import edu.ntnu.idi.bidata.idatg2003mappe.markers.Marker;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenCatalog;
 
 import java.util.*;
 import java.util.logging.Logger;
@@ -36,7 +37,7 @@ import java.util.stream.IntStream;
  * their chances of finding the diamond while maintaining sufficient resources.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.1.0
+ * @version 0.1.2
  * @since 23.05.2025
  */
 public class MissingDiamond {
@@ -59,6 +60,10 @@ public class MissingDiamond {
   private final List<Tile> startingTiles = new ArrayList<>();
   // Set of IDs for special tiles where players can choose to stop
   private final Set<Integer> specialTileIdsSet;
+  // Token catalog of the loaded map, or null for the standard catalog
+  private TokenCatalog tokenCatalog;
+  // Whether the loaded map marks its cities as special locations
+  private boolean citiesFromMap;
   private List<Player> players = new ArrayList<>();
   // Game state
   private boolean gameFinished;
@@ -107,7 +112,7 @@ public class MissingDiamond {
     this.boardFactory = new MissingDiamondBoardFactory();
 
     this.board = loadBoard(mapPath);
-    this.movementCalculator = new MovementCalculator(specialTileIdsSet);
+    this.movementCalculator = new MovementCalculator(specialTileIdsSet, board);
     this.players = createPlayers(numberOfPlayers, board);
 
     initializeGameState();
@@ -129,7 +134,7 @@ public class MissingDiamond {
     this.boardFactory = new MissingDiamondBoardFactory();
 
     this.board = loadBoardFromDefault();
-    this.movementCalculator = new MovementCalculator(specialTileIdsSet);
+    this.movementCalculator = new MovementCalculator(specialTileIdsSet, board);
 
     // Identify starting tiles before reading players for fallback positioning
     identifyStartingTiles();
@@ -190,6 +195,9 @@ public class MissingDiamond {
   /**
    * <p>Populates the special tile IDs set from a map configuration.</p>
    *
+   * <p>The special locations are the cities where tokens are placed. Also keeps the
+   * map's token mix, if it has one.</p>
+   *
    * @param mapConfig The map configuration containing location data
    */
   private void populateSpecialTiles(MapConfig mapConfig) {
@@ -199,6 +207,10 @@ public class MissingDiamond {
           .map(MapConfig.Location::getId)
           .forEach(specialTileIdsSet::add);
     }
+    if (mapConfig != null) {
+      tokenCatalog = mapConfig.createTokenCatalog();
+      citiesFromMap = !specialTileIdsSet.isEmpty();
+    }
   }
 
   /**
@@ -229,7 +241,8 @@ public class MissingDiamond {
     identifyStartingTiles();
 
     tokenSystem.setStartingTiles(startingTiles);
-    tokenSystem.initializeTokens(cityTiles);
+    tokenSystem.setBoardGraph(board.getGraph());
+    tokenSystem.initializeTokens(cityTiles, tokenCatalog);
 
     players.forEach(player -> {
       banker.registerPlayer(player);
@@ -271,8 +284,16 @@ public class MissingDiamond {
    * where tokens can be placed during gameplay.</p>
    */
   private void identifyCityTiles() {
-    // In a real implementation, this would be based on map data
-    // For now, assuming tiles with IDs 1-20 are cities
+    // A loaded map names its cities as special locations, however many there are
+    if (citiesFromMap) {
+      specialTileIdsSet.stream()
+          .sorted()
+          .map(board::getTileById)
+          .filter(Objects::nonNull)
+          .forEach(cityTiles::add);
+      return;
+    }
+    // The fallback board has its cities on the tiles with IDs 1-32
     IntStream.rangeClosed(1, 32)
         .mapToObj(board::getTileById)
         .filter(Objects::nonNull)
@@ -327,7 +348,7 @@ public class MissingDiamond {
    *   <li>The player may stop early on special tiles if encountered within the roll distance</li>
    * </ul></p>
    *
-   * @return A set of tiles that the player can legally move to
+   * @return An unmodifiable set of tiles that the player can legally move to
    */
   public Set<Tile> getPossibleMovesForCurrentRoll() {
     return movementCalculator.getPossibleMoves(currentPlayer, currentRoll);
@@ -378,7 +399,7 @@ public class MissingDiamond {
    * @return {@code true} if a token exists at the tile, {@code false} otherwise
    */
   public boolean hasTokenAtTile(Tile tile) {
-    return tokenSystem.getTokenAtTile(tile) != null;
+    return tokenSystem.hasTokenAtTile(tile);
   }
 
   /**
@@ -407,9 +428,12 @@ public class MissingDiamond {
   }
 
   /**
-   * Moves to the next player's turn.
+   * <p>Moves to the next player's turn.</p>
+   * <p>The roll of the previous player is cleared, also when they had no valid move,
+   * so the next player starts their turn without a roll.</p>
    */
   public void nextPlayer() {
+    currentRoll = 0;
     currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
     currentPlayer = players.get(currentPlayerIndex);
 
@@ -438,6 +462,15 @@ public class MissingDiamond {
     return board;
   }
 
+  /**
+   * <p>Gets the IDs of the special tiles where players may stop before using their whole roll.</p>
+   *
+   * @return An unmodifiable view of the special tile IDs
+   */
+  public Set<Integer> getSpecialTileIds() {
+    return Collections.unmodifiableSet(specialTileIdsSet);
+  }
+
   /**
    * <p>Gets the die used for determining player movement.</p>
    *
@@ -491,6 +524,55 @@ public class MissingDiamond {
     this.currentPlayer = players.get(playerIndex);
   }
 
+  /**
+   * <p>Gets the index of the current player.</p>
+   *
+   * @return The index of the current player in {@link #getPlayers()}
+   */
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * <p>Gets the player who won the game.</p>
+   *
+   * @return The winner, or {@code null} if the game is not won
+   */
+  public Player getWinner() {
+    return winner;
+  }
+
+  /**
+   * <p>Gets the token catalog the tokens of this game were dealt from.</p>
+   *
+   * @return The catalog of the loaded map, or the standard catalog
+   */
+  public TokenCatalog getTokenCatalog() {
+    return tokenCatalog != null ? tokenCatalog : TokenCatalog.standard();
+  }
+
+  /**
+   * <p>Restores the turn of a saved game.</p>
+   *
+   * <p>Player positions, balances and tokens are restored on the players, the banker and
+   * the token system; this sets the state kept by the game itself.</p>
+   *
+   * @param playerIndex  The index of the current player
+   * @param roll         The roll of the current player, or 0 if they have not rolled
+   * @param finished     Whether the game is finished
+   * @param winnerPlayer The winner, or {@code null} if the game is not won
+   * @throws IllegalArgumentException if the index is out of bounds or the roll is negative
+   */
+  public void restoreTurn(int playerIndex, int roll, boolean finished, Player winnerPlayer) {
+    if (roll < 0) {
+      throw new IllegalArgumentException("Roll cannot be negative.");
+    }
+    setCurrentPlayerIndex(playerIndex);
+    this.currentRoll = roll;
+    this.gameFinished = finished;
+    this.winner = winnerPlayer;
+  }
+
   /**
    * <p>Gets the banker that manages all financial transactions.</p>
    *
@@ -41,7 +41,7 @@ import java.util.stream.IntStream;
  * between the visual components and the game state.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.2
+ * @version 0.0.3
  * @since 23.05.2025
  */
 public class BoardView extends StackPane {
@@ -235,6 +235,12 @@ public class BoardView extends StackPane {
   private void handleGameplayTileClick(int tileId) {
     if (gameController == null) return;
 
+    // The computer is playing this turn
+    if (gameController.isBotThinking()) {
+      logMessage("Wait for the computer to finish its turn.");
+      return;
+    }
+
     // Only allow moves if the player has rolled
     if (!gameController.hasRolled()) {
       logMessage("You must roll the die first.");
@@ -242,11 +248,7 @@ public class BoardView extends StackPane {
     }
 
     // Check if the tile is a valid move
-    List<Tile> possibleMoves = gameController.getPossibleMoves();
-    boolean validMove = possibleMoves.stream()
-        .anyMatch(tile -> tile.getTileId() == tileId);
-
-    if (validMove) {
+    if (gameController.isPossibleMove(tileId)) {
       // Move the player to the selected tile
       String moveResult = gameController.movePlayer(tileId);
       logMessage(moveResult);
@@ -2,10 +2,10 @@ package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ui;
 
 import edu.ntnu.idi.bidata.idatg2003mappe.app.common.ui.UIComponentFactory;
 import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller.MissingDiamondController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.TokenAdvice;
 import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
-import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
-import edu.ntnu.idi.bidata.idatg2003mappe.markers.Marker;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -16,7 +16,6 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +25,7 @@ import java.util.stream.Collectors;
  *   <li>Die rolling for movement</li>
  *   <li>Token interaction options at special locations</li>
  *   <li>Turn management controls</li>
+ *   <li>Letting the computer play the turn of an empty seat</li>
  * </ul>
  * <p>It also displays a game log that shows recent game events and player information
  * including current player and their financial status.</p>
@@ -34,9 +34,12 @@ import java.util.stream.Collectors;
  *   <li>A free but risky option that requires rolling 4-6 to succeed</li>
  *   <li>A guaranteed option that costs 300 coins</li>
  * </ol>
+ * <p>While the player stands on a token, the panel shows the expected money and
+ * diamond chance of both options. Both options are settled by the controller, so the
+ * token pays exactly what the advice is based on.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.2.0
+ * @version 0.2.2
  * @since 23.05.2025
  */
 public class GameControlPanel extends VBox {
@@ -48,8 +51,10 @@ public class GameControlPanel extends VBox {
   private final Button buyTokenFlipButton;
   private final Label selectMoveLabel;
   private final Button endTurnButton;
+  private final Button computerTurnButton;
   private final TextArea gameLog;
   private final Label playerMoneyLabel;
+  private final Label tokenAdviceLabel;
   private PlayerStatusPanel statusPanel;
 
   /**
@@ -85,81 +90,20 @@ public class GameControlPanel extends VBox {
 
     // Create combined token interaction button (dice roll - free but risky)
     openTokenButton = UIComponentFactory.createActionButton("Try Token (Free - Roll 4-6)", e -> {
-      Tile currentTile = gameController.getCurrentPlayer().getCurrentTile();
-      Marker token = gameController.getTokenAtTileId(currentTile.getTileId());
-
-      if (token == null) {
-        logMessage("There is no token at your current location.");
-        return;
-      }
-
-      // Roll die for token opening
-      int roll = gameController.getDie().rollDie();
-      logMessage("You rolled a " + roll + " to try to get the token...");
-
-      // Check success (4-6 succeeds, 1-3 fails)
-      if (roll >= 4) {
-        // Success - remove token and apply effects
-        gameController.removeTokenFromTile(currentTile);
-
-        String tokenType = token.getType();
-        logMessage("Success! You rolled " + roll + " and got the token: " + tokenType + "!");
-
-        // Apply token effects
-        applyTokenEffects(token, gameController.getCurrentPlayer());
-
-      } else {
-        logMessage("You rolled " + roll + " but couldn't get the token (need 4-6). The token remains here.");
-      }
-
-      // End the turn automatically after token interaction
-      gameController.endTurn();
-      // Reset roll state to ensure the next player can roll
-      gameController.resetRollState();
-
+      // The controller rolls, applies the token's effect and ends the turn
+      logMessage(gameController.openToken());
       logMessage("Turn ended.");
-      boardView.updateUI();
-      updateControls();
-      updatePlayerInfo();
+      refreshAfterToken();
     });
 
     // Create buy token flip button (guaranteed success for 300 coins)
     buyTokenFlipButton = UIComponentFactory.createActionButton("Buy Token Flip (£300 - Guaranteed)", e -> {
-      Tile currentTile = gameController.getCurrentPlayer().getCurrentTile();
-      Marker token = gameController.getTokenAtTileId(currentTile.getTileId());
-
-      if (token == null) {
-        logMessage("There is no token at your current location.");
-        return;
-      }
-
-      Player currentPlayer = gameController.getCurrentPlayer();
-      Banker banker = gameController.getBanker();
-
-      // Check if player has enough money
-      if (banker.getBalance(currentPlayer) < 300) {
-        logMessage("You don't have enough money! You need £300 but only have £" +
-            banker.getBalance(currentPlayer) + ".");
-        return;
+      // The controller pays, applies the token's effect and ends the turn
+      logMessage(gameController.buyTokenFlip());
+      if (!gameController.isAwaitingTokenDecision()) {
+        logMessage("Turn ended.");
       }
-
-      // Attempt to buy the token flip
-      boolean success = gameController.buyTokenFlip(currentTile);
-
-      if (success) {
-        String tokenType = token.getType();
-        logMessage("You paid £300 and successfully flipped the token: " + tokenType + "!");
-
-        // Apply token effects
-        applyTokenEffects(token, currentPlayer);
-      } else {
-        logMessage("Failed to buy token flip.  Transaction error occurred.");
-      }
-
-      logMessage("Turn ended.");
-      boardView.updateUI();
-      updateControls();
-      updatePlayerInfo();
+      refreshAfterToken();
     });
 
     // Add a label for selecting a move with Material styling
@@ -177,6 +121,24 @@ public class GameControlPanel extends VBox {
       boardView.updateUI();
     });
 
+    // Let the computer play the current turn; the search runs off the FX thread
+    computerTurnButton = UIComponentFactory.createActionButton("Computer Plays Turn", e -> {
+      logMessage(gameController.getCurrentPlayer().getName() + " is handed to the computer...");
+      gameController.playBotTurn(Platform::runLater)
+          .whenCompleteAsync((result, error) -> {
+            logMessage(error != null ? "The computer could not play: " + error.getMessage() : result);
+            boardView.highlightPossibleMoves();
+            boardView.updateUI();
+            updateControls();
+            updatePlayerInfo();
+            if (statusPanel != null) {
+              statusPanel.updateScoreBoard();
+            }
+          }, Platform::runLater);
+      // Disables this button until the computer's turn is done
+      updateControls();
+    });
+
     // Create game log with Material Design styling
     gameLog = createFixedGameLog();
 
@@ -188,6 +150,11 @@ public class GameControlPanel extends VBox {
     Label tokenOptionsLabel = new Label("Token Options (at red tiles):");
     tokenOptionsLabel.getStyleClass().addAll("md-label-large", "md-warning-text");
 
+    // Expected outcome of the two token options, from the tokens still face down
+    tokenAdviceLabel = new Label();
+    tokenAdviceLabel.getStyleClass().add("md-body-medium");
+    tokenAdviceLabel.setWrapText(true);
+
     // Add components to panel with proper layout
     getChildren().addAll(
         playerLabel,
@@ -196,15 +163,23 @@ public class GameControlPanel extends VBox {
         rollDieButton,
         selectMoveLabel,
         tokenOptionsLabel,
+        tokenAdviceLabel,
         openTokenButton,
         buyTokenFlipButton,
         endTurnButton,
+        computerTurnButton,
         gameLog
     );
 
     // Initialize controls visibility
     updateControls();
     updatePlayerInfo();
+
+    // Refresh after a move on the board, which may land the player on a token
+    boardView.addBoardUpdateListener(() -> {
+      updateControls();
+      updatePlayerInfo();
+    });
   }
 
   /**
@@ -288,7 +263,7 @@ public class GameControlPanel extends VBox {
 
   /**
    * <p>Sets the status panel for this control panel.</p>
-   * <p>The status panel is updated when token effects are applied.</p>
+   * <p>The status panel is updated when a token is settled.</p>
    *
    * @param statusPanel the player status panel to set
    */
@@ -297,64 +272,12 @@ public class GameControlPanel extends VBox {
   }
 
   /**
-   * <p>Applies the effects of a token to a player.</p>
-   * <p>Different token types have different effects:</p>
-   * <ul>
-   *   <li>Diamond: Adds a diamond to the player's inventory</li>
-   *   <li>Gems (Red/Green/Yellow): Deposits money into the player's account</li>
-   *   <li>Bandit: Steals all of the player's money</li>
-   *   <li>Visa: Adds a visa card to the player's inventory</li>
-   *   <li>Blank: No effect</li>
-   * </ul>
-   *
-   * @param token  the token to apply effects for
-   * @param player the player to apply effects to
+   * <p>Refreshes the board, the controls and the scores after a token is settled.</p>
    */
-  private void applyTokenEffects(Marker token, Player player) {
-    Banker banker = gameController.getBanker();
-
-    switch (token.getType()) {
-      case "Diamond":
-        player.addInventoryItem("diamond");
-        logMessage("MISSING DIAMOND FOUND!");
-        logMessage("Return to start to win!");
-        break;
-      case "RedGem":
-        banker.deposit(player, token.getValue());
-        logMessage("Ruby found: +£" + token.getValue());
-        break;
-      case "GreenGem":
-        banker.deposit(player, token.getValue());
-        logMessage("Emerald found: +£" + token.getValue());
-        break;
-      case "YellowGem":
-        banker.deposit(player, token.getValue());
-        logMessage("Topaz found: +£" + token.getValue());
-        break;
-      case "Bandit":
-        int currentBalance = banker.getBalance(player);
-        if (currentBalance > 0) {
-          boolean success = banker.withdraw(player, currentBalance);
-          if (success) {
-            logMessage("OH NO! A bandit stole all your money (£" + currentBalance + ")!");
-          } else {
-            logMessage("A bandit appeared, but you have no money!");
-          }
-        } else {
-          logMessage("Bandit found nothing to steal");
-        }
-        break;
-      case "Visa":
-        player.addInventoryItem("visa");
-        logMessage("You found a visa card!");
-        break;
-      case "Blank":
-        logMessage("Empty token - nothing here");
-        break;
-      default:
-        logMessage("Nothing found");
-        break;
-    }
+  private void refreshAfterToken() {
+    boardView.updateUI();
+    updateControls();
+    updatePlayerInfo();
     if (statusPanel != null) {
       statusPanel.updateScoreBoard();
     }
@@ -377,21 +300,37 @@ public class GameControlPanel extends VBox {
 
     endTurnButton.setVisible(true);
 
+    computerTurnButton.setVisible(true);
+    computerTurnButton.setDisable(gameController.isBotThinking() || gameController.isGameFinished());
+
     // Get the fresh state from controller
     boolean hasRolled = gameController.hasRolled();
 
     // Only disable (not hide) the roll button if the user has already rolled
     rollDieButton.setDisable(hasRolled);
 
+    // The computer's turn must not be changed while it is thinking
+    boolean botThinking = gameController.isBotThinking();
+    if (botThinking) {
+      rollDieButton.setDisable(true);
+    }
+    openTokenButton.setDisable(botThinking);
+    endTurnButton.setDisable(botThinking);
+
     // Show token buttons only when at a tile with a token
     Player currentPlayer = gameController.getCurrentPlayer();
 
+    // Show the odds of the token options while standing on a token
+    TokenAdvice advice = gameController.getTokenAdvice();
+    tokenAdviceLabel.setVisible(advice != null);
+    tokenAdviceLabel.setManaged(advice != null);
+    if (advice != null) {
+      tokenAdviceLabel.setText(advice.toString());
+    }
+
     // Show move selection label if player has rolled and has moves
-    if (hasRolled) {
-      List<Tile> possibleMoves = gameController.getPossibleMoves();
-      if (!possibleMoves.isEmpty()) {
-        selectMoveLabel.setVisible(true);
-      }
+    if (hasRolled && gameController.hasPossibleMoves()) {
+      selectMoveLabel.setVisible(true);
     }
 
     // Update button text to show current money status for the buy token flip button
@@ -404,7 +343,7 @@ public class GameControlPanel extends VBox {
         buttonText += " - Need £" + (300 - balance) + " more";
         buyTokenFlipButton.setDisable(true);
       } else {
-        buyTokenFlipButton.setDisable(false);
+        buyTokenFlipButton.setDisable(botThinking);
       }
 
       buyTokenFlipButton.setText(buttonText);
@@ -175,8 +175,15 @@ public class MissingDiamondGUI extends Application implements MapDesignerListene
     // Initialize UI components first
     initializeUIComponents();
 
-    // Initialize core game components
-    gameController = new MissingDiamondController();
+    // Initialize navigation
+    navBar = new NavBar();
+    navBar.setStage(primaryStage);
+
+    // Initialize core game components, continuing a game left by a crash if wanted
+    gameController = navBar.recoverMissingDiamond();
+    if (gameController == null) {
+      gameController = new MissingDiamondController();
+    }
     boardView = new BoardView();
 
     // Connect board view to controller
@@ -191,11 +198,10 @@ public class MissingDiamondGUI extends Application implements MapDesignerListene
     statusPanel = new PlayerStatusPanel(gameController);
     controlPanel.setStatusPanel(statusPanel);
 
-    // Initialize navigation
-    navBar = new NavBar();
-    navBar.setStage(primaryStage);
+    // Connect navigation to the game
     navBar.setGameController(gameController);
     navBar.setMissingDiamondGUI(this);
+    navBar.startAutosave();
 
     // Register listener
     gameController.registerView(this);
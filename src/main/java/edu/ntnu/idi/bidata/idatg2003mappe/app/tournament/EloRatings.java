@@ -0,0 +1,135 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.tournament;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Elo ratings of the strategies in a tournament.</p>
+ * <p>A match with more than two seats is scored as a set of two-player games: the winner
+ * beats every other seat, and an abandoned match is a draw between every pair of seats.
+ * Seats taken by the same strategy are not scored against each other. Every update is
+ * computed from the ratings before the match and divided by the number of opponents,
+ * so a match moves a rating about as much as a single two-player game.</p>
+ * <p>Strategies start at {@value #INITIAL_RATING}.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class EloRatings {
+  /**
+   * The rating of a strategy that has not played yet.
+   */
+  public static final double INITIAL_RATING = 1500.0;
+
+  /**
+   * The largest change of a rating from one two-player game.
+   */
+  public static final double K_FACTOR = 24.0;
+
+  private final Map<String, Double> ratings = new HashMap<>();
+  private final Map<String, Integer> matches = new HashMap<>();
+
+  /**
+   * <p>Records the result of a match.</p>
+   *
+   * @param entrants   The strategy of every seat, in turn order
+   * @param winnerSeat The winning seat, or <code>-1</code> if the match was abandoned
+   * @throws IllegalArgumentException If there are fewer than two entrants or the winner is not a seat
+   */
+  public void recordMatch(List<String> entrants, int winnerSeat) {
+    if (entrants == null || entrants.size() < 2) {
+      throw new IllegalArgumentException("A rated match needs at least two entrants.");
+    }
+    if (winnerSeat < -1 || winnerSeat >= entrants.size()) {
+      throw new IllegalArgumentException("Winner must be a seat of the match.");
+    }
+    int seats = entrants.size();
+    double[] before = new double[seats];
+    for (int seat = 0; seat < seats; seat++) {
+      before[seat] = getRating(entrants.get(seat));
+    }
+    double k = K_FACTOR / (seats - 1);
+    double[] change = new double[seats];
+    for (int a = 0; a < seats; a++) {
+      for (int b = a + 1; b < seats; b++) {
+        if (entrants.get(a).equals(entrants.get(b))) {
+          continue;
+        }
+        double score;
+        if (winnerSeat == -1) {
+          score = 0.5;
+        } else if (winnerSeat == a) {
+          score = 1.0;
+        } else if (winnerSeat == b) {
+          score = 0.0;
+        } else {
+          // Two losers learn nothing about each other
+          continue;
+        }
+        double delta = k * (score - expectedScore(before[a], before[b]));
+        change[a] += delta;
+        change[b] -= delta;
+      }
+    }
+    for (int seat = 0; seat < seats; seat++) {
+      String name = entrants.get(seat);
+      ratings.put(name, getRating(name) + change[seat]);
+    }
+    for (String name : entrants.stream().distinct().toList()) {
+      matches.merge(name, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * <p>Gets the expected score of a player against an opponent.</p>
+   *
+   * @param rating         The player's rating
+   * @param opponentRating The opponent's rating
+   * @return The expected score, between 0 and 1
+   */
+  public static double expectedScore(double rating, double opponentRating) {
+    return 1.0 / (1.0 + Math.pow(10.0, (opponentRating - rating) / 400.0));
+  }
+
+  /**
+   * <p>Gets the rating of a strategy.</p>
+   *
+   * @param name The name of the strategy
+   * @return The rating, or {@value #INITIAL_RATING} if the strategy has not played
+   */
+  public double getRating(String name) {
+    return ratings.getOrDefault(name, INITIAL_RATING);
+  }
+
+  /**
+   * <p>Gets the number of rated matches a strategy has played.</p>
+   *
+   * @param name The name of the strategy
+   * @return The number of matches
+   */
+  public int getMatches(String name) {
+    return matches.getOrDefault(name, 0);
+  }
+
+  /**
+   * <p>Gets every rating, sorted by strategy name.</p>
+   *
+   * @return An unmodifiable map from strategy name to rating
+   */
+  public Map<String, Double> getRatings() {
+    return Collections.unmodifiableMap(new TreeMap<>(ratings));
+  }
+
+  /**
+   * <p>Gets the number of rated matches of every strategy, sorted by strategy name.</p>
+   *
+   * @return An unmodifiable map from strategy name to number of matches
+   */
+  public Map<String, Integer> getMatchCounts() {
+    return Collections.unmodifiableMap(new TreeMap<>(matches));
+  }
+}
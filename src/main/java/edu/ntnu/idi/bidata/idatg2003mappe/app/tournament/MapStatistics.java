@@ -0,0 +1,128 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.tournament;
+
+/**
+ * <p>Balance statistics of one map or board in a tournament.</p>
+ * <p>Counts the matches played, the matches abandoned at the turn cap, the wins of every
+ * seat and the length of the finished matches. A map where the first seat wins far more
+ * often than the others, or where many matches never finish, needs another look before
+ * it is put in front of players.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class MapStatistics {
+  private final String name;
+  private final long[] winsBySeat;
+  private long matches;
+  private long unfinished;
+  private long totalTurns;
+
+  /**
+   * <p>Creates empty statistics for a map.</p>
+   *
+   * @param name  The name of the map
+   * @param seats The number of seats in every match on the map
+   * @throws IllegalArgumentException If the name is blank or the seat count is not positive
+   */
+  public MapStatistics(String name, int seats) {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("Map name cannot be blank.");
+    }
+    if (seats < 1) {
+      throw new IllegalArgumentException("At least one seat is required.");
+    }
+    this.name = name;
+    this.winsBySeat = new long[seats];
+  }
+
+  /**
+   * <p>Records the result of a match.</p>
+   *
+   * @param winnerSeat The winning seat, or <code>-1</code> if the match was abandoned
+   * @param turns      The number of turns played
+   * @throws IllegalArgumentException If the winner is not a seat
+   */
+  public void recordMatch(int winnerSeat, int turns) {
+    if (winnerSeat < -1 || winnerSeat >= winsBySeat.length) {
+      throw new IllegalArgumentException("Winner must be a seat of the match.");
+    }
+    matches++;
+    if (winnerSeat == -1) {
+      unfinished++;
+    } else {
+      winsBySeat[winnerSeat]++;
+      totalTurns += turns;
+    }
+  }
+
+  /**
+   * <p>Gets the name of the map.</p>
+   *
+   * @return The map name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * <p>Gets the number of matches played.</p>
+   *
+   * @return The number of matches, including abandoned ones
+   */
+  public long getMatches() {
+    return matches;
+  }
+
+  /**
+   * <p>Gets the number of matches abandoned at the turn cap.</p>
+   *
+   * @return The number of abandoned matches
+   */
+  public long getUnfinished() {
+    return unfinished;
+  }
+
+  /**
+   * <p>Gets the number of wins of a seat.</p>
+   *
+   * @param seat The seat in turn order
+   * @return The number of wins
+   */
+  public long getWins(int seat) {
+    return seat >= 0 && seat < winsBySeat.length ? winsBySeat[seat] : 0;
+  }
+
+  /**
+   * <p>Gets the share of finished matches won by a seat.</p>
+   *
+   * @param seat The seat in turn order
+   * @return The win rate, or 0 if no match has finished
+   */
+  public double getWinRate(int seat) {
+    long finished = matches - unfinished;
+    return finished == 0 ? 0.0 : (double) getWins(seat) / finished;
+  }
+
+  /**
+   * <p>Gets the average length of the finished matches.</p>
+   *
+   * @return The average number of turns, or 0 if no match has finished
+   */
+  public double getAverageTurns() {
+    long finished = matches - unfinished;
+    return finished == 0 ? 0.0 : (double) totalTurns / finished;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(name)
+        .append(": ").append(matches).append(" matches, ")
+        .append(unfinished).append(" unfinished, ")
+        .append(String.format("%.1f", getAverageTurns())).append(" turns on average, seat wins");
+    for (int seat = 0; seat < winsBySeat.length; seat++) {
+      builder.append(String.format(" %d:%.1f%%", seat + 1, 100 * getWinRate(seat)));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,81 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.tournament;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>The result of one tournament match, as stored in the results file.</p>
+ * <p>A row holds the match number, the map, the entrants separated by
+ * <code>|</code>, the winning seat (<code>-1</code> for an abandoned match) and the
+ * number of turns. Unrated matches have no entrants.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+final class MatchRecord {
+  static final String[] HEADER = {"Match", "Map", "Entrants", "Winner Seat", "Turns"};
+  static final String ENTRANT_SEPARATOR = "|";
+
+  private final long index;
+  private final String map;
+  private final List<String> entrants;
+  private final int winnerSeat;
+  private final int turns;
+
+  MatchRecord(long index, String map, List<String> entrants, int winnerSeat, int turns) {
+    this.index = index;
+    this.map = map;
+    this.entrants = List.copyOf(entrants);
+    this.winnerSeat = winnerSeat;
+    this.turns = turns;
+  }
+
+  /**
+   * <p>Parses a row of the results file.</p>
+   *
+   * @param row The columns of the row
+   * @return The match result
+   * @throws IllegalArgumentException If the row is incomplete or a number is malformed
+   */
+  static MatchRecord fromRow(String[] row) {
+    if (row == null || row.length != HEADER.length) {
+      throw new IllegalArgumentException("Row must have " + HEADER.length + " columns.");
+    }
+    List<String> entrants = row[2].isEmpty()
+        ? List.of()
+        : Arrays.asList(row[2].split("\\" + ENTRANT_SEPARATOR));
+    return new MatchRecord(Long.parseLong(row[0]), row[1], entrants,
+        Integer.parseInt(row[3]), Integer.parseInt(row[4]));
+  }
+
+  String[] toRow() {
+    return new String[] {
+        Long.toString(index),
+        map,
+        String.join(ENTRANT_SEPARATOR, entrants),
+        Integer.toString(winnerSeat),
+        Integer.toString(turns)
+    };
+  }
+
+  long getIndex() {
+    return index;
+  }
+
+  String getMap() {
+    return map;
+  }
+
+  List<String> getEntrants() {
+    return entrants;
+  }
+
+  int getWinnerSeat() {
+    return winnerSeat;
+  }
+
+  int getTurns() {
+    return turns;
+  }
+}
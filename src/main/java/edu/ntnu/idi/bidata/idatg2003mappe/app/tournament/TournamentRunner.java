@@ -0,0 +1,599 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.tournament;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvValidationException;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.simulation.LadderGameSimulator;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.DiamondMatch;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.DiamondSearchState;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.DiamondStrategy;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.MissingDiamondBot;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.RandomDiamondStrategy;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.AtomicFiles;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardLinear;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LandingTable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongFunction;
+import java.util.logging.Logger;
+
+/**
+ * <p>Headless tournament that plays many matches between strategies on every core.</p>
+ * <p>Missing Diamond maps are played by {@link DiamondStrategy strategies} picked at random
+ * for every match, and the results update the {@link EloRatings} of the strategies. Ladder
+ * Game boards have no decisions to make, so their matches only feed the
+ * {@link MapStatistics} used to check a board for balance. Maps take turns in the order
+ * they were added.</p>
+ * <p>The map, entrants and random seed of a match only depend on the tournament seed and
+ * the match number. Matches run in parallel on a thread pool, but their results are
+ * committed strictly in match order: every result is appended to the CSV results file and
+ * flushed, and the ratings and statistics are written to a JSON summary file every
+ * {@value #SUMMARY_INTERVAL} matches and at the end of a run.</p>
+ * <p>A run can be stopped at any time with {@link #stop()} or by interrupting the thread.
+ * A new runner with the same seed, maps and strategies replays the results file to restore
+ * the ratings and continues from the first missing match, giving the same results as an
+ * uninterrupted run. The results file starts with a row holding the seed and the
+ * strategies, which the summary repeats, and a runner refuses to continue a results file
+ * written with another seed, other strategies or other maps.</p>
+ * <p>Ladder Game matches are played by a {@link LadderGameSimulator} with rolls drawn from
+ * the match's random stream.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class TournamentRunner {
+  /**
+   * The number of turns after which a match is abandoned.
+   */
+  public static final int DEFAULT_MAX_TURNS = 2_000;
+
+  private static final int SUMMARY_INTERVAL = 500;
+  private static final int MATCHES_IN_FLIGHT_PER_THREAD = 4;
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  private static final String SETUP_MARKER = "#tournament";
+
+  private static final Logger logger = Logger.getLogger(TournamentRunner.class.getName());
+
+  private final Path resultsFile;
+  private final Path summaryFile;
+  private final long seed;
+  private final int threads;
+  private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+  private final Map<String, LongFunction<DiamondStrategy>> strategies = new LinkedHashMap<>();
+  private final List<TournamentMap> maps = new ArrayList<>();
+  private final Map<String, MapStatistics> mapStatistics = new LinkedHashMap<>();
+  private EloRatings ratings = new EloRatings();
+  private long completedMatches;
+  private boolean resumed;
+  private volatile boolean stopRequested;
+
+  /**
+   * <p>Creates a runner that uses every core.</p>
+   *
+   * @param resultsFile The CSV file every match result is appended to
+   * @param summaryFile The JSON file the ratings and map statistics are written to
+   * @param seed        The seed of the tournament
+   * @throws IllegalArgumentException If a file is null
+   */
+  public TournamentRunner(Path resultsFile, Path summaryFile, long seed) {
+    this(resultsFile, summaryFile, seed, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * <p>Creates a runner with the given number of threads.</p>
+   *
+   * @param resultsFile The CSV file every match result is appended to
+   * @param summaryFile The JSON file the ratings and map statistics are written to
+   * @param seed        The seed of the tournament
+   * @param threads     The number of matches played at the same time
+   * @throws IllegalArgumentException If a file is null or the thread count is not positive
+   */
+  public TournamentRunner(Path resultsFile, Path summaryFile, long seed, int threads) {
+    if (resultsFile == null || summaryFile == null) {
+      throw new IllegalArgumentException("Results and summary files cannot be null.");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("At least one thread is required.");
+    }
+    this.resultsFile = resultsFile;
+    this.summaryFile = summaryFile;
+    this.seed = seed;
+    this.threads = threads;
+  }
+
+  /**
+   * <p>Adds a Missing Diamond strategy to the tournament.</p>
+   * <p>The factory is called with a seed for every seat of every match, so strategies do
+   * not need to be thread-safe.</p>
+   *
+   * @param name    The name of the strategy in the ratings
+   * @param factory Creates the strategy for one seat from a seed
+   * @throws IllegalArgumentException If the name is blank, contains the entrant separator or is taken,
+   *                                  or the factory is null
+   */
+  public void addStrategy(String name, LongFunction<DiamondStrategy> factory) {
+    if (name == null || name.isBlank() || name.contains(MatchRecord.ENTRANT_SEPARATOR)) {
+      throw new IllegalArgumentException("Strategy name must be non-blank and not contain '"
+          + MatchRecord.ENTRANT_SEPARATOR + "'.");
+    }
+    if (factory == null) {
+      throw new IllegalArgumentException("Strategy factory cannot be null.");
+    }
+    if (strategies.putIfAbsent(name, factory) != null) {
+      throw new IllegalArgumentException("Strategy " + name + " has already been added.");
+    }
+  }
+
+  /**
+   * <p>Adds a Missing Diamond map to the tournament.</p>
+   * <p>Every match on the map starts from a copy of the given state with the tokens
+   * shuffled, and seats one strategy per player of the state.</p>
+   *
+   * @param name  The name of the map
+   * @param start The captured start of a game on the map
+   * @throws IllegalArgumentException If the name is blank or taken, or the state is null or has fewer
+   *                                  than two players
+   */
+  public void addDiamondMap(String name, DiamondSearchState start) {
+    if (start == null) {
+      throw new IllegalArgumentException("Start state cannot be null.");
+    }
+    if (start.getPlayerCount() < 2) {
+      throw new IllegalArgumentException("A rated map needs at least two players.");
+    }
+    addMap(new TournamentMap(name, start.getPlayerCount(), true, (entrants, random) -> {
+      DiamondStrategy[] seats = new DiamondStrategy[entrants.size()];
+      for (int seat = 0; seat < seats.length; seat++) {
+        seats[seat] = strategies.get(entrants.get(seat)).apply(random.nextLong());
+      }
+      DiamondMatch match = new DiamondMatch(start, seats);
+      int winner = match.play(random, DEFAULT_MAX_TURNS);
+      return new int[] {winner, match.getTurns()};
+    }));
+  }
+
+  /**
+   * <p>Adds a Ladder Game board to the tournament.</p>
+   *
+   * @param name    The name of the board
+   * @param board   The board to play on
+   * @param players The number of players in every match
+   * @throws IllegalArgumentException If the name is blank or taken, the board is null or the player
+   *                                  count is not positive
+   */
+  public void addLadderBoard(String name, BoardLinear board, int players) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+    if (players < 1) {
+      throw new IllegalArgumentException("At least one player is required.");
+    }
+    LadderGameSimulator simulator = new LadderGameSimulator(board, players, DEFAULT_MAX_TURNS);
+    addMap(new TournamentMap(name, players, false,
+        (entrants, random) -> playLadderMatch(simulator, random)));
+  }
+
+  private void addMap(TournamentMap map) {
+    if (map.name == null || map.name.isBlank()) {
+      throw new IllegalArgumentException("Map name cannot be blank.");
+    }
+    if (mapStatistics.containsKey(map.name)) {
+      throw new IllegalArgumentException("Map " + map.name + " has already been added.");
+    }
+    maps.add(map);
+    mapStatistics.put(map.name, new MapStatistics(map.name, map.seats));
+  }
+
+  /**
+   * <p>Plays matches until the tournament has the given number of matches in total.</p>
+   * <p>On the first run the results file is replayed, so matches played by an earlier
+   * runner are not played again.</p>
+   *
+   * @param totalMatches The number of matches the tournament should have
+   * @return The number of matches committed, including earlier runs
+   * @throws IllegalArgumentException If the number of matches is negative
+   * @throws IllegalStateException    If no map has been added, or a rated map has no strategies
+   * @throws FileHandlingException    If the results or summary file cannot be read or written
+   */
+  public long run(long totalMatches) throws FileHandlingException {
+    if (totalMatches < 0) {
+      throw new IllegalArgumentException("Number of matches cannot be negative.");
+    }
+    if (maps.isEmpty()) {
+      throw new IllegalStateException("At least one map is required.");
+    }
+    if (strategies.isEmpty() && maps.stream().anyMatch(map -> map.rated)) {
+      throw new IllegalStateException("Missing Diamond maps need at least one strategy.");
+    }
+    if (!resumed) {
+      resume();
+      resumed = true;
+    }
+    stopRequested = false;
+
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try (BufferedWriter output = Files.newBufferedWriter(resultsFile,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+         CSVWriter writer = new CSVWriter(output)) {
+      if (completedMatches == 0 && Files.size(resultsFile) == 0) {
+        writer.writeNext(setupRow());
+        writer.writeNext(MatchRecord.HEADER);
+      }
+      playMatches(totalMatches, pool, writer);
+    } catch (IOException e) {
+      throw new FileHandlingException("Error writing tournament results: " + e.getMessage(), e);
+    } finally {
+      pool.shutdownNow();
+      writeSummary();
+    }
+    return completedMatches;
+  }
+
+  /**
+   * <p>Keeps every thread busy and commits the results in match order.</p>
+   */
+  private void playMatches(long totalMatches, ExecutorService pool, CSVWriter writer)
+      throws IOException {
+    CompletionService<MatchRecord> completion = new ExecutorCompletionService<>(pool);
+    Map<Long, MatchRecord> finished = new HashMap<>();
+    long nextMatch = completedMatches;
+    int inFlight = 0;
+    while (true) {
+      while (!stopRequested && nextMatch < totalMatches
+          && inFlight < threads * MATCHES_IN_FLIGHT_PER_THREAD) {
+        long index = nextMatch++;
+        completion.submit(() -> playMatch(index));
+        inFlight++;
+      }
+      if (inFlight == 0) {
+        return;
+      }
+      MatchRecord record;
+      try {
+        record = completion.take().get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        stopRequested = true;
+        return;
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Match failed: " + e.getCause().getMessage(), e.getCause());
+      }
+      inFlight--;
+      finished.put(record.getIndex(), record);
+      MatchRecord next;
+      while ((next = finished.remove(completedMatches)) != null) {
+        writer.writeNext(next.toRow());
+        commit(next);
+        if (completedMatches % SUMMARY_INTERVAL == 0) {
+          writer.flush();
+          writeSummaryQuietly();
+        }
+      }
+      writer.flush();
+    }
+  }
+
+  /**
+   * <p>Plays one match. Everything random is derived from the tournament seed and the
+   * match number, so it does not matter which thread plays the match or when.</p>
+   */
+  private MatchRecord playMatch(long index) {
+    TournamentMap map = maps.get((int) (index % maps.size()));
+    SplittableRandom random = new SplittableRandom(mix(seed + index * GOLDEN_GAMMA));
+    List<String> entrants = map.rated ? drawEntrants(map.seats, random) : List.of();
+    int[] outcome = map.play.play(entrants, random);
+    return new MatchRecord(index, map.name, entrants, outcome[0], outcome[1]);
+  }
+
+  /**
+   * <p>Draws distinct strategies for the seats while there are enough of them, and
+   * repeats strategies otherwise.</p>
+   */
+  private List<String> drawEntrants(int seats, SplittableRandom random) {
+    List<String> names = new ArrayList<>(strategies.keySet());
+    List<String> entrants = new ArrayList<>(seats);
+    for (int seat = 0; seat < seats; seat++) {
+      if (names.size() >= seats) {
+        // Partial Fisher-Yates shuffle
+        int pick = seat + random.nextInt(names.size() - seat);
+        String picked = names.get(pick);
+        names.set(pick, names.get(seat));
+        names.set(seat, picked);
+        entrants.add(picked);
+      } else {
+        entrants.add(names.get(random.nextInt(names.size())));
+      }
+    }
+    return entrants;
+  }
+
+  private static int[] playLadderMatch(LadderGameSimulator simulator, SplittableRandom random) {
+    int turn = simulator.playGame(() -> random.nextInt(1, LandingTable.MAX_ROLL + 1));
+    if (turn == 0) {
+      return new int[] {-1, DEFAULT_MAX_TURNS};
+    }
+    return new int[] {(turn - 1) % simulator.getPlayers(), turn};
+  }
+
+  /**
+   * <p>Gets the first row of the results file, which names the seed and strategies the
+   * results were played with.</p>
+   */
+  private String[] setupRow() {
+    return new String[] {SETUP_MARKER, Long.toString(seed),
+        String.join(MatchRecord.ENTRANT_SEPARATOR, strategies.keySet())};
+  }
+
+  private void commit(MatchRecord record) {
+    MapStatistics statistics = mapStatistics.get(record.getMap());
+    statistics.recordMatch(record.getWinnerSeat(), record.getTurns());
+    if (record.getEntrants().size() >= 2) {
+      ratings.recordMatch(record.getEntrants(), record.getWinnerSeat());
+    }
+    completedMatches++;
+  }
+
+  /**
+   * <p>Replays the results file of an earlier run.</p>
+   * <p>A row cut short by a crash at the end of the file is dropped and the file is
+   * rewritten without it.</p>
+   */
+  private void resume() throws FileHandlingException {
+    ratings = new EloRatings();
+    mapStatistics.replaceAll((name, old) -> new MapStatistics(name, seatsOf(name)));
+    completedMatches = 0;
+    if (!Files.exists(resultsFile)) {
+      createParentDirectories(resultsFile);
+      return;
+    }
+
+    List<MatchRecord> records = new ArrayList<>();
+    boolean truncated = false;
+    try (Reader input = Files.newBufferedReader(resultsFile);
+         CSVReader reader = new CSVReader(input)) {
+      String[] setup = reader.readNext();
+      if (setup != null && !Arrays.equals(setup, setupRow())) {
+        throw new FileHandlingException("Results file " + resultsFile
+            + " was written by a tournament with another seed or other strategies.");
+      }
+      reader.readNext();
+      String[] row;
+      while ((row = reader.readNext()) != null) {
+        if (truncated) {
+          throw new FileHandlingException("Results file " + resultsFile
+              + " has a damaged row before match " + records.size() + ".");
+        }
+        try {
+          records.add(MatchRecord.fromRow(row));
+        } catch (IllegalArgumentException e) {
+          truncated = true;
+        }
+      }
+    } catch (CsvMalformedLineException e) {
+      // A quote left open can only be cut short at the very end of the file
+      truncated = true;
+    } catch (IOException | CsvValidationException e) {
+      throw new FileHandlingException("Error reading tournament results: " + e.getMessage(), e);
+    }
+
+    for (MatchRecord record : records) {
+      TournamentMap expected = maps.get((int) (record.getIndex() % maps.size()));
+      if (record.getIndex() != completedMatches || !expected.name.equals(record.getMap())) {
+        throw new FileHandlingException("Results file " + resultsFile
+            + " was written by a tournament with other maps or another order.");
+      }
+      commit(record);
+    }
+    if (truncated) {
+      logger.warning("Dropping an incomplete row at the end of " + resultsFile);
+      rewriteResults(records);
+    }
+    logger.info("Resuming tournament after " + completedMatches + " matches.");
+  }
+
+  private int seatsOf(String mapName) {
+    return maps.stream().filter(map -> map.name.equals(mapName)).findFirst().orElseThrow().seats;
+  }
+
+  private void rewriteResults(List<MatchRecord> records) throws FileHandlingException {
+    try (BufferedWriter output = Files.newBufferedWriter(resultsFile);
+         CSVWriter writer = new CSVWriter(output)) {
+      writer.writeNext(setupRow());
+      writer.writeNext(MatchRecord.HEADER);
+      for (MatchRecord record : records) {
+        writer.writeNext(record.toRow());
+      }
+    } catch (IOException e) {
+      throw new FileHandlingException("Error repairing tournament results: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * <p>Replaces the summary in one step, so a reader never sees a half-written summary.</p>
+   */
+  private void writeSummary() throws FileHandlingException {
+    TournamentSummary summary = new TournamentSummary(seed, new ArrayList<>(strategies.keySet()),
+        completedMatches, ratings.getRatings(), ratings.getMatchCounts(),
+        new ArrayList<>(mapStatistics.values()));
+    try {
+      AtomicFiles.write(summaryFile, gson.toJson(summary).getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new FileHandlingException("Error writing tournament summary: " + e.getMessage(), e);
+    }
+  }
+
+  private void writeSummaryQuietly() {
+    try {
+      writeSummary();
+    } catch (FileHandlingException e) {
+      // The summary is written again at the end of the run
+      logger.warning(e.getMessage());
+    }
+  }
+
+  private static void createParentDirectories(Path file) throws FileHandlingException {
+    Path parent = file.toAbsolutePath().getParent();
+    try {
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+    } catch (IOException e) {
+      throw new FileHandlingException("Error creating directory " + parent + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * <p>Stops the run after the matches already being played. Can be called from any thread.</p>
+   */
+  public void stop() {
+    stopRequested = true;
+  }
+
+  /**
+   * <p>Gets the number of matches committed so far.</p>
+   *
+   * @return The number of matches in the results file
+   */
+  public long getCompletedMatches() {
+    return completedMatches;
+  }
+
+  /**
+   * <p>Gets the ratings of the strategies.</p>
+   *
+   * @return The ratings after the committed matches
+   */
+  public EloRatings getRatings() {
+    return ratings;
+  }
+
+  /**
+   * <p>Gets the statistics of a map.</p>
+   *
+   * @param name The name of the map
+   * @return The statistics, or <code>null</code> if there is no such map
+   */
+  public MapStatistics getMapStatistics(String name) {
+    return mapStatistics.get(name);
+  }
+
+  /**
+   * <p>Mixes a seed so neighbouring match numbers get unrelated random streams.</p>
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * <p>Plays one match on a map and returns the winning seat and the number of turns.</p>
+   */
+  @FunctionalInterface
+  private interface MatchPlayer {
+    int[] play(List<String> entrants, SplittableRandom random);
+  }
+
+  /**
+   * <p>A map or board of the tournament.</p>
+   */
+  private static final class TournamentMap {
+    private final String name;
+    private final int seats;
+    private final boolean rated;
+    private final MatchPlayer play;
+
+    private TournamentMap(String name, int seats, boolean rated, MatchPlayer play) {
+      this.name = name;
+      this.seats = seats;
+      this.rated = rated;
+      this.play = play;
+    }
+  }
+
+  /**
+   * <p>The contents of the summary file.</p>
+   */
+  private static final class TournamentSummary {
+    private final long seed;
+    private final List<String> strategies;
+    private final long matches;
+    private final Map<String, Double> ratings;
+    private final Map<String, Integer> ratedMatches;
+    private final List<MapStatistics> maps;
+
+    private TournamentSummary(long seed, List<String> strategies, long matches,
+                              Map<String, Double> ratings, Map<String, Integer> ratedMatches,
+                              List<MapStatistics> maps) {
+      this.seed = seed;
+      this.strategies = strategies;
+      this.matches = matches;
+      this.ratings = ratings;
+      this.ratedMatches = ratedMatches;
+      this.maps = maps;
+    }
+  }
+
+  /**
+   * <p>Command line entry point.</p>
+   * <p>Arguments, all optional: total number of matches (default 10000), output directory
+   * (default <code>data/tournament</code>) and a seed (default 1). Running again with the
+   * same seed and directory continues the tournament.</p>
+   *
+   * @param args The command line arguments
+   * @throws FileHandlingException If the results cannot be read or written
+   */
+  public static void main(String[] args) throws FileHandlingException {
+    long matches = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+    Path directory = Path.of(args.length > 1 ? args[1] : "data/tournament");
+    long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+
+    TournamentRunner runner = new TournamentRunner(directory.resolve("results.csv"),
+        directory.resolve("summary.json"), seed);
+    runner.addStrategy("random", RandomDiamondStrategy::new);
+    // One worker per bot, since the tournament already keeps every core busy
+    runner.addStrategy("mcts-100", botSeed -> new MissingDiamondBot(60_000, 1, 100, botSeed));
+    runner.addStrategy("mcts-400", botSeed -> new MissingDiamondBot(60_000, 1, 400, botSeed));
+    runner.addDiamondMap("missing-diamond-2p", DiamondSearchState.capture(new MissingDiamond(2)));
+    runner.addDiamondMap("missing-diamond-3p", DiamondSearchState.capture(new MissingDiamond(3)));
+    runner.addLadderBoard("ladder-classic-2p", LadderGameBoardFactory.createClassicLadderBoard(), 2);
+    runner.addLadderBoard("ladder-random-2p",
+        LadderGameBoardFactory.createRandomLadderBoard(new Random(seed)), 2);
+
+    long startTime = System.nanoTime();
+    runner.run(matches);
+    long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+    System.out.println(runner.getCompletedMatches() + " matches, seed " + seed);
+    runner.getRatings().getRatings().forEach((name, rating) ->
+        System.out.printf("%-12s %7.1f (%d matches)%n", name, rating, runner.getRatings().getMatches(name)));
+    runner.mapStatistics.values().forEach(System.out::println);
+    System.out.println("Elapsed: " + elapsedMillis + " ms");
+  }
+}
@@ -4,6 +4,7 @@ import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 /**
  * <p>This class is responsible for transactions of currency during the game,
@@ -16,7 +17,10 @@ import java.util.Map;
  *   <li>Checking account balances</li>
  *   <li>Depositing money into accounts</li>
  *   <li>Withdrawing money from accounts</li>
+ *   <li>Grouping several changes in a transaction that succeeds or fails as a whole</li>
  * </ul>
+ * <p>Balances are kept in a {@link Ledger}, where every player owns a slot in a primitive
+ * array. The ledger also keeps an audit trail of committed changes.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
  * @version 0.0.1
@@ -24,7 +28,8 @@ import java.util.Map;
  */
 public class Banker {
   private static final int STARTING_BALANCE = 500;
-  private final Map<Player, Integer> playerAccounts = new HashMap<>();
+  private final Map<Player, Integer> accountSlots = new HashMap<>();
+  private final Ledger ledger = new Ledger();
   private final PriceList priceList;
 
   /**
@@ -44,7 +49,12 @@ public class Banker {
    * @param player The player to register
    */
   public void registerPlayer(Player player) {
-    playerAccounts.put(player, STARTING_BALANCE);
+    Integer slot = accountSlots.get(player);
+    if (slot == null) {
+      accountSlots.put(player, ledger.openAccount(STARTING_BALANCE));
+    } else {
+      ledger.setBalance(slot, STARTING_BALANCE, TransactionKind.OPENING);
+    }
   }
 
   /**
@@ -56,7 +66,8 @@ public class Banker {
    * @return The player's balance
    */
   public int getBalance(Player player) {
-    return playerAccounts.getOrDefault(player, 0);
+    Integer slot = accountSlots.get(player);
+    return slot == null ? 0 : ledger.getBalance(slot);
   }
 
   /**
@@ -69,12 +80,29 @@ public class Banker {
    * @throws IllegalArgumentException if the amount is zero or negative
    */
   public void deposit(Player player, int amount) {
+    deposit(player, amount, TransactionKind.DEPOSIT);
+  }
+
+  /**
+   * <p>Deposits money into a player's account for a reason.</p>
+   * <p>The reason is kept in the ledger's audit trail and in any journal of the ledger.</p>
+   *
+   * @param player The player to deposit money to
+   * @param amount The amount to deposit
+   * @param kind   The reason for the deposit
+   * @throws IllegalArgumentException if the amount is zero or negative, or the kind is null
+   */
+  public void deposit(Player player, int amount, TransactionKind kind) {
     if (amount <= 0) {
       throw new IllegalArgumentException("Amount must be positive");
     }
 
-    int currentBalance = getBalance(player);
-    playerAccounts.put(player, currentBalance + amount);
+    Integer slot = accountSlots.get(player);
+    if (slot == null) {
+      slot = ledger.openAccount(0);
+      accountSlots.put(player, slot);
+    }
+    ledger.deposit(slot, amount, kind);
   }
 
   /**
@@ -88,17 +116,75 @@ public class Banker {
    * @throws IllegalArgumentException if the amount is zero or negative
    */
   public boolean withdraw(Player player, int amount) {
+    return withdraw(player, amount, TransactionKind.WITHDRAWAL);
+  }
+
+  /**
+   * <p>Withdraws money from a player's account for a reason.</p>
+   * <p>The reason is kept in the ledger's audit trail and in any journal of the ledger.</p>
+   *
+   * @param player The player to withdraw money from
+   * @param amount The amount to withdraw
+   * @param kind   The reason for the withdrawal
+   * @return {@code true} if the withdrawal was successful, {@code false} if the player has insufficient funds
+   * @throws IllegalArgumentException if the amount is zero or negative, or the kind is null
+   */
+  public boolean withdraw(Player player, int amount, TransactionKind kind) {
     if (amount <= 0) {
       throw new IllegalArgumentException("Amount must be positive");
     }
 
-    int currentBalance = getBalance(player);
-    if (currentBalance < amount) {
-      return false; // Insufficient funds
+    Integer slot = accountSlots.get(player);
+    return slot != null && ledger.withdraw(slot, amount, kind);
+  }
+
+  /**
+   * <p>Runs several changes as one transaction.</p>
+   * <p>The changes are kept if the steps return {@code true}, and undone if they return
+   * {@code false} or throw. For example, paying for a token flip and applying the token's
+   * effect either both happen or neither does. Transactions may be nested.</p>
+   *
+   * @param steps The changes to make, returning whether to keep them
+   * @return {@code true} if the changes were kept, {@code false} if they were undone
+   * @throws IllegalArgumentException if the steps are null
+   */
+  public boolean transaction(BooleanSupplier steps) {
+    if (steps == null) {
+      throw new IllegalArgumentException("Transaction steps cannot be null");
     }
+    ledger.begin();
+    boolean keep = false;
+    try {
+      keep = steps.getAsBoolean();
+    } finally {
+      if (keep) {
+        ledger.commit();
+      } else {
+        ledger.rollback();
+      }
+    }
+    return keep;
+  }
 
-    playerAccounts.put(player, currentBalance - amount);
-    return true;
+  /**
+   * <p>Gets the ledger slot of a player's account.</p>
+   * <p>Code that changes balances often, such as a search over many moves, can use the
+   * slot with {@link #getLedger()} to avoid looking the player up every time.</p>
+   *
+   * @param player The player to look up
+   * @return The slot of the player's account, or -1 if the player is not registered
+   */
+  public int getAccountSlot(Player player) {
+    Integer slot = accountSlots.get(player);
+    return slot == null ? -1 : slot;
   }
 
+  /**
+   * <p>Gets the ledger holding the balances.</p>
+   *
+   * @return The ledger of this banker
+   */
+  public Ledger getLedger() {
+    return ledger;
+  }
 }
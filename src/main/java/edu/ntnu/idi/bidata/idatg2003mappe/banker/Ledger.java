@@ -0,0 +1,384 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.banker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Account balances kept in a primitive array, with transactions and an audit trail.</p>
+ * <p>Every account is a slot in an <code>int</code> array, so reading and changing a balance
+ * never boxes. Changes can be grouped in transactions: {@link #begin()} opens one,
+ * {@link #commit()} keeps its changes and {@link #rollback()} undoes them. Transactions
+ * nest, and the changes of an inner transaction are only final once the outermost
+ * transaction commits.</p>
+ * <p>Undo information is kept in primitive arrays that grow as needed and are reused, so
+ * applying and reverting many small transactions does not create garbage.</p>
+ * <p>Committed changes are recorded in an audit trail that keeps the latest
+ * {@link #getAuditCapacity()} entries, and reported to every {@link LedgerListener}
+ * added. Rolled back changes are neither recorded nor reported.</p>
+ * <p>The listeners are kept in an array that is replaced when a listener is added or
+ * removed, so reporting a change neither allocates nor needs a lock, and a listener may
+ * remove itself while it is being called.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class Ledger {
+  /**
+   * The number of audit entries kept by default.
+   */
+  public static final int DEFAULT_AUDIT_CAPACITY = 1024;
+
+  private static final TransactionKind[] KINDS = TransactionKind.values();
+
+  private int[] balances = new int[4];
+  private int accounts;
+
+  // Undo log: slot, change, balance after and kind of every uncommitted change
+  private int[] undoSlots = new int[16];
+  private int[] undoChanges = new int[16];
+  private int[] undoBalances = new int[16];
+  private byte[] undoKinds = new byte[16];
+  private int undoSize;
+
+  // Undo log positions where the open transactions began
+  private int[] savepoints = new int[4];
+  private int depth;
+
+  // Audit ring of committed changes
+  private final int[] auditSlots;
+  private final int[] auditChanges;
+  private final int[] auditBalances;
+  private final byte[] auditKinds;
+  private long auditCount;
+
+  private static final LedgerListener[] NO_LISTENERS = new LedgerListener[0];
+
+  private volatile LedgerListener[] listeners = NO_LISTENERS;
+
+  /**
+   * <p>Creates an empty ledger with the default audit capacity.</p>
+   */
+  public Ledger() {
+    this(DEFAULT_AUDIT_CAPACITY);
+  }
+
+  /**
+   * <p>Creates an empty ledger.</p>
+   *
+   * @param auditCapacity The number of committed changes kept in the audit trail
+   * @throws IllegalArgumentException If the capacity is negative
+   */
+  public Ledger(int auditCapacity) {
+    if (auditCapacity < 0) {
+      throw new IllegalArgumentException("Audit capacity cannot be negative.");
+    }
+    this.auditSlots = new int[auditCapacity];
+    this.auditChanges = new int[auditCapacity];
+    this.auditBalances = new int[auditCapacity];
+    this.auditKinds = new byte[auditCapacity];
+  }
+
+  /**
+   * <p>Adds a listener that receives every committed change.</p>
+   * <p>Listeners are called in the order they were added.</p>
+   *
+   * @param listener The listener to add
+   * @throws IllegalArgumentException If the listener is null
+   */
+  public synchronized void addListener(LedgerListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null.");
+    }
+    LedgerListener[] added = Arrays.copyOf(listeners, listeners.length + 1);
+    added[listeners.length] = listener;
+    listeners = added;
+  }
+
+  /**
+   * <p>Removes a listener.</p>
+   * <p>A listener that was added more than once is removed once.</p>
+   *
+   * @param listener The listener to remove
+   * @return True if the listener was removed, false if it was not added
+   */
+  public synchronized boolean removeListener(LedgerListener listener) {
+    LedgerListener[] current = listeners;
+    for (int i = 0; i < current.length; i++) {
+      if (current[i] == listener) {
+        LedgerListener[] removed = new LedgerListener[current.length - 1];
+        System.arraycopy(current, 0, removed, 0, i);
+        System.arraycopy(current, i + 1, removed, i, current.length - i - 1);
+        listeners = removed.length == 0 ? NO_LISTENERS : removed;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * <p>Opens an account.</p>
+   * <p>The opening balance is not part of any transaction and is not audited, but it is
+   * reported to the listeners.</p>
+   *
+   * @param openingBalance The balance of the new account
+   * @return The slot of the account
+   * @throws IllegalArgumentException If the balance is negative
+   */
+  public int openAccount(int openingBalance) {
+    if (openingBalance < 0) {
+      throw new IllegalArgumentException("Opening balance cannot be negative.");
+    }
+    if (accounts == balances.length) {
+      balances = Arrays.copyOf(balances, accounts * 2);
+    }
+    balances[accounts] = openingBalance;
+    report(accounts, TransactionKind.OPENING, openingBalance, openingBalance);
+    return accounts++;
+  }
+
+  /**
+   * <p>Gets the number of accounts.</p>
+   *
+   * @return The number of open accounts
+   */
+  public int getAccountCount() {
+    return accounts;
+  }
+
+  /**
+   * <p>Gets the balance of an account.</p>
+   *
+   * @param slot The slot of the account
+   * @return The balance
+   * @throws IllegalArgumentException If the slot is not an account
+   */
+  public int getBalance(int slot) {
+    checkSlot(slot);
+    return balances[slot];
+  }
+
+  /**
+   * <p>Adds money to an account.</p>
+   *
+   * @param slot   The slot of the account
+   * @param amount The amount to add
+   * @throws IllegalArgumentException If the slot is not an account or the amount is not positive
+   */
+  public void deposit(int slot, int amount) {
+    deposit(slot, amount, TransactionKind.DEPOSIT);
+  }
+
+  /**
+   * <p>Adds money to an account for a reason.</p>
+   *
+   * @param slot   The slot of the account
+   * @param amount The amount to add
+   * @param kind   The reason for the deposit
+   * @throws IllegalArgumentException If the slot is not an account, the amount is not positive
+   *                                  or the kind is null
+   */
+  public void deposit(int slot, int amount, TransactionKind kind) {
+    checkSlot(slot);
+    checkKind(kind);
+    if (amount <= 0) {
+      throw new IllegalArgumentException("Amount must be positive");
+    }
+    apply(slot, amount, kind);
+  }
+
+  /**
+   * <p>Takes money from an account if it holds enough.</p>
+   *
+   * @param slot   The slot of the account
+   * @param amount The amount to take
+   * @return True if the money was taken, false if the account holds too little
+   * @throws IllegalArgumentException If the slot is not an account or the amount is not positive
+   */
+  public boolean withdraw(int slot, int amount) {
+    return withdraw(slot, amount, TransactionKind.WITHDRAWAL);
+  }
+
+  /**
+   * <p>Takes money from an account for a reason, if it holds enough.</p>
+   *
+   * @param slot   The slot of the account
+   * @param amount The amount to take
+   * @param kind   The reason for the withdrawal
+   * @return True if the money was taken, false if the account holds too little
+   * @throws IllegalArgumentException If the slot is not an account, the amount is not positive
+   *                                  or the kind is null
+   */
+  public boolean withdraw(int slot, int amount, TransactionKind kind) {
+    checkSlot(slot);
+    checkKind(kind);
+    if (amount <= 0) {
+      throw new IllegalArgumentException("Amount must be positive");
+    }
+    if (balances[slot] < amount) {
+      return false;
+    }
+    apply(slot, -amount, kind);
+    return true;
+  }
+
+  /**
+   * <p>Sets the balance of an account.</p>
+   *
+   * @param slot    The slot of the account
+   * @param balance The new balance
+   * @param kind    The reason for the change
+   * @throws IllegalArgumentException If the slot is not an account, the balance is negative
+   *                                  or the kind is null
+   */
+  public void setBalance(int slot, int balance, TransactionKind kind) {
+    checkSlot(slot);
+    checkKind(kind);
+    if (balance < 0) {
+      throw new IllegalArgumentException("Balance cannot be negative.");
+    }
+    if (balance != balances[slot]) {
+      apply(slot, balance - balances[slot], kind);
+    }
+  }
+
+  /**
+   * <p>Opens a transaction, nested in the current one if there is one.</p>
+   */
+  public void begin() {
+    if (depth == savepoints.length) {
+      savepoints = Arrays.copyOf(savepoints, depth * 2);
+    }
+    savepoints[depth++] = undoSize;
+  }
+
+  /**
+   * <p>Keeps the changes of the innermost transaction.</p>
+   * <p>When the outermost transaction commits, its changes are added to the audit trail.</p>
+   *
+   * @throws IllegalStateException If no transaction is open
+   */
+  public void commit() {
+    if (depth == 0) {
+      throw new IllegalStateException("No transaction to commit.");
+    }
+    depth--;
+    if (depth == 0) {
+      for (int i = 0; i < undoSize; i++) {
+        audit(undoSlots[i], undoChanges[i], undoBalances[i], undoKinds[i]);
+      }
+      undoSize = 0;
+    }
+  }
+
+  /**
+   * <p>Undoes the changes of the innermost transaction.</p>
+   *
+   * @throws IllegalStateException If no transaction is open
+   */
+  public void rollback() {
+    if (depth == 0) {
+      throw new IllegalStateException("No transaction to roll back.");
+    }
+    int savepoint = savepoints[--depth];
+    for (int i = undoSize - 1; i >= savepoint; i--) {
+      balances[undoSlots[i]] -= undoChanges[i];
+    }
+    undoSize = savepoint;
+  }
+
+  /**
+   * <p>Gets the number of open transactions.</p>
+   *
+   * @return The nesting depth, or 0 outside a transaction
+   */
+  public int getTransactionDepth() {
+    return depth;
+  }
+
+  /**
+   * <p>Gets the number of committed changes kept in the audit trail.</p>
+   *
+   * @return The audit capacity
+   */
+  public int getAuditCapacity() {
+    return auditSlots.length;
+  }
+
+  /**
+   * <p>Gets the number of changes ever committed.</p>
+   *
+   * @return The count of committed changes, including those dropped from the audit trail
+   */
+  public long getAuditCount() {
+    return auditCount;
+  }
+
+  /**
+   * <p>Gets the latest committed changes.</p>
+   *
+   * @return A new list of audit entries, oldest first
+   */
+  public List<LedgerEntry> getAuditTrail() {
+    int kept = (int) Math.min(auditCount, auditSlots.length);
+    List<LedgerEntry> trail = new ArrayList<>(kept);
+    for (long sequence = auditCount - kept; sequence < auditCount; sequence++) {
+      int i = (int) (sequence % auditSlots.length);
+      trail.add(new LedgerEntry(sequence, auditSlots[i], KINDS[auditKinds[i]], auditChanges[i],
+          auditBalances[i]));
+    }
+    return trail;
+  }
+
+  private void apply(int slot, int change, TransactionKind kind) {
+    balances[slot] += change;
+    byte kindIndex = (byte) kind.ordinal();
+    if (depth == 0) {
+      audit(slot, change, balances[slot], kindIndex);
+      return;
+    }
+    if (undoSize == undoSlots.length) {
+      int capacity = undoSize * 2;
+      undoSlots = Arrays.copyOf(undoSlots, capacity);
+      undoChanges = Arrays.copyOf(undoChanges, capacity);
+      undoBalances = Arrays.copyOf(undoBalances, capacity);
+      undoKinds = Arrays.copyOf(undoKinds, capacity);
+    }
+    undoSlots[undoSize] = slot;
+    undoChanges[undoSize] = change;
+    undoBalances[undoSize] = balances[slot];
+    undoKinds[undoSize] = kindIndex;
+    undoSize++;
+  }
+
+  private void audit(int slot, int change, int balance, byte kindIndex) {
+    if (auditSlots.length > 0) {
+      int i = (int) (auditCount % auditSlots.length);
+      auditSlots[i] = slot;
+      auditChanges[i] = change;
+      auditBalances[i] = balance;
+      auditKinds[i] = kindIndex;
+    }
+    auditCount++;
+    report(slot, KINDS[kindIndex], change, balance);
+  }
+
+  private void report(int slot, TransactionKind kind, int change, int balance) {
+    for (LedgerListener listener : listeners) {
+      listener.changeCommitted(slot, kind, change, balance);
+    }
+  }
+
+  private static void checkKind(TransactionKind kind) {
+    if (kind == null) {
+      throw new IllegalArgumentException("Transaction kind cannot be null.");
+    }
+  }
+
+  private void checkSlot(int slot) {
+    if (slot < 0 || slot >= accounts) {
+      throw new IllegalArgumentException("No account in slot " + slot + ".");
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.banker;
+
+/**
+ * <p>A committed change of an account in a {@link Ledger}'s audit trail.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class LedgerEntry {
+  private final long sequence;
+  private final int slot;
+  private final TransactionKind kind;
+  private final int change;
+  private final int balanceAfter;
+
+  LedgerEntry(long sequence, int slot, TransactionKind kind, int change, int balanceAfter) {
+    this.sequence = sequence;
+    this.slot = slot;
+    this.kind = kind;
+    this.change = change;
+    this.balanceAfter = balanceAfter;
+  }
+
+  /**
+   * <p>Gets the position of the change among all committed changes.</p>
+   *
+   * @return The sequence number, starting at 0
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * <p>Gets the account that changed.</p>
+   *
+   * @return The slot of the account
+   */
+  public int getSlot() {
+    return slot;
+  }
+
+  /**
+   * <p>Gets the reason for the change.</p>
+   *
+   * @return The transaction kind
+   */
+  public TransactionKind getKind() {
+    return kind;
+  }
+
+  /**
+   * <p>Gets the change of the balance.</p>
+   *
+   * @return The amount added, or negative for an amount taken
+   */
+  public int getChange() {
+    return change;
+  }
+
+  /**
+   * <p>Gets the balance right after the change.</p>
+   *
+   * @return The balance
+   */
+  public int getBalanceAfter() {
+    return balanceAfter;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("#%d slot %d %s %+d = %d", sequence, slot, kind, change, balanceAfter);
+  }
+}
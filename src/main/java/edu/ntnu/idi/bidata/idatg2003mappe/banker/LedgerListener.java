@@ -0,0 +1,24 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.banker;
+
+/**
+ * <p>Receives the changes of a {@link Ledger} once they are final.</p>
+ * <p>Changes made in a transaction are only reported when the outermost transaction
+ * commits, and changes that are rolled back are never reported. Opening an account is
+ * reported as an {@link TransactionKind#OPENING} change from zero.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface LedgerListener {
+  /**
+   * <p>Called for every committed change, in the order the changes were made.</p>
+   *
+   * @param slot         The slot of the account
+   * @param kind         The reason for the change
+   * @param change       The amount added, or negative for an amount taken
+   * @param balanceAfter The balance right after the change
+   */
+  void changeCommitted(int slot, TransactionKind kind, int change, int balanceAfter);
+}
@@ -0,0 +1,73 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.banker;
+
+/**
+ * <p>The reason for a change of a balance.</p>
+ * <p>Every kind has a fixed code, so it can be stored in binary records and read back by
+ * later versions of the game.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public enum TransactionKind {
+  /**
+   * An account was opened or its balance was reset to the starting balance.
+   */
+  OPENING(0),
+
+  /**
+   * Money paid in for another reason than a token.
+   */
+  DEPOSIT(1),
+
+  /**
+   * Money paid out for another reason than a token.
+   */
+  WITHDRAWAL(2),
+
+  /**
+   * Money paid by a revealed token.
+   */
+  TOKEN_PAYOUT(3),
+
+  /**
+   * Money taken by a revealed token, such as a bandit.
+   */
+  TOKEN_LOSS(4),
+
+  /**
+   * The price of a guaranteed token flip.
+   */
+  TOKEN_FLIP(5);
+
+  private static final TransactionKind[] BY_CODE = values();
+
+  private final int code;
+
+  TransactionKind(int code) {
+    this.code = code;
+  }
+
+  /**
+   * <p>Gets the code stored for this kind.</p>
+   *
+   * @return The code
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * <p>Gets the kind with a code.</p>
+   *
+   * @param code The stored code
+   * @return The kind with the code
+   * @throws IllegalArgumentException If no kind has the code
+   */
+  public static TransactionKind fromCode(int code) {
+    if (code < 0 || code >= BY_CODE.length || BY_CODE[code].code != code) {
+      throw new IllegalArgumentException("Unknown transaction kind " + code + ".");
+    }
+    return BY_CODE[code];
+  }
+}
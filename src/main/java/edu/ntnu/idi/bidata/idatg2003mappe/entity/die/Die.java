@@ -1,8 +1,8 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.entity.die;
 
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * <p>Represents a die with Observer pattern support.</p>
@@ -14,17 +14,79 @@ import java.util.concurrent.ThreadLocalRandom;
  *   <li>Standard die rolling (1-6)</li>
  *   <li>Special rolling for token interactions (4-6 for success)</li>
  *   <li>Observer notifications when the die is rolled</li>
+ *   <li>Seeded, reproducible roll sequences</li>
+ *   <li>Queued rolls for replaying a recorded game</li>
+ *   <li>Splitting into independent dice for parallel simulations</li>
  * </ul>
+ * <p>A die is backed by a {@link SplittableRandom} and is not meant to be shared
+ * between threads; give each thread its own die with {@link #split()}.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.4
+ * @version 0.0.6
  * @since 03.02.2025
  */
 public class Die {
 
   // Observer pattern support - CopyOnWriteArrayList for thread-safe iteration in UI context
   private final List<DieObserver> observers = new CopyOnWriteArrayList<>();
+  private final SplittableRandom random;
   private int dieValue;
+  // Rolls to return before the die is random again, see queueRolls
+  private int[] queuedRolls = new int[0];
+  private int nextQueuedRoll;
+
+  /**
+   * <p>Creates a die with an unpredictable roll sequence.</p>
+   */
+  public Die() {
+    this(new SplittableRandom());
+  }
+
+  /**
+   * <p>Creates a die with a reproducible roll sequence.</p>
+   * <p>Two dice created with the same seed roll the same values in the same order.</p>
+   *
+   * @param seed The seed of the roll sequence
+   */
+  public Die(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private Die(SplittableRandom random) {
+    this.random = random;
+  }
+
+  /**
+   * <p>Creates a new die with an independent roll sequence.</p>
+   * <p>The new die is derived from this die's generator, so splitting a seeded die
+   * in the same order always gives the same dice. Observers are not copied.</p>
+   *
+   * @return A new, independent die
+   */
+  public Die split() {
+    return new Die(random.split());
+  }
+
+  /**
+   * <p>Adds an observer to the die.</p>
+   * <p>Registers a {@link DieObserver} to be notified after every single roll.</p>
+   *
+   * @param observer The {@link DieObserver} to add
+   */
+  public void addObserver(DieObserver observer) {
+    if (observer != null && !observers.contains(observer)) {
+      observers.add(observer);
+    }
+  }
+
+  /**
+   * <p>Removes an observer from the die.</p>
+   *
+   * @param observer The {@link DieObserver} to remove
+   */
+  public void removeObserver(DieObserver observer) {
+    observers.remove(observer);
+  }
 
   /**
    * <p>Notifies observers that the die has been rolled.</p>
@@ -39,13 +101,18 @@ public class Die {
 
   /**
    * <p>Return an integer between 1 and 6 (inclusive) to simulate a die.</p>
-   * <p>Generates a random number using {@code ThreadLocalRandom} and
-   * notifies all observers about the roll.</p>
+   * <p>Generates a random number from the die's generator and
+   * notifies all observers about the roll. Rolls queued with {@link #queueRolls(int...)}
+   * are returned first.</p>
    *
    * @return The rolled value (1-6)
    */
   public int rollDie() {
-    dieValue = ThreadLocalRandom.current().nextInt(1, 6 + 1);
+    if (nextQueuedRoll < queuedRolls.length) {
+      dieValue = queuedRolls[nextQueuedRoll++];
+    } else {
+      dieValue = random.nextInt(1, 6 + 1);
+    }
 
     // Notify observers about the roll
     notifyDieRolled(dieValue);
@@ -53,6 +120,58 @@ public class Die {
     return dieValue;
   }
 
+  /**
+   * <p>Makes the next calls to {@link #rollDie()} return the given values, in order.</p>
+   * <p>Used to replay a recorded game: the rolls of the recording are queued so the game
+   * plays out the same way. Once the queue is used up the die is random again. Queuing
+   * replaces any rolls still waiting.</p>
+   *
+   * @param values The rolls to return, each between 1 and 6
+   * @throws IllegalArgumentException If the values are null or a value is not between 1 and 6
+   */
+  public void queueRolls(int... values) {
+    if (values == null) {
+      throw new IllegalArgumentException("Rolls cannot be null.");
+    }
+    for (int value : values) {
+      if (value < 1 || value > 6) {
+        throw new IllegalArgumentException("Die value must be between 1 and 6.");
+      }
+    }
+    queuedRolls = values.clone();
+    nextQueuedRoll = 0;
+  }
+
+  /**
+   * <p>Gets the number of queued rolls not yet returned.</p>
+   *
+   * @return The number of rolls left in the queue
+   */
+  public int getQueuedRollCount() {
+    return queuedRolls.length - nextQueuedRoll;
+  }
+
+  /**
+   * <p>Fills a buffer with die rolls.</p>
+   * <p>Each entry is a value between 1 and 6. Observers are not notified, which makes
+   * this the cheap way to draw rolls in bulk for simulations. The die value is set to
+   * the last roll in the buffer.</p>
+   *
+   * @param out The buffer to fill
+   * @throws IllegalArgumentException If the buffer is null
+   */
+  public void rollMany(int[] out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Roll buffer cannot be null.");
+    }
+    for (int i = 0; i < out.length; i++) {
+      out[i] = random.nextInt(1, 6 + 1);
+    }
+    if (out.length > 0) {
+      dieValue = out[out.length - 1];
+    }
+  }
+
   /**
    * <p>Returns true if "die roll" is 4, 5 or 6 and false otherwise.</p>
    * <p>This specialized roll is used for token interactions,
@@ -63,7 +182,7 @@ public class Die {
    * @return {@code true} if the roll is 4 or higher, {@code false} otherwise
    */
   public boolean rollToTurnMarker() {
-    dieValue = ThreadLocalRandom.current().nextInt(3, 7);
+    dieValue = random.nextInt(3, 7);
 
     // Notify observers about the roll
     notifyDieRolled(dieValue);
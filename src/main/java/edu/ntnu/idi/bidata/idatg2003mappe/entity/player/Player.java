@@ -1,7 +1,10 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.entity.player;
 
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -63,6 +66,15 @@ public class Player {
     observers.add(observer);
   }
 
+  /**
+   * <p>Removes an observer from the player.</p>
+   *
+   * @param observer The {@link PlayerObserver} to remove
+   */
+  public void removeObserver(PlayerObserver observer) {
+    observers.remove(observer);
+  }
+
   /**
    * <p>Notifies observers that the player has moved.</p>
    * <p>Calls the {@link PlayerObserver#onPlayerMoved} method on all
@@ -72,7 +84,9 @@ public class Player {
    * @param newTile The {@link Tile} the player moved to
    */
   private void notifyPlayerMoved(Tile oldTile, Tile newTile) {
-    observers.forEach(observer -> observer.onPlayerMoved(this, oldTile, newTile));
+    for (PlayerObserver observer : observers) {
+      observer.onPlayerMoved(this, oldTile, newTile);
+    }
   }
 
   /**
@@ -119,6 +133,32 @@ public class Player {
     notifyPlayerMoved(oldTile, currentTile);
   }
 
+  /**
+   * <p>Moves the player on a compiled ladder board.</p>
+   * <p>Resolves the move through the jump table of the {@link CompiledLadderBoard}
+   * instead of walking tile links, and notifies observers about the movement.</p>
+   *
+   * @param tilesToMove Number of tiles to move
+   * @param board       The compiled board the player is standing on
+   * @throws IllegalStateException If the player's current tile is not set or not on the board
+   */
+  public void movePlayer(int tilesToMove, CompiledLadderBoard board) {
+    if (currentTile == null) {
+      throw new IllegalStateException("Player's current tile is not set.");
+    }
+
+    int index = board.indexOf(currentTile);
+    if (index < 0) {
+      throw new IllegalStateException("Player's current tile is not on the board.");
+    }
+
+    Tile oldTile = currentTile;
+    currentTile = board.tileAt(board.advance(index, tilesToMove));
+
+    // Notify observers about the movement
+    notifyPlayerMoved(oldTile, currentTile);
+  }
+
   /**
    * <p>Adds an item to the player's inventory.</p>
    * <p>Stores the item name in the player's inventory set for
@@ -142,6 +182,30 @@ public class Player {
     return inventory.contains(itemName);
   }
 
+  /**
+   * <p>Gets the items in the player's inventory.</p>
+   *
+   * @return An unmodifiable view of the item names
+   */
+  public Set<String> getInventory() {
+    return Collections.unmodifiableSet(inventory);
+  }
+
+  /**
+   * <p>Replaces the items in the player's inventory.</p>
+   * <p>Used when a saved game is restored.</p>
+   *
+   * @param items The item names the player should hold
+   * @throws IllegalArgumentException If the items are null
+   */
+  public void setInventory(Collection<String> items) {
+    if (items == null) {
+      throw new IllegalArgumentException("Inventory items cannot be null.");
+    }
+    inventory.clear();
+    inventory.addAll(items);
+  }
+
   /**
    * <p>Gets the player's color.</p>
    * <p>Returns the color used for visual representation of this player.</p>
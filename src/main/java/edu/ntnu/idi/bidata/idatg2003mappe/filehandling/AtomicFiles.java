@@ -0,0 +1,60 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Replaces files so that readers only ever see the old or the new content.</p>
+ * <p>The data is written to a temporary file in the same directory, forced to disk and
+ * then moved over the target in one step. If the game or the machine stops in the
+ * middle of a save, the previous file is left as it was, instead of being cut short.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class AtomicFiles {
+
+  private AtomicFiles() {
+  }
+
+  /**
+   * <p>Writes data to a file, replacing the file in one step.</p>
+   * <p>Missing parent directories are created. On file systems without atomic moves the
+   * temporary file is moved over the target with a plain replace.</p>
+   *
+   * @param file The file to replace
+   * @param data The new content
+   * @throws IOException If the data cannot be written or the file cannot be replaced
+   */
+  public static void write(Path file, byte[] data) throws IOException {
+    if (file == null || data == null) {
+      throw new IllegalArgumentException("File and data cannot be null.");
+    }
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Writes saves on a background thread, so the game never waits for the disk.</p>
+ * <p>The game captures an immutable copy of its state, such as a
+ * {@link MissingDiamondSnapshot}, and hands it to {@link #submit(Object)}, which returns
+ * at once. A single writer thread saves the states in order. When states arrive faster
+ * than they can be written, only the latest one waiting is kept, so a burst of turns
+ * costs one write and the save on disk is never older than the last one written.</p>
+ * <p>Failed saves are logged and reported to the failure handler on the writer thread;
+ * the next state is saved as usual.</p>
+ *
+ * @param <T> The type of state to save, which must not change after it is submitted
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class AutosaveService<T> implements Closeable {
+  private static final Logger logger = Logger.getLogger(AutosaveService.class.getName());
+  private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+  /**
+   * <p>Saves one state.</p>
+   *
+   * @param <T> The type of state to save
+   */
+  @FunctionalInterface
+  public interface SaveAction<T> {
+    /**
+     * <p>Saves a state, on the writer thread.</p>
+     *
+     * @param state The state to save
+     * @throws FileHandlingException If the state cannot be saved
+     */
+    void save(T state) throws FileHandlingException;
+  }
+
+  private final SaveAction<T> action;
+  private final ExecutorService writer;
+  private final AtomicReference<T> pending = new AtomicReference<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private volatile Consumer<Exception> failureHandler;
+  private volatile boolean closed;
+
+  /**
+   * <p>Creates a service with its own writer thread.</p>
+   *
+   * @param name   The name of the writer thread
+   * @param action How to save a state
+   * @throws IllegalArgumentException If the name or action is null
+   */
+  public AutosaveService(String name, SaveAction<T> action) {
+    if (name == null || action == null) {
+      throw new IllegalArgumentException("Name and save action cannot be null.");
+    }
+    this.action = action;
+    this.writer = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, name);
+      // A save in progress must not keep the game from exiting
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * <p>Sets the handler of failed saves.</p>
+   * <p>The handler runs on the writer thread, so user interface code must hand the
+   * error over to its own thread.</p>
+   *
+   * @param failureHandler The handler, or null for none
+   */
+  public void setFailureHandler(Consumer<Exception> failureHandler) {
+    this.failureHandler = failureHandler;
+  }
+
+  /**
+   * <p>Queues a state to be saved and returns without waiting.</p>
+   * <p>A state still waiting to be written is replaced by this one.</p>
+   *
+   * @param state The state to save
+   * @throws IllegalArgumentException If the state is null
+   * @throws IllegalStateException    If the service is closed
+   */
+  public void submit(T state) {
+    if (state == null) {
+      throw new IllegalArgumentException("State cannot be null.");
+    }
+    if (closed) {
+      throw new IllegalStateException("Autosave service is closed.");
+    }
+    pending.set(state);
+    submitted.incrementAndGet();
+    if (scheduled.compareAndSet(false, true)) {
+      writer.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    do {
+      T state;
+      while ((state = pending.getAndSet(null)) != null) {
+        write(state);
+      }
+      scheduled.set(false);
+      // A state submitted after the last check but before the flag was cleared
+    } while (pending.get() != null && scheduled.compareAndSet(false, true));
+  }
+
+  private void write(T state) {
+    try {
+      action.save(state);
+      written.incrementAndGet();
+    } catch (FileHandlingException | RuntimeException e) {
+      logger.log(Level.SEVERE, "Autosave failed", e);
+      Consumer<Exception> handler = failureHandler;
+      if (handler != null) {
+        handler.accept(e);
+      }
+    }
+  }
+
+  /**
+   * <p>Waits until every submitted state has been written or has failed.</p>
+   * <p>Use this before reading the save back.</p>
+   */
+  public void flush() {
+    if (closed) {
+      return;
+    }
+    try {
+      writer.submit(() -> { }).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      logger.log(Level.WARNING, "Could not wait for autosave", e);
+    }
+  }
+
+  /**
+   * <p>Gets the number of states submitted.</p>
+   *
+   * @return The submit count
+   */
+  public long getSubmittedCount() {
+    return submitted.get();
+  }
+
+  /**
+   * <p>Gets the number of states written.</p>
+   * <p>This is smaller than the submit count when states were replaced before they
+   * were written, or failed.</p>
+   *
+   * @return The write count
+   */
+  public long getWrittenCount() {
+    return written.get();
+  }
+
+  /**
+   * <p>Writes the state still waiting, if any, and stops the writer thread.</p>
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        logger.warning("Autosave did not finish within " + CLOSE_TIMEOUT_SECONDS + " seconds.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Cursor over encoded bytes with the reads shared by the binary save formats.</p>
+ * <p>Reads the values written by {@link BinaryOutput}, and reports data that ends early
+ * or holds malformed numbers as a {@link FileHandlingException}.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+final class BinaryInput {
+  private final byte[] bytes;
+  private int position;
+
+  BinaryInput(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  BinaryInput(byte[] bytes, int position) {
+    this.bytes = bytes;
+    this.position = position;
+  }
+
+  int remaining() {
+    return bytes.length - position;
+  }
+
+  int readByte() throws FileHandlingException {
+    if (position >= bytes.length) {
+      throw new FileHandlingException("Invalid save: unexpected end of data.");
+    }
+    return bytes[position++] & 0xFF;
+  }
+
+  int readInt() throws FileHandlingException {
+    return readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+  }
+
+  int readVarint() throws FileHandlingException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new FileHandlingException("Invalid save: malformed number.");
+  }
+
+  int readSignedVarint() throws FileHandlingException {
+    int value = readVarint();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * <p>Reads a count and checks that the data can hold that many items.</p>
+   *
+   * @param minItemSize The smallest number of bytes an item takes
+   */
+  int readCount(int minItemSize) throws FileHandlingException {
+    int count = readVarint();
+    if (count < 0 || (long) count * minItemSize > remaining()) {
+      throw new FileHandlingException("Invalid save: bad count " + count + ".");
+    }
+    return count;
+  }
+
+  String readString() throws FileHandlingException {
+    int length = readVarint() - 1;
+    if (length == -1) {
+      return null;
+    }
+    if (length < 0 || length > remaining()) {
+      throw new FileHandlingException("Invalid save: unexpected end of data.");
+    }
+    String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+    position += length;
+    return value;
+  }
+}
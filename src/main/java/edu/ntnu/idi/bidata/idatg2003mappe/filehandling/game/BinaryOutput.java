@@ -0,0 +1,77 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>Growable byte buffer with the writes shared by the binary save formats.</p>
+ * <p>Counts and positions are written as variable-length integers of seven bits per
+ * byte, so small values take a single byte. Signed values are zigzag encoded first, so
+ * small negative values such as -1 stay short as well.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+final class BinaryOutput {
+  private byte[] bytes;
+  private int size;
+
+  BinaryOutput(int capacity) {
+    bytes = new byte[Math.max(capacity, 16)];
+  }
+
+  void writeByte(int value) {
+    if (size == bytes.length) {
+      bytes = Arrays.copyOf(bytes, bytes.length * 2);
+    }
+    bytes[size++] = (byte) value;
+  }
+
+  void writeInt(int value) {
+    writeByte(value >>> 24);
+    writeByte(value >>> 16);
+    writeByte(value >>> 8);
+    writeByte(value);
+  }
+
+  void writeVarint(int value) {
+    while ((value & ~0x7F) != 0) {
+      writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    writeByte(value);
+  }
+
+  void writeSignedVarint(int value) {
+    writeVarint((value << 1) ^ (value >> 31));
+  }
+
+  // The length is written plus one, so 0 can stand for null
+  void writeString(String value) {
+    if (value == null) {
+      writeVarint(0);
+      return;
+    }
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    writeVarint(utf8.length + 1);
+    if (size + utf8.length > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + utf8.length));
+    }
+    System.arraycopy(utf8, 0, bytes, size, utf8.length);
+    size += utf8.length;
+  }
+
+  int size() {
+    return size;
+  }
+
+  // Keeps the buffer, so it can be filled again without growing
+  void reset() {
+    size = 0;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(bytes, size);
+  }
+}
@@ -23,6 +23,8 @@ import java.util.List;
  *   <li>Saving game states to default or custom locations</li>
  *   <li>Loading game states from default or custom locations</li>
  * </ul>
+ * <p>Saves are normally written by {@link GameStateBinaryCodec}; this JSON format is an
+ * opt-in export for when a save should be read or edited by hand.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
  * @version 0.0.1
@@ -31,6 +33,10 @@ import java.util.List;
 public class BoardFileHandler implements edu.ntnu.idi.bidata.idatg2003mappe.filehandling.FileReader<GameState>,
     edu.ntnu.idi.bidata.idatg2003mappe.filehandling.FileWriter<GameState> {
 
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+  private static final DateTimeFormatter SAVE_TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
   /**
    * <p>Writes a game state to a file in JSON format.</p>
    * <p>The method serializes the game state object into a JSON structure and
@@ -58,6 +64,9 @@ public class BoardFileHandler implements edu.ntnu.idi.bidata.idatg2003mappe.file
       // Add current player index
       jsonObject.addProperty("currentPlayerIndex", gameState.getCurrentPlayerIndex());
 
+      // Add game type
+      jsonObject.addProperty("gameType", gameState.getGameType().name());
+
       // Add random ladders flag
       jsonObject.addProperty("randomLadders", gameState.isRandomLadders());
 
@@ -76,12 +85,11 @@ public class BoardFileHandler implements edu.ntnu.idi.bidata.idatg2003mappe.file
       jsonObject.add("players", playersArray);
 
       // Add timestamp
-      String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+      String timestamp = LocalDateTime.now().format(SAVE_TIME_FORMAT);
       jsonObject.addProperty("saveTime", timestamp);
 
       // Write to file
-      Gson gson = new GsonBuilder().setPrettyPrinting().create();
-      Files.writeString(Paths.get(filePath), gson.toJson(jsonObject));
+      Files.writeString(Paths.get(filePath), GSON.toJson(jsonObject));
 
     } catch (IOException e) {
       throw new FileHandlingException("Error writing game state to file: " + filePath, e);
@@ -125,6 +133,9 @@ public class BoardFileHandler implements edu.ntnu.idi.bidata.idatg2003mappe.file
       GameState gameState = new GameState();
       gameState.setCurrentPlayerIndex(currentPlayerIndex);
       gameState.setRandomLadders(randomLadders);
+      if (jsonObject.has("gameType")) {
+        gameState.setGameType(GameType.valueOf(jsonObject.get("gameType").getAsString()));
+      }
 
       // Extracting player positions
       JsonArray playersArray = jsonObject.getAsJsonArray("players");
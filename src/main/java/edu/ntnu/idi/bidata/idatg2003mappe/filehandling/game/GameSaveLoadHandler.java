@@ -1,19 +1,28 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
 
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.common.observer.BoardGameObserver;
 import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.LadderGameController;
 import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.ui.LadderGameGUI;
 import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller.MissingDiamondController;
 import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ui.MissingDiamondGUI;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.journal.BankJournal;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -21,79 +30,114 @@ import java.util.logging.Logger;
 
 /**
  * <p>Handles saving and loading game states for different board games.</p>
- * <p>This class provides methods for saving the current game state to a CSV file
- * and loading saved games for the Ladder Game and Missing Diamond game.</p>
+ * <p>This class provides methods for saving the current game state and loading saved
+ * games for the Ladder Game and Missing Diamond game.</p>
  * <p>Features include:</p>
  * <ul>
- *   <li>Quick save functionality to store player positions</li>
+ *   <li>Quick save and autosave of player positions and the current player, written in
+ *       the compact binary format of {@link GameStateBinaryCodec}</li>
+ *   <li>Loading of older CSV saves, for games saved before the binary format</li>
+ *   <li>Complete Missing Diamond saves, written as deltas against the last full snapshot</li>
+ *   <li>Autosave after every turn, written by background writers</li>
+ *   <li>A journal of every turn, replayed to recover a game after a crash</li>
+ *   <li>A journal of every Missing Diamond bank transaction</li>
  *   <li>Game-specific loading for different game types</li>
  *   <li>Error handling with user-friendly alerts</li>
  * </ul>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.3
+ * @version 0.0.6
  * @since 21.05.2025
  */
 public class GameSaveLoadHandler {
 
   private static final String lastSaveDir = "data/saves";
-  private static final String lastSaveFile = "LastSave.csv";
+  private static final String lastSaveFile = "LastSave.gsav";
   private static final String fullPath = lastSaveDir + "/" + lastSaveFile;
+  private static final String legacyCsvPath = lastSaveDir + "/LastSave.csv";
+  private static final String missingDiamondSaveFile = "LastSave.mdsave";
+  private static final Path ladderJournalFile = Paths.get(lastSaveDir, "journal", "LadderGame.journal");
+  private static final Path missingDiamondJournalFile =
+      Paths.get(lastSaveDir, "journal", "MissingDiamond.journal");
+  private static final Path missingDiamondBankJournalFile =
+      Paths.get(lastSaveDir, "journal", "MissingDiamond.bank");
+
+  // Keeps the last full snapshot, so later quick saves are written as deltas
+  private MissingDiamondSaveStore missingDiamondSaves;
+  // Background writers, created when first needed
+  private AutosaveService<MissingDiamondSnapshot> missingDiamondAutosave;
+  private AutosaveService<GameState> quickSaves;
+  // Journal of the running game, kept until the game is left
+  private TurnJournal journal;
+  // Journal of the bank transactions of Missing Diamond games, kept across games
+  private BankJournal bankJournal;
 
   private static final Logger logger = Logger.getLogger(GameSaveLoadHandler.class.getName());
 
   /**
    * <p>Creates an event handler for quick-saving the current game state.</p>
-   * <p>This method returns an event handler that, when triggered, saves the current
-   * game state to a CSV file. The save includes information about all players,
-   * such as their names, IDs, colors, and current positions on the board.</p>
+   * <p>This method returns an event handler that, when triggered, saves the names, IDs
+   * and positions of all players. The first player is saved as the current player; use
+   * {@link #quickSaveLadderGame(LadderGameController)} to save the turn of a ladder game.</p>
    *
    * @param playersFromController The list of {@link Player} objects to save
    * @return An {@link EventHandler} that saves the game when triggered
    */
   public EventHandler<ActionEvent> quickSaveGame(List<Player> playersFromController) {
     return event -> {
-      try {
-        // Make sure directory exists
-        File saveDir = new File(lastSaveDir);
-        if (!saveDir.exists()) {
-          saveDir.mkdirs();
-        }
-
-        if (playersFromController == null || playersFromController.isEmpty()) {
-          showAlert(Alert.AlertType.ERROR, "Error", "Save Error", "No players found to save.");
-          return;
-        }
+      if (playersFromController == null || playersFromController.isEmpty()) {
+        showAlert(Alert.AlertType.ERROR, "Error", "Save Error", "No players found to save.");
+        return;
+      }
+      submitQuickSave(new GameState(0, false, playersFromController));
+    };
+  }
 
-        // Save to CSV
-        File csvFile = new File(fullPath);
-        try (FileWriter outputFile = new FileWriter(csvFile);
-             CSVWriter writer = new CSVWriter(outputFile)) {
-
-          // Write header
-          String[] header = {"Player Name", "ID", "Color", "Position"};
-          writer.writeNext(header);
-
-          // FIX: Actually write the player data to the CSV file
-          for (Player player : playersFromController) {
-            String[] playerData = {
-                player.getName(),
-                String.valueOf(player.getID()),
-                player.getColor(),
-                String.valueOf(player.getCurrentTile().getTileId())
-            };
-            writer.writeNext(playerData);
-
-            logger.info("Saving player: " + player.getName() + ", ID: " + player.getID() +
-                ", Color: " + player.getColor() + ", Position: " + player.getCurrentTile().getTileId());
-          }
-
-          // CSVWriter will be automatically closed by try-with-resources
-        }
+  /**
+   * <p>Creates an event handler for quick-saving a ladder game.</p>
+   * <p>The save holds the player positions, the current player and the ladder mode.</p>
+   *
+   * @param controller The {@link LadderGameController} of the game to save
+   * @return An {@link EventHandler} that saves the game when triggered
+   */
+  public EventHandler<ActionEvent> quickSaveLadderGame(LadderGameController controller) {
+    return event -> submitQuickSave(controller.createGameState());
+  }
 
-        showAlert(Alert.AlertType.INFORMATION, "Game Saved", "Game Saved Successfully",
-            "Your game has been saved to LastSave.csv with " + playersFromController.size() + " players.");
+  /**
+   * <p>Hands a game state to the background writer.</p>
+   * <p>The writer encodes the state in the binary format and replaces the save file in
+   * one step, so the game does not wait for the disk and a save cut short never damages
+   * the previous one.</p>
+   */
+  private void submitQuickSave(GameState gameState) {
+    try {
+      getQuickSaves().submit(gameState);
+      showNotice("Game Saved", "Your game is being saved with "
+          + gameState.getPlayerPositions().size() + " players.");
+    } catch (Exception ex) {
+      showAlert(Alert.AlertType.ERROR, "Error", "Save Error",
+          "Could not save the game: " + ex.getMessage());
+      logger.log(Level.SEVERE, "Error saving game", ex);
+    }
+  }
 
+  /**
+   * <p>Creates an event handler for quick-saving a complete Missing Diamond game.</p>
+   * <p>The save holds everything needed to continue the game: token placement and
+   * reveals, balances, inventories, skip flags and the current roll. The first save
+   * writes a full snapshot, and later saves only write what changed since then. The
+   * snapshot is taken right away and written in the background.</p>
+   *
+   * @param controller The {@link MissingDiamondController} of the game to save
+   * @return An {@link EventHandler} that saves the game when triggered
+   */
+  public EventHandler<ActionEvent> quickSaveMissingDiamond(MissingDiamondController controller) {
+    return event -> {
+      try {
+        getMissingDiamondAutosave().submit(controller.createSnapshot());
+        showNotice("Game Saved", "Your game is being saved with "
+            + controller.getPlayers().size() + " players.");
       } catch (Exception ex) {
         showAlert(Alert.AlertType.ERROR, "Error", "Save Error",
             "Could not save the game: " + ex.getMessage());
@@ -102,70 +146,388 @@ public class GameSaveLoadHandler {
     };
   }
 
+  /**
+   * <p>Saves a Missing Diamond game automatically after every turn.</p>
+   * <p>At the end of each turn a snapshot of the game is taken and handed to the
+   * background writer, so turns never wait for the disk. Turns that end faster than
+   * they can be written are saved together. Every turn is also recorded in a
+   * {@link TurnJournal}, see {@link #recoverMissingDiamond()}, and every bank transaction
+   * in a {@link BankJournal}.</p>
+   *
+   * @param controller The {@link MissingDiamondController} of the game to save
+   */
+  public void startAutosave(MissingDiamondController controller) {
+    startJournal(controller);
+    startBankJournal(controller);
+    controller.addObserver(new BoardGameObserver() {
+      @Override
+      public void onPlayerMoved(Player player, Tile fromTile, Tile toTile) {
+        // Saved at the end of the turn
+      }
+
+      @Override
+      public void onDieRolled(Player player, int rollValue) {
+        // Saved at the end of the turn
+      }
+
+      @Override
+      public void onGameEnded(Player winner) {
+        getMissingDiamondAutosave().submit(controller.createSnapshot());
+      }
+
+      @Override
+      public void onTurnChanged(Player newCurrentPlayer) {
+        getMissingDiamondAutosave().submit(controller.createSnapshot());
+      }
+    });
+  }
+
+  /**
+   * <p>Saves a ladder game automatically after every turn.</p>
+   * <p>At the end of each turn the game state is handed to the background writer, which
+   * writes it in the binary format. Every turn is also recorded in a {@link TurnJournal},
+   * which lets {@link #recoverLadderGame()} rebuild the game after a crash.</p>
+   *
+   * @param controller The {@link LadderGameController} of the game to save
+   */
+  public void startAutosave(LadderGameController controller) {
+    startJournal(controller);
+    controller.addObserver(new BoardGameObserver() {
+      @Override
+      public void onPlayerMoved(Player player, Tile fromTile, Tile toTile) {
+        // Saved at the end of the turn
+      }
+
+      @Override
+      public void onDieRolled(Player player, int rollValue) {
+        // Saved at the end of the turn
+      }
+
+      @Override
+      public void onGameEnded(Player winner) {
+        getQuickSaves().submit(controller.createGameState());
+      }
+
+      @Override
+      public void onTurnChanged(Player newCurrentPlayer) {
+        getQuickSaves().submit(controller.createGameState());
+      }
+    });
+  }
+
+  /**
+   * <p>Writes any saves still waiting and stops the background writers.</p>
+   * <p>The game is left on purpose, so its journal is removed and not offered for
+   * recovery.</p>
+   */
+  public void stopAutosave() {
+    if (journal != null) {
+      journal.close();
+      deleteJournal(journal.getFile());
+      journal = null;
+    }
+    closeBankJournal();
+    if (quickSaves != null) {
+      quickSaves.close();
+      quickSaves = null;
+    }
+    if (missingDiamondAutosave != null) {
+      missingDiamondAutosave.close();
+      missingDiamondAutosave = null;
+    }
+  }
+
+  private void startJournal(LadderGameController controller) {
+    closeJournal();
+    try {
+      journal = TurnJournal.start(ladderJournalFile, controller);
+    } catch (FileHandlingException e) {
+      logger.log(Level.WARNING, "Could not start the turn journal, crash recovery is off", e);
+    }
+  }
+
+  private void startJournal(MissingDiamondController controller) {
+    closeJournal();
+    try {
+      journal = TurnJournal.start(missingDiamondJournalFile, controller);
+    } catch (FileHandlingException e) {
+      logger.log(Level.WARNING, "Could not start the turn journal, crash recovery is off", e);
+    }
+  }
+
+  private void closeJournal() {
+    if (journal != null) {
+      journal.close();
+      journal = null;
+    }
+  }
+
+  private void startBankJournal(MissingDiamondController controller) {
+    closeBankJournal();
+    try {
+      bankJournal = new BankJournal(missingDiamondBankJournalFile);
+      bankJournal.attach(controller.getBanker().getLedger());
+    } catch (FileHandlingException e) {
+      logger.log(Level.WARNING, "Could not open the bank journal, transactions are not recorded", e);
+      closeBankJournal();
+    }
+  }
+
+  private void closeBankJournal() {
+    if (bankJournal != null) {
+      try {
+        bankJournal.close();
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Could not close the bank journal", e);
+      }
+      bankJournal = null;
+    }
+  }
+
+  /**
+   * <p>Rebuilds a ladder game that was not left properly, such as after a crash.</p>
+   * <p>If the journal of an unfinished game is found, the player is asked whether to
+   * continue it. The game is then replayed from the journal up to its last complete
+   * turn. A journal that is declined or cannot be replayed is removed.</p>
+   *
+   * @return The controller of the recovered game, or {@code null} to start a new game
+   */
+  public LadderGameController recoverLadderGame() {
+    TurnJournalReader reader = readUnfinishedJournal(ladderJournalFile);
+    if (reader == null) {
+      return null;
+    }
+    try {
+      return TurnJournalReplayer.recoverLadderGame(reader);
+    } catch (FileHandlingException e) {
+      reportRecoveryFailure(ladderJournalFile, e);
+      return null;
+    }
+  }
+
+  /**
+   * <p>Rebuilds a Missing Diamond game that was not left properly, such as after a crash.</p>
+   * <p>Works as {@link #recoverLadderGame()}; the game is restored with its tokens,
+   * balances and inventories.</p>
+   *
+   * @return The controller of the recovered game, or {@code null} to start a new game
+   */
+  public MissingDiamondController recoverMissingDiamond() {
+    TurnJournalReader reader = readUnfinishedJournal(missingDiamondJournalFile);
+    if (reader == null) {
+      return null;
+    }
+    try {
+      return TurnJournalReplayer.recoverMissingDiamond(reader);
+    } catch (FileHandlingException e) {
+      reportRecoveryFailure(missingDiamondJournalFile, e);
+      return null;
+    }
+  }
+
+  private TurnJournalReader readUnfinishedJournal(Path file) {
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    TurnJournalReader reader;
+    try {
+      reader = new TurnJournalReader(file);
+    } catch (FileHandlingException e) {
+      logger.log(Level.WARNING, "Ignoring unreadable turn journal " + file, e);
+      deleteJournal(file);
+      return null;
+    }
+    if (reader.isFinished() || reader.getEventCount() == 0) {
+      deleteJournal(file);
+      return null;
+    }
+    Alert question = new Alert(Alert.AlertType.CONFIRMATION);
+    question.setTitle("Unfinished Game");
+    question.setHeaderText("Continue your unfinished game?");
+    question.setContentText("The last game was not ended properly. It can be continued "
+        + "from the last completed turn.");
+    if (question.showAndWait().filter(ButtonType.OK::equals).isEmpty()) {
+      deleteJournal(file);
+      return null;
+    }
+    return reader;
+  }
+
+  private void reportRecoveryFailure(Path file, FileHandlingException e) {
+    logger.log(Level.WARNING, "Could not recover game from " + file, e);
+    deleteJournal(file);
+    showAlert(Alert.AlertType.ERROR, "Error", "Recovery Error",
+        "The unfinished game could not be continued: " + e.getMessage());
+  }
+
+  private static void deleteJournal(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      logger.warning("Could not remove turn journal " + file + ": " + e.getMessage());
+    }
+  }
+
+  private AutosaveService<GameState> getQuickSaves() {
+    if (quickSaves == null) {
+      GameStateBinaryCodec codec = new GameStateBinaryCodec();
+      quickSaves = new AutosaveService<>("quick-save-writer", state -> codec.write(state, fullPath));
+      quickSaves.setFailureHandler(this::reportSaveFailure);
+    }
+    return quickSaves;
+  }
+
+  private AutosaveService<MissingDiamondSnapshot> getMissingDiamondAutosave() {
+    if (missingDiamondAutosave == null) {
+      MissingDiamondSaveStore store = getMissingDiamondSaves();
+      missingDiamondAutosave = new AutosaveService<>("missing-diamond-autosave", store::save);
+      missingDiamondAutosave.setFailureHandler(this::reportSaveFailure);
+    }
+    return missingDiamondAutosave;
+  }
+
+  private MissingDiamondSaveStore getMissingDiamondSaves() {
+    if (missingDiamondSaves == null) {
+      missingDiamondSaves = new MissingDiamondSaveStore(Paths.get(lastSaveDir, missingDiamondSaveFile));
+    }
+    return missingDiamondSaves;
+  }
+
+  private void reportSaveFailure(Exception e) {
+    Platform.runLater(() -> showAlert(Alert.AlertType.ERROR, "Error", "Save Error",
+        "Could not save the game: " + e.getMessage()));
+  }
+
   /**
    * <p>Loads a saved Ladder Game.</p>
-   * <p>This method reads player data from the saved CSV file and applies it to
-   * the provided Ladder Game controller. It updates player positions and other
-   * game state information based on the saved data.</p>
+   * <p>This method reads the last quick save or autosave and applies it to the provided
+   * Ladder Game controller. It updates player positions and the current player based
+   * on the saved data.</p>
    *
    * @param ladderGameGUI The {@link LadderGameGUI} instance to update
    * @param controller    The {@link LadderGameController} to apply the state to
    * @param randomLadders Whether the game uses random ladders
    */
   public void loadLastSaveLadderGame(LadderGameGUI ladderGameGUI, LadderGameController controller, boolean randomLadders) {
-    loadGameState("ladder game", gameState -> {
+    loadGameState("ladder game", GameType.LADDER_GAME, gameState -> {
       gameState.setRandomLadders(randomLadders);
       controller.applyGameState(gameState);
+      restartJournal(controller);
       ladderGameGUI.updateBoardUI();
     });
   }
 
   /**
    * <p>Loads a saved Missing Diamond game.</p>
-   * <p>This method reads player data from the saved CSV file and applies it to
-   * the provided Missing Diamond controller. It updates player positions and other
-   * game state information based on the saved data.</p>
+   * <p>This method restores the complete game from the last Missing Diamond save. If
+   * there is none, it reads the last quick save and applies the player positions to the
+   * provided Missing Diamond controller.</p>
    *
    * @param missingDiamondGUI The {@link MissingDiamondGUI} instance to update
    * @param controller        The {@link MissingDiamondController} to apply the state to
    */
   public void loadLastSaveMissingDiamond(MissingDiamondGUI missingDiamondGUI, MissingDiamondController controller) {
-    loadGameState("missing diamond game", gameState -> {
+    if (missingDiamondAutosave != null) {
+      missingDiamondAutosave.flush();
+    }
+    MissingDiamondSaveStore saves = getMissingDiamondSaves();
+    if (saves.exists()) {
+      try {
+        controller.applySnapshot(saves.load());
+        restartJournal(controller);
+        missingDiamondGUI.updateBoardUI();
+        showAlert(Alert.AlertType.INFORMATION, "Game Loaded", "Game Loaded Successfully",
+            "Your last saved missing diamond game has been loaded.");
+      } catch (Exception ex) {
+        showAlert(Alert.AlertType.ERROR, "Error", "Load Error",
+            "Could not load the game: " + ex.getMessage());
+        logger.log(Level.SEVERE, "Error loading missing diamond game", ex);
+      }
+      return;
+    }
+    loadGameState("missing diamond game", GameType.MISSING_DIAMOND, gameState -> {
       controller.applyGameState(gameState);
+      restartJournal(controller);
       missingDiamondGUI.updateBoardUI();
     });
   }
 
+  // A loaded save is not reached by the recorded turns, so the journal starts over from it
+  private void restartJournal(LadderGameController controller) {
+    if (journal != null) {
+      startJournal(controller);
+    }
+  }
+
+  private void restartJournal(MissingDiamondController controller) {
+    if (journal != null) {
+      startJournal(controller);
+    }
+  }
+
   /**
    * <p>Common method for loading game state from the save file.</p>
    * <p>This method handles all the common logic for loading a saved game:</p>
    * <ol>
-   *   <li>Check if the save file exists</li>
-   *   <li>Read player data from the CSV file</li>
-   *   <li>Create a {@link GameState} object with the loaded data</li>
+   *   <li>Check if a save file exists, preferring the binary save over an older CSV save</li>
+   *   <li>Read the {@link GameState} from it</li>
+   *   <li>Reject saves of another game</li>
    *   <li>Call the provided handler to apply game-specific logic</li>
    *   <li>Show success or error alerts</li>
    * </ol>
    *
    * @param gameTypeName A descriptive name for the game type (for logging/alerts)
+   * @param gameType     The game the save must belong to, if the save records it
    * @param stateHandler A handler that applies the loaded state to the specific game
    */
-  private void loadGameState(String gameTypeName, java.util.function.Consumer<GameState> stateHandler) {
-    File csvFile = new File(fullPath);
-    if (!csvFile.exists() || !csvFile.isFile()) {
+  private void loadGameState(String gameTypeName, GameType gameType,
+                             java.util.function.Consumer<GameState> stateHandler) {
+    if (quickSaves != null) {
+      quickSaves.flush();
+    }
+    File binaryFile = new File(fullPath);
+    File csvFile = new File(legacyCsvPath);
+    if (!binaryFile.isFile() && !csvFile.isFile()) {
       showAlert(Alert.AlertType.INFORMATION, "No Save Found", "No Save File Found",
           "There is no saved game to load.");
       return;
     }
 
-    try (CSVReader reader = new CSVReader(new FileReader(csvFile))) {
-      logger.info("Loading " + gameTypeName + " from: " + fullPath);
-
-      String[] header = reader.readNext();
-      if (header != null) {
-        logger.info("Header: " + String.join(", ", header));
+    try {
+      logger.info("Loading " + gameTypeName + " from: " + (binaryFile.isFile() ? fullPath : legacyCsvPath));
+      GameState gameState = binaryFile.isFile()
+          ? new GameStateBinaryCodec().read(fullPath)
+          : readCsvSave(csvFile);
+      if (gameState.getGameType() != GameType.UNSPECIFIED && gameState.getGameType() != gameType) {
+        showAlert(Alert.AlertType.INFORMATION, "No Save Found", "No Save For This Game",
+            "The last save is of another game.");
+        return;
       }
 
+      // Apply game-specific logic
+      stateHandler.accept(gameState);
+
+      showAlert(Alert.AlertType.INFORMATION, "Game Loaded", "Game Loaded Successfully",
+          "Your last saved " + gameTypeName + " has been loaded with "
+              + gameState.getPlayerPositions().size() + " players.");
+
+    } catch (Exception ex) {
+      showAlert(Alert.AlertType.ERROR, "Error", "Load Error",
+          "Could not load the game: " + ex.getMessage());
+      logger.log(Level.SEVERE, "Error loading " + gameTypeName, ex);
+    }
+  }
+
+  /**
+   * <p>Reads a save written in the CSV format used before the binary format.</p>
+   * <p>The CSV holds a header and one row per player with the name, ID, color and
+   * position. The current player was not saved, so the first player starts.</p>
+   */
+  private GameState readCsvSave(File csvFile) throws IOException, CsvValidationException {
+    try (CSVReader reader = new CSVReader(new FileReader(csvFile))) {
+      // Skip the header
+      reader.readNext();
+
       GameState gameState = new GameState();
       gameState.setCurrentPlayerIndex(0);
 
@@ -183,21 +545,24 @@ public class GameSaveLoadHandler {
       }
 
       gameState.setPlayerPositions(playerPositions);
-
-      // Apply game-specific logic
-      stateHandler.accept(gameState);
-
-      showAlert(Alert.AlertType.INFORMATION, "Game Loaded", "Game Loaded Successfully",
-          "Your last saved " + gameTypeName + " has been loaded from LastSave.csv with " +
-              playerPositions.size() + " players.");
-
-    } catch (Exception ex) {
-      showAlert(Alert.AlertType.ERROR, "Error", "Load Error",
-          "Could not load the game: " + ex.getMessage());
-      logger.log(Level.SEVERE, "Error loading " + gameTypeName, ex);
+      return gameState;
     }
   }
 
+  /**
+   * <p>Shows an information dialog without waiting for it to be closed.</p>
+   *
+   * @param title   The title of the dialog
+   * @param content The main content text of the dialog
+   */
+  private void showNotice(String title, String content) {
+    Alert alert = new Alert(Alert.AlertType.INFORMATION);
+    alert.setTitle(title);
+    alert.setHeaderText(title);
+    alert.setContentText(content);
+    alert.show();
+  }
+
   /**
    * <p>Shows an alert dialog with the specified properties.</p>
    * <p>This helper method creates and displays a JavaFX Alert dialog with
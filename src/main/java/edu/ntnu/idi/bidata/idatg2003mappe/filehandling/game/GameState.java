@@ -16,6 +16,7 @@ import java.util.List;
  *   <li>Game configuration settings (e.g., randomLadders)</li>
  *   <li>Positions of all players on the board</li>
  *   <li>Timestamp of when the state was saved</li>
+ *   <li>The {@link GameType} the state was saved from</li>
  * </ul>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
@@ -27,6 +28,7 @@ public class GameState {
   private boolean randomLadders;
   private List<PlayerPosition> playerPositions;
   private String saveTime;
+  private GameType gameType = GameType.UNSPECIFIED;
 
   /**
    * <p>Default constructor.</p>
@@ -127,6 +129,37 @@ public class GameState {
     this.saveTime = saveTime;
   }
 
+  /**
+   * <p>Gets the save time of the game state.</p>
+   *
+   * @return The save time as a string, or null if the state was never saved
+   */
+  public String getSaveTime() {
+    return saveTime;
+  }
+
+  /**
+   * <p>Gets the game the state was saved from.</p>
+   *
+   * @return The {@link GameType}, {@link GameType#UNSPECIFIED} if it is not known
+   */
+  public GameType getGameType() {
+    return gameType;
+  }
+
+  /**
+   * <p>Sets the game the state was saved from.</p>
+   *
+   * @param gameType The {@link GameType}
+   * @throws IllegalArgumentException If the game type is null
+   */
+  public void setGameType(GameType gameType) {
+    if (gameType == null) {
+      throw new IllegalArgumentException("Game type cannot be null.");
+    }
+    this.gameType = gameType;
+  }
+
   /**
    * <p>Inner class to represent a player's position on the board.</p>
    * <p>This class stores the essential information about a player that needs to be saved,
@@ -0,0 +1,58 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+/**
+ * <p>The game a {@link GameState} was saved from.</p>
+ * <p>Every type has a fixed code, so it can be stored in the header of binary saves and
+ * read back by later versions of the game.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public enum GameType {
+  /**
+   * The game is not known, as for states read from formats without a game type.
+   */
+  UNSPECIFIED(0),
+
+  /**
+   * The ladder game.
+   */
+  LADDER_GAME(1),
+
+  /**
+   * The Missing Diamond game.
+   */
+  MISSING_DIAMOND(2);
+
+  private static final GameType[] BY_CODE = values();
+
+  private final int code;
+
+  GameType(int code) {
+    this.code = code;
+  }
+
+  /**
+   * <p>Gets the code stored for this type.</p>
+   *
+   * @return The code
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * <p>Gets the type with a code.</p>
+   *
+   * @param code The stored code
+   * @return The type with the code
+   * @throws IllegalArgumentException If no type has the code
+   */
+  public static GameType fromCode(int code) {
+    if (code < 0 || code >= BY_CODE.length || BY_CODE[code].code != code) {
+      throw new IllegalArgumentException("Unknown game type " + code + ".");
+    }
+    return BY_CODE[code];
+  }
+}
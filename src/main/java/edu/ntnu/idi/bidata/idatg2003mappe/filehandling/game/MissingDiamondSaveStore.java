@@ -0,0 +1,205 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.AtomicFiles;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+/**
+ * <p>Saves {@link MissingDiamondSnapshot}s as a full snapshot followed by small deltas.</p>
+ * <p>The first save writes the full snapshot. Every later save writes only what changed
+ * since that snapshot to a delta file next to it, replacing the previous delta, so a save
+ * costs a few bytes per moved player and opened token however large the board is. Every
+ * {@link #getCompactionInterval()} saves, or when the delta grows to half the size of the
+ * snapshot, the save is compacted into a new full snapshot and the delta is removed.</p>
+ * <p>Loading reads the snapshot and applies the delta if it was written against that
+ * snapshot. A delta left over from an older snapshot, for example after a save was cut
+ * short between writing the snapshot and removing the delta, is ignored. Both files are
+ * replaced with {@link AtomicFiles}, so a save cut short never damages the last one.</p>
+ * <p>The store may be used from an {@link AutosaveService} writer thread and the user
+ * interface thread at the same time.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class MissingDiamondSaveStore {
+  /**
+   * The number of delta saves between full snapshots by default.
+   */
+  public static final int DEFAULT_COMPACTION_INTERVAL = 16;
+
+  private static final Logger logger = Logger.getLogger(MissingDiamondSaveStore.class.getName());
+
+  private final Path snapshotFile;
+  private final Path deltaFile;
+  private final int compactionInterval;
+
+  // The full snapshot on disk that deltas are written against
+  private MissingDiamondSnapshot base;
+  private long baseChecksum;
+  private int baseSize;
+  private int deltaSaves;
+
+  /**
+   * <p>Creates a store with the default compaction interval.</p>
+   *
+   * @param snapshotFile The file of the full snapshot; the delta is kept next to it
+   * @throws IllegalArgumentException If the file is null
+   */
+  public MissingDiamondSaveStore(Path snapshotFile) {
+    this(snapshotFile, DEFAULT_COMPACTION_INTERVAL);
+  }
+
+  /**
+   * <p>Creates a store.</p>
+   *
+   * @param snapshotFile       The file of the full snapshot; the delta is kept next to it
+   * @param compactionInterval The number of delta saves before a full snapshot is written
+   * @throws IllegalArgumentException If the file is null or the interval is not positive
+   */
+  public MissingDiamondSaveStore(Path snapshotFile, int compactionInterval) {
+    if (snapshotFile == null) {
+      throw new IllegalArgumentException("Snapshot file cannot be null.");
+    }
+    if (compactionInterval <= 0) {
+      throw new IllegalArgumentException("Compaction interval must be positive.");
+    }
+    this.snapshotFile = snapshotFile;
+    this.deltaFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".delta");
+    this.compactionInterval = compactionInterval;
+  }
+
+  /**
+   * <p>Saves a snapshot.</p>
+   *
+   * @param snapshot The snapshot to save
+   * @return {@code true} if a full snapshot was written, {@code false} if a delta was
+   * @throws IllegalArgumentException If the snapshot is null
+   * @throws FileHandlingException    If the save cannot be written
+   */
+  public synchronized boolean save(MissingDiamondSnapshot snapshot) throws FileHandlingException {
+    if (snapshot == null) {
+      throw new IllegalArgumentException("Snapshot cannot be null.");
+    }
+    if (base != null && deltaSaves < compactionInterval
+        && MissingDiamondSnapshotCodec.canEncodeDelta(base, snapshot)) {
+      byte[] delta = MissingDiamondSnapshotCodec.encodeDelta(base, baseChecksum, snapshot);
+      if (delta.length * 2 <= baseSize) {
+        write(deltaFile, delta);
+        deltaSaves++;
+        return false;
+      }
+    }
+    writeSnapshot(snapshot);
+    return true;
+  }
+
+  private void writeSnapshot(MissingDiamondSnapshot snapshot) throws FileHandlingException {
+    byte[] data = MissingDiamondSnapshotCodec.encode(snapshot);
+    write(snapshotFile, data);
+    try {
+      Files.deleteIfExists(deltaFile);
+    } catch (IOException e) {
+      // The delta names the old snapshot, so it is ignored when loading
+      logger.warning("Could not remove old delta save " + deltaFile + ": " + e.getMessage());
+    }
+    base = snapshot;
+    baseChecksum = MissingDiamondSnapshotCodec.checksum(data);
+    baseSize = data.length;
+    deltaSaves = 0;
+  }
+
+  /**
+   * <p>Loads the latest save.</p>
+   * <p>Later saves of this store are written as deltas against the loaded snapshot.</p>
+   *
+   * @return The saved snapshot with the latest delta applied
+   * @throws FileHandlingException If there is no save or it cannot be read
+   */
+  public synchronized MissingDiamondSnapshot load() throws FileHandlingException {
+    byte[] data = read(snapshotFile);
+    MissingDiamondSnapshot snapshot = MissingDiamondSnapshotCodec.decode(data);
+    long checksum = MissingDiamondSnapshotCodec.checksum(data);
+    MissingDiamondSnapshot latest = snapshot;
+    int deltas = 0;
+    if (Files.exists(deltaFile)) {
+      byte[] delta = read(deltaFile);
+      if (MissingDiamondSnapshotCodec.deltaBaseChecksum(delta) == checksum) {
+        latest = MissingDiamondSnapshotCodec.applyDelta(snapshot, checksum, delta);
+        deltas = 1;
+      } else {
+        logger.info("Ignoring delta save " + deltaFile + " of an older snapshot.");
+      }
+    }
+    base = snapshot;
+    baseChecksum = checksum;
+    baseSize = data.length;
+    deltaSaves = deltas;
+    return latest;
+  }
+
+  /**
+   * <p>Checks whether there is a save to load.</p>
+   *
+   * @return {@code true} if the snapshot file exists
+   */
+  public boolean exists() {
+    return Files.isRegularFile(snapshotFile);
+  }
+
+  /**
+   * <p>Gets the number of delta saves since the last full snapshot.</p>
+   *
+   * @return The delta save count
+   */
+  public synchronized int getDeltaSaveCount() {
+    return deltaSaves;
+  }
+
+  /**
+   * <p>Gets the number of delta saves before a full snapshot is written.</p>
+   *
+   * @return The compaction interval
+   */
+  public int getCompactionInterval() {
+    return compactionInterval;
+  }
+
+  /**
+   * <p>Gets the file of the full snapshot.</p>
+   *
+   * @return The snapshot file
+   */
+  public Path getSnapshotFile() {
+    return snapshotFile;
+  }
+
+  /**
+   * <p>Gets the file of the latest delta.</p>
+   *
+   * @return The delta file
+   */
+  public Path getDeltaFile() {
+    return deltaFile;
+  }
+
+  private static void write(Path file, byte[] data) throws FileHandlingException {
+    try {
+      AtomicFiles.write(file, data);
+    } catch (IOException e) {
+      throw new FileHandlingException("Error writing save to file: " + file, e);
+    }
+  }
+
+  private static byte[] read(Path file) throws FileHandlingException {
+    try {
+      return Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new FileHandlingException("Error reading file: " + file, e);
+    }
+  }
+}
@@ -0,0 +1,370 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.TokenSystem;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardGraph;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.Marker;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenCatalog;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenType;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>The complete state of a {@link MissingDiamond} game at one point in time.</p>
+ * <p>Unlike {@link GameState}, which only keeps player positions, a snapshot keeps
+ * everything needed to continue the game where it was left:</p>
+ * <ul>
+ *   <li>The name, ID, color, tile, balance, skip flag and inventory of every player</li>
+ *   <li>The token on every tile, and which tiles have had their token revealed</li>
+ *   <li>The current player, their roll, and whether they are deciding on a token</li>
+ *   <li>Whether the diamond has been found, and who has won</li>
+ * </ul>
+ * <p>Tokens are kept as one number per tile of the board graph, referring to a table of
+ * token type names, so a snapshot of a large board stays small and two snapshots of the
+ * same game can be compared tile by tile. {@link MissingDiamondSaveStore} writes snapshots
+ * to disk, with later saves as deltas against the last full snapshot.</p>
+ * <p>Snapshots are immutable.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class MissingDiamondSnapshot {
+  // Tile states below FIRST_TYPE; a state of FIRST_TYPE + k is a hidden token of type k
+  static final int NO_TOKEN = 0;
+  static final int REVEALED = 1;
+  static final int FIRST_TYPE = 2;
+
+  final int currentPlayerIndex;
+  final int currentRoll;
+  final int winnerIndex;
+  final boolean gameFinished;
+  final boolean diamondFound;
+  final boolean awaitingTokenDecision;
+  final PlayerRecord[] players;
+  final String[] tokenTypes;
+  final int[] tileStates;
+
+  MissingDiamondSnapshot(int currentPlayerIndex, int currentRoll, int winnerIndex,
+                         boolean gameFinished, boolean diamondFound,
+                         boolean awaitingTokenDecision, PlayerRecord[] players,
+                         String[] tokenTypes, int[] tileStates) {
+    this.currentPlayerIndex = currentPlayerIndex;
+    this.currentRoll = currentRoll;
+    this.winnerIndex = winnerIndex;
+    this.gameFinished = gameFinished;
+    this.diamondFound = diamondFound;
+    this.awaitingTokenDecision = awaitingTokenDecision;
+    this.players = players;
+    this.tokenTypes = tokenTypes;
+    this.tileStates = tileStates;
+  }
+
+  /**
+   * <p>Captures the state of a game between turns or while a player is moving.</p>
+   *
+   * @param game The game to capture
+   * @return The snapshot
+   * @throws IllegalArgumentException If the game is null
+   */
+  public static MissingDiamondSnapshot capture(MissingDiamond game) {
+    return capture(game, false);
+  }
+
+  /**
+   * <p>Captures the state of a game.</p>
+   *
+   * @param game                  The game to capture
+   * @param awaitingTokenDecision Whether the current player has landed on a token and not
+   *                              yet decided whether to open it
+   * @return The snapshot
+   * @throws IllegalArgumentException If the game is null
+   */
+  public static MissingDiamondSnapshot capture(MissingDiamond game, boolean awaitingTokenDecision) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null.");
+    }
+    List<Player> gamePlayers = game.getPlayers();
+    Banker banker = game.getBanker();
+    PlayerRecord[] records = new PlayerRecord[gamePlayers.size()];
+    for (int seat = 0; seat < records.length; seat++) {
+      Player player = gamePlayers.get(seat);
+      String[] inventory = player.getInventory().toArray(new String[0]);
+      Arrays.sort(inventory);
+      Tile tile = player.getCurrentTile();
+      records[seat] = new PlayerRecord(player.getName(), player.getColor(), player.getID(),
+          tile != null ? tile.getTileId() : -1, banker.getBalance(player),
+          player.isSkipTurn(), inventory);
+    }
+
+    // The table starts with the types of the catalog, so every capture of a game uses the same one
+    Map<String, Integer> typeIndex = new LinkedHashMap<>();
+    game.getTokenCatalog().getTypes().forEach(type -> typeIndex.putIfAbsent(type.getName(), typeIndex.size()));
+    typeIndex.putIfAbsent(TokenType.BLANK.getName(), typeIndex.size());
+
+    TokenSystem tokenSystem = game.getTokenSystem();
+    BoardGraph graph = tokenSystem.getGraph();
+    int[] states = new int[graph.size()];
+    tokenSystem.getRevealedTiles().stream().forEach(index -> states[index] = REVEALED);
+    tokenSystem.getTokenTiles().stream().forEach(index -> {
+      Marker token = tokenSystem.getTokenAtTile(graph.getTile(index));
+      Integer type = typeIndex.computeIfAbsent(token.getType(), name -> typeIndex.size());
+      states[index] = FIRST_TYPE + type;
+    });
+
+    return new MissingDiamondSnapshot(game.getCurrentPlayerIndex(), game.getCurrentRoll(),
+        gamePlayers.indexOf(game.getWinner()), game.isGameFinished(),
+        tokenSystem.isDiamondFound(), awaitingTokenDecision, records,
+        typeIndex.keySet().toArray(new String[0]), states);
+  }
+
+  /**
+   * <p>Restores this state on a game.</p>
+   * <p>The game must be played on the same board, with the same number of players and
+   * a token catalog that knows every token type of the snapshot, such as a new game of
+   * the same map. Everything is checked before the game is changed, so a snapshot that
+   * does not fit leaves the game as it was.</p>
+   *
+   * @param game The game to restore
+   * @throws IllegalArgumentException If the game is null or does not fit the snapshot
+   */
+  public void restore(MissingDiamond game) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null.");
+    }
+    List<Player> gamePlayers = game.getPlayers();
+    if (gamePlayers.size() != players.length) {
+      throw new IllegalArgumentException("Snapshot has " + players.length
+          + " players, but the game has " + gamePlayers.size() + ".");
+    }
+    TokenSystem tokenSystem = game.getTokenSystem();
+    BoardGraph graph = tokenSystem.getGraph();
+    if (graph.size() != tileStates.length) {
+      throw new IllegalArgumentException("Snapshot was taken on a different board.");
+    }
+
+    if (currentPlayerIndex < 0 || currentPlayerIndex >= players.length
+        || winnerIndex >= players.length) {
+      throw new IllegalArgumentException("Snapshot has an invalid turn.");
+    }
+
+    // Resolve everything first
+    Banker banker = game.getBanker();
+    Tile[] tiles = new Tile[players.length];
+    int[] slots = new int[players.length];
+    for (int seat = 0; seat < players.length; seat++) {
+      tiles[seat] = game.getBoard().getTileById(players[seat].tileId);
+      if (tiles[seat] == null) {
+        throw new IllegalArgumentException("Tile " + players[seat].tileId + " is not on the board.");
+      }
+      slots[seat] = banker.getAccountSlot(gamePlayers.get(seat));
+      if (slots[seat] < 0 || players[seat].balance < 0) {
+        throw new IllegalArgumentException("Player " + seat + " has no valid bank account.");
+      }
+    }
+    TokenType[] types = resolveTypes(game.getTokenCatalog());
+    Marker[] tokens = new Marker[tileStates.length];
+    BitSet revealed = new BitSet(tileStates.length);
+    for (int index = 0; index < tileStates.length; index++) {
+      int state = tileStates[index];
+      if (state == REVEALED) {
+        revealed.set(index);
+      } else if (state >= FIRST_TYPE) {
+        tokens[index] = types[state - FIRST_TYPE].createMarker();
+      }
+    }
+
+    for (int seat = 0; seat < players.length; seat++) {
+      PlayerRecord record = players[seat];
+      Player player = gamePlayers.get(seat);
+      player.setName(record.name);
+      player.setColor(record.color);
+      player.setID(record.id);
+      player.placePlayer(tiles[seat]);
+      player.setSkipTurn(record.skipTurn);
+      player.setInventory(Arrays.asList(record.inventory));
+      banker.getLedger().setBalance(slots[seat], record.balance, TransactionKind.OPENING);
+    }
+    tokenSystem.restoreTokens(tokens, revealed, diamondFound);
+    game.restoreTurn(currentPlayerIndex, currentRoll, gameFinished,
+        winnerIndex >= 0 ? gamePlayers.get(winnerIndex) : null);
+  }
+
+  private TokenType[] resolveTypes(TokenCatalog catalog) {
+    TokenType[] types = new TokenType[tokenTypes.length];
+    for (int i = 0; i < types.length; i++) {
+      TokenType type = catalog.getType(tokenTypes[i]);
+      if (type == null && TokenType.BLANK.getName().equals(tokenTypes[i])) {
+        type = TokenType.BLANK;
+      }
+      types[i] = type;
+    }
+    for (int state : tileStates) {
+      if (state >= FIRST_TYPE && types[state - FIRST_TYPE] == null) {
+        throw new IllegalArgumentException("Unknown token type " + tokenTypes[state - FIRST_TYPE] + ".");
+      }
+    }
+    return types;
+  }
+
+  /**
+   * <p>Gets the index of the current player.</p>
+   *
+   * @return The index of the current player
+   */
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * <p>Gets the roll of the current player.</p>
+   *
+   * @return The roll, or 0 if the current player has not rolled
+   */
+  public int getCurrentRoll() {
+    return currentRoll;
+  }
+
+  /**
+   * <p>Gets whether the current player is deciding whether to open a token.</p>
+   *
+   * @return True if a token decision is pending
+   */
+  public boolean isAwaitingTokenDecision() {
+    return awaitingTokenDecision;
+  }
+
+  /**
+   * <p>Gets whether the game was finished.</p>
+   *
+   * @return True if the game was finished
+   */
+  public boolean isGameFinished() {
+    return gameFinished;
+  }
+
+  /**
+   * <p>Gets the number of players.</p>
+   *
+   * @return The player count
+   */
+  public int getPlayerCount() {
+    return players.length;
+  }
+
+  /**
+   * <p>Gets the tile a player stood on.</p>
+   *
+   * @param seat The index of the player
+   * @return The tile ID
+   * @throws IndexOutOfBoundsException If there is no player at the index
+   */
+  public int getTileId(int seat) {
+    return players[seat].tileId;
+  }
+
+  /**
+   * <p>Gets the balance of a player.</p>
+   *
+   * @param seat The index of the player
+   * @return The balance
+   * @throws IndexOutOfBoundsException If there is no player at the index
+   */
+  public int getBalance(int seat) {
+    return players[seat].balance;
+  }
+
+  /**
+   * <p>Gets the number of tokens still face down.</p>
+   *
+   * @return The hidden token count
+   */
+  public int getHiddenTokenCount() {
+    int count = 0;
+    for (int state : tileStates) {
+      if (state >= FIRST_TYPE) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof MissingDiamondSnapshot other)) {
+      return false;
+    }
+    return currentPlayerIndex == other.currentPlayerIndex
+        && currentRoll == other.currentRoll
+        && winnerIndex == other.winnerIndex
+        && gameFinished == other.gameFinished
+        && diamondFound == other.diamondFound
+        && awaitingTokenDecision == other.awaitingTokenDecision
+        && Arrays.equals(players, other.players)
+        && Arrays.equals(tokenTypes, other.tokenTypes)
+        && Arrays.equals(tileStates, other.tileStates);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Objects.hash(currentPlayerIndex, currentRoll, winnerIndex, gameFinished,
+        diamondFound, awaitingTokenDecision);
+    result = 31 * result + Arrays.hashCode(players);
+    result = 31 * result + Arrays.hashCode(tokenTypes);
+    return 31 * result + Arrays.hashCode(tileStates);
+  }
+
+  /**
+   * <p>The saved state of one player.</p>
+   */
+  static final class PlayerRecord {
+    final String name;
+    final String color;
+    final int id;
+    final int tileId;
+    final int balance;
+    final boolean skipTurn;
+    final String[] inventory;
+
+    PlayerRecord(String name, String color, int id, int tileId, int balance, boolean skipTurn,
+                 String[] inventory) {
+      this.name = name;
+      this.color = color;
+      this.id = id;
+      this.tileId = tileId;
+      this.balance = balance;
+      this.skipTurn = skipTurn;
+      this.inventory = inventory;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PlayerRecord other)) {
+        return false;
+      }
+      return id == other.id && tileId == other.tileId && balance == other.balance
+          && skipTurn == other.skipTurn && Objects.equals(name, other.name)
+          && Objects.equals(color, other.color) && Arrays.equals(inventory, other.inventory);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hash(name, color, id, tileId, balance, skipTurn) + Arrays.hashCode(inventory);
+    }
+  }
+}
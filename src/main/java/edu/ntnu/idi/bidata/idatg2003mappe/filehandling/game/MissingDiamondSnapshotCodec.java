@@ -0,0 +1,389 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game.MissingDiamondSnapshot.PlayerRecord;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * <p>Binary encoding of {@link MissingDiamondSnapshot}s, in full and as deltas.</p>
+ * <p>A full snapshot holds every player, the token type table and the tiles that hold or
+ * held a token, each tile as the distance from the previous one and its state. A delta
+ * holds the turn, the changed fields of the players that changed and the tiles that
+ * changed since a base snapshot, and names that base by the CRC-32 of its encoding, so a delta is never
+ * applied to the wrong snapshot. Deltas are only possible between snapshots of the same
+ * game, with the same players, board and token type table.</p>
+ * <p>Both formats use the variable-length integers of {@link GameStateBinaryCodec}.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+final class MissingDiamondSnapshotCodec {
+  static final int SNAPSHOT_MAGIC = 0x4D44534E;
+  static final int DELTA_MAGIC = 0x4D44444C;
+  static final byte SCHEMA_VERSION = 1;
+
+  private static final int FLAG_GAME_FINISHED = 1;
+  private static final int FLAG_DIAMOND_FOUND = 1 << 1;
+  private static final int FLAG_TOKEN_DECISION = 1 << 2;
+
+  // Fields of a player that changed in a delta
+  private static final int CHANGED_NAME = 1;
+  private static final int CHANGED_COLOR = 1 << 1;
+  private static final int CHANGED_ID = 1 << 2;
+  private static final int CHANGED_TILE = 1 << 3;
+  private static final int CHANGED_BALANCE = 1 << 4;
+  private static final int CHANGED_SKIP_TURN = 1 << 5;
+  private static final int CHANGED_INVENTORY = 1 << 6;
+
+  private MissingDiamondSnapshotCodec() {
+  }
+
+  /**
+   * <p>Encodes a full snapshot.</p>
+   */
+  static byte[] encode(MissingDiamondSnapshot snapshot) {
+    BinaryOutput out = new BinaryOutput(64 + snapshot.players.length * 32);
+    out.writeInt(SNAPSHOT_MAGIC);
+    out.writeByte(SCHEMA_VERSION);
+    writeTurn(out, snapshot);
+    out.writeVarint(snapshot.players.length);
+    for (PlayerRecord player : snapshot.players) {
+      writePlayer(out, player);
+    }
+    out.writeVarint(snapshot.tokenTypes.length);
+    for (String type : snapshot.tokenTypes) {
+      out.writeString(type);
+    }
+    out.writeVarint(snapshot.tileStates.length);
+    int[] states = snapshot.tileStates;
+    int used = 0;
+    for (int state : states) {
+      if (state != MissingDiamondSnapshot.NO_TOKEN) {
+        used++;
+      }
+    }
+    out.writeVarint(used);
+    int previous = -1;
+    for (int index = 0; index < states.length; index++) {
+      if (states[index] != MissingDiamondSnapshot.NO_TOKEN) {
+        out.writeVarint(index - previous - 1);
+        out.writeVarint(states[index]);
+        previous = index;
+      }
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * <p>Decodes a full snapshot.</p>
+   */
+  static MissingDiamondSnapshot decode(byte[] data) throws FileHandlingException {
+    BinaryInput in = new BinaryInput(data);
+    readHeader(in, SNAPSHOT_MAGIC, "snapshot");
+    int flags = in.readByte();
+    int currentPlayerIndex = in.readSignedVarint();
+    int currentRoll = in.readVarint();
+    int winnerIndex = in.readSignedVarint();
+
+    PlayerRecord[] players = new PlayerRecord[in.readCount(7)];
+    for (int seat = 0; seat < players.length; seat++) {
+      players[seat] = readPlayer(in);
+    }
+    String[] tokenTypes = new String[in.readCount(1)];
+    for (int i = 0; i < tokenTypes.length; i++) {
+      tokenTypes[i] = in.readString();
+    }
+    int tileCount = in.readVarint();
+    if (tileCount < 0) {
+      throw new FileHandlingException("Invalid save: bad tile count " + tileCount + ".");
+    }
+    int[] states = new int[tileCount];
+    int used = in.readCount(2);
+    int index = -1;
+    for (int i = 0; i < used; i++) {
+      index = readTileIndex(in, index, tileCount);
+      states[index] = readTileState(in, tokenTypes.length);
+    }
+    MissingDiamondSnapshot snapshot = new MissingDiamondSnapshot(currentPlayerIndex, currentRoll,
+        winnerIndex, (flags & FLAG_GAME_FINISHED) != 0, (flags & FLAG_DIAMOND_FOUND) != 0,
+        (flags & FLAG_TOKEN_DECISION) != 0, players, tokenTypes, states);
+    checkTurn(snapshot);
+    return snapshot;
+  }
+
+  /**
+   * <p>Gets the checksum that deltas use to name their base.</p>
+   */
+  static long checksum(byte[] encodedSnapshot) {
+    CRC32 crc = new CRC32();
+    crc.update(encodedSnapshot);
+    return crc.getValue();
+  }
+
+  /**
+   * <p>Checks whether a snapshot can be saved as a delta against a base.</p>
+   */
+  static boolean canEncodeDelta(MissingDiamondSnapshot base, MissingDiamondSnapshot current) {
+    return base.players.length == current.players.length
+        && base.tileStates.length == current.tileStates.length
+        && Arrays.equals(base.tokenTypes, current.tokenTypes);
+  }
+
+  /**
+   * <p>Encodes the changes from a base snapshot to a later snapshot of the same game.</p>
+   *
+   * @throws IllegalArgumentException If the snapshots are not of the same game
+   */
+  static byte[] encodeDelta(MissingDiamondSnapshot base, long baseChecksum,
+                            MissingDiamondSnapshot current) {
+    if (!canEncodeDelta(base, current)) {
+      throw new IllegalArgumentException("Snapshots are not of the same game.");
+    }
+    BinaryOutput out = new BinaryOutput(64);
+    out.writeInt(DELTA_MAGIC);
+    out.writeByte(SCHEMA_VERSION);
+    out.writeInt((int) (baseChecksum >>> 32));
+    out.writeInt((int) baseChecksum);
+    writeTurn(out, current);
+
+    int changedPlayers = 0;
+    for (int seat = 0; seat < current.players.length; seat++) {
+      if (!current.players[seat].equals(base.players[seat])) {
+        changedPlayers++;
+      }
+    }
+    out.writeVarint(changedPlayers);
+    for (int seat = 0; seat < current.players.length; seat++) {
+      if (!current.players[seat].equals(base.players[seat])) {
+        out.writeVarint(seat);
+        writePlayerChanges(out, base.players[seat], current.players[seat]);
+      }
+    }
+
+    int[] before = base.tileStates;
+    int[] after = current.tileStates;
+    int changedTiles = 0;
+    for (int index = 0; index < after.length; index++) {
+      if (before[index] != after[index]) {
+        changedTiles++;
+      }
+    }
+    out.writeVarint(changedTiles);
+    int previous = -1;
+    for (int index = 0; index < after.length; index++) {
+      if (before[index] != after[index]) {
+        out.writeVarint(index - previous - 1);
+        out.writeVarint(after[index]);
+        previous = index;
+      }
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * <p>Reads the checksum of the base a delta was written against.</p>
+   */
+  static long deltaBaseChecksum(byte[] delta) throws FileHandlingException {
+    BinaryInput in = new BinaryInput(delta);
+    readHeader(in, DELTA_MAGIC, "delta");
+    return readChecksum(in);
+  }
+
+  /**
+   * <p>Applies a delta to the base snapshot it was written against.</p>
+   *
+   * @throws FileHandlingException If the delta is invalid or was written against another base
+   */
+  static MissingDiamondSnapshot applyDelta(MissingDiamondSnapshot base, long baseChecksum,
+                                           byte[] delta) throws FileHandlingException {
+    BinaryInput in = new BinaryInput(delta);
+    readHeader(in, DELTA_MAGIC, "delta");
+    if (readChecksum(in) != baseChecksum) {
+      throw new FileHandlingException("Delta save belongs to another snapshot.");
+    }
+    int flags = in.readByte();
+    int currentPlayerIndex = in.readSignedVarint();
+    int currentRoll = in.readVarint();
+    int winnerIndex = in.readSignedVarint();
+
+    PlayerRecord[] players = base.players.clone();
+    int changedPlayers = in.readCount(2);
+    for (int i = 0; i < changedPlayers; i++) {
+      int seat = in.readVarint();
+      if (seat < 0 || seat >= players.length) {
+        throw new FileHandlingException("Invalid save: no player " + seat + ".");
+      }
+      players[seat] = readPlayerChanges(in, players[seat]);
+    }
+
+    int[] states = base.tileStates.clone();
+    int changedTiles = in.readCount(2);
+    int index = -1;
+    for (int i = 0; i < changedTiles; i++) {
+      index = readTileIndex(in, index, states.length);
+      states[index] = readTileState(in, base.tokenTypes.length);
+    }
+    MissingDiamondSnapshot snapshot = new MissingDiamondSnapshot(currentPlayerIndex, currentRoll,
+        winnerIndex, (flags & FLAG_GAME_FINISHED) != 0, (flags & FLAG_DIAMOND_FOUND) != 0,
+        (flags & FLAG_TOKEN_DECISION) != 0, players, base.tokenTypes, states);
+    checkTurn(snapshot);
+    return snapshot;
+  }
+
+  private static void writeTurn(BinaryOutput out, MissingDiamondSnapshot snapshot) {
+    int flags = 0;
+    if (snapshot.gameFinished) {
+      flags |= FLAG_GAME_FINISHED;
+    }
+    if (snapshot.diamondFound) {
+      flags |= FLAG_DIAMOND_FOUND;
+    }
+    if (snapshot.awaitingTokenDecision) {
+      flags |= FLAG_TOKEN_DECISION;
+    }
+    out.writeByte(flags);
+    out.writeSignedVarint(snapshot.currentPlayerIndex);
+    out.writeVarint(snapshot.currentRoll);
+    out.writeSignedVarint(snapshot.winnerIndex);
+  }
+
+  private static void writePlayer(BinaryOutput out, PlayerRecord player) {
+    out.writeString(player.name);
+    out.writeString(player.color);
+    out.writeSignedVarint(player.id);
+    out.writeSignedVarint(player.tileId);
+    out.writeSignedVarint(player.balance);
+    out.writeByte(player.skipTurn ? 1 : 0);
+    writeInventory(out, player.inventory);
+  }
+
+  private static void writePlayerChanges(BinaryOutput out, PlayerRecord before, PlayerRecord after) {
+    int changed = 0;
+    if (!Objects.equals(before.name, after.name)) {
+      changed |= CHANGED_NAME;
+    }
+    if (!Objects.equals(before.color, after.color)) {
+      changed |= CHANGED_COLOR;
+    }
+    if (before.id != after.id) {
+      changed |= CHANGED_ID;
+    }
+    if (before.tileId != after.tileId) {
+      changed |= CHANGED_TILE;
+    }
+    if (before.balance != after.balance) {
+      changed |= CHANGED_BALANCE;
+    }
+    if (before.skipTurn != after.skipTurn) {
+      changed |= CHANGED_SKIP_TURN;
+    }
+    if (!Arrays.equals(before.inventory, after.inventory)) {
+      changed |= CHANGED_INVENTORY;
+    }
+    out.writeByte(changed);
+    if ((changed & CHANGED_NAME) != 0) {
+      out.writeString(after.name);
+    }
+    if ((changed & CHANGED_COLOR) != 0) {
+      out.writeString(after.color);
+    }
+    if ((changed & CHANGED_ID) != 0) {
+      out.writeSignedVarint(after.id);
+    }
+    if ((changed & CHANGED_TILE) != 0) {
+      out.writeSignedVarint(after.tileId);
+    }
+    if ((changed & CHANGED_BALANCE) != 0) {
+      out.writeSignedVarint(after.balance);
+    }
+    if ((changed & CHANGED_SKIP_TURN) != 0) {
+      out.writeByte(after.skipTurn ? 1 : 0);
+    }
+    if ((changed & CHANGED_INVENTORY) != 0) {
+      writeInventory(out, after.inventory);
+    }
+  }
+
+  private static PlayerRecord readPlayerChanges(BinaryInput in, PlayerRecord before)
+      throws FileHandlingException {
+    int changed = in.readByte();
+    String name = (changed & CHANGED_NAME) != 0 ? in.readString() : before.name;
+    String color = (changed & CHANGED_COLOR) != 0 ? in.readString() : before.color;
+    int id = (changed & CHANGED_ID) != 0 ? in.readSignedVarint() : before.id;
+    int tileId = (changed & CHANGED_TILE) != 0 ? in.readSignedVarint() : before.tileId;
+    int balance = (changed & CHANGED_BALANCE) != 0 ? in.readSignedVarint() : before.balance;
+    boolean skipTurn = (changed & CHANGED_SKIP_TURN) != 0 ? in.readByte() != 0 : before.skipTurn;
+    String[] inventory = (changed & CHANGED_INVENTORY) != 0 ? readInventory(in) : before.inventory;
+    return new PlayerRecord(name, color, id, tileId, balance, skipTurn, inventory);
+  }
+
+  private static void writeInventory(BinaryOutput out, String[] inventory) {
+    out.writeVarint(inventory.length);
+    for (String item : inventory) {
+      out.writeString(item);
+    }
+  }
+
+  private static String[] readInventory(BinaryInput in) throws FileHandlingException {
+    String[] inventory = new String[in.readCount(1)];
+    for (int i = 0; i < inventory.length; i++) {
+      inventory[i] = in.readString();
+    }
+    return inventory;
+  }
+
+  private static PlayerRecord readPlayer(BinaryInput in) throws FileHandlingException {
+    String name = in.readString();
+    String color = in.readString();
+    int id = in.readSignedVarint();
+    int tileId = in.readSignedVarint();
+    int balance = in.readSignedVarint();
+    boolean skipTurn = in.readByte() != 0;
+    String[] inventory = readInventory(in);
+    return new PlayerRecord(name, color, id, tileId, balance, skipTurn, inventory);
+  }
+
+  private static int readTileIndex(BinaryInput in, int previous, int tileCount)
+      throws FileHandlingException {
+    long index = (long) previous + 1 + (in.readVarint() & 0xFFFFFFFFL);
+    if (index >= tileCount) {
+      throw new FileHandlingException("Invalid save: no tile " + index + ".");
+    }
+    return (int) index;
+  }
+
+  private static int readTileState(BinaryInput in, int typeCount) throws FileHandlingException {
+    int state = in.readVarint();
+    if (state < 0 || state >= MissingDiamondSnapshot.FIRST_TYPE + typeCount) {
+      throw new FileHandlingException("Invalid save: bad tile state " + state + ".");
+    }
+    return state;
+  }
+
+  private static void readHeader(BinaryInput in, int magic, String kind) throws FileHandlingException {
+    if (in.remaining() < 5 || in.readInt() != magic) {
+      throw new FileHandlingException("Not a Missing Diamond " + kind + " save.");
+    }
+    int version = in.readByte();
+    if (version < 1 || version > SCHEMA_VERSION) {
+      throw new FileHandlingException("Unsupported " + kind + " schema version " + version + ".");
+    }
+  }
+
+  private static long readChecksum(BinaryInput in) throws FileHandlingException {
+    return (in.readInt() & 0xFFFFFFFFL) << 32 | (in.readInt() & 0xFFFFFFFFL);
+  }
+
+  private static void checkTurn(MissingDiamondSnapshot snapshot) throws FileHandlingException {
+    int playerCount = snapshot.players.length;
+    if (snapshot.currentPlayerIndex < 0 || snapshot.currentPlayerIndex >= Math.max(playerCount, 1)
+        || snapshot.winnerIndex < -1 || snapshot.winnerIndex >= playerCount
+        || snapshot.currentRoll < 0) {
+      throw new FileHandlingException("Invalid save: bad turn.");
+    }
+  }
+}
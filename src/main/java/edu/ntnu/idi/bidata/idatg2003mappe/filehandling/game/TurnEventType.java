@@ -0,0 +1,69 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+/**
+ * <p>The kinds of events recorded in a {@link TurnJournal}.</p>
+ * <p>Every type has a fixed code, so it can be stored in the journal and read back by
+ * later versions of the game.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public enum TurnEventType {
+  /**
+   * The die was rolled. The value is the roll.
+   */
+  ROLL(0),
+
+  /**
+   * A player was placed on a tile. The value is the tile ID.
+   */
+  MOVE(1),
+
+  /**
+   * A balance changed. The player is the account slot, the value is the change and the
+   * kind is the transaction kind.
+   */
+  PAYOUT(2),
+
+  /**
+   * The turn passed to a player.
+   */
+  TURN_CHANGED(3),
+
+  /**
+   * The game was won by a player.
+   */
+  GAME_ENDED(4);
+
+  private static final TurnEventType[] BY_CODE = values();
+
+  private final int code;
+
+  TurnEventType(int code) {
+    this.code = code;
+  }
+
+  /**
+   * <p>Gets the code stored for this type.</p>
+   *
+   * @return The code
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * <p>Gets the type with a code.</p>
+   *
+   * @param code The stored code
+   * @return The type with the code
+   * @throws IllegalArgumentException If no type has the code
+   */
+  public static TurnEventType fromCode(int code) {
+    if (code < 0 || code >= BY_CODE.length || BY_CODE[code].code != code) {
+      throw new IllegalArgumentException("Unknown turn event " + code + ".");
+    }
+    return BY_CODE[code];
+  }
+}
@@ -0,0 +1,406 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.common.observer.BoardGameObserver;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.LadderGameController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller.MissingDiamondController;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Ledger;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.LedgerListener;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.die.DieObserver;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.PlayerObserver;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * <p>Append-only journal of the events of a game, used to recover the game after a crash.</p>
+ * <p>The journal starts with a checkpoint of the game and then records every die roll,
+ * player move, balance change, turn change and the end of the game, as reported by the
+ * observers of the die, the players, the bank ledger and the game controller. Events are
+ * kept in memory during a turn and handed to a background writer thread when the turn
+ * ends, which appends them to the file as one batch followed by a single sync. A turn
+ * costs a few bytes and one disk flush however large the game is, and the game never
+ * waits for the disk.</p>
+ * <p>The file starts with a {@value #HEADER_SIZE} byte header:</p>
+ * <ul>
+ *   <li>The magic number {@link #MAGIC} (<code>int</code>)</li>
+ *   <li>The format version (<code>byte</code>)</li>
+ *   <li>The {@link GameType} code (<code>byte</code>)</li>
+ * </ul>
+ * <p>It is followed by frames of a payload length (<code>int</code>), the CRC-32 of the
+ * payload (<code>int</code>) and the payload. The first frame holds the checkpoint and
+ * every later frame a batch of events, so a batch cut short by a crash is recognised and
+ * ignored. Use {@link TurnJournalReader} to read a journal and {@link TurnJournalReplayer}
+ * to rebuild the game from it.</p>
+ * <p>A Missing Diamond journal listens to the game's bank {@link Ledger} until it is
+ * closed, and records the balance after every payout so the replay can check it.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class TurnJournal implements BoardGameObserver, Closeable {
+  /**
+   * Identifies a turn journal file.
+   */
+  public static final int MAGIC = 0x544A4E4C;
+
+  /**
+   * The version of the file format.
+   */
+  public static final byte VERSION = 2;
+
+  /**
+   * The size of the file header in bytes.
+   */
+  public static final int HEADER_SIZE = 6;
+
+  // Payload length and checksum in front of every frame
+  static final int FRAME_HEADER_SIZE = 8;
+
+  private static final Logger logger = Logger.getLogger(TurnJournal.class.getName());
+  private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+  private final Path file;
+  private final FileChannel channel;
+  private final List<Player> players;
+  private final BinaryOutput batch = new BinaryOutput(64);
+  private final CRC32 crc = new CRC32();
+  private final DieObserver dieObserver = this::recordRoll;
+  private final PlayerObserver playerObserver = this::recordMove;
+  private final LedgerListener ledgerListener = this::recordPayout;
+  private final ExecutorService writer;
+  private final AtomicLong batchCount = new AtomicLong();
+  private Runnable detach = () -> {
+  };
+  private long eventCount;
+  private volatile boolean failed;
+  private boolean closed;
+
+  private TurnJournal(Path file, GameType gameType, byte[] checkpoint, List<Player> players)
+      throws FileHandlingException {
+    this.file = file;
+    this.players = List.copyOf(players);
+    try {
+      Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (IOException e) {
+      throw new FileHandlingException("Could not open turn journal " + file + ".", e);
+    }
+    writer = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "turn-journal-writer");
+      // A batch being written must not keep the game from exiting
+      thread.setDaemon(true);
+      return thread;
+    });
+    writer.execute(() -> writeCheckpoint(gameType, checkpoint));
+  }
+
+  /**
+   * <p>Starts a journal of a ladder game, replacing any journal in the file.</p>
+   * <p>The checkpoint holds the board layout, the positions and the current player, so
+   * the journal can be started at any point of the game.</p>
+   *
+   * @param file       The journal file
+   * @param controller The controller of the game to record
+   * @return The started journal
+   * @throws IllegalArgumentException If the file or the controller is null
+   * @throws FileHandlingException    If the journal file cannot be created
+   */
+  public static TurnJournal start(Path file, LadderGameController controller) throws FileHandlingException {
+    if (file == null || controller == null) {
+      throw new IllegalArgumentException("Journal file and controller cannot be null.");
+    }
+    TurnJournal journal = new TurnJournal(file, GameType.LADDER_GAME,
+        TurnJournalReplayer.encodeLadderCheckpoint(controller), controller.getPlayers());
+    controller.addObserver(journal);
+    controller.getDie().addObserver(journal.dieObserver);
+    journal.observePlayers();
+    journal.detach = () -> {
+      controller.removeObserver(journal);
+      controller.getDie().removeObserver(journal.dieObserver);
+    };
+    return journal;
+  }
+
+  /**
+   * <p>Starts a journal of a Missing Diamond game, replacing any journal in the file.</p>
+   * <p>The checkpoint is a complete {@link MissingDiamondSnapshot}, so the token layout is
+   * known when the journal is replayed.</p>
+   *
+   * @param file       The journal file
+   * @param controller The controller of the game to record
+   * @return The started journal
+   * @throws IllegalArgumentException If the file or the controller is null
+   * @throws FileHandlingException    If the journal file cannot be created
+   */
+  public static TurnJournal start(Path file, MissingDiamondController controller) throws FileHandlingException {
+    if (file == null || controller == null) {
+      throw new IllegalArgumentException("Journal file and controller cannot be null.");
+    }
+    TurnJournal journal = new TurnJournal(file, GameType.MISSING_DIAMOND,
+        MissingDiamondSnapshotCodec.encode(controller.createSnapshot()), controller.getPlayers());
+    Ledger ledger = controller.getBanker().getLedger();
+    controller.addObserver(journal);
+    controller.getDie().addObserver(journal.dieObserver);
+    ledger.addListener(journal.ledgerListener);
+    journal.observePlayers();
+    journal.detach = () -> {
+      controller.removeObserver(journal);
+      controller.getDie().removeObserver(journal.dieObserver);
+      ledger.removeListener(journal.ledgerListener);
+    };
+    return journal;
+  }
+
+  private void observePlayers() {
+    players.forEach(player -> player.addObserver(playerObserver));
+  }
+
+  private synchronized void recordRoll(int value) {
+    if (begin(TurnEventType.ROLL)) {
+      batch.writeVarint(value);
+    }
+  }
+
+  private synchronized void recordMove(Player player, Tile oldTile, Tile newTile) {
+    int index = players.indexOf(player);
+    if (newTile != null && index >= 0 && begin(TurnEventType.MOVE)) {
+      batch.writeVarint(index);
+      batch.writeVarint(newTile.getTileId());
+    }
+  }
+
+  private synchronized void recordPayout(int slot, TransactionKind kind, int change, int balanceAfter) {
+    if (begin(TurnEventType.PAYOUT)) {
+      batch.writeVarint(slot);
+      batch.writeSignedVarint(change);
+      batch.writeVarint(kind.getCode());
+      batch.writeVarint(balanceAfter);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>Moves are recorded from the players themselves, which also report the moves the
+   * controller does not announce.</p>
+   */
+  @Override
+  public void onPlayerMoved(Player player, Tile fromTile, Tile toTile) {
+    // Recorded by the player observer
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>Rolls are recorded from the die itself.</p>
+   */
+  @Override
+  public void onDieRolled(Player player, int rollValue) {
+    // Recorded by the die observer
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>Records the end of the game and writes the last batch.</p>
+   */
+  @Override
+  public synchronized void onGameEnded(Player winner) {
+    if (begin(TurnEventType.GAME_ENDED)) {
+      batch.writeSignedVarint(players.indexOf(winner));
+      submitBatch();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>Records the turn change and hands the events of the turn that ended to the
+   * writer thread.</p>
+   */
+  @Override
+  public synchronized void onTurnChanged(Player newCurrentPlayer) {
+    if (begin(TurnEventType.TURN_CHANGED)) {
+      batch.writeVarint(Math.max(players.indexOf(newCurrentPlayer), 0));
+      submitBatch();
+    }
+  }
+
+  private boolean begin(TurnEventType type) {
+    if (closed) {
+      return false;
+    }
+    if (failed) {
+      // The writer thread could not write the file, so stop on the game's thread
+      stop();
+      return false;
+    }
+    batch.writeByte(type.getCode());
+    eventCount++;
+    return true;
+  }
+
+  /**
+   * <p>Hands the events recorded since the last batch to the writer thread.</p>
+   */
+  private void submitBatch() {
+    if (closed || batch.size() == 0) {
+      return;
+    }
+    byte[] payload = batch.toByteArray();
+    batch.reset();
+    writer.execute(() -> writeBatch(payload));
+  }
+
+  /**
+   * <p>Writes the events recorded so far and waits until every batch is synced.</p>
+   * <p>Batches are written at the end of every turn without this; use it before reading
+   * the journal back while it is still recording.</p>
+   */
+  public void flush() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      submitBatch();
+    }
+    try {
+      writer.submit(() -> { }).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | RejectedExecutionException e) {
+      logger.log(Level.WARNING, "Could not wait for turn journal " + file, e);
+    }
+  }
+
+  private void writeCheckpoint(GameType gameType, byte[] checkpoint) {
+    try {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+          .putInt(MAGIC).put(VERSION).put((byte) gameType.getCode()).flip();
+      writeFully(header);
+      writeFrame(checkpoint);
+      channel.force(true);
+    } catch (IOException e) {
+      fail(e);
+    }
+  }
+
+  /**
+   * <p>Appends a batch and syncs the file, on the writer thread.</p>
+   * <p>If the file cannot be written, the error is logged and the journal stops
+   * recording, so the game itself is never interrupted.</p>
+   */
+  private void writeBatch(byte[] payload) {
+    if (failed) {
+      return;
+    }
+    try {
+      writeFrame(payload);
+      channel.force(false);
+      batchCount.incrementAndGet();
+    } catch (IOException e) {
+      fail(e);
+    }
+  }
+
+  private void fail(IOException e) {
+    logger.log(Level.SEVERE, "Could not write turn journal " + file + ", recording stopped.", e);
+    failed = true;
+    closeQuietly();
+  }
+
+  private void writeFrame(byte[] payload) throws IOException {
+    crc.reset();
+    crc.update(payload);
+    ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length)
+        .putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+    writeFully(frame);
+  }
+
+  private void writeFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * <p>Gets the file of the journal.</p>
+   *
+   * @return The journal file
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * <p>Gets the number of events recorded.</p>
+   *
+   * @return The event count, including events not yet written
+   */
+  public synchronized long getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * <p>Gets the number of batches written to the file.</p>
+   *
+   * @return The number of synced batches
+   */
+  public long getBatchCount() {
+    return batchCount.get();
+  }
+
+  /**
+   * <p>Writes the events still waiting, stops recording and closes the file.</p>
+   * <p>Waits for the writer thread to write the batches handed to it.</p>
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    submitBatch();
+    stop();
+  }
+
+  private void stop() {
+    closed = true;
+    detach.run();
+    players.forEach(player -> player.removeObserver(playerObserver));
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        logger.warning("Turn journal did not finish within " + CLOSE_TIMEOUT_SECONDS + " seconds.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    closeQuietly();
+  }
+
+  private void closeQuietly() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      logger.warning("Could not close turn journal " + file + ": " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * <p>Reads a journal written by {@link TurnJournal}.</p>
+ * <p>The checkpoint and every complete batch of events are read. A batch that was cut
+ * short or damaged by a crash, and anything after it, is ignored, so the events read are
+ * always those of whole turns. The events are kept in primitive arrays and read by index.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class TurnJournalReader {
+  private static final TurnEventType[] TYPES = TurnEventType.values();
+
+  private final GameType gameType;
+  private final byte[] checkpoint;
+  private byte[] types = new byte[64];
+  private int[] players = new int[64];
+  private int[] values = new int[64];
+  private byte[] kinds = new byte[64];
+  private int[] balances = new int[64];
+  private int eventCount;
+
+  /**
+   * <p>Reads a journal.</p>
+   *
+   * @param file The journal file
+   * @throws IllegalArgumentException If the file is null
+   * @throws FileHandlingException    If the file cannot be read, is not a turn journal or
+   *                                  has no complete checkpoint
+   */
+  public TurnJournalReader(Path file) throws FileHandlingException {
+    if (file == null) {
+      throw new IllegalArgumentException("Journal file cannot be null.");
+    }
+    byte[] data;
+    try {
+      data = Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new FileHandlingException("Could not read turn journal " + file + ".", e);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    if (data.length < TurnJournal.HEADER_SIZE || buffer.getInt() != TurnJournal.MAGIC) {
+      throw new FileHandlingException(file + " is not a turn journal.");
+    }
+    if (buffer.get() != TurnJournal.VERSION) {
+      throw new FileHandlingException("Turn journal " + file + " has an unsupported format.");
+    }
+    try {
+      gameType = GameType.fromCode(buffer.get());
+    } catch (IllegalArgumentException e) {
+      throw new FileHandlingException("Turn journal " + file + " has an unknown game type.", e);
+    }
+    checkpoint = readFrame(buffer);
+    if (checkpoint == null) {
+      throw new FileHandlingException("Turn journal " + file + " has no checkpoint.");
+    }
+    byte[] batch;
+    while ((batch = readFrame(buffer)) != null) {
+      readEvents(batch);
+    }
+  }
+
+  /**
+   * <p>Reads the next frame, or returns null if it is incomplete or damaged.</p>
+   */
+  private static byte[] readFrame(ByteBuffer buffer) {
+    if (buffer.remaining() < TurnJournal.FRAME_HEADER_SIZE) {
+      return null;
+    }
+    int length = buffer.getInt();
+    int checksum = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      return null;
+    }
+    byte[] payload = new byte[length];
+    buffer.get(payload);
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue() == checksum ? payload : null;
+  }
+
+  private void readEvents(byte[] batch) throws FileHandlingException {
+    BinaryInput in = new BinaryInput(batch);
+    while (in.remaining() > 0) {
+      int code = in.readByte();
+      TurnEventType type;
+      try {
+        type = TurnEventType.fromCode(code);
+      } catch (IllegalArgumentException e) {
+        throw new FileHandlingException("Invalid save: unknown turn event " + code + ".", e);
+      }
+      int player = -1;
+      int value = 0;
+      int kind = -1;
+      int balance = 0;
+      switch (type) {
+        case ROLL -> value = in.readVarint();
+        case MOVE -> {
+          player = in.readVarint();
+          value = in.readVarint();
+        }
+        case PAYOUT -> {
+          player = in.readVarint();
+          value = in.readSignedVarint();
+          kind = in.readVarint();
+          balance = in.readVarint();
+        }
+        case TURN_CHANGED -> player = in.readVarint();
+        case GAME_ENDED -> player = in.readSignedVarint();
+      }
+      add(type, player, value, kind, balance);
+    }
+  }
+
+  private void add(TurnEventType type, int player, int value, int kind, int balance) {
+    if (eventCount == types.length) {
+      int capacity = eventCount * 2;
+      types = Arrays.copyOf(types, capacity);
+      players = Arrays.copyOf(players, capacity);
+      values = Arrays.copyOf(values, capacity);
+      kinds = Arrays.copyOf(kinds, capacity);
+      balances = Arrays.copyOf(balances, capacity);
+    }
+    types[eventCount] = (byte) type.ordinal();
+    players[eventCount] = player;
+    values[eventCount] = value;
+    kinds[eventCount] = (byte) kind;
+    balances[eventCount] = balance;
+    eventCount++;
+  }
+
+  /**
+   * <p>Gets the game the journal was recorded from.</p>
+   *
+   * @return The game type
+   */
+  public GameType getGameType() {
+    return gameType;
+  }
+
+  /**
+   * <p>Gets the checkpoint the events start from.</p>
+   *
+   * @return A copy of the encoded checkpoint
+   */
+  public byte[] getCheckpoint() {
+    return checkpoint.clone();
+  }
+
+  /**
+   * <p>Gets the number of events in complete batches.</p>
+   *
+   * @return The event count
+   */
+  public int getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * <p>Gets the type of an event.</p>
+   *
+   * @param index The index of the event
+   * @return The event type
+   * @throws IndexOutOfBoundsException If there is no event with the index
+   */
+  public TurnEventType getType(int index) {
+    return TYPES[types[checkIndex(index)]];
+  }
+
+  /**
+   * <p>Gets the player of an event.</p>
+   *
+   * @param index The index of the event
+   * @return The index of the player, the account slot of a payout, or -1 for a roll or a
+   *         game without a winner
+   * @throws IndexOutOfBoundsException If there is no event with the index
+   */
+  public int getPlayerIndex(int index) {
+    return players[checkIndex(index)];
+  }
+
+  /**
+   * <p>Gets the value of an event.</p>
+   *
+   * @param index The index of the event
+   * @return The roll, the tile ID of a move, the change of a payout, or 0
+   * @throws IndexOutOfBoundsException If there is no event with the index
+   */
+  public int getValue(int index) {
+    return values[checkIndex(index)];
+  }
+
+  /**
+   * <p>Gets the transaction kind of a payout.</p>
+   *
+   * @param index The index of the event
+   * @return The kind of the payout, or null for other events
+   * @throws IndexOutOfBoundsException If there is no event with the index
+   * @throws IllegalArgumentException  If the payout has an unknown kind
+   */
+  public TransactionKind getKind(int index) {
+    int kind = kinds[checkIndex(index)];
+    return kind < 0 ? null : TransactionKind.fromCode(kind);
+  }
+
+  /**
+   * <p>Gets the balance of the account right after a payout.</p>
+   *
+   * @param index The index of the event
+   * @return The balance after the payout, or 0 for other events
+   * @throws IndexOutOfBoundsException If there is no event with the index
+   */
+  public int getBalanceAfter(int index) {
+    return balances[checkIndex(index)];
+  }
+
+  /**
+   * <p>Checks whether the recorded game was played to the end.</p>
+   *
+   * @return <code>true</code> if the last event is the end of the game
+   */
+  public boolean isFinished() {
+    return eventCount > 0 && getType(eventCount - 1) == TurnEventType.GAME_ENDED;
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= eventCount) {
+      throw new IndexOutOfBoundsException("No event " + index + ".");
+    }
+    return index;
+  }
+}
@@ -0,0 +1,326 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.common.observer.BoardGameObserver;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.LadderGameController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.TurnResult;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model.PackedLadderState;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller.MissingDiamondController;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Ledger;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.LedgerListener;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.die.Die;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Rebuilds a game from a {@link TurnJournal}.</p>
+ * <p>The game is restored to the checkpoint of the journal, and every recorded action is
+ * then played again through the game controller, with the recorded rolls queued on the
+ * die. A roll is replayed as the roll of the turn, or as the attempt to open a token when
+ * the player is deciding on one; a token flip payment as buying the token; and a turn
+ * change the game did not make by itself as ending the turn. Moves are replayed when the
+ * player is to move, and the resulting positions are checked against the journal at the
+ * end of every turn, so a journal that does not fit the game is rejected instead of
+ * restoring a different game. Every recorded payout is also checked against the change
+ * the replay made to the bank ledger, including the balance after it.</p>
+ * <p>Recovery costs one controller call per recorded action, however long the game
+ * has run.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class TurnJournalReplayer {
+  private static final int FLAG_RANDOM_LADDERS = 1;
+
+  private TurnJournalReplayer() {
+  }
+
+  /**
+   * <p>Encodes the checkpoint of a ladder game.</p>
+   * <p>The checkpoint holds the seed and size of the board, the current player and the
+   * position and skip flag of every player.</p>
+   */
+  static byte[] encodeLadderCheckpoint(LadderGameController controller) {
+    PackedLadderState state = controller.capturePackedState();
+    BinaryOutput out = new BinaryOutput(32);
+    out.writeByte(controller.isRandomLadders() ? FLAG_RANDOM_LADDERS : 0);
+    long seed = controller.getSeed();
+    out.writeInt((int) (seed >>> 32));
+    out.writeInt((int) seed);
+    out.writeVarint(controller.getBoardSize());
+    out.writeVarint(state.getCurrentPlayerIndex());
+    out.writeVarint(state.getPlayerCount());
+    for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+      out.writeVarint(state.getPosition(seat));
+      out.writeByte(state.isSkipTurn(seat) ? 1 : 0);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * <p>Rebuilds a ladder game from its journal.</p>
+   * <p>The board is created from the recorded seed, so random ladders are placed as they
+   * were. The players are read as for any new game and must match the journal.</p>
+   *
+   * @param journal The journal of the game
+   * @return A controller of the game as it was after the last recorded turn
+   * @throws IllegalArgumentException If the journal is null
+   * @throws FileHandlingException    If the journal is not of a ladder game or does not fit
+   *                                  the players and board
+   */
+  public static LadderGameController recoverLadderGame(TurnJournalReader journal)
+      throws FileHandlingException {
+    checkType(journal, GameType.LADDER_GAME);
+    BinaryInput in = new BinaryInput(journal.getCheckpoint());
+    boolean randomLadders = (in.readByte() & FLAG_RANDOM_LADDERS) != 0;
+    long seed = (long) in.readInt() << 32 | (in.readInt() & 0xFFFFFFFFL);
+    int boardSize = in.readVarint();
+    int currentPlayerIndex = in.readVarint();
+    int playerCount = in.readCount(2);
+
+    LadderGameController controller;
+    try {
+      controller = new LadderGameController(randomLadders, seed, boardSize);
+      PackedLadderState state = controller.capturePackedState();
+      if (state.getPlayerCount() != playerCount) {
+        throw new FileHandlingException("Journal does not fit the players of the game.");
+      }
+      for (int seat = 0; seat < playerCount; seat++) {
+        state.setPosition(seat, in.readVarint());
+        state.setSkipTurn(seat, in.readByte() != 0);
+      }
+      state.setCurrentPlayerIndex(currentPlayerIndex);
+      controller.applyPackedState(state);
+    } catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException e) {
+      throw new FileHandlingException("Journal does not fit the game: " + e.getMessage(), e);
+    }
+
+    Replay replay = new Replay(journal, controller.getPlayers());
+    controller.addObserver(replay);
+    try {
+      TurnResult result = new TurnResult();
+      Die die = controller.getDie();
+      for (int i = 0; i < journal.getEventCount(); i++) {
+        switch (journal.getType(i)) {
+          case ROLL -> {
+            die.queueRolls(journal.getValue(i));
+            controller.playTurn(result);
+            replay.checkRollUsed(die, i);
+          }
+          case TURN_CHANGED -> {
+            if (replay.turnChanges == 0) {
+              // A skipped turn is the only turn without a roll
+              Player player = controller.getPlayers().get(controller.getCurrentPlayerIndex());
+              replay.check(player.isSkipTurn(), i);
+              controller.playTurn(result);
+            }
+            replay.endTurn(controller.getCurrentPlayerIndex(), i);
+          }
+          default -> replay.record(i);
+        }
+      }
+    } catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException e) {
+      throw new FileHandlingException("Journal does not fit the game: " + e.getMessage(), e);
+    } finally {
+      controller.removeObserver(replay);
+    }
+    return controller;
+  }
+
+  /**
+   * <p>Rebuilds a Missing Diamond game from its journal.</p>
+   * <p>The game is created as any new game and restored to the snapshot in the journal,
+   * which holds the token layout, before the recorded actions are replayed.</p>
+   *
+   * @param journal The journal of the game
+   * @return A controller of the game as it was after the last recorded turn
+   * @throws IllegalArgumentException If the journal is null
+   * @throws FileHandlingException    If the journal is not of a Missing Diamond game or does
+   *                                  not fit the players and board
+   */
+  public static MissingDiamondController recoverMissingDiamond(TurnJournalReader journal)
+      throws FileHandlingException {
+    checkType(journal, GameType.MISSING_DIAMOND);
+    MissingDiamondSnapshot snapshot = MissingDiamondSnapshotCodec.decode(journal.getCheckpoint());
+
+    MissingDiamondController controller;
+    try {
+      controller = new MissingDiamondController();
+      controller.applySnapshot(snapshot);
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      throw new FileHandlingException("Journal does not fit the game: " + e.getMessage(), e);
+    }
+
+    Replay replay = new Replay(journal, controller.getPlayers());
+    Ledger ledger = controller.getBanker().getLedger();
+    controller.addObserver(replay);
+    ledger.addListener(replay);
+    try {
+      Die die = controller.getDie();
+      for (int i = 0; i < journal.getEventCount(); i++) {
+        switch (journal.getType(i)) {
+          case ROLL -> {
+            die.queueRolls(journal.getValue(i));
+            if (controller.isAwaitingTokenDecision()) {
+              controller.openToken();
+            } else {
+              controller.playTurn();
+            }
+            replay.checkRollUsed(die, i);
+          }
+          case MOVE -> {
+            Player player = controller.getCurrentPlayer();
+            if (controller.getGame().getCurrentRoll() > 0
+                && journal.getPlayerIndex(i) == controller.getPlayers().indexOf(player)) {
+              controller.movePlayer(journal.getValue(i));
+              replay.check(player.getCurrentTile().getTileId() == journal.getValue(i), i);
+            }
+            replay.record(i);
+          }
+          case PAYOUT -> {
+            if (journal.getKind(i) == TransactionKind.TOKEN_FLIP && controller.isAwaitingTokenDecision()) {
+              Tile tile = controller.getCurrentPlayer().getCurrentTile();
+              replay.check(controller.buyTokenFlip(tile), i);
+            }
+            replay.checkPayout(i);
+          }
+          case TURN_CHANGED -> {
+            if (replay.turnChanges == 0) {
+              controller.endTurn();
+            }
+            replay.endTurn(controller.getPlayers().indexOf(controller.getCurrentPlayer()), i);
+          }
+          case GAME_ENDED -> replay.record(i);
+        }
+      }
+    } catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException e) {
+      throw new FileHandlingException("Journal does not fit the game: " + e.getMessage(), e);
+    } finally {
+      controller.removeObserver(replay);
+      ledger.removeListener(replay);
+    }
+    return controller;
+  }
+
+  private static void checkType(TurnJournalReader journal, GameType type) throws FileHandlingException {
+    if (journal == null) {
+      throw new IllegalArgumentException("Journal cannot be null.");
+    }
+    if (journal.getGameType() != type) {
+      throw new FileHandlingException("Journal is not of a " + type + " game.");
+    }
+  }
+
+  /**
+   * <p>Follows the game during a replay and checks it against the journal.</p>
+   * <p>Counts the turn changes and game ends the controller makes by itself, keeps the
+   * last recorded tile of every player until the end of the turn, and queues the ledger
+   * changes the replay makes until they are matched with the recorded payouts.</p>
+   */
+  private static final class Replay implements BoardGameObserver, LedgerListener {
+    private final TurnJournalReader journal;
+    private final List<Player> players;
+    private final int[] expectedTiles;
+    private final ArrayDeque<int[]> payouts = new ArrayDeque<>();
+    private int turnChanges;
+    private int gameEnds;
+
+    Replay(TurnJournalReader journal, List<Player> players) {
+      this.journal = journal;
+      this.players = players;
+      this.expectedTiles = new int[players.size()];
+      Arrays.fill(expectedTiles, -1);
+    }
+
+    void record(int event) throws FileHandlingException {
+      int player = journal.getPlayerIndex(event);
+      switch (journal.getType(event)) {
+        case MOVE -> {
+          check(player >= 0 && player < players.size(), event);
+          expectedTiles[player] = journal.getValue(event);
+        }
+        case GAME_ENDED -> {
+          check(gameEnds > 0, event);
+          gameEnds--;
+          checkPositions(event);
+        }
+        default -> {
+          // Payouts follow from the replayed actions
+        }
+      }
+    }
+
+    void endTurn(int currentPlayer, int event) throws FileHandlingException {
+      check(turnChanges > 0 && currentPlayer == journal.getPlayerIndex(event), event);
+      turnChanges--;
+      checkPositions(event);
+    }
+
+    void checkRollUsed(Die die, int event) throws FileHandlingException {
+      check(die.getQueuedRollCount() == 0, event);
+    }
+
+    /**
+     * <p>Checks a recorded payout against the next change the replay made.</p>
+     */
+    void checkPayout(int event) throws FileHandlingException {
+      int[] payout = payouts.poll();
+      check(payout != null
+          && payout[0] == journal.getPlayerIndex(event)
+          && payout[1] == journal.getKind(event).getCode()
+          && payout[2] == journal.getValue(event), event);
+      if (payout[3] != journal.getBalanceAfter(event)) {
+        throw new FileHandlingException("Journal does not match the game at event " + event
+            + ": recorded balance " + journal.getBalanceAfter(event) + ", replayed balance "
+            + payout[3] + ".");
+      }
+    }
+
+    @Override
+    public void changeCommitted(int slot, TransactionKind kind, int change, int balanceAfter) {
+      payouts.add(new int[] {slot, kind.getCode(), change, balanceAfter});
+    }
+
+    private void checkPositions(int event) throws FileHandlingException {
+      for (int i = 0; i < expectedTiles.length; i++) {
+        if (expectedTiles[i] >= 0) {
+          check(players.get(i).getCurrentTile().getTileId() == expectedTiles[i], event);
+          expectedTiles[i] = -1;
+        }
+      }
+    }
+
+    void check(boolean matches, int event) throws FileHandlingException {
+      if (!matches) {
+        throw new FileHandlingException("Journal does not match the game at event " + event
+            + " (" + journal.getType(event) + ").");
+      }
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, Tile fromTile, Tile toTile) {
+      // Moves are checked against the journal at the end of the turn
+    }
+
+    @Override
+    public void onDieRolled(Player player, int rollValue) {
+      // Rolls come from the journal
+    }
+
+    @Override
+    public void onGameEnded(Player winner) {
+      gameEnds++;
+    }
+
+    @Override
+    public void onTurnChanged(Player newCurrentPlayer) {
+      turnChanges++;
+    }
+  }
+}
@@ -0,0 +1,252 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.journal;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Ledger;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.LedgerListener;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Append-only binary journal of every committed change of a bank {@link Ledger}.</p>
+ * <p>The journal starts with a {@value #HEADER_SIZE} byte header, followed by records of
+ * {@value #RECORD_SIZE} bytes each:</p>
+ * <ul>
+ *   <li>The time of the change in milliseconds since the epoch (<code>long</code>)</li>
+ *   <li>The slot of the account (<code>int</code>)</li>
+ *   <li>The change of the balance (<code>int</code>)</li>
+ *   <li>The balance after the change (<code>int</code>)</li>
+ *   <li>The {@link TransactionKind} code (<code>short</code>)</li>
+ *   <li>A record mark (<code>short</code>), written last</li>
+ * </ul>
+ * <p>Records are written straight into a memory-mapped region of the file, which is
+ * extended {@value #RECORDS_PER_CHUNK} records at a time, so appending a record costs a
+ * few memory writes. The file may therefore end in unused space; a record only counts
+ * once its mark is written, and readers stop at the first record without one. The
+ * operating system writes the mapped pages to disk on its own, and {@link #flush()} forces
+ * them out.</p>
+ * <p>A journal may be attached to one ledger after another, for example one per game.
+ * Each attach starts with an {@link TransactionKind#OPENING} record of every account, which
+ * readers take as the balance of the account from then on.</p>
+ * <p>Use {@link BankJournalReader} to read a journal back.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class BankJournal implements LedgerListener, Closeable {
+  /**
+   * Identifies a bank journal file.
+   */
+  public static final int MAGIC = 0x424E4B4A;
+
+  /**
+   * The version of the file format.
+   */
+  public static final short VERSION = 1;
+
+  /**
+   * The size of the file header in bytes.
+   */
+  public static final int HEADER_SIZE = 16;
+
+  /**
+   * The size of a record in bytes.
+   */
+  public static final int RECORD_SIZE = 24;
+
+  /**
+   * The number of records the file is extended by when it is full.
+   */
+  public static final int RECORDS_PER_CHUNK = 4096;
+
+  static final short RECORD_MARK = 0x4A52;
+  static final int MARK_OFFSET = 22;
+
+  private final FileChannel channel;
+  private MappedByteBuffer chunk;
+  private long chunkStart;
+  private long recordCount;
+  private Ledger ledger;
+  private boolean closed;
+
+  /**
+   * <p>Opens a journal, creating it if it does not exist.</p>
+   * <p>New records are appended after the records already in the file. Missing
+   * directories are created.</p>
+   *
+   * @param file The journal file
+   * @throws FileHandlingException If the file cannot be opened or is not a bank journal
+   */
+  public BankJournal(Path file) throws FileHandlingException {
+    if (file == null) {
+      throw new IllegalArgumentException("Journal file cannot be null.");
+    }
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new FileHandlingException("Could not open bank journal " + file + ".", e);
+    }
+    try {
+      if (channel.size() == 0) {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.putInt(0, MAGIC).putShort(4, VERSION).putShort(6, (short) RECORD_SIZE)
+            .putLong(8, System.currentTimeMillis());
+        header.force();
+      } else {
+        if (channel.size() > Integer.MAX_VALUE) {
+          throw new FileHandlingException("Bank journal " + file + " is too large.");
+        }
+        MappedByteBuffer existing = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        recordCount = BankJournalReader.countRecords(existing, file);
+      }
+    } catch (IOException e) {
+      closeQuietly();
+      throw new FileHandlingException("Could not read bank journal " + file + ".", e);
+    } catch (FileHandlingException e) {
+      closeQuietly();
+      throw e;
+    }
+  }
+
+  /**
+   * <p>Starts journaling a ledger.</p>
+   * <p>The current balance of every open account is recorded as an
+   * {@link TransactionKind#OPENING} record first, so the journal can rebuild balances even
+   * when it is attached in the middle of a game or to a ledger after another. The journal
+   * stops listening to the ledger when it is closed.</p>
+   *
+   * @param ledger The ledger to journal
+   * @throws IllegalArgumentException If the ledger is null
+   * @throws IllegalStateException    If the journal is closed or already attached
+   */
+  public void attach(Ledger ledger) {
+    if (ledger == null) {
+      throw new IllegalArgumentException("Ledger cannot be null.");
+    }
+    if (closed) {
+      throw new IllegalStateException("Bank journal is closed.");
+    }
+    if (this.ledger != null) {
+      throw new IllegalStateException("Bank journal is already attached to a ledger.");
+    }
+    for (int slot = 0; slot < ledger.getAccountCount(); slot++) {
+      int balance = ledger.getBalance(slot);
+      changeCommitted(slot, TransactionKind.OPENING, balance, balance);
+    }
+    ledger.addListener(this);
+    this.ledger = ledger;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>Appends a record of the change.</p>
+   *
+   * @throws IllegalStateException If the journal is closed or cannot be extended
+   */
+  @Override
+  public void changeCommitted(int slot, TransactionKind kind, int change, int balanceAfter) {
+    append(System.currentTimeMillis(), slot, kind, change, balanceAfter);
+  }
+
+  /**
+   * <p>Appends a record.</p>
+   *
+   * @param timeMillis   The time of the change in milliseconds since the epoch
+   * @param slot         The slot of the account
+   * @param kind         The reason for the change
+   * @param change       The change of the balance
+   * @param balanceAfter The balance after the change
+   * @throws IllegalArgumentException If the kind is null
+   * @throws IllegalStateException    If the journal is closed or cannot be extended
+   */
+  public void append(long timeMillis, int slot, TransactionKind kind, int change, int balanceAfter) {
+    if (kind == null) {
+      throw new IllegalArgumentException("Transaction kind cannot be null.");
+    }
+    if (closed) {
+      throw new IllegalStateException("Bank journal is closed.");
+    }
+    long position = HEADER_SIZE + recordCount * RECORD_SIZE;
+    if (chunk == null || position + RECORD_SIZE > chunkStart + chunk.capacity()) {
+      mapChunk(position);
+    }
+    int offset = (int) (position - chunkStart);
+    chunk.putLong(offset, timeMillis)
+        .putInt(offset + 8, slot)
+        .putInt(offset + 12, change)
+        .putInt(offset + 16, balanceAfter)
+        .putShort(offset + 20, (short) kind.getCode())
+        .putShort(offset + MARK_OFFSET, RECORD_MARK);
+    recordCount++;
+  }
+
+  private void mapChunk(long position) {
+    try {
+      chunk = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) RECORDS_PER_CHUNK * RECORD_SIZE);
+      chunkStart = position;
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not extend the bank journal.", e);
+    }
+  }
+
+  /**
+   * <p>Gets the number of records in the journal.</p>
+   *
+   * @return The record count, including records written before the journal was opened
+   */
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * <p>Forces the written records to disk.</p>
+   */
+  public void flush() {
+    if (chunk != null && !closed) {
+      chunk.force();
+    }
+  }
+
+  /**
+   * <p>Stops listening to the ledger, forces the written records to disk and closes the
+   * file.</p>
+   *
+   * @throws IOException If the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    if (ledger != null) {
+      ledger.removeListener(this);
+      ledger = null;
+    }
+    flush();
+    closed = true;
+    chunk = null;
+    channel.close();
+  }
+
+  private void closeQuietly() {
+    try {
+      channel.close();
+    } catch (IOException ignored) {
+      // The original error is more useful
+    }
+  }
+
+  static boolean isRecord(ByteBuffer buffer, int position) {
+    return buffer.getShort(position + MARK_OFFSET) == RECORD_MARK;
+  }
+}
@@ -0,0 +1,244 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.journal;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Reads a journal written by {@link BankJournal}.</p>
+ * <p>The file is memory-mapped read-only and records are read in place, so scanning the
+ * journals of many archived games does not parse any text or create objects per record.
+ * The fields of a record are read by index, and {@link #getRecord(int)} gives a record as
+ * an object when that is more convenient.</p>
+ * <p>The reader sees the records that were complete when it was opened.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class BankJournalReader implements Closeable {
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int recordCount;
+
+  /**
+   * <p>Opens a journal for reading.</p>
+   *
+   * @param file The journal file
+   * @throws FileHandlingException If the file cannot be read or is not a bank journal
+   */
+  public BankJournalReader(Path file) throws FileHandlingException {
+    if (file == null) {
+      throw new IllegalArgumentException("Journal file cannot be null.");
+    }
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+    } catch (IOException e) {
+      throw new FileHandlingException("Could not open bank journal " + file + ".", e);
+    }
+    try {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new FileHandlingException("Bank journal " + file + " is too large.");
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      recordCount = countRecords(buffer, file);
+    } catch (IOException e) {
+      closeQuietly();
+      throw new FileHandlingException("Could not read bank journal " + file + ".", e);
+    } catch (FileHandlingException e) {
+      closeQuietly();
+      throw e;
+    }
+  }
+
+  /**
+   * <p>Checks the header of a journal and counts its complete records.</p>
+   */
+  static int countRecords(ByteBuffer buffer, Path file) throws FileHandlingException {
+    if (buffer.capacity() < BankJournal.HEADER_SIZE
+        || buffer.getInt(0) != BankJournal.MAGIC) {
+      throw new FileHandlingException(file + " is not a bank journal.");
+    }
+    if (buffer.getShort(4) != BankJournal.VERSION
+        || buffer.getShort(6) != BankJournal.RECORD_SIZE) {
+      throw new FileHandlingException("Bank journal " + file + " has an unsupported format.");
+    }
+    int count = 0;
+    int position = BankJournal.HEADER_SIZE;
+    while (position + BankJournal.RECORD_SIZE <= buffer.capacity()
+        && BankJournal.isRecord(buffer, position)) {
+      count++;
+      position += BankJournal.RECORD_SIZE;
+    }
+    return count;
+  }
+
+  /**
+   * <p>Gets the number of complete records.</p>
+   *
+   * @return The record count
+   */
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * <p>Gets the time of a record.</p>
+   *
+   * @param index The index of the record
+   * @return The time in milliseconds since the epoch
+   * @throws IndexOutOfBoundsException If there is no record with the index
+   */
+  public long getTime(int index) {
+    return buffer.getLong(offset(index));
+  }
+
+  /**
+   * <p>Gets the account slot of a record.</p>
+   *
+   * @param index The index of the record
+   * @return The slot of the account
+   * @throws IndexOutOfBoundsException If there is no record with the index
+   */
+  public int getSlot(int index) {
+    return buffer.getInt(offset(index) + 8);
+  }
+
+  /**
+   * <p>Gets the change of a record.</p>
+   *
+   * @param index The index of the record
+   * @return The amount added, or negative for an amount taken
+   * @throws IndexOutOfBoundsException If there is no record with the index
+   */
+  public int getChange(int index) {
+    return buffer.getInt(offset(index) + 12);
+  }
+
+  /**
+   * <p>Gets the balance after the change of a record.</p>
+   *
+   * @param index The index of the record
+   * @return The balance
+   * @throws IndexOutOfBoundsException If there is no record with the index
+   */
+  public int getBalanceAfter(int index) {
+    return buffer.getInt(offset(index) + 16);
+  }
+
+  /**
+   * <p>Gets the reason of a record.</p>
+   *
+   * @param index The index of the record
+   * @return The transaction kind
+   * @throws IndexOutOfBoundsException If there is no record with the index
+   * @throws IllegalArgumentException  If the record has an unknown kind
+   */
+  public TransactionKind getKind(int index) {
+    return TransactionKind.fromCode(buffer.getShort(offset(index) + 20));
+  }
+
+  /**
+   * <p>Gets a record as an object.</p>
+   *
+   * @param index The index of the record
+   * @return The record
+   * @throws IndexOutOfBoundsException If there is no record with the index
+   */
+  public JournalRecord getRecord(int index) {
+    return new JournalRecord(index, getTime(index), getSlot(index), getKind(index),
+        getChange(index), getBalanceAfter(index));
+  }
+
+  /**
+   * <p>Gets every record of one account, oldest first.</p>
+   *
+   * @param slot The slot of the account
+   * @return A new list of the account's records
+   */
+  public List<JournalRecord> getHistory(int slot) {
+    List<JournalRecord> history = new ArrayList<>();
+    for (int i = 0; i < recordCount; i++) {
+      if (getSlot(i) == slot) {
+        history.add(getRecord(i));
+      }
+    }
+    return history;
+  }
+
+  /**
+   * <p>Rebuilds the balances after the first records of the journal.</p>
+   * <p>An {@link TransactionKind#OPENING} record sets the balance of its account, and every
+   * other record adds its change, so the balances show where the money was at any point of
+   * the game, also when the journal was attached to a ledger more than once.</p>
+   *
+   * @param records The number of records to apply
+   * @return The balance of every account slot seen in those records
+   * @throws IllegalArgumentException If the count is negative or larger than the record count
+   */
+  public int[] balancesAt(int records) {
+    if (records < 0 || records > recordCount) {
+      throw new IllegalArgumentException("Record count must be between 0 and " + recordCount + ".");
+    }
+    int[] balances = new int[8];
+    int accounts = 0;
+    for (int i = 0; i < records; i++) {
+      int slot = getSlot(i);
+      if (slot >= balances.length) {
+        balances = Arrays.copyOf(balances, Math.max(slot + 1, balances.length * 2));
+      }
+      if (getKind(i) == TransactionKind.OPENING) {
+        balances[slot] = getBalanceAfter(i);
+      } else {
+        balances[slot] += getChange(i);
+      }
+      accounts = Math.max(accounts, slot + 1);
+    }
+    return Arrays.copyOf(balances, accounts);
+  }
+
+  /**
+   * <p>Rebuilds the balances after every record of the journal.</p>
+   *
+   * @return The final balance of every account slot
+   */
+  public int[] getFinalBalances() {
+    return balancesAt(recordCount);
+  }
+
+  /**
+   * <p>Closes the file.</p>
+   *
+   * @throws IOException If the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private int offset(int index) {
+    if (index < 0 || index >= recordCount) {
+      throw new IndexOutOfBoundsException("No record " + index + ".");
+    }
+    return BankJournal.HEADER_SIZE + index * BankJournal.RECORD_SIZE;
+  }
+
+  private void closeQuietly() {
+    try {
+      channel.close();
+    } catch (IOException ignored) {
+      // The original error is more useful
+    }
+  }
+}
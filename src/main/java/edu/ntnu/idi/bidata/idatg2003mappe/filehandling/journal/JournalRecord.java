@@ -0,0 +1,87 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.journal;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+
+/**
+ * <p>One record of a bank journal.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class JournalRecord {
+  private final int index;
+  private final long timeMillis;
+  private final int slot;
+  private final TransactionKind kind;
+  private final int change;
+  private final int balanceAfter;
+
+  JournalRecord(int index, long timeMillis, int slot, TransactionKind kind, int change, int balanceAfter) {
+    this.index = index;
+    this.timeMillis = timeMillis;
+    this.slot = slot;
+    this.kind = kind;
+    this.change = change;
+    this.balanceAfter = balanceAfter;
+  }
+
+  /**
+   * <p>Gets the position of the record in the journal.</p>
+   *
+   * @return The record index, starting at 0
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * <p>Gets the time of the change.</p>
+   *
+   * @return The time in milliseconds since the epoch
+   */
+  public long getTimeMillis() {
+    return timeMillis;
+  }
+
+  /**
+   * <p>Gets the account that changed.</p>
+   *
+   * @return The slot of the account
+   */
+  public int getSlot() {
+    return slot;
+  }
+
+  /**
+   * <p>Gets the reason for the change.</p>
+   *
+   * @return The transaction kind
+   */
+  public TransactionKind getKind() {
+    return kind;
+  }
+
+  /**
+   * <p>Gets the change of the balance.</p>
+   *
+   * @return The amount added, or negative for an amount taken
+   */
+  public int getChange() {
+    return change;
+  }
+
+  /**
+   * <p>Gets the balance right after the change.</p>
+   *
+   * @return The balance
+   */
+  public int getBalanceAfter() {
+    return balanceAfter;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("#%d slot %d %s %+d = %d", index, slot, kind, change, balanceAfter);
+  }
+}
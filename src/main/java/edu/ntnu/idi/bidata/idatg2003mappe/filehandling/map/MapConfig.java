@@ -1,28 +1,44 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map;
 
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenCatalog;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenEffectResult;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.TokenType;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * <p>Model class representing a Missing Diamond map configuration.</p>
  * <p>This class stores all the data needed to define a game map, including
- * locations (cities) and connections between them. It can be serialized to
- * and deserialized from JSON format for save/load functionality.</p>
+ * locations (cities) and connections between them. It is read from and written to
+ * JSON by {@link MapConfigJsonCodec}.</p>
+ * <p>Connections are kept as pairs of location IDs in a primitive array, so a map with
+ * hundreds of thousands of connections takes eight bytes per connection.
+ * {@link #getConnections()} still gives them as {@link Connection} objects.</p>
  * <p>The configuration includes:</p>
  * <ul>
  *   <li>A map name for identification</li>
  *   <li>A collection of locations with positions and properties</li>
  *   <li>A collection of connections defining paths between locations</li>
+ *   <li>An optional token mix; maps without one use the standard mix</li>
+ *   <li>An optional token catalog that defines the map's own token types</li>
  * </ul>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.1
+ * @version 0.0.2
  * @since 20.05.2025
  */
 public class MapConfig {
   private final List<Location> locations = new ArrayList<>();
-  private final List<Connection> connections = new ArrayList<>();
+  private final ConnectionList connections = new ConnectionList();
   private String name;
+  private TokenMix tokens;
+  private List<TokenDefinition> tokenCatalog;
 
   /**
    * <p>Gets the map name.</p>
@@ -53,6 +69,9 @@ public class MapConfig {
 
   /**
    * <p>Gets the list of connections.</p>
+   * <p>The list can be changed. Each call to <code>get</code> creates a new
+   * {@link Connection}; use {@link #getConnectionFromId(int)} and
+   * {@link #getConnectionToId(int)} to read many connections without creating objects.</p>
    *
    * @return The list of {@link Connection} objects
    */
@@ -60,6 +79,101 @@ public class MapConfig {
     return connections;
   }
 
+  /**
+   * <p>Gets the number of connections.</p>
+   *
+   * @return The connection count
+   */
+  public int getConnectionCount() {
+    return connections.size();
+  }
+
+  /**
+   * <p>Gets the source location ID of a connection.</p>
+   *
+   * @param index The index of the connection
+   * @return The ID of the source location
+   * @throws IndexOutOfBoundsException If there is no connection with the index
+   */
+  public int getConnectionFromId(int index) {
+    return connections.endpoint(index, 0);
+  }
+
+  /**
+   * <p>Gets the target location ID of a connection.</p>
+   *
+   * @param index The index of the connection
+   * @return The ID of the target location
+   * @throws IndexOutOfBoundsException If there is no connection with the index
+   */
+  public int getConnectionToId(int index) {
+    return connections.endpoint(index, 1);
+  }
+
+  /**
+   * <p>Gets the token mix of the map.</p>
+   *
+   * @return The {@link TokenMix}, or <code>null</code> if the map uses the standard mix
+   */
+  public TokenMix getTokens() {
+    return tokens;
+  }
+
+  /**
+   * <p>Sets the token mix of the map.</p>
+   *
+   * @param tokens The {@link TokenMix} to use, or <code>null</code> for the standard mix
+   */
+  public void setTokens(TokenMix tokens) {
+    this.tokens = tokens;
+  }
+
+  /**
+   * <p>Gets the token types defined by the map.</p>
+   *
+   * @return The {@link TokenDefinition}s, or <code>null</code> if the map uses the standard types
+   */
+  public List<TokenDefinition> getTokenCatalog() {
+    return tokenCatalog;
+  }
+
+  /**
+   * <p>Sets the token types defined by the map.</p>
+   *
+   * @param tokenCatalog The {@link TokenDefinition}s to use, or <code>null</code> for the standard types
+   */
+  public void setTokenCatalog(List<TokenDefinition> tokenCatalog) {
+    this.tokenCatalog = tokenCatalog;
+  }
+
+  /**
+   * <p>Creates the token catalog of the map.</p>
+   * <p>A map with token definitions gets a catalog of exactly those types. Otherwise the
+   * catalog holds the standard types with the counts of the token mix. Either way, the
+   * reference city count comes from the token mix, or the standard mix if there is none.</p>
+   *
+   * @return The {@link TokenCatalog} of the map
+   * @throws IllegalArgumentException If a definition is invalid or the catalog does not hold exactly one diamond
+   */
+  public TokenCatalog createTokenCatalog() {
+    TokenMix mix = tokens != null ? tokens : new TokenMix();
+    if (tokenCatalog == null || tokenCatalog.isEmpty()) {
+      return mix.toCatalog();
+    }
+    Map<TokenType, Integer> counts = new LinkedHashMap<>();
+    for (TokenDefinition definition : tokenCatalog) {
+      if (definition == null) {
+        throw new IllegalArgumentException("Token definition cannot be null.");
+      }
+      TokenType type = definition.toTokenType();
+      if (counts.keySet().stream().anyMatch(known -> known.getName().equals(type.getName()))) {
+        throw new IllegalArgumentException("Token type " + type.getName() + " is defined twice.");
+      }
+      counts.put(type, definition.getCount());
+    }
+    return new TokenCatalog(counts, mix.getReferenceCities());
+  }
+
   /**
    * <p>Adds a location to the map.</p>
    *
@@ -78,6 +192,87 @@ public class MapConfig {
     connections.add(connection);
   }
 
+  /**
+   * <p>Adds a connection between two locations to the map.</p>
+   *
+   * @param fromId The ID of the source location
+   * @param toId   The ID of the target location
+   */
+  public void addConnection(int fromId, int toId) {
+    connections.add(fromId, toId);
+  }
+
+  /**
+   * <p>Connections stored as pairs of location IDs in one <code>int</code> array.</p>
+   */
+  private static final class ConnectionList extends AbstractList<Connection> implements RandomAccess {
+    private int[] endpoints = new int[32];
+    private int size;
+
+    int endpoint(int index, int end) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("No connection " + index + ".");
+      }
+      return endpoints[index * 2 + end];
+    }
+
+    void add(int fromId, int toId) {
+      add(size, fromId, toId);
+    }
+
+    private void add(int index, int fromId, int toId) {
+      if (index < 0 || index > size) {
+        throw new IndexOutOfBoundsException("No connection " + index + ".");
+      }
+      if (size * 2 == endpoints.length) {
+        endpoints = Arrays.copyOf(endpoints, endpoints.length * 2);
+      }
+      System.arraycopy(endpoints, index * 2, endpoints, index * 2 + 2, (size - index) * 2);
+      endpoints[index * 2] = fromId;
+      endpoints[index * 2 + 1] = toId;
+      size++;
+      modCount++;
+    }
+
+    @Override
+    public Connection get(int index) {
+      return new Connection(endpoint(index, 0), endpoint(index, 1));
+    }
+
+    @Override
+    public Connection set(int index, Connection connection) {
+      Connection old = get(index);
+      endpoints[index * 2] = connection.getFromId();
+      endpoints[index * 2 + 1] = connection.getToId();
+      return old;
+    }
+
+    @Override
+    public void add(int index, Connection connection) {
+      add(index, connection.getFromId(), connection.getToId());
+    }
+
+    @Override
+    public Connection remove(int index) {
+      Connection old = get(index);
+      System.arraycopy(endpoints, index * 2 + 2, endpoints, index * 2, (size - index - 1) * 2);
+      size--;
+      modCount++;
+      return old;
+    }
+
+    @Override
+    public void clear() {
+      size = 0;
+      modCount++;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
   /**
    * <p>Represents a location on the map.</p>
    * <p>Each location has a unique ID, name, position (as percentage of map dimensions),
@@ -222,4 +417,240 @@ public class MapConfig {
       return toId;
     }
   }
+
+  /**
+   * <p>Represents the number of tokens of each kind placed on the map.</p>
+   * <p>The counts are meant for a map with {@link #getReferenceCities()} cities. A map
+   * with more cities than that gets proportionally more tokens of every kind except the
+   * diamond, so big maps keep the same odds; the scaling is done by
+   * {@link TokenCatalog#scaledTo(int)}. Cities left over hold blank tokens.</p>
+   * <p>A new mix, and any count missing from the JSON, has the standard values: 5 rubies,
+   * 5 emeralds, 5 topazes, 4 bandits and 3 visas for 32 cities.</p>
+   */
+  public static class TokenMix {
+    private int rubies = 5;
+    private int emeralds = 5;
+    private int topazes = 5;
+    private int bandits = 4;
+    private int visas = 3;
+    private int referenceCities = 32;
+
+    /**
+     * <p>Constructs the standard token mix.</p>
+     */
+    public TokenMix() {
+      // Standard counts are set by the field initializers
+    }
+
+    /**
+     * <p>Constructs a token mix with the given counts.</p>
+     *
+     * @param rubies          The number of rubies (red gems)
+     * @param emeralds        The number of emeralds (green gems)
+     * @param topazes         The number of topazes (yellow gems)
+     * @param bandits         The number of bandits
+     * @param visas           The number of visas
+     * @param referenceCities The number of cities the counts are meant for
+     * @throws IllegalArgumentException If a count is negative or the reference city count is not positive
+     */
+    public TokenMix(int rubies, int emeralds, int topazes, int bandits, int visas, int referenceCities) {
+      if (rubies < 0 || emeralds < 0 || topazes < 0 || bandits < 0 || visas < 0) {
+        throw new IllegalArgumentException("Token counts cannot be negative.");
+      }
+      if (referenceCities < 1) {
+        throw new IllegalArgumentException("Reference city count must be positive.");
+      }
+      this.rubies = rubies;
+      this.emeralds = emeralds;
+      this.topazes = topazes;
+      this.bandits = bandits;
+      this.visas = visas;
+      this.referenceCities = referenceCities;
+    }
+
+    /**
+     * <p>Creates a catalog of the standard token types with the counts of this mix.</p>
+     *
+     * @return The {@link TokenCatalog} of this mix
+     */
+    public TokenCatalog toCatalog() {
+      return TokenCatalog.standard(rubies, emeralds, topazes, bandits, visas, Math.max(1, referenceCities));
+    }
+
+    /**
+     * <p>Gets the number of rubies.</p>
+     *
+     * @return The number of red gems
+     */
+    public int getRubies() {
+      return rubies;
+    }
+
+    /**
+     * <p>Gets the number of emeralds.</p>
+     *
+     * @return The number of green gems
+     */
+    public int getEmeralds() {
+      return emeralds;
+    }
+
+    /**
+     * <p>Gets the number of topazes.</p>
+     *
+     * @return The number of yellow gems
+     */
+    public int getTopazes() {
+      return topazes;
+    }
+
+    /**
+     * <p>Gets the number of bandits.</p>
+     *
+     * @return The number of bandits
+     */
+    public int getBandits() {
+      return bandits;
+    }
+
+    /**
+     * <p>Gets the number of visas.</p>
+     *
+     * @return The number of visas
+     */
+    public int getVisas() {
+      return visas;
+    }
+
+    /**
+     * <p>Gets the number of cities the counts are meant for.</p>
+     *
+     * @return The reference city count
+     */
+    public int getReferenceCities() {
+      return referenceCities;
+    }
+  }
+
+  /**
+   * <p>Defines a token type of a map and how many tokens of it the map holds.</p>
+   * <p>A token pays <code>money</code>, or takes all the player's money if
+   * <code>loseAllMoney</code> is set, and gives <code>item</code> if there is one. Exactly
+   * one token of the catalog must be the diamond.</p>
+   */
+  public static class TokenDefinition {
+    private String type;
+    private int value;
+    private int money;
+    private boolean loseAllMoney;
+    private String item;
+    private boolean diamond;
+    private int count;
+
+    /**
+     * <p>Constructs an empty definition, to be filled in from JSON.</p>
+     */
+    public TokenDefinition() {
+      // Fields keep their default values
+    }
+
+    /**
+     * <p>Constructs a definition.</p>
+     *
+     * @param type         The name of the token type
+     * @param value        The printed value of the token
+     * @param money        The money paid to the player, or negative to take money
+     * @param loseAllMoney Whether the token takes all the player's money
+     * @param item         The item given to the player, or <code>null</code> for none
+     * @param diamond      Whether the token is the diamond
+     * @param count        The number of tokens of the type
+     */
+    public TokenDefinition(String type, int value, int money, boolean loseAllMoney, String item,
+                           boolean diamond, int count) {
+      this.type = type;
+      this.value = value;
+      this.money = money;
+      this.loseAllMoney = loseAllMoney;
+      this.item = item;
+      this.diamond = diamond;
+      this.count = count;
+    }
+
+    /**
+     * <p>Creates the token type of this definition.</p>
+     *
+     * @return A new {@link TokenType}
+     * @throws IllegalArgumentException If the name is blank, the count is negative, or the
+     *                                  diamond has a money or item effect
+     */
+    public TokenType toTokenType() {
+      if (count < 0) {
+        throw new IllegalArgumentException("Token counts cannot be negative.");
+      }
+      return new TokenType(type, value, loseAllMoney ? TokenEffectResult.LOSE_ALL_MONEY : money, item, diamond);
+    }
+
+    /**
+     * <p>Gets the name of the token type.</p>
+     *
+     * @return The type name
+     */
+    public String getType() {
+      return type;
+    }
+
+    /**
+     * <p>Gets the printed value of the token.</p>
+     *
+     * @return The token value
+     */
+    public int getValue() {
+      return value;
+    }
+
+    /**
+     * <p>Gets the money paid to the player.</p>
+     *
+     * @return The money, negative if the token takes money
+     */
+    public int getMoney() {
+      return money;
+    }
+
+    /**
+     * <p>Checks whether the token takes all the player's money.</p>
+     *
+     * @return <code>true</code> if the token takes all money
+     */
+    public boolean isLoseAllMoney() {
+      return loseAllMoney;
+    }
+
+    /**
+     * <p>Gets the item given to the player.</p>
+     *
+     * @return The item, or <code>null</code> for none
+     */
+    public String getItem() {
+      return item;
+    }
+
+    /**
+     * <p>Checks whether the token is the diamond.</p>
+     *
+     * @return <code>true</code> if the token is the diamond
+     */
+    public boolean isDiamond() {
+      return diamond;
+    }
+
+    /**
+     * <p>Gets the number of tokens of the type.</p>
+     *
+     * @return The token count
+     */
+    public int getCount() {
+      return count;
+    }
+  }
 }
@@ -1,13 +1,12 @@
 package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.FileReader;
 import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.FileWriter;
 import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
 import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.JsonParsingException;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,7 +15,6 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.stream.Collectors;
 
 /**
  * <p>Handles reading and writing map configurations to/from JSON files.</p>
@@ -30,9 +28,11 @@ import java.util.stream.Collectors;
  *   <li>Support for default map locations</li>
  *   <li>Pretty-printed JSON output for readability</li>
  * </ul>
+ * <p>Files and resources are streamed through {@link MapConfigJsonCodec}, so a map is
+ * never held in memory as text.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.1
+ * @version 0.0.2
  * @since 20.05.2025
  */
 public class MapConfigFileHandler implements FileReader<MapConfig>, FileWriter<MapConfig> {
@@ -48,8 +48,6 @@ public class MapConfigFileHandler implements FileReader<MapConfig>, FileWriter<M
   private static final String USER_MAPS_DIR = "data/maps";
   private static final String DEFAULT_MAP_FILE = "missing_diamond_default.json";
 
-  private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
-
   /**
    * <p>Reads a map configuration from a JSON file on the file system.</p>
    * <p>Parses the JSON content of the specified file and deserializes it into
@@ -62,13 +60,10 @@ public class MapConfigFileHandler implements FileReader<MapConfig>, FileWriter<M
    */
   @Override
   public MapConfig read(String filePath) throws FileHandlingException {
-    try {
-      String jsonContent = Files.readString(Paths.get(filePath));
-      return gson.fromJson(jsonContent, MapConfig.class);
+    try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8)) {
+      return MapConfigJsonCodec.read(reader);
     } catch (IOException e) {
       throw new FileHandlingException("Error reading map file: " + filePath, e);
-    } catch (Exception e) {
-      throw new JsonParsingException("Error parsing map JSON: " + e.getMessage(), e);
     }
   }
 
@@ -87,16 +82,9 @@ public class MapConfigFileHandler implements FileReader<MapConfig>, FileWriter<M
       if (is == null) {
         throw new FileHandlingException("Resource not found: " + resourcePath, null);
       }
-      String jsonContent = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))
-          .lines()
-          .collect(Collectors.joining("\n"));
-      return gson.fromJson(jsonContent, MapConfig.class);
+      return MapConfigJsonCodec.read(new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8)));
     } catch (IOException e) {
       throw new FileHandlingException("Error reading map resource: " + resourcePath, e);
-    } catch (FileHandlingException e) {
-      throw e;
-    } catch (Exception e) {
-      throw new JsonParsingException("Error parsing map JSON: " + e.getMessage(), e);
     }
   }
 
@@ -116,9 +104,10 @@ public class MapConfigFileHandler implements FileReader<MapConfig>, FileWriter<M
       Path path = Paths.get(filePath);
       Files.createDirectories(path.getParent());
 
-      // Convert to JSON and write to file
-      String jsonContent = gson.toJson(mapConfig);
-      Files.writeString(path, jsonContent);
+      // Stream the JSON to the file
+      try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+        MapConfigJsonCodec.write(mapConfig, writer);
+      }
     } catch (IOException e) {
       throw new FileHandlingException("Error writing map to file: " + filePath, e);
     }
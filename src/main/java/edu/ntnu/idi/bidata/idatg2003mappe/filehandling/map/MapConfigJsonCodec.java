@@ -0,0 +1,332 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.JsonParsingException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Reads and writes {@link MapConfig} objects as JSON, one token at a time.</p>
+ * <p>The JSON is read from a {@link Reader} and written to a {@link Writer} with Gson's
+ * streaming {@link JsonReader} and {@link JsonWriter}, so neither the text of the map nor
+ * a tree of it is ever held in memory. Locations are created directly from their fields,
+ * and connections are added to the map as pairs of location IDs, so reading a map creates
+ * one object per location and none per connection.</p>
+ * <p>The format is the one the maps have always been saved in:</p>
+ * <ul>
+ *   <li><code>name</code>: the name of the map</li>
+ *   <li><code>locations</code>: objects with <code>id</code>, <code>name</code>,
+ *       <code>xPercent</code>, <code>yPercent</code> and <code>isSpecial</code></li>
+ *   <li><code>connections</code>: objects with <code>fromId</code> and <code>toId</code></li>
+ *   <li><code>tokens</code>: the optional {@link MapConfig.TokenMix}</li>
+ *   <li><code>tokenCatalog</code>: the optional list of {@link MapConfig.TokenDefinition}s</li>
+ * </ul>
+ * <p>Unknown fields are skipped and <code>null</code> values read as missing, so maps
+ * written by other versions of the game can still be read.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class MapConfigJsonCodec {
+
+  private MapConfigJsonCodec() {
+  }
+
+  /**
+   * <p>Reads a map configuration.</p>
+   * <p>The reader is read to the end of the JSON document, but not closed.</p>
+   *
+   * @param reader The reader to read the JSON from
+   * @return The map configuration
+   * @throws IllegalArgumentException If the reader is null
+   * @throws JsonParsingException     If the JSON is malformed or does not describe a map
+   * @throws FileHandlingException    If the reader cannot be read
+   */
+  public static MapConfig read(Reader reader) throws FileHandlingException {
+    if (reader == null) {
+      throw new IllegalArgumentException("Reader cannot be null.");
+    }
+    JsonReader json = new JsonReader(reader);
+    json.setLenient(true);
+    try {
+      return readMap(json);
+    } catch (MalformedJsonException | EOFException e) {
+      throw new JsonParsingException("Error parsing map JSON: " + e.getMessage(), e);
+    } catch (IOException e) {
+      throw new FileHandlingException("Error reading map JSON: " + e.getMessage(), e);
+    } catch (IllegalStateException | IllegalArgumentException e) {
+      // Thrown for values of the wrong type and invalid token counts
+      throw new JsonParsingException("Error parsing map JSON: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * <p>Writes a map configuration as indented JSON.</p>
+   * <p>The writer is flushed, but not closed.</p>
+   *
+   * @param mapConfig The map configuration to write
+   * @param writer    The writer to write the JSON to
+   * @throws IllegalArgumentException If the map configuration or the writer is null
+   * @throws FileHandlingException    If the writer cannot be written
+   */
+  public static void write(MapConfig mapConfig, Writer writer) throws FileHandlingException {
+    if (mapConfig == null || writer == null) {
+      throw new IllegalArgumentException("Map configuration and writer cannot be null.");
+    }
+    JsonWriter json = new JsonWriter(writer);
+    json.setIndent("  ");
+    try {
+      writeMap(json, mapConfig);
+      json.flush();
+    } catch (IOException e) {
+      throw new FileHandlingException("Error writing map JSON: " + e.getMessage(), e);
+    }
+  }
+
+  // ==================== Reading ====================
+
+  private static MapConfig readMap(JsonReader json) throws IOException {
+    MapConfig mapConfig = new MapConfig();
+    json.beginObject();
+    while (json.hasNext()) {
+      String field = json.nextName();
+      if (skipNull(json)) {
+        continue;
+      }
+      switch (field) {
+        case "name" -> mapConfig.setName(json.nextString());
+        case "locations" -> readLocations(json, mapConfig);
+        case "connections" -> readConnections(json, mapConfig);
+        case "tokens" -> mapConfig.setTokens(readTokenMix(json));
+        case "tokenCatalog" -> mapConfig.setTokenCatalog(readTokenCatalog(json));
+        default -> json.skipValue();
+      }
+    }
+    json.endObject();
+    if (json.peek() != JsonToken.END_DOCUMENT) {
+      throw new MalformedJsonException("Unexpected content after the map.");
+    }
+    return mapConfig;
+  }
+
+  private static void readLocations(JsonReader json, MapConfig mapConfig) throws IOException {
+    json.beginArray();
+    while (json.hasNext()) {
+      if (skipNull(json)) {
+        continue;
+      }
+      int id = 0;
+      String name = null;
+      double xPercent = 0;
+      double yPercent = 0;
+      boolean special = false;
+      json.beginObject();
+      while (json.hasNext()) {
+        String field = json.nextName();
+        if (skipNull(json)) {
+          continue;
+        }
+        switch (field) {
+          case "id" -> id = json.nextInt();
+          case "name" -> name = json.nextString();
+          case "xPercent" -> xPercent = json.nextDouble();
+          case "yPercent" -> yPercent = json.nextDouble();
+          case "isSpecial" -> special = json.nextBoolean();
+          default -> json.skipValue();
+        }
+      }
+      json.endObject();
+      mapConfig.addLocation(new MapConfig.Location(id, name, xPercent, yPercent, special));
+    }
+    json.endArray();
+  }
+
+  private static void readConnections(JsonReader json, MapConfig mapConfig) throws IOException {
+    json.beginArray();
+    while (json.hasNext()) {
+      if (skipNull(json)) {
+        continue;
+      }
+      int fromId = 0;
+      int toId = 0;
+      json.beginObject();
+      while (json.hasNext()) {
+        String field = json.nextName();
+        if (skipNull(json)) {
+          continue;
+        }
+        switch (field) {
+          case "fromId" -> fromId = json.nextInt();
+          case "toId" -> toId = json.nextInt();
+          default -> json.skipValue();
+        }
+      }
+      json.endObject();
+      mapConfig.addConnection(fromId, toId);
+    }
+    json.endArray();
+  }
+
+  private static MapConfig.TokenMix readTokenMix(JsonReader json) throws IOException {
+    MapConfig.TokenMix standard = new MapConfig.TokenMix();
+    int rubies = standard.getRubies();
+    int emeralds = standard.getEmeralds();
+    int topazes = standard.getTopazes();
+    int bandits = standard.getBandits();
+    int visas = standard.getVisas();
+    int referenceCities = standard.getReferenceCities();
+    json.beginObject();
+    while (json.hasNext()) {
+      String field = json.nextName();
+      if (skipNull(json)) {
+        continue;
+      }
+      switch (field) {
+        case "rubies" -> rubies = json.nextInt();
+        case "emeralds" -> emeralds = json.nextInt();
+        case "topazes" -> topazes = json.nextInt();
+        case "bandits" -> bandits = json.nextInt();
+        case "visas" -> visas = json.nextInt();
+        case "referenceCities" -> referenceCities = json.nextInt();
+        default -> json.skipValue();
+      }
+    }
+    json.endObject();
+    return new MapConfig.TokenMix(rubies, emeralds, topazes, bandits, visas, referenceCities);
+  }
+
+  private static List<MapConfig.TokenDefinition> readTokenCatalog(JsonReader json) throws IOException {
+    List<MapConfig.TokenDefinition> definitions = new ArrayList<>();
+    json.beginArray();
+    while (json.hasNext()) {
+      if (skipNull(json)) {
+        // Rejected with a clear message when the catalog is created
+        definitions.add(null);
+        continue;
+      }
+      String type = null;
+      int value = 0;
+      int money = 0;
+      boolean loseAllMoney = false;
+      String item = null;
+      boolean diamond = false;
+      int count = 0;
+      json.beginObject();
+      while (json.hasNext()) {
+        String field = json.nextName();
+        if (skipNull(json)) {
+          continue;
+        }
+        switch (field) {
+          case "type" -> type = json.nextString();
+          case "value" -> value = json.nextInt();
+          case "money" -> money = json.nextInt();
+          case "loseAllMoney" -> loseAllMoney = json.nextBoolean();
+          case "item" -> item = json.nextString();
+          case "diamond" -> diamond = json.nextBoolean();
+          case "count" -> count = json.nextInt();
+          default -> json.skipValue();
+        }
+      }
+      json.endObject();
+      definitions.add(new MapConfig.TokenDefinition(type, value, money, loseAllMoney, item, diamond, count));
+    }
+    json.endArray();
+    return definitions;
+  }
+
+  /**
+   * <p>Skips the next value if it is <code>null</code>.</p>
+   */
+  private static boolean skipNull(JsonReader json) throws IOException {
+    if (json.peek() == JsonToken.NULL) {
+      json.nextNull();
+      return true;
+    }
+    return false;
+  }
+
+  // ==================== Writing ====================
+
+  private static void writeMap(JsonWriter json, MapConfig mapConfig) throws IOException {
+    json.beginObject();
+    if (mapConfig.getName() != null) {
+      json.name("name").value(mapConfig.getName());
+    }
+
+    json.name("locations").beginArray();
+    for (MapConfig.Location location : mapConfig.getLocations()) {
+      json.beginObject();
+      json.name("id").value(location.getId());
+      if (location.getName() != null) {
+        json.name("name").value(location.getName());
+      }
+      json.name("xPercent").value(location.getXPercent());
+      json.name("yPercent").value(location.getYPercent());
+      json.name("isSpecial").value(location.isSpecial());
+      json.endObject();
+    }
+    json.endArray();
+
+    json.name("connections").beginArray();
+    for (int i = 0; i < mapConfig.getConnectionCount(); i++) {
+      json.beginObject();
+      json.name("fromId").value(mapConfig.getConnectionFromId(i));
+      json.name("toId").value(mapConfig.getConnectionToId(i));
+      json.endObject();
+    }
+    json.endArray();
+
+    MapConfig.TokenMix tokens = mapConfig.getTokens();
+    if (tokens != null) {
+      json.name("tokens").beginObject();
+      json.name("rubies").value(tokens.getRubies());
+      json.name("emeralds").value(tokens.getEmeralds());
+      json.name("topazes").value(tokens.getTopazes());
+      json.name("bandits").value(tokens.getBandits());
+      json.name("visas").value(tokens.getVisas());
+      json.name("referenceCities").value(tokens.getReferenceCities());
+      json.endObject();
+    }
+
+    if (mapConfig.getTokenCatalog() != null) {
+      json.name("tokenCatalog").beginArray();
+      for (MapConfig.TokenDefinition definition : mapConfig.getTokenCatalog()) {
+        writeTokenDefinition(json, definition);
+      }
+      json.endArray();
+    }
+    json.endObject();
+  }
+
+  private static void writeTokenDefinition(JsonWriter json, MapConfig.TokenDefinition definition)
+      throws IOException {
+    if (definition == null) {
+      json.nullValue();
+      return;
+    }
+    json.beginObject();
+    if (definition.getType() != null) {
+      json.name("type").value(definition.getType());
+    }
+    json.name("value").value(definition.getValue());
+    json.name("money").value(definition.getMoney());
+    json.name("loseAllMoney").value(definition.isLoseAllMoney());
+    if (definition.getItem() != null) {
+      json.name("item").value(definition.getItem());
+    }
+    json.name("diamond").value(definition.isDiamond());
+    json.name("count").value(definition.getCount());
+    json.endObject();
+  }
+}
@@ -2,7 +2,6 @@ package edu.ntnu.idi.bidata.idatg2003mappe.map;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * <p>Represents a tile on the board.</p>
@@ -91,10 +90,10 @@ public class Tile {
     }
 
     Tile current = this;
-    return Stream.iterate(current, tile -> tile.getNextTile() != null, Tile::getNextTile)
-        .limit(steps + 1)
-        .reduce((first, second) -> second)
-        .orElse(current);
+    for (int step = 0; step < steps && current.getNextTile() != null; step++) {
+      current = current.getNextTile();
+    }
+    return current;
   }
 
   /**
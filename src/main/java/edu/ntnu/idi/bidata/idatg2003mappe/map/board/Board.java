@@ -4,7 +4,9 @@ import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>Represents a generic board with tiles.</p>
@@ -16,7 +18,11 @@ import java.util.List;
  *   <li>Tile management (adding and retrieving)</li>
  *   <li>First tile designation as start point</li>
  *   <li>Board identification with name</li>
+ *   <li>Constant time tile lookup by ID</li>
  * </ul>
+ * <p>Tiles are indexed by ID in an array when the IDs are reasonably dense, which
+ * is the case for every generated board, and in a hash map otherwise. When two
+ * tiles share an ID, the one added first is returned.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
  * @version 0.0.1
@@ -27,6 +33,11 @@ public class Board {
   protected List<Tile> tiles;
   protected String boardName;
 
+  // Lazily built ID index, see getTileById(int)
+  private Tile[] tileIndex;
+  private Map<Integer, Tile> sparseTileIndex;
+  private int minTileId;
+
   /**
    * <p>Adds a tile to the board.</p>
    * <p>If this is the first tile added, it becomes the starting tile.
@@ -42,6 +53,7 @@ public class Board {
     if (tiles.size() == 1) {
       startTile = tile;
     }
+    updateTileIndex(tile);
   }
 
   /**
@@ -66,11 +78,19 @@ public class Board {
     return startTile;
   }
 
+  /**
+   * <p>Gets the number of tiles on the board.</p>
+   *
+   * @return The number of tiles, or <code>0</code> if the board is empty
+   */
+  public int getTileCount() {
+    return tiles == null ? 0 : tiles.size();
+  }
+
   /**
    * <p>Gets a tile by its ID.</p>
-   * <p>Searches through all tiles to find one with the matching ID.
-   * This is a base implementation that performs a linear search;
-   * subclasses may provide more efficient lookup methods.</p>
+   * <p>Uses an ID index that is built on first lookup and kept up to date as tiles
+   * are added, so each lookup takes constant time regardless of the board size.</p>
    *
    * @param tileId The ID of the tile to find
    * @return The tile with the specified ID, or <code>null</code> if not found or if the board is empty
@@ -79,11 +99,66 @@ public class Board {
     if (tiles == null) {
       return null;
     }
+    if (tileIndex == null && sparseTileIndex == null) {
+      buildTileIndex();
+    }
+    if (sparseTileIndex != null) {
+      return sparseTileIndex.get(tileId);
+    }
+    long slot = (long) tileId - minTileId;
+    return slot < 0 || slot >= tileIndex.length ? null : tileIndex[(int) slot];
+  }
 
-    return tiles.stream()
-        .filter(tile -> tile.getTileId() == tileId)
-        .findFirst()
-        .orElse(null);
+  /**
+   * <p>Builds the ID index from all tiles on the board.</p>
+   * <p>An array is used when the ID range is at most a few times the number of
+   * tiles; otherwise a hash map keeps memory proportional to the tile count.</p>
+   */
+  private void buildTileIndex() {
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (Tile tile : tiles) {
+      min = Math.min(min, tile.getTileId());
+      max = Math.max(max, tile.getTileId());
+    }
+
+    long idRange = (long) max - min + 1;
+    if (idRange <= (long) tiles.size() * 4 + 64) {
+      minTileId = min;
+      tileIndex = new Tile[(int) idRange];
+      for (Tile tile : tiles) {
+        int slot = tile.getTileId() - min;
+        if (tileIndex[slot] == null) {
+          tileIndex[slot] = tile;
+        }
+      }
+    } else {
+      sparseTileIndex = new HashMap<>();
+      for (Tile tile : tiles) {
+        sparseTileIndex.putIfAbsent(tile.getTileId(), tile);
+      }
+    }
+  }
 
+  /**
+   * <p>Adds a newly added tile to the ID index, if the index has been built.</p>
+   * <p>A tile outside the array range drops the index so it is rebuilt with a
+   * suitable range on the next lookup.</p>
+   *
+   * @param tile The tile that was added
+   */
+  private void updateTileIndex(Tile tile) {
+    if (sparseTileIndex != null) {
+      sparseTileIndex.putIfAbsent(tile.getTileId(), tile);
+    } else if (tileIndex != null) {
+      long slot = (long) tile.getTileId() - minTileId;
+      if (slot >= 0 && slot < tileIndex.length) {
+        if (tileIndex[(int) slot] == null) {
+          tileIndex[(int) slot] = tile;
+        }
+      } else {
+        tileIndex = null;
+      }
+    }
   }
 }
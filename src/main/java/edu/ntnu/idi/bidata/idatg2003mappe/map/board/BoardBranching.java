@@ -20,12 +20,15 @@ import java.util.Map;
  * </ul>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
- * @version 0.0.1
+ * @version 0.0.2
  * @since 22.04.2025
  */
 public class BoardBranching extends Board {
 
   private final Map<Integer, Tile> tilesById;
+  private int modificationCount;
+  private BoardGraph graph;
+  private int graphModificationCount;
 
   /**
    * <p>Constructor for BoardBranching.</p>
@@ -74,6 +77,7 @@ public class BoardBranching extends Board {
     }
     super.addTileToBoard(tile);
     tilesById.put(tile.getTileId(), tile);
+    modificationCount++;
   }
 
   /**
@@ -106,6 +110,34 @@ public class BoardBranching extends Board {
     }
     tile1.addTileToTileBranch(tile2);
     tile2.addTileToTileBranch(tile1);
+    modificationCount++;
+  }
+
+  /**
+   * <p>Gets the number of changes made to the board.</p>
+   * <p>The count increases whenever a tile is added or two tiles are connected, so
+   * data derived from the board can tell when it must be rebuilt. Links added
+   * directly on tiles are not counted.</p>
+   *
+   * @return The number of modifications made through this board
+   */
+  public int getModificationCount() {
+    return modificationCount;
+  }
+
+  /**
+   * <p>Gets a compact view of the connections between the tiles.</p>
+   * <p>The view is built on first use and reused until the board is modified. A board
+   * without tiles has an empty graph.</p>
+   *
+   * @return The graph of the board in its current state
+   */
+  public BoardGraph getGraph() {
+    if (graph == null || graphModificationCount != modificationCount) {
+      graph = new BoardGraph(tiles != null ? tiles : List.of());
+      graphModificationCount = modificationCount;
+    }
+    return graph;
   }
 
   /**
@@ -0,0 +1,306 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.map.board;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Frozen compressed-sparse-row view of the connections between tiles on a branching board.</p>
+ * <p>Every tile gets an index. The neighbours of tile <code>i</code> are stored in
+ * <code>neighbors[offsets[i]]</code> up to <code>neighbors[offsets[i + 1]]</code>. Each
+ * neighbour appears once per tile, even if the tiles were connected more than once, and
+ * neighbours keep the order in which they were first linked. This takes far less memory
+ * than one list of tile references per tile.</p>
+ * <p>Reachability works on {@link BitSet}s of tile indices. A frontier moves one step
+ * by setting the neighbours of every tile in it, so the moves of many players can be
+ * spread at the same time. Reachability here uses the shortest number of steps between
+ * tiles; the tiles a piece may stop on for a roll follow the game's move rule and are
+ * found by the {@code MovementCalculator} of the Missing Diamond game.</p>
+ * <p>When the tile IDs are reasonably compact, a table indexed by ID finds the index of a
+ * tile with a single array read. Boards with scattered IDs fall back to a binary search.</p>
+ * <p>Tiles linked from the board but never added to it are indexed as well, after the
+ * board's own tiles. A graph is not updated when the board changes, so use
+ * {@link BoardBranching#getGraph()} to get a view that matches the current board.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class BoardGraph {
+  private static final int ID_TABLE_SLACK = 4;
+  private static final int ID_TABLE_MIN_SIZE = 1024;
+
+  private final Tile[] tiles;
+  private final Map<Tile, Integer> indexOfTile;
+  private final long[] idLookup;
+  private final int[] indexById;
+  private final int[] offsets;
+  private final int[] neighbors;
+
+  /**
+   * <p>Builds the graph for the given tiles.</p>
+   *
+   * @param boardTiles The tiles of the board
+   * @throws IllegalArgumentException If the tile list is null
+   */
+  public BoardGraph(List<Tile> boardTiles) {
+    if (boardTiles == null) {
+      throw new IllegalArgumentException("Tiles cannot be null.");
+    }
+
+    // Number every tile, including neighbours that were never added to the board
+    List<Tile> ordered = new ArrayList<>();
+    this.indexOfTile = new IdentityHashMap<>();
+    for (Tile tile : boardTiles) {
+      if (!indexOfTile.containsKey(tile)) {
+        indexOfTile.put(tile, ordered.size());
+        ordered.add(tile);
+      }
+    }
+    for (int i = 0; i < ordered.size(); i++) {
+      for (Tile neighbor : ordered.get(i).getNextTiles()) {
+        if (!indexOfTile.containsKey(neighbor)) {
+          indexOfTile.put(neighbor, ordered.size());
+          ordered.add(neighbor);
+        }
+      }
+    }
+    this.tiles = ordered.toArray(new Tile[0]);
+
+    // Copy the neighbour lists, skipping repeated connections
+    this.offsets = new int[tiles.length + 1];
+    int[] buffer = new int[Math.max(16, tiles.length)];
+    int[] seen = new int[tiles.length];
+    int count = 0;
+    for (int i = 0; i < tiles.length; i++) {
+      List<Tile> next = tiles[i].getNextTiles();
+      if (buffer.length - count < next.size()) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + next.size()));
+      }
+      for (Tile neighbor : next) {
+        int index = indexOfTile.get(neighbor);
+        if (seen[index] != i + 1) {
+          seen[index] = i + 1;
+          buffer[count++] = index;
+        }
+      }
+      offsets[i + 1] = count;
+    }
+    this.neighbors = Arrays.copyOf(buffer, count);
+
+    // Tile ID in the high half, index in the low half, sorted for binary search
+    this.idLookup = new long[tiles.length];
+    for (int i = 0; i < tiles.length; i++) {
+      idLookup[i] = ((long) tiles[i].getTileId() << 32) | i;
+    }
+    Arrays.sort(idLookup);
+    this.indexById = buildIdTable();
+  }
+
+  /**
+   * <p>Builds a table from tile ID to index plus one, or returns <code>null</code> if the
+   * IDs are negative or too spread out for a table to pay off.</p>
+   */
+  private int[] buildIdTable() {
+    if (idLookup.length == 0) {
+      return null;
+    }
+    int minId = (int) (idLookup[0] >> 32);
+    int maxId = (int) (idLookup[idLookup.length - 1] >> 32);
+    if (minId < 0 || maxId >= ID_TABLE_SLACK * tiles.length + ID_TABLE_MIN_SIZE) {
+      return null;
+    }
+    int[] table = new int[maxId + 1];
+    for (int i = tiles.length - 1; i >= 0; i--) {
+      // Walking backwards leaves the lowest index for repeated IDs
+      table[tiles[i].getTileId()] = i + 1;
+    }
+    return table;
+  }
+
+  /**
+   * <p>Gets the number of tiles in the graph.</p>
+   *
+   * @return The number of indexed tiles
+   */
+  public int size() {
+    return tiles.length;
+  }
+
+  /**
+   * <p>Gets the number of stored neighbour entries.</p>
+   * <p>A connection made in both directions counts twice.</p>
+   *
+   * @return The total number of neighbour entries
+   */
+  public int getNeighborEntryCount() {
+    return neighbors.length;
+  }
+
+  /**
+   * <p>Gets the tile at an index.</p>
+   *
+   * @param index The index of the tile
+   * @return The tile
+   * @throws IndexOutOfBoundsException If the index is outside the graph
+   */
+  public Tile getTile(int index) {
+    return tiles[checkIndex(index)];
+  }
+
+  /**
+   * <p>Gets the index of a tile.</p>
+   *
+   * @param tile The tile to look up
+   * @return The index of the tile, or <code>-1</code> if the tile is not in the graph
+   */
+  public int indexOf(Tile tile) {
+    if (tile == null) {
+      return -1;
+    }
+    int index = indexOfId(tile.getTileId());
+    if (index >= 0 && tiles[index] == tile) {
+      return index;
+    }
+    // Another tile with the same ID, or a tile outside the graph
+    Integer byIdentity = indexOfTile.get(tile);
+    return byIdentity == null ? -1 : byIdentity;
+  }
+
+  /**
+   * <p>Gets the index of the first tile with an ID.</p>
+   *
+   * @param tileId The ID of the tile
+   * @return The lowest index of a tile with the ID, or <code>-1</code> if there is none
+   */
+  public int indexOfId(int tileId) {
+    if (indexById != null) {
+      return tileId >= 0 && tileId < indexById.length ? indexById[tileId] - 1 : -1;
+    }
+    int low = 0;
+    int high = idLookup.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if ((int) (idLookup[middle] >> 32) < tileId) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    if (low < idLookup.length && (int) (idLookup[low] >> 32) == tileId) {
+      return (int) idLookup[low];
+    }
+    return -1;
+  }
+
+  /**
+   * <p>Gets the number of neighbours of a tile.</p>
+   *
+   * @param index The index of the tile
+   * @return The number of distinct neighbours
+   * @throws IndexOutOfBoundsException If the index is outside the graph
+   */
+  public int degree(int index) {
+    checkIndex(index);
+    return offsets[index + 1] - offsets[index];
+  }
+
+  /**
+   * <p>Gets the neighbours of a tile.</p>
+   *
+   * @param index The index of the tile
+   * @return A new array with the indices of the distinct neighbours, in link order
+   * @throws IndexOutOfBoundsException If the index is outside the graph
+   */
+  public int[] neighborsOf(int index) {
+    checkIndex(index);
+    return Arrays.copyOfRange(neighbors, offsets[index], offsets[index + 1]);
+  }
+
+  /**
+   * <p>Moves a frontier one step.</p>
+   *
+   * @param frontier The indices of the tiles in the frontier
+   * @param next     The set to add every neighbour of the frontier to
+   * @throws IllegalArgumentException If either set is null
+   */
+  public void expand(BitSet frontier, BitSet next) {
+    if (frontier == null || next == null) {
+      throw new IllegalArgumentException("Frontier sets cannot be null.");
+    }
+    for (int tile = frontier.nextSetBit(0); tile >= 0 && tile < tiles.length;
+         tile = frontier.nextSetBit(tile + 1)) {
+      for (int k = offsets[tile]; k < offsets[tile + 1]; k++) {
+        next.set(neighbors[k]);
+      }
+    }
+  }
+
+  /**
+   * <p>Gets the tiles that are a given number of steps from the nearest source.</p>
+   *
+   * @param sources The indices of the start tiles
+   * @param steps   The number of steps
+   * @return The indices of the tiles whose shortest distance from the sources is <code>steps</code>
+   * @throws IllegalArgumentException If the sources are null or the steps are negative
+   */
+  public BitSet reachableInSteps(BitSet sources, int steps) {
+    BitSet[] layers = layers(sources, steps);
+    return layers[steps];
+  }
+
+  /**
+   * <p>Gets the tiles that are at most a given number of steps from a source.</p>
+   *
+   * @param sources The indices of the start tiles
+   * @param steps   The largest number of steps
+   * @return The indices of the sources and every tile within <code>steps</code> of them
+   * @throws IllegalArgumentException If the sources are null or the steps are negative
+   */
+  public BitSet reachableWithin(BitSet sources, int steps) {
+    BitSet reached = new BitSet(tiles.length);
+    for (BitSet layer : layers(sources, steps)) {
+      reached.or(layer);
+    }
+    return reached;
+  }
+
+  /**
+   * <p>Spreads a frontier from the sources and keeps every layer.</p>
+   *
+   * @return The tiles first reached after 0, 1, ... <code>steps</code> steps
+   */
+  private BitSet[] layers(BitSet sources, int steps) {
+    if (sources == null) {
+      throw new IllegalArgumentException("Sources cannot be null.");
+    }
+    if (steps < 0) {
+      throw new IllegalArgumentException("Steps cannot be negative.");
+    }
+    BitSet[] layers = new BitSet[steps + 1];
+    BitSet frontier = sources.get(0, tiles.length);
+    BitSet visited = (BitSet) frontier.clone();
+    layers[0] = frontier;
+    for (int step = 1; step <= steps; step++) {
+      BitSet next = new BitSet(tiles.length);
+      expand(frontier, next);
+      next.andNot(visited);
+      visited.or(next);
+      layers[step] = next;
+      frontier = next;
+    }
+    return layers;
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= tiles.length) {
+      throw new IndexOutOfBoundsException("No tile at index " + index);
+    }
+    return index;
+  }
+}
@@ -22,6 +22,8 @@ import java.util.List;
  */
 public class BoardLinear extends Board {
 
+  private CompiledLadderBoard compiledBoard;
+
   /**
    * <p>Constructor for BoardLinear.</p>
    * <p>Creates an empty linear board with no tiles.</p>
@@ -31,17 +33,55 @@ public class BoardLinear extends Board {
   }
 
   /**
-   * <p>Gets the starting tile of the board.</p>
-   * <p>Returns the first tile that was added to the board,
-   * which serves as the starting point for players.</p>
+   * <p>Adds a tile to the board.</p>
+   * <p>Discards the compiled board so the next call to {@link #getCompiledBoard()}
+   * includes the new tile.</p>
+   *
+   * @param tile The tile to add.
+   */
+  @Override
+  public void addTileToBoard(Tile tile) {
+    super.addTileToBoard(tile);
+    compiledBoard = null;
+  }
+
+  /**
+   * <p>Gets the compiled jump-table form of this board.</p>
+   * <p>The board is compiled on first use and reused afterwards. Call
+   * {@link #invalidateCompiledBoard()} after relinking tiles that are already on the board.</p>
+   *
+   * @return The {@link CompiledLadderBoard} for this board
+   * @throws IllegalStateException If the board has no tiles
+   */
+  public CompiledLadderBoard getCompiledBoard() {
+    if (compiledBoard == null) {
+      if (tiles == null || tiles.isEmpty()) {
+        throw new IllegalStateException("Cannot compile an empty board.");
+      }
+      compiledBoard = new CompiledLadderBoard(tiles);
+    }
+    return compiledBoard;
+  }
+
+  /**
+   * <p>Discards the compiled board.</p>
+   * <p>Must be called when ladders, snakes, effects or next links of tiles
+   * already on the board are changed.</p>
+   */
+  public void invalidateCompiledBoard() {
+    compiledBoard = null;
+  }
+
+  /**
+   * <p>Gets a tile by its ID.</p>
+   * <p>Kept for existing callers; the lookup goes through the ID index of
+   * {@link #getTileById(int)} and no longer scans the board.</p>
    *
-   * @return The starting tile of the board.
+   * @param tileId The ID of the tile to find
+   * @return The tile with the specified ID, or <code>null</code> if not found
    */
   public Tile getTileByIdLinear(int tileId) {
-    return tiles.stream()
-        .filter(tile -> tile.getTileId() == tileId)
-        .findFirst()
-        .orElse(null);
+    return getTileById(tileId);
   }
 
   /**
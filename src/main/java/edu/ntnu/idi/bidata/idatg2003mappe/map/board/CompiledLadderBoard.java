@@ -0,0 +1,274 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.map.board;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Compiled, array-based representation of a {@link BoardLinear}.</p>
+ * <p>The tile graph of a ladder board is flattened into parallel primitive arrays
+ * indexed by the position of each tile on the board:</p>
+ * <ul>
+ *   <li><code>next</code> - index of the following tile (the last tile points to itself)</li>
+ *   <li><code>destination</code> - index reached through a ladder or snake (itself if none)</li>
+ *   <li><code>effect</code> - effect code of the tile ({@link #EFFECT_NONE},
+ *       {@link #EFFECT_SKIP_TURN} or {@link #EFFECT_BACK_TO_START})</li>
+ * </ul>
+ * <p>Resolving a roll therefore only reads a handful of array slots and never
+ * allocates, which matters when millions of turns are played in a batch.</p>
+ * <p>The arrays themselves live in a {@link LadderLayout}; the compiled board adds the
+ * mapping between board positions and {@link Tile} objects.</p>
+ * <p>The compiled board is a snapshot. If tiles are linked differently after
+ * compilation, the board has to be compiled again.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class CompiledLadderBoard {
+
+  /**
+   * <p>Effect code for tiles without a special effect.</p>
+   */
+  public static final byte EFFECT_NONE = 0;
+
+  /**
+   * <p>Effect code for the "skipTurn" tile effect.</p>
+   */
+  public static final byte EFFECT_SKIP_TURN = 1;
+
+  /**
+   * <p>Effect code for the "backToStart" tile effect.</p>
+   */
+  public static final byte EFFECT_BACK_TO_START = 2;
+
+  private static final int NO_INDEX = -1;
+
+  private final Tile[] tiles;
+  private final LadderLayout layout;
+  private final int[] indexById;
+  private final int minTileId;
+
+  /**
+   * <p>Compiles the given tiles into a jump table.</p>
+   * <p>The first tile in the list is the start tile. Every link followed by the
+   * compiled board must point to a tile that is part of the list.</p>
+   *
+   * @param boardTiles The tiles of the board, in board order
+   * @throws IllegalArgumentException If the list is null or empty
+   * @throws IllegalStateException    If a tile links to a tile that is not on the board
+   */
+  CompiledLadderBoard(List<Tile> boardTiles) {
+    if (boardTiles == null || boardTiles.isEmpty()) {
+      throw new IllegalArgumentException("Cannot compile a board without tiles.");
+    }
+
+    int size = boardTiles.size();
+    this.tiles = boardTiles.toArray(new Tile[0]);
+    int[] next = new int[size];
+    int[] destination = new int[size];
+    byte[] effect = new byte[size];
+
+    Map<Tile, Integer> positions = new IdentityHashMap<>(size * 2);
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int i = 0; i < size; i++) {
+      positions.putIfAbsent(tiles[i], i);
+      min = Math.min(min, tiles[i].getTileId());
+      max = Math.max(max, tiles[i].getTileId());
+    }
+
+    for (int i = 0; i < size; i++) {
+      Tile tile = tiles[i];
+      next[i] = tile.getNextTile() == null ? i : positionOf(positions, tile, tile.getNextTile());
+      destination[i] = tile.getDestinationTile() == null
+          ? i : positionOf(positions, tile, tile.getDestinationTile());
+      effect[i] = effectCode(tile.getEffect());
+    }
+    this.layout = new LadderLayout(next, destination, effect, false);
+
+    // Dense id lookup; the first tile added with an id wins, like BoardLinear#getTileByIdLinear.
+    // Sparse id ranges get a lookup table of size zero and fall back to scanning.
+    long idRange = (long) max - min + 1;
+    this.minTileId = min;
+    this.indexById = new int[idRange <= (long) size * 4 + 64 ? (int) idRange : 0];
+    Arrays.fill(indexById, NO_INDEX);
+    for (int i = 0; i < size && indexById.length > 0; i++) {
+      int slot = tiles[i].getTileId() - min;
+      if (indexById[slot] == NO_INDEX) {
+        indexById[slot] = i;
+      }
+    }
+  }
+
+  /**
+   * <p>Looks up the board position of a linked tile.</p>
+   *
+   * @param positions The identity map of board positions
+   * @param from      The tile holding the link
+   * @param to        The linked tile
+   * @return The board position of the linked tile
+   * @throws IllegalStateException If the linked tile is not on the board
+   */
+  private static int positionOf(Map<Tile, Integer> positions, Tile from, Tile to) {
+    Integer position = positions.get(to);
+    if (position == null) {
+      throw new IllegalStateException("Tile " + from.getTileId()
+          + " links to tile " + to.getTileId() + " which is not on the board.");
+    }
+    return position;
+  }
+
+  /**
+   * <p>Converts a tile effect string to its compiled effect code.</p>
+   *
+   * @param effect The effect string of a tile, possibly <code>null</code>
+   * @return The matching effect code, {@link #EFFECT_NONE} for unknown effects
+   */
+  static byte effectCode(String effect) {
+    if ("skipTurn".equals(effect)) {
+      return EFFECT_SKIP_TURN;
+    }
+    if ("backToStart".equals(effect)) {
+      return EFFECT_BACK_TO_START;
+    }
+    return EFFECT_NONE;
+  }
+
+  /**
+   * <p>Walks the given number of steps along the board path.</p>
+   * <p>Movement stops at the last tile if the roll overshoots the end of the board.</p>
+   *
+   * @param index The board position to start from
+   * @param steps The number of steps to walk (must be non-negative)
+   * @return The board position after walking
+   * @throws IllegalArgumentException If steps is negative
+   */
+  public int advance(int index, int steps) {
+    return layout.advance(index, steps);
+  }
+
+  /**
+   * <p>Gets the board position reached through the ladder or snake on a tile.</p>
+   *
+   * @param index The board position of the tile
+   * @return The destination position, or <code>index</code> if the tile has no ladder or snake
+   */
+  public int destinationOf(int index) {
+    return layout.destinationOf(index);
+  }
+
+  /**
+   * <p>Checks whether a tile has a ladder or snake.</p>
+   *
+   * @param index The board position of the tile
+   * @return <code>true</code> if landing on the tile moves the player elsewhere
+   */
+  public boolean hasDestination(int index) {
+    return layout.hasDestination(index);
+  }
+
+  /**
+   * <p>Gets the effect code of a tile.</p>
+   *
+   * @param index The board position of the tile
+   * @return One of {@link #EFFECT_NONE}, {@link #EFFECT_SKIP_TURN} or {@link #EFFECT_BACK_TO_START}
+   */
+  public byte effectOf(int index) {
+    return layout.effectOf(index);
+  }
+
+  /**
+   * <p>Gets the board position of a tile.</p>
+   *
+   * @param tile The tile to look up
+   * @return The board position, or <code>-1</code> if the tile is not on the board
+   */
+  public int indexOf(Tile tile) {
+    if (tile == null) {
+      return NO_INDEX;
+    }
+    int index = indexOfId(tile.getTileId());
+    if (index != NO_INDEX && tiles[index] == tile) {
+      return index;
+    }
+    // Duplicate ids: fall back to an identity scan
+    for (int i = 0; i < tiles.length; i++) {
+      if (tiles[i] == tile) {
+        return i;
+      }
+    }
+    return NO_INDEX;
+  }
+
+  /**
+   * <p>Gets the board position of the first tile with the given id.</p>
+   *
+   * @param tileId The tile id to look up
+   * @return The board position, or <code>-1</code> if no tile has the id
+   */
+  public int indexOfId(int tileId) {
+    if (indexById.length == 0) {
+      for (int i = 0; i < tiles.length; i++) {
+        if (tiles[i].getTileId() == tileId) {
+          return i;
+        }
+      }
+      return NO_INDEX;
+    }
+    long slot = (long) tileId - minTileId;
+    if (slot < 0 || slot >= indexById.length) {
+      return NO_INDEX;
+    }
+    return indexById[(int) slot];
+  }
+
+  /**
+   * <p>Gets the tile at a board position.</p>
+   *
+   * @param index The board position
+   * @return The tile at the position
+   */
+  public Tile tileAt(int index) {
+    return tiles[index];
+  }
+
+  /**
+   * <p>Gets the primitive layout of the compiled board.</p>
+   *
+   * @return The {@link LadderLayout} backing this board
+   */
+  public LadderLayout getLayout() {
+    return layout;
+  }
+
+  /**
+   * <p>Gets the precomputed outcome of every roll on this board.</p>
+   *
+   * @return The landing table of the board's layout
+   */
+  public LandingTable getLandingTable() {
+    return layout.getLandingTable();
+  }
+
+  /**
+   * <p>Gets the board position of the start tile.</p>
+   *
+   * @return The start position, always <code>0</code>
+   */
+  public int getStartIndex() {
+    return 0;
+  }
+
+  /**
+   * <p>Gets the number of tiles on the compiled board.</p>
+   *
+   * @return The number of tiles
+   */
+  public int size() {
+    return tiles.length;
+  }
+}
@@ -4,8 +4,10 @@ import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
 import edu.ntnu.idi.bidata.idatg2003mappe.movement.TileActionFactory;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 /**
@@ -14,17 +16,33 @@ import java.util.stream.IntStream;
  * <ul>
  *   <li>Classic ladder game board with predefined ladder and snake positions</li>
  *   <li>Random ladder game board with randomized ladder and snake positions</li>
+ *   <li>Random boards of any size from {@value #MIN_RANDOM_BOARD_SIZE} tiles up, with
+ *       ladders, snakes and effect tiles in proportion to the size</li>
  * </ul>
- * <p>The factory also handles setting up special tile effects like "skip turn" and "back to start".</p>
+ * <p>The factory also handles setting up special tile effects like "skip turn" and "back to start".
+ * The skip turn tiles of the 100-tile board are repeated for every further block of 100 tiles;
+ * the back to start tile exists once, since repeating it would make large boards practically
+ * impossible to finish.</p>
  *
  * @author Simen Gudbrandsen and Frikk Breadsroed
  * @version 0.0.1
  * @since 19.04.2025
  */
 public class LadderGameBoardFactory {
-  private static final int BOARD_SIZE = 100;
+  /**
+   * The number of tiles on the classic board.
+   */
+  public static final int CLASSIC_BOARD_SIZE = 100;
+  /**
+   * The smallest board that random ladders and snakes can be placed on.
+   */
+  public static final int MIN_RANDOM_BOARD_SIZE = 25;
+  private static final int MIN_BOARD_SIZE = 2;
   private static final int NUM_LADDERS = 8;
   private static final int NUM_SNAKES = 8;
+  private static final int MAX_ATTEMPTS_PER_CONNECTION = 10;
+  private static final List<Integer> SKIP_TURN_TILES = List.of(13, 25, 57, 70, 96);
+  private static final int BACK_TO_START_TILE = 45;
 
   /**
    * <p>Creates a classic ladder game board with predefined ladders.</p>
@@ -35,12 +53,12 @@ public class LadderGameBoardFactory {
    */
   public static BoardLinear createClassicLadderBoard() {
     BoardLinear board = new BoardLinear();
-    Tile[] tiles = IntStream.rangeClosed(1, 100)
+    Tile[] tiles = IntStream.rangeClosed(1, CLASSIC_BOARD_SIZE)
         .mapToObj(Tile::new)
         .toArray(Tile[]::new);
 
     Arrays.stream(tiles).forEach(board::addTileToBoard);
-    IntStream.range(0, 99).forEach(i -> tiles[i].setNextTile(tiles[i + 1]));
+    IntStream.range(0, CLASSIC_BOARD_SIZE - 1).forEach(i -> tiles[i].setNextTile(tiles[i + 1]));
 
     // Add classic ladders (up)
     Map.of(2, 38, 5, 15, 10, 32, 22, 43, 29, 85, 53, 68, 74, 93, 81, 100)
@@ -64,16 +82,59 @@ public class LadderGameBoardFactory {
    * @return A {@link BoardLinear} instance with randomized ladder and snake configuration
    */
   public static BoardLinear createRandomLadderBoard() {
+    return createRandomLadderBoard(new Random());
+  }
+
+  /**
+   * <p>Creates a ladder game board with ladders and snakes placed by the given generator.</p>
+   * <p>The same seed always produces the same board.</p>
+   *
+   * @param random The random number generator deciding the placements
+   * @return A {@link BoardLinear} instance with randomized ladder and snake configuration
+   */
+  public static BoardLinear createRandomLadderBoard(Random random) {
+    return createRandomLadderBoard(CLASSIC_BOARD_SIZE, random);
+  }
+
+  /**
+   * <p>Creates a random ladder game board with the given number of tiles.</p>
+   * <p>The number of ladders and snakes grows in proportion to the board size, so a
+   * 1000-tile board has ten times as many as the 100-tile board.</p>
+   *
+   * @param boardSize The number of tiles on the board
+   * @param random    The random number generator deciding the placements
+   * @return A {@link BoardLinear} instance with randomized ladder and snake configuration
+   * @throws IllegalArgumentException If the board is smaller than {@value #MIN_RANDOM_BOARD_SIZE} tiles
+   */
+  public static BoardLinear createRandomLadderBoard(int boardSize, Random random) {
+    return createLadderBoard(generateRandomConnections(boardSize, random));
+  }
+
+  /**
+   * <p>Creates a ladder game board from a connection table.</p>
+   * <p>The table is indexed by board position (tile id minus one) and holds the position
+   * each tile leads to, or the position itself when the tile has no ladder or snake.
+   * The board gets one tile per table entry. The standard tile effects are applied as well.</p>
+   *
+   * @param destinations The destination position of every tile
+   * @return A {@link BoardLinear} instance with the given ladders and snakes
+   * @throws IllegalArgumentException If the table is null, shorter than two entries or
+   *                                  points outside the board
+   */
+  public static BoardLinear createLadderBoard(int[] destinations) {
+    validateConnections(destinations);
+    int boardSize = destinations.length;
     BoardLinear board = new BoardLinear();
-    Tile[] tiles = IntStream.rangeClosed(1, BOARD_SIZE)
+    Tile[] tiles = IntStream.rangeClosed(1, boardSize)
         .mapToObj(Tile::new)
         .toArray(Tile[]::new);
 
     Arrays.stream(tiles).forEach(board::addTileToBoard);
-    IntStream.range(0, BOARD_SIZE - 1).forEach(i -> tiles[i].setNextTile(tiles[i + 1]));
+    IntStream.range(0, boardSize - 1).forEach(i -> tiles[i].setNextTile(tiles[i + 1]));
 
-    // Generate random ladders and snakes
-    generateRandomLadders(tiles);
+    IntStream.range(0, boardSize)
+        .filter(i -> destinations[i] != i)
+        .forEach(i -> TileActionFactory.createLadderAction(tiles[i], tiles[destinations[i]]));
 
     // Set up tile effects
     setupTileEffects(board);
@@ -81,47 +142,120 @@ public class LadderGameBoardFactory {
     return board;
   }
 
+  /**
+   * <p>Creates the primitive layout a connection table would produce.</p>
+   * <p>This gives the same {@link LadderLayout} as compiling
+   * {@link #createLadderBoard(int[])}, without creating any tiles, which makes it cheap
+   * to score many candidate boards.</p>
+   *
+   * @param destinations The destination position of every tile
+   * @return The layout of the board
+   * @throws IllegalArgumentException If the table is null, shorter than two entries or
+   *                                  points outside the board
+   */
+  public static LadderLayout createLayout(int[] destinations) {
+    validateConnections(destinations);
+    int boardSize = destinations.length;
+    int[] next = new int[boardSize];
+    byte[] effects = new byte[boardSize];
+    for (int i = 0; i < boardSize; i++) {
+      next[i] = Math.min(i + 1, boardSize - 1);
+    }
+    forEachEffectTile(boardSize, SKIP_TURN_TILES,
+        tileId -> effects[tileId - 1] = CompiledLadderBoard.EFFECT_SKIP_TURN);
+    if (BACK_TO_START_TILE < boardSize) {
+      effects[BACK_TO_START_TILE - 1] = CompiledLadderBoard.EFFECT_BACK_TO_START;
+    }
+    return new LadderLayout(next, destinations, effects);
+  }
+
+  private static void validateConnections(int[] destinations) {
+    if (destinations == null || destinations.length < MIN_BOARD_SIZE) {
+      throw new IllegalArgumentException("Connection table must have at least " + MIN_BOARD_SIZE + " entries.");
+    }
+    for (int destination : destinations) {
+      if (destination < 0 || destination >= destinations.length) {
+        throw new IllegalArgumentException("Connection table points outside the board: " + destination);
+      }
+    }
+  }
 
   /**
-   * <p>Generates random ladders and snakes on the board.</p>
+   * <p>Generates random ladders and snakes as a connection table.</p>
    * <p>Places the specified number of ladders and snakes at random positions
    * on the board, ensuring they don't overlap or cause invalid movements.</p>
    *
-   * @param tiles The array of tiles representing the board
+   * @param random The random number generator to use
+   * @return The destination position of every tile, see {@link #createLadderBoard(int[])}
+   */
+  public static int[] generateRandomConnections(Random random) {
+    return generateRandomConnections(CLASSIC_BOARD_SIZE, random);
+  }
+
+  /**
+   * <p>Generates random ladders and snakes for a board of the given size.</p>
+   * <p>The classic board gets {@value #NUM_LADDERS} ladders and {@value #NUM_SNAKES} snakes;
+   * other sizes get the same number per 100 tiles.</p>
+   *
+   * @param boardSize The number of tiles on the board
+   * @param random    The random number generator to use
+   * @return The destination position of every tile, see {@link #createLadderBoard(int[])}
+   * @throws IllegalArgumentException If the board is smaller than {@value #MIN_RANDOM_BOARD_SIZE} tiles
    */
-  private static void generateRandomLadders(Tile[] tiles) {
-    Random random = new Random();
+  public static int[] generateRandomConnections(int boardSize, Random random) {
+    if (boardSize < MIN_RANDOM_BOARD_SIZE) {
+      throw new IllegalArgumentException("Random boards need at least " + MIN_RANDOM_BOARD_SIZE + " tiles.");
+    }
+    int[] destinations = IntStream.range(0, boardSize).toArray();
+    boolean[] targets = new boolean[boardSize];
 
     // Generate ladders (going up)
-    generateRandomConnections(tiles, random, NUM_LADDERS, true);
+    generateRandomConnections(destinations, targets, random, scaledCount(NUM_LADDERS, boardSize), true);
 
     // Generate snakes (going down)
-    generateRandomConnections(tiles, random, NUM_SNAKES, false);
+    generateRandomConnections(destinations, targets, random, scaledCount(NUM_SNAKES, boardSize), false);
+
+    return destinations;
+  }
+
+  /**
+   * <p>Scales a per-100-tiles count to the board size, keeping at least one.</p>
+   *
+   * @param countPerClassicBoard The count on the classic board
+   * @param boardSize            The number of tiles on the board
+   * @return The count for the board
+   */
+  private static int scaledCount(int countPerClassicBoard, int boardSize) {
+    return (int) Math.max(1, (long) countPerClassicBoard * boardSize / CLASSIC_BOARD_SIZE);
   }
 
   /**
    * <p>Generates random connections (ladders or snakes).</p>
    * <p>Creates the specified number of connections of the given type (ladder or snake),
-   * trying multiple times if necessary to ensure the desired count is reached.</p>
+   * trying multiple times if necessary to ensure the desired count is reached.
+   * Only placements that succeed count towards the total.</p>
    *
-   * @param tiles    The array of tiles representing the board
-   * @param random   The random number generator to use
-   * @param count    The number of connections to create
-   * @param isLadder <code>true</code> to create ladders, <code>false</code> to create snakes
+   * @param destinations The connection table to place connections in
+   * @param targets      Marks the positions that connections already lead to
+   * @param random       The random number generator to use
+   * @param count        The number of connections to create
+   * @param isLadder     <code>true</code> to create ladders, <code>false</code> to create snakes
    */
-  private static void generateRandomConnections(Tile[] tiles, Random random, int count, boolean isLadder) {
+  private static void generateRandomConnections(int[] destinations, boolean[] targets, Random random,
+                                                int count, boolean isLadder) {
     int attempts = 0;
     int created = 0;
 
-    while (created < count && attempts < count * 3) { // Prevent infinite loops
+    long maxAttempts = (long) count * MAX_ATTEMPTS_PER_CONNECTION;
+    while (created < count && attempts < maxAttempts) { // Prevent infinite loops
       attempts++;
 
-      if (isLadder) {
-        createRandomLadder(tiles, random);
-      } else {
-        createRandomSnake(tiles, random);
+      boolean placed = isLadder
+          ? createRandomLadder(destinations, targets, random)
+          : createRandomSnake(destinations, targets, random);
+      if (placed) {
+        created++;
       }
-      created++;
     }
   }
 
@@ -130,33 +264,54 @@ public class LadderGameBoardFactory {
    * <p>Places a ladder at a random position on the board,
    * connecting a lower tile to a higher tile.</p>
    *
-   * @param tiles  The array of tiles representing the board
-   * @param random The random number generator to use
+   * @param destinations The connection table to place the ladder in
+   * @param targets      Marks the positions that connections already lead to
+   * @param random       The random number generator to use
+   * @return <code>true</code> if the ladder was placed
    */
-  private static void createRandomLadder(Tile[] tiles, Random random) {
-    int start = random.nextInt(BOARD_SIZE - 20) + 1; // Avoid tiles too close to end
+  private static boolean createRandomLadder(int[] destinations, boolean[] targets, Random random) {
+    int boardSize = destinations.length;
+    int start = random.nextInt(boardSize - 20) + 1; // Avoid tiles too close to end
     int end = start + random.nextInt(15) + 5; // Jump forward 5-19 spaces
 
-    if (end < BOARD_SIZE && tiles[start].getDestinationTile() == null) {
-      TileActionFactory.createLadderAction(tiles[start], tiles[end]);
-    }
+    return end < boardSize && connect(destinations, targets, start, end);
   }
 
   /**
    * <p>Creates a single random snake.</p>
    * <p>Places a snake at a random position on the board,
-   * connecting a higher tile to a lower tile.</p>
+   * connecting a higher tile to a lower tile. The last tile never gets a snake,
+   * since the goal could then never be reached.</p>
    *
-   * @param tiles  The array of tiles representing the board
-   * @param random The random number generator to use
+   * @param destinations The connection table to place the snake in
+   * @param targets      Marks the positions that connections already lead to
+   * @param random       The random number generator to use
+   * @return <code>true</code> if the snake was placed
    */
-  private static void createRandomSnake(Tile[] tiles, Random random) {
-    int start = random.nextInt(BOARD_SIZE - 20) + 20; // Start from middle-to-end
+  private static boolean createRandomSnake(int[] destinations, boolean[] targets, Random random) {
+    int start = random.nextInt(destinations.length - 21) + 20; // Start from middle-to-end, never the goal
     int end = start - random.nextInt(15) - 5; // Jump back 5-19 spaces
 
-    if (end > 0 && tiles[start].getDestinationTile() == null) {
-      TileActionFactory.createLadderAction(tiles[start], tiles[end]);
+    return end > 0 && connect(destinations, targets, start, end);
+  }
+
+  /**
+   * <p>Connects two positions if neither end is already part of a ladder or snake.</p>
+   * <p>Keeping ends apart prevents a ladder from dropping the player straight onto a snake
+   * and stops two connections from sharing a start tile.</p>
+   *
+   * <p>The targets are tracked in a separate array so the check stays constant time
+   * on large boards.</p>
+   *
+   * @return <code>true</code> if the connection was made
+   */
+  private static boolean connect(int[] destinations, boolean[] targets, int start, int end) {
+    if (destinations[start] != start || destinations[end] != end || targets[start]) {
+      return false;
     }
+    destinations[start] = end;
+    targets[end] = true;
+    return true;
   }
 
   /**
@@ -167,42 +322,54 @@ public class LadderGameBoardFactory {
    * @param board The board to set up effects on
    */
   public static void setupTileEffects(BoardLinear board) {
+    int boardSize = board.getTileCount();
+
     // Configure skip turn tiles
-    Arrays.stream(new int[]{13, 25, 57, 70, 96})
-        .forEach(tileId -> setTileEffect(board, tileId, "skipTurn"));
+    forEachEffectTile(boardSize, SKIP_TURN_TILES, tileId -> setTileEffect(board, tileId, "skipTurn"));
 
     // Configure back to start tile
-    setTileEffect(board, 45, "backToStart");
+    if (BACK_TO_START_TILE < boardSize) {
+      setTileEffect(board, BACK_TO_START_TILE, "backToStart");
+    }
+
+    // Effects were changed after the tiles were added
+    board.invalidateCompiledBoard();
   }
 
 
   /**
-   * <p>Helper method to set an effect on a specific tile.</p>
-   * <p>Applies the specified effect to the tile with the given ID,
-   * if the tile exists and the ID is valid.</p>
+   * <p>Visits the repeated effect tiles of a board of the given size.</p>
+   * <p>The pattern of the 100-tile board is repeated for every block of 100 tiles.
+   * The goal tile never gets an effect.</p>
    *
-   * @param board  The board containing the tile
-   * @param tileId The ID of the tile to set the effect on
-   * @param effect The effect to apply
+   * @param boardSize The number of tiles on the board
+   * @param pattern   The effect tile IDs on the 100-tile board
+   * @param action    The action to run for every effect tile ID
    */
-  private static void setTileEffect(BoardLinear board, int tileId, String effect) {
-    if (isValidTileRange(tileId)) {
-      Tile tile = board.getTileById(tileId);
-      if (tile != null) {
-        tile.setEffect(effect);
+  private static void forEachEffectTile(int boardSize, List<Integer> pattern, IntConsumer action) {
+    for (int block = 0; block < boardSize; block += CLASSIC_BOARD_SIZE) {
+      for (int tileId : pattern) {
+        if (block + tileId < boardSize) {
+          action.accept(block + tileId);
+        }
       }
     }
   }
 
   /**
-   * <p>Validates if a tile number is within the valid range.</p>
-   * <p>Checks if the specified tile ID is between 1 and the board size (inclusive).</p>
+   * <p>Helper method to set an effect on a specific tile.</p>
+   * <p>Applies the specified effect to the tile with the given ID,
+   * if the tile exists.</p>
    *
-   * @param tileNumber The tile ID to validate
-   * @return <code>true</code> if the tile ID is valid, <code>false</code> otherwise
+   * @param board  The board containing the tile
+   * @param tileId The ID of the tile to set the effect on
+   * @param effect The effect to apply
    */
-  private static boolean isValidTileRange(int tileNumber) {
-    return tileNumber >= 1 && tileNumber <= BOARD_SIZE;
+  private static void setTileEffect(BoardLinear board, int tileId, String effect) {
+    Tile tile = board.getTileById(tileId);
+    if (tile != null) {
+      tile.setEffect(effect);
+    }
   }
 
 }
@@ -0,0 +1,184 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.map.board;
+
+import java.util.Arrays;
+
+/**
+ * <p>Immutable primitive layout of a ladder board.</p>
+ * <p>A layout holds only the parallel arrays of a compiled board, indexed by board position:</p>
+ * <ul>
+ *   <li><code>next</code> - index of the following tile (the last tile points to itself)</li>
+ *   <li><code>destination</code> - index reached through a ladder or snake (itself if none)</li>
+ *   <li><code>effect</code> - effect code of the tile, see {@link CompiledLadderBoard}</li>
+ * </ul>
+ * <p>Position 0 is the start tile and the last position is the goal. Two layouts are equal
+ * when their arrays are equal, which makes layouts usable as cache keys for board analysis.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class LadderLayout {
+  private final int[] next;
+  private final int[] destination;
+  private final byte[] effect;
+  private final int hash;
+  // Built on first use; a race only builds an identical immutable table twice
+  private LandingTable landingTable;
+
+  /**
+   * <p>Creates a layout from copies of the given arrays.</p>
+   *
+   * @param next        Index of the following tile for every position
+   * @param destination Ladder or snake destination for every position
+   * @param effect      Effect code for every position
+   * @throws IllegalArgumentException If the arrays are empty, differ in length or point outside the board
+   */
+  public LadderLayout(int[] next, int[] destination, byte[] effect) {
+    this(next.clone(), destination.clone(), effect.clone(), true);
+  }
+
+  /**
+   * <p>Creates a layout that takes ownership of the given arrays.</p>
+   *
+   * @param next        Index of the following tile for every position
+   * @param destination Ladder or snake destination for every position
+   * @param effect      Effect code for every position
+   * @param validate    Whether to check the arrays for consistency
+   */
+  LadderLayout(int[] next, int[] destination, byte[] effect, boolean validate) {
+    if (validate) {
+      validate(next, destination, effect);
+    }
+    this.next = next;
+    this.destination = destination;
+    this.effect = effect;
+    this.hash = 31 * (31 * Arrays.hashCode(next) + Arrays.hashCode(destination))
+        + Arrays.hashCode(effect);
+  }
+
+  private static void validate(int[] next, int[] destination, byte[] effect) {
+    if (next.length == 0) {
+      throw new IllegalArgumentException("A layout needs at least one tile.");
+    }
+    if (destination.length != next.length || effect.length != next.length) {
+      throw new IllegalArgumentException("Layout arrays must have the same length.");
+    }
+    for (int i = 0; i < next.length; i++) {
+      if (next[i] < 0 || next[i] >= next.length
+          || destination[i] < 0 || destination[i] >= next.length) {
+        throw new IllegalArgumentException("Position " + i + " links outside the board.");
+      }
+    }
+  }
+
+  /**
+   * <p>Walks the given number of steps along the board path.</p>
+   * <p>Movement stops at the last tile if the roll overshoots the end of the board.</p>
+   *
+   * @param index The board position to start from
+   * @param steps The number of steps to walk (must be non-negative)
+   * @return The board position after walking
+   * @throws IllegalArgumentException If steps is negative
+   */
+  public int advance(int index, int steps) {
+    if (steps < 0) {
+      throw new IllegalArgumentException("steps must be non-negative.");
+    }
+    int position = index;
+    for (int step = 0; step < steps; step++) {
+      position = next[position];
+    }
+    return position;
+  }
+
+  /**
+   * <p>Gets the board position reached through the ladder or snake on a tile.</p>
+   *
+   * @param index The board position of the tile
+   * @return The destination position, or <code>index</code> if the tile has no ladder or snake
+   */
+  public int destinationOf(int index) {
+    return destination[index];
+  }
+
+  /**
+   * <p>Checks whether a tile has a ladder or snake.</p>
+   *
+   * @param index The board position of the tile
+   * @return <code>true</code> if landing on the tile moves the player elsewhere
+   */
+  public boolean hasDestination(int index) {
+    return destination[index] != index;
+  }
+
+  /**
+   * <p>Gets the effect code of a tile.</p>
+   *
+   * @param index The board position of the tile
+   * @return The effect code of the tile
+   */
+  public byte effectOf(int index) {
+    return effect[index];
+  }
+
+  /**
+   * <p>Gets the table of roll outcomes for this layout.</p>
+   * <p>The table is built on first use and shared afterwards.</p>
+   *
+   * @return The landing table of the layout
+   */
+  public LandingTable getLandingTable() {
+    LandingTable table = landingTable;
+    if (table == null) {
+      table = new LandingTable(this);
+      landingTable = table;
+    }
+    return table;
+  }
+
+  /**
+   * <p>Gets the board position of the start tile.</p>
+   *
+   * @return The start position, always <code>0</code>
+   */
+  public int getStartIndex() {
+    return 0;
+  }
+
+  /**
+   * <p>Gets the board position of the goal tile.</p>
+   *
+   * @return The goal position, always the last position
+   */
+  public int getGoalIndex() {
+    return next.length - 1;
+  }
+
+  /**
+   * <p>Gets the number of tiles in the layout.</p>
+   *
+   * @return The number of tiles
+   */
+  public int size() {
+    return next.length;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof LadderLayout layout)) {
+      return false;
+    }
+    return hash == layout.hash
+        && Arrays.equals(next, layout.next)
+        && Arrays.equals(destination, layout.destination)
+        && Arrays.equals(effect, layout.effect);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
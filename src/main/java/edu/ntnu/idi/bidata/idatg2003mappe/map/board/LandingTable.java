@@ -0,0 +1,161 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.map.board;
+
+import java.util.Arrays;
+
+/**
+ * <p>Precomputed outcome of every roll from every position of a ladder board.</p>
+ * <p>For each (position, roll) pair the table holds the position the player finally
+ * rests on and the tile effect that was applied on the way. Resolving a roll follows
+ * the same order as the game:</p>
+ * <ul>
+ *   <li>The roll is walked along the board, stopping at the last tile</li>
+ *   <li>The effect of the landed tile is applied; <code>backToStart</code> moves the player to the start</li>
+ *   <li>Ladders and snakes are followed until a tile without one is reached, so a ladder
+ *       ending on another ladder is climbed as well</li>
+ * </ul>
+ * <p>Only the landed tile's effect is applied; tiles reached through a ladder or snake
+ * do not trigger their effects. A chain of ladders and snakes that loops back on itself
+ * stops on the last tile before it would repeat, so every roll has a resting position.</p>
+ * <p>Tables are immutable and built once per {@link LadderLayout}, see
+ * {@link LadderLayout#getLandingTable()}.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class LandingTable {
+  /**
+   * The highest roll covered by the table.
+   */
+  public static final int MAX_ROLL = 6;
+
+  private static final int UNRESOLVED = -1;
+  private static final byte EFFECT_MASK = 0x3;
+  private static final byte JUMPED = 0x4;
+
+  private final int[] resting;
+  private final byte[] outcome;
+
+  /**
+   * <p>Builds the table for a layout.</p>
+   *
+   * @param layout The layout to resolve every roll on
+   */
+  LandingTable(LadderLayout layout) {
+    int size = layout.size();
+    int[] chainEnd = resolveChains(layout);
+    int start = layout.getStartIndex();
+
+    this.resting = new int[size * MAX_ROLL];
+    this.outcome = new byte[size * MAX_ROLL];
+    for (int position = 0; position < size; position++) {
+      for (int roll = 1; roll <= MAX_ROLL; roll++) {
+        int landed = layout.advance(position, roll);
+        byte effect = layout.effectOf(landed);
+        if (effect == CompiledLadderBoard.EFFECT_BACK_TO_START) {
+          landed = start;
+        }
+
+        int slot = position * MAX_ROLL + roll - 1;
+        resting[slot] = chainEnd[landed];
+        outcome[slot] = (byte) (effect & EFFECT_MASK);
+        if (chainEnd[landed] != landed) {
+          outcome[slot] |= JUMPED;
+        }
+      }
+    }
+  }
+
+  /**
+   * <p>Follows ladders and snakes from every position to where the chain ends.</p>
+   * <p>Each chain is walked once; positions joining a chain that was already resolved
+   * reuse its end, so building the table is linear in the board size.</p>
+   *
+   * @param layout The layout to resolve
+   * @return The resting position reached from every position
+   */
+  private static int[] resolveChains(LadderLayout layout) {
+    int size = layout.size();
+    int[] chainEnd = new int[size];
+    Arrays.fill(chainEnd, UNRESOLVED);
+    boolean[] onPath = new boolean[size];
+    int[] path = new int[size];
+
+    for (int position = 0; position < size; position++) {
+      if (chainEnd[position] != UNRESOLVED) {
+        continue;
+      }
+      int length = 0;
+      int current = position;
+      while (chainEnd[current] == UNRESOLVED && !onPath[current]) {
+        onPath[current] = true;
+        path[length++] = current;
+        int destination = layout.destinationOf(current);
+        if (destination == current) {
+          break;
+        }
+        current = destination;
+      }
+
+      // Either the chain ended, joined a resolved chain, or looped back on itself
+      int end = chainEnd[current] != UNRESOLVED ? chainEnd[current] : path[length - 1];
+      for (int i = 0; i < length; i++) {
+        chainEnd[path[i]] = end;
+        onPath[path[i]] = false;
+      }
+    }
+    return chainEnd;
+  }
+
+  /**
+   * <p>Gets the position the player rests on after a roll.</p>
+   *
+   * @param index The board position the roll starts from
+   * @param roll  The rolled value, from <code>1</code> to {@value #MAX_ROLL}
+   * @return The resting position after effects, ladders and snakes
+   * @throws IllegalArgumentException If the roll is outside the table
+   */
+  public int restingIndexOf(int index, int roll) {
+    return resting[slot(index, roll)];
+  }
+
+  /**
+   * <p>Gets the effect applied on the landed tile of a roll.</p>
+   *
+   * @param index The board position the roll starts from
+   * @param roll  The rolled value, from <code>1</code> to {@value #MAX_ROLL}
+   * @return One of the effect codes of {@link CompiledLadderBoard}
+   * @throws IllegalArgumentException If the roll is outside the table
+   */
+  public byte effectOf(int index, int roll) {
+    return (byte) (outcome[slot(index, roll)] & EFFECT_MASK);
+  }
+
+  /**
+   * <p>Checks whether a roll ends with at least one ladder or snake.</p>
+   *
+   * @param index The board position the roll starts from
+   * @param roll  The rolled value, from <code>1</code> to {@value #MAX_ROLL}
+   * @return <code>true</code> if the player is moved by a ladder or snake
+   * @throws IllegalArgumentException If the roll is outside the table
+   */
+  public boolean isJumped(int index, int roll) {
+    return (outcome[slot(index, roll)] & JUMPED) != 0;
+  }
+
+  /**
+   * <p>Gets the number of board positions covered by the table.</p>
+   *
+   * @return The number of positions
+   */
+  public int size() {
+    return resting.length / MAX_ROLL;
+  }
+
+  private static int slot(int index, int roll) {
+    if (roll < 1 || roll > MAX_ROLL) {
+      throw new IllegalArgumentException("Roll must be between 1 and " + MAX_ROLL + ".");
+    }
+    return index * MAX_ROLL + roll - 1;
+  }
+}
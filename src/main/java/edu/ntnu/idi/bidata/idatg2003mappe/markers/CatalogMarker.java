@@ -0,0 +1,55 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.markers;
+
+/**
+ * <p>A token created from a {@link TokenType} in a token catalog.</p>
+ * <p>The marker only keeps a reference to its type besides its location and reveal
+ * status. Its effect is the type's shared effect.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class CatalogMarker extends Marker {
+  private final TokenType tokenType;
+
+  /**
+   * <p>Creates a hidden marker of a type.</p>
+   *
+   * @param tokenType The type of the marker
+   * @throws IllegalArgumentException If the type is null
+   */
+  public CatalogMarker(TokenType tokenType) {
+    super(requireType(tokenType).getName(), tokenType.getValue());
+    this.tokenType = tokenType;
+  }
+
+  private static TokenType requireType(TokenType tokenType) {
+    if (tokenType == null) {
+      throw new IllegalArgumentException("Token type cannot be null.");
+    }
+    return tokenType;
+  }
+
+  /**
+   * <p>Gets the type of the marker.</p>
+   *
+   * @return The token type
+   */
+  public TokenType getTokenType() {
+    return tokenType;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>The effect is shared by every marker of the same type.</p>
+   */
+  @Override
+  public TokenEffectResult getEffect() {
+    return tokenType.getEffect();
+  }
+
+  @Override
+  public String toString() {
+    return tokenType.getName();
+  }
+}
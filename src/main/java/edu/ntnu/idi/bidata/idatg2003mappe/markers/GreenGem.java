@@ -20,6 +20,11 @@ public class GreenGem extends Marker {
    */
   private static final int REWARD = 4000;
 
+  /**
+   * The effect shared by every gem of this colour.
+   */
+  private static final TokenEffectResult EFFECT = TokenEffectResult.depositMoney(REWARD);
+
   /**
    * <p>Constructor for the GreenGem class.</p>
    * <p>Initializes a new GreenGem marker with predefined type and value.
@@ -35,6 +40,6 @@ public class GreenGem extends Marker {
    */
   @Override
   public TokenEffectResult getEffect() {
-    return TokenEffectResult.depositMoney(REWARD);
+    return EFFECT;
   }
 }
@@ -20,6 +20,11 @@ public class RedGem extends Marker {
    */
   private static final int REWARD = 1000;
 
+  /**
+   * The effect shared by every gem of this colour.
+   */
+  private static final TokenEffectResult EFFECT = TokenEffectResult.depositMoney(REWARD);
+
   /**
    * <p>Constructor for the RedGem class.</p>
    * <p>Initializes a new RedGem marker with predefined type and value.
@@ -35,6 +40,6 @@ public class RedGem extends Marker {
    */
   @Override
   public TokenEffectResult getEffect() {
-    return TokenEffectResult.depositMoney(REWARD);
+    return EFFECT;
   }
 }
\ No newline at end of file
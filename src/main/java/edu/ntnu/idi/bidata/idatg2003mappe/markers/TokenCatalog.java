@@ -0,0 +1,214 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.markers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>The token types of a map and how many tokens of each type it holds.</p>
+ * <p>The counts are meant for a map with {@link #getReferenceCities()} cities. Bigger maps
+ * get proportionally more of every token except the diamond, so they keep the same odds,
+ * and cities left over hold {@link TokenType#BLANK blank} tokens.</p>
+ * <p>A catalog always holds exactly one diamond, since the game cannot be won without
+ * it. Catalogs are immutable.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.1
+ * @since 17.10.2026
+ */
+public final class TokenCatalog {
+  /**
+   * The number of cities the standard counts are meant for.
+   */
+  public static final int STANDARD_REFERENCE_CITIES = 32;
+
+  private static final TokenCatalog STANDARD = new TokenCatalog(standardCounts(5, 5, 5, 4, 3),
+      STANDARD_REFERENCE_CITIES);
+
+  private final List<TokenType> types;
+  private final int[] counts;
+  private final int referenceCities;
+
+  /**
+   * <p>Creates a catalog.</p>
+   *
+   * @param counts          The number of tokens of every type, in the order tokens are created
+   * @param referenceCities The number of cities the counts are meant for
+   * @throws IllegalArgumentException If a count is negative, two types share a name, the catalog
+   *                                  does not hold exactly one diamond, or the reference city
+   *                                  count is not positive
+   */
+  public TokenCatalog(Map<TokenType, Integer> counts, int referenceCities) {
+    if (counts == null) {
+      throw new IllegalArgumentException("Token counts cannot be null.");
+    }
+    if (referenceCities < 1) {
+      throw new IllegalArgumentException("Reference city count must be positive.");
+    }
+    List<TokenType> typeList = new ArrayList<>(counts.size());
+    int[] countArray = new int[counts.size()];
+    Set<String> names = new HashSet<>();
+    int diamonds = 0;
+    for (Map.Entry<TokenType, Integer> entry : counts.entrySet()) {
+      TokenType type = entry.getKey();
+      Integer count = entry.getValue();
+      if (type == null || count == null || count < 0) {
+        throw new IllegalArgumentException("Token counts cannot be negative.");
+      }
+      if (!names.add(type.getName())) {
+        throw new IllegalArgumentException("Token type " + type.getName() + " is defined twice.");
+      }
+      if (type.isDiamond()) {
+        diamonds += count;
+      }
+      countArray[typeList.size()] = count;
+      typeList.add(type);
+    }
+    if (diamonds != 1) {
+      throw new IllegalArgumentException("A token catalog must hold exactly one diamond.");
+    }
+    this.types = Collections.unmodifiableList(typeList);
+    this.counts = countArray;
+    this.referenceCities = referenceCities;
+  }
+
+  /**
+   * <p>Gets the standard catalog: the diamond, 5 rubies, 5 emeralds, 5 topazes, 4 bandits
+   * and 3 visas for 32 cities.</p>
+   *
+   * @return The standard catalog
+   */
+  public static TokenCatalog standard() {
+    return STANDARD;
+  }
+
+  /**
+   * <p>Creates a catalog of the standard token types with the given counts.</p>
+   *
+   * @param rubies          The number of rubies
+   * @param emeralds        The number of emeralds
+   * @param topazes         The number of topazes
+   * @param bandits         The number of bandits
+   * @param visas           The number of visas
+   * @param referenceCities The number of cities the counts are meant for
+   * @return A catalog with the diamond and the given counts
+   * @throws IllegalArgumentException If a count is negative or the reference city count is not positive
+   */
+  public static TokenCatalog standard(int rubies, int emeralds, int topazes, int bandits, int visas,
+                                      int referenceCities) {
+    return new TokenCatalog(standardCounts(rubies, emeralds, topazes, bandits, visas), referenceCities);
+  }
+
+  private static Map<TokenType, Integer> standardCounts(int rubies, int emeralds, int topazes,
+                                                        int bandits, int visas) {
+    Map<TokenType, Integer> counts = new LinkedHashMap<>();
+    counts.put(TokenType.DIAMOND, 1);
+    counts.put(TokenType.RUBY, rubies);
+    counts.put(TokenType.EMERALD, emeralds);
+    counts.put(TokenType.TOPAZ, topazes);
+    counts.put(TokenType.BANDIT, bandits);
+    counts.put(TokenType.VISA, visas);
+    return counts;
+  }
+
+  /**
+   * <p>Scales the catalog to a map with the given number of cities.</p>
+   * <p>Maps with at most {@link #getReferenceCities()} cities get the catalog unchanged.</p>
+   *
+   * @param cityCount The number of cities on the map
+   * @return A catalog with counts for the given number of cities
+   */
+  public TokenCatalog scaledTo(int cityCount) {
+    if (cityCount <= referenceCities) {
+      return this;
+    }
+    double factor = (double) cityCount / referenceCities;
+    Map<TokenType, Integer> scaled = new LinkedHashMap<>();
+    for (int i = 0; i < types.size(); i++) {
+      TokenType type = types.get(i);
+      scaled.put(type, type.isDiamond() ? counts[i] : (int) Math.round(counts[i] * factor));
+    }
+    return new TokenCatalog(scaled, cityCount);
+  }
+
+  /**
+   * <p>Creates the tokens of the catalog, in catalog order.</p>
+   * <p>Blank tokens are added at the end until there is one token per city.</p>
+   *
+   * @param cityCount The number of cities the tokens are for
+   * @return A new list of hidden markers without locations
+   */
+  public List<Marker> createTokens(int cityCount) {
+    List<Marker> tokens = new ArrayList<>(Math.max(cityCount, getTokenCount()));
+    for (int i = 0; i < types.size(); i++) {
+      for (int n = 0; n < counts[i]; n++) {
+        tokens.add(types.get(i).createMarker());
+      }
+    }
+    while (tokens.size() < cityCount) {
+      tokens.add(TokenType.BLANK.createMarker());
+    }
+    return tokens;
+  }
+
+  /**
+   * <p>Gets the token types of the catalog.</p>
+   *
+   * @return An unmodifiable list of the types, in catalog order
+   */
+  public List<TokenType> getTypes() {
+    return types;
+  }
+
+  /**
+   * <p>Gets a token type by name.</p>
+   *
+   * @param name The name of the type
+   * @return The type, or null if the catalog has no type with the name
+   */
+  public TokenType getType(String name) {
+    for (TokenType type : types) {
+      if (type.getName().equals(name)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * <p>Gets the number of tokens of a type.</p>
+   *
+   * @param type The token type
+   * @return The number of tokens, or 0 if the type is not in the catalog
+   */
+  public int getCount(TokenType type) {
+    int index = types.indexOf(type);
+    return index < 0 ? 0 : counts[index];
+  }
+
+  /**
+   * <p>Gets the number of tokens in the catalog, not counting blank fillers.</p>
+   *
+   * @return The total count of every type
+   */
+  public int getTokenCount() {
+    int total = 0;
+    for (int count : counts) {
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * <p>Gets the number of cities the counts are meant for.</p>
+   *
+   * @return The reference city count
+   */
+  public int getReferenceCities() {
+    return referenceCities;
+  }
+}
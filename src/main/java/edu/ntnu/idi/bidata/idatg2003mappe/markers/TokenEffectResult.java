@@ -14,17 +14,25 @@ package edu.ntnu.idi.bidata.idatg2003mappe.markers;
  *   <li>Special flags (diamond found)</li>
  * </ul>
  *
+ * <p>Effects are immutable, so one instance can be shared by every token of a type.
+ * The effects without parameters are shared constants, and markers keep their effect
+ * instead of creating one for every reveal.</p>
+ *
  * @author Simen Gudbrandsen and Frikk Breadsroed
  * @version 1.0.0
  * @since 05.01.2026
  */
-public class TokenEffectResult {
+public final class TokenEffectResult {
 
   /**
    * Special value indicating the player should lose all their money.
    */
   public static final int LOSE_ALL_MONEY = Integer.MIN_VALUE;
 
+  private static final TokenEffectResult NO_EFFECT = new TokenEffectResult(0, null, false);
+  private static final TokenEffectResult LOSE_ALL = new TokenEffectResult(LOSE_ALL_MONEY, null, false);
+  private static final TokenEffectResult DIAMOND = new TokenEffectResult(0, "diamond", true);
+
   private final int moneyChange;
   private final String inventoryItem;
   private final boolean isDiamond;
@@ -46,10 +54,10 @@ public class TokenEffectResult {
   /**
    * <p>Creates an effect with no changes.</p>
    *
-   * @return A TokenEffectResult with no effects
+   * @return The shared TokenEffectResult with no effects
    */
   public static TokenEffectResult noEffect() {
-    return new TokenEffectResult(0, null, false);
+    return NO_EFFECT;
   }
 
   /**
@@ -65,10 +73,10 @@ public class TokenEffectResult {
   /**
    * <p>Creates an effect that causes the player to lose all money.</p>
    *
-   * @return A TokenEffectResult that removes all player money
+   * @return The shared TokenEffectResult that removes all player money
    */
   public static TokenEffectResult loseAllMoney() {
-    return new TokenEffectResult(LOSE_ALL_MONEY, null, false);
+    return LOSE_ALL;
   }
 
   /**
@@ -84,10 +92,10 @@ public class TokenEffectResult {
   /**
    * <p>Creates an effect for finding the diamond.</p>
    *
-   * @return A TokenEffectResult representing the diamond being found
+   * @return The shared TokenEffectResult representing the diamond being found
    */
   public static TokenEffectResult diamond() {
-    return new TokenEffectResult(0, "diamond", true);
+    return DIAMOND;
   }
 
   /**
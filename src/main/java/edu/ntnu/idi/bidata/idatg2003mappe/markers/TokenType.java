@@ -0,0 +1,163 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.markers;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>A kind of token in a token catalog.</p>
+ * <p>A token type holds everything that is the same for every token of the kind: the
+ * name shown to players, the printed value, and the effect of revealing it. The effect
+ * is created once and shared by every token of the type, so revealing a token never
+ * creates a new effect.</p>
+ * <p>The standard types of the Missing Diamond game are available as constants. They
+ * take their name, value and effect from the marker classes and create tokens of those
+ * classes, such as {@link Diamond} and {@link RedGem}, so the classes stay the single
+ * definition of the standard tokens. Types defined by a map create {@link CatalogMarker}s.</p>
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 0.0.2
+ * @since 17.10.2026
+ */
+public final class TokenType {
+  /**
+   * The Star of Africa.
+   */
+  public static final TokenType DIAMOND = new TokenType(Diamond::new);
+
+  /**
+   * A ruby, which pays 1000.
+   */
+  public static final TokenType RUBY = new TokenType(RedGem::new);
+
+  /**
+   * An emerald, which pays 4000.
+   */
+  public static final TokenType EMERALD = new TokenType(GreenGem::new);
+
+  /**
+   * A topaz, which pays 2000.
+   */
+  public static final TokenType TOPAZ = new TokenType(YellowGem::new);
+
+  /**
+   * A bandit, who takes all the player's money.
+   */
+  public static final TokenType BANDIT = new TokenType(Bandit::new);
+
+  /**
+   * A visa, which lets the player win without the diamond once it is found.
+   */
+  public static final TokenType VISA = new TokenType(Visa::new);
+
+  /**
+   * A blank token without any effect, used on cities left over by a catalog.
+   */
+  public static final TokenType BLANK = new TokenType(BlankMarker::new);
+
+  private final String name;
+  private final int value;
+  private final TokenEffectResult effect;
+  // Creates the marker class of a standard type, or null for types defined by a map
+  private final Supplier<Marker> markerClass;
+
+  /**
+   * <p>Creates a token type.</p>
+   *
+   * @param name          The name of the type, as returned by {@link Marker#getType()}
+   * @param value         The printed value of the token
+   * @param moneyChange   The money paid to the player, negative to take money, or
+   *                      {@link TokenEffectResult#LOSE_ALL_MONEY} to take all of it
+   * @param inventoryItem The item given to the player, or null for none
+   * @param diamond       Whether the token is the diamond
+   * @throws IllegalArgumentException If the name is blank, or the diamond has a money or item effect
+   */
+  public TokenType(String name, int value, int moneyChange, String inventoryItem, boolean diamond) {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("Token type name cannot be blank.");
+    }
+    if (inventoryItem != null && inventoryItem.isBlank()) {
+      inventoryItem = null;
+    }
+    if (diamond && (moneyChange != 0 || inventoryItem != null)) {
+      throw new IllegalArgumentException("The diamond cannot pay money or give other items.");
+    }
+    this.name = name;
+    this.value = value;
+    this.effect = createEffect(moneyChange, inventoryItem, diamond);
+    this.markerClass = null;
+  }
+
+  /**
+   * <p>Creates a standard type from its marker class.</p>
+   */
+  private TokenType(Supplier<Marker> markerClass) {
+    Marker prototype = markerClass.get();
+    this.name = prototype.getType();
+    this.value = prototype.getValue();
+    this.effect = prototype.getEffect();
+    this.markerClass = markerClass;
+  }
+
+  private static TokenEffectResult createEffect(int moneyChange, String inventoryItem, boolean diamond) {
+    if (diamond) {
+      return TokenEffectResult.diamond();
+    }
+    if (inventoryItem == null && moneyChange == TokenEffectResult.LOSE_ALL_MONEY) {
+      return TokenEffectResult.loseAllMoney();
+    }
+    if (inventoryItem == null && moneyChange == 0) {
+      return TokenEffectResult.noEffect();
+    }
+    return new TokenEffectResult(moneyChange, inventoryItem, false);
+  }
+
+  /**
+   * <p>Creates a token of this type.</p>
+   *
+   * @return A new hidden marker without a location: an instance of the marker class for
+   *     a standard type, or a {@link CatalogMarker} for a type defined by a map
+   */
+  public Marker createMarker() {
+    return markerClass != null ? markerClass.get() : new CatalogMarker(this);
+  }
+
+  /**
+   * <p>Gets the name of the type.</p>
+   *
+   * @return The type name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * <p>Gets the printed value of tokens of this type.</p>
+   *
+   * @return The value in currency units
+   */
+  public int getValue() {
+    return value;
+  }
+
+  /**
+   * <p>Gets the effect shared by every token of this type.</p>
+   *
+   * @return The effect of revealing a token of this type
+   */
+  public TokenEffectResult getEffect() {
+    return effect;
+  }
+
+  /**
+   * <p>Checks whether tokens of this type are the diamond.</p>
+   *
+   * @return True for the diamond, false otherwise
+   */
+  public boolean isDiamond() {
+    return effect.isDiamond();
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -16,6 +16,11 @@ public class Visa extends Marker {
   private static final String TYPE = "Visa";
   private static final int VALUE = 1500;
 
+  /**
+   * The effect shared by every visa.
+   */
+  private static final TokenEffectResult EFFECT = TokenEffectResult.addItem("visa");
+
   /**
    * <p>Constructor for the Visa class.</p>
    * <p>Initializes a new Visa marker with predefined type and value.
@@ -33,6 +38,6 @@ public class Visa extends Marker {
    */
   @Override
   public TokenEffectResult getEffect() {
-    return TokenEffectResult.addItem("visa");
+    return EFFECT;
   }
 }
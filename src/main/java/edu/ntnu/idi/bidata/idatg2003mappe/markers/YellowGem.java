@@ -20,6 +20,11 @@ public class YellowGem extends Marker {
    */
   private static final int REWARD = 2000;
 
+  /**
+   * The effect shared by every gem of this colour.
+   */
+  private static final TokenEffectResult EFFECT = TokenEffectResult.depositMoney(REWARD);
+
   /**
    * <p>Constructor for the YellowGem class.</p>
    * <p>Initializes a new YellowGem marker with predefined type and value.
@@ -35,6 +40,6 @@ public class YellowGem extends Marker {
    */
   @Override
   public TokenEffectResult getEffect() {
-    return TokenEffectResult.depositMoney(REWARD);
+    return EFFECT;
   }
 }
@@ -28,7 +28,9 @@ module edu.ntnu.idi.bidata.idatg2003mappe {
   exports edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling;
   opens edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling to javafx.fxml;
   exports edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map;
-  opens edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map to javafx.fxml, com.google.gson;
+  opens edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map to javafx.fxml;
+  exports edu.ntnu.idi.bidata.idatg2003mappe.filehandling.journal;
+  opens edu.ntnu.idi.bidata.idatg2003mappe.filehandling.journal to javafx.fxml;
   exports edu.ntnu.idi.bidata.idatg2003mappe.entity.die;
   opens edu.ntnu.idi.bidata.idatg2003mappe.entity.die to javafx.fxml;
   exports edu.ntnu.idi.bidata.idatg2003mappe.entity.player;
@@ -45,6 +47,8 @@ module edu.ntnu.idi.bidata.idatg2003mappe {
   opens edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ui to javafx.fxml;
   exports edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.service;
   opens edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.service to javafx.fxml;
+  exports edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+  opens edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai to javafx.fxml;
   exports edu.ntnu.idi.bidata.idatg2003mappe.app.common.ui;
   opens edu.ntnu.idi.bidata.idatg2003mappe.app.common.ui to javafx.fxml;
   exports edu.ntnu.idi.bidata.idatg2003mappe.app.common.observer;
@@ -55,4 +59,8 @@ module edu.ntnu.idi.bidata.idatg2003mappe {
   opens edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.ui to javafx.fxml;
   exports edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model;
   opens edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model to javafx.fxml;
+  exports edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.simulation;
+  exports edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis;
+  exports edu.ntnu.idi.bidata.idatg2003mappe.app.tournament;
+  opens edu.ntnu.idi.bidata.idatg2003mappe.app.tournament to javafx.fxml, com.google.gson;
 }
\ No newline at end of file
@@ -315,6 +315,17 @@ class TestLadderGame {
     assertNull(board.getTileByIdLinear(-1), "Negative tile ID should return null");
   }
 
+  @Test
+  @DisplayName("Test game on a large random board")
+  void testLargeRandomBoard() {
+    // Act
+    LadderGame marathonGame = new LadderGame(true, 11L, 50_000);
 
+    // Assert
+    assertEquals(50_000, marathonGame.getNumberOfTiles(), "Game should report the requested board size");
+    assertEquals(50_000, marathonGame.getBoard().getTileCount(), "Board should have the requested size");
+    assertNotNull(marathonGame.getBoard().getTileByIdLinear(50_000), "Goal tile should exist");
+    assertThrows(IllegalArgumentException.class, () -> new LadderGame(false, 11L, 500),
+        "Classic board should only exist with 100 tiles");
+  }
 }
-
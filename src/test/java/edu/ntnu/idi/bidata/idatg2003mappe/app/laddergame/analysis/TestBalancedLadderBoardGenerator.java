@@ -0,0 +1,92 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardLinear;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
+import org.junit.jupiter.api.*;
+
+/**
+ * Test class for BalancedLadderBoardGenerator following AAA pattern.
+ * Tests that generated boards land inside the target band and that
+ * generation is reproducible from the seed.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("BalancedLadderBoardGenerator Test Suite")
+class TestBalancedLadderBoardGenerator {
+
+  private BalancedLadderBoardGenerator generator;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Generator with the default band
+    generator = new BalancedLadderBoardGenerator();
+  }
+
+  // ==================== Generation Tests ====================
+
+  @Test
+  @DisplayName("Should generate boards inside the default band")
+  void testGenerate_DefaultBand_BoardInsideBand() {
+    for (long seed = 0; seed < 20; seed++) {
+      // Act
+      BoardLinear board = generator.generate(seed);
+      LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyze(board);
+
+      // Assert
+      assertTrue(generator.isInBand(analysis), "Board for seed " + seed + " should be inside the band");
+      assertTrue(analysis.getExpectedTurns() >= BalancedLadderBoardGenerator.DEFAULT_MIN_EXPECTED_TURNS,
+          "Expected length should respect the lower bound");
+      assertTrue(analysis.getExpectedTurns() <= BalancedLadderBoardGenerator.DEFAULT_MAX_EXPECTED_TURNS,
+          "Expected length should respect the upper bound");
+    }
+  }
+
+  @Test
+  @DisplayName("Should generate the same board for the same seed")
+  void testGenerateConnections_SameSeed_SameBoard() {
+    // Act
+    int[] first = generator.generateConnections(1234L);
+    int[] second = generator.generateConnections(1234L);
+
+    // Assert
+    assertArrayEquals(first, second, "Generation should not depend on thread scheduling");
+  }
+
+  @Test
+  @DisplayName("Should fall back to the closest finishable board for an unreachable band")
+  void testGenerateConnections_UnreachableBand_ReturnsClosest() {
+    // Arrange
+    BalancedLadderBoardGenerator impossible =
+        new BalancedLadderBoardGenerator(1_000, 2_000, 0, 1_000_000, 16);
+
+    // Act
+    int[] connections = impossible.generateConnections(5L);
+    LadderBoardAnalysis analysis =
+        LadderBoardAnalyzer.analyze(LadderGameBoardFactory.createLayout(connections));
+
+    // Assert
+    assertTrue(analysis.isFinishable(), "The fallback board should still be finishable");
+    assertFalse(impossible.isInBand(analysis), "No board can be inside the band");
+  }
+
+  // ==================== Validation Tests ====================
+
+  @Test
+  @DisplayName("Should reject empty bands and candidate counts")
+  void testConstructor_InvalidBand_ThrowsException() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> new BalancedLadderBoardGenerator(50, 40, 0, 100, 10),
+        "Inverted expected-turn range should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class,
+        () -> new BalancedLadderBoardGenerator(30, 40, 100, 0, 10),
+        "Inverted variance range should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class,
+        () -> new BalancedLadderBoardGenerator(30, 40, 0, 100, 0),
+        "Zero candidates should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,200 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.simulation.LadderGameSimulator;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.simulation.LadderSimulationReport;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardLinear;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderLayout;
+import org.junit.jupiter.api.*;
+
+/**
+ * Test class for LadderBoardAnalyzer following AAA pattern.
+ * Tests the exact Markov-chain results against hand-computed boards
+ * and against the Monte Carlo simulator on the classic board.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.1
+ * @since 17.10.2026
+ */
+@DisplayName("LadderBoardAnalyzer Test Suite")
+class TestLadderBoardAnalyzer {
+
+  private static final double DELTA = 1e-9;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Start every test with an empty cache
+    LadderBoardAnalyzer.clearCache();
+  }
+
+  /**
+   * Creates a straight layout without ladders or effects.
+   */
+  private static LadderLayout straightLayout(int size) {
+    int[] next = new int[size];
+    int[] destination = new int[size];
+    for (int i = 0; i < size; i++) {
+      next[i] = Math.min(i + 1, size - 1);
+      destination[i] = i;
+    }
+    return new LadderLayout(next, destination, new byte[size]);
+  }
+
+  // ==================== Exact Result Tests ====================
+
+  @Test
+  @DisplayName("Should finish a two-tile board in exactly one turn")
+  void testAnalyze_TwoTiles_OneTurn() {
+    // Arrange
+    LadderLayout layout = straightLayout(2);
+
+    // Act
+    LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyze(layout);
+
+    // Assert
+    assertEquals(1.0, analysis.getExpectedTurns(), DELTA, "Any roll should reach the goal");
+    assertEquals(0.0, analysis.getVariance(), DELTA, "The length should not vary");
+  }
+
+  @Test
+  @DisplayName("Should match hand-computed mean, variance and visit probability")
+  void testAnalyze_ThreeTiles_MatchesHandComputation() {
+    // Arrange - Rolling 1 stops on the middle tile, anything else finishes
+    LadderLayout layout = straightLayout(3);
+
+    // Act
+    LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyze(layout);
+
+    // Assert
+    assertEquals(7.0 / 6.0, analysis.getExpectedTurns(), DELTA, "Expected turns should be 7/6");
+    assertEquals(9.0 / 6.0 - 49.0 / 36.0, analysis.getVariance(), DELTA, "Variance should match");
+    assertEquals(1.0 / 6.0, analysis.getVisitProbability(1), DELTA,
+        "The middle tile is only visited on a roll of 1");
+    assertEquals(1.0, analysis.getVisitProbability(0), DELTA, "The start tile is always visited");
+  }
+
+  @Test
+  @DisplayName("Should count skipped turns caused by tile effects")
+  void testAnalyze_SkipTurnEffect_AddsTurn() {
+    // Arrange - Every tile between start and goal skips a turn
+    int[] next = {1, 2, 2};
+    int[] destination = {0, 1, 2};
+    byte[] effect = {0, CompiledLadderBoard.EFFECT_SKIP_TURN, 0};
+    LadderLayout layout = new LadderLayout(next, destination, effect);
+
+    // Act
+    LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyze(layout);
+
+    // Assert
+    assertEquals(1.0 + 2.0 / 6.0, analysis.getExpectedTurns(), DELTA,
+        "Landing on the middle tile should cost a skipped turn and one more roll");
+  }
+
+  @Test
+  @DisplayName("Should report an infinite length when a snake sits on the goal")
+  void testAnalyze_SnakeOnGoal_NotFinishable() {
+    // Arrange
+    int[] next = {1, 2, 2};
+    int[] destination = {0, 1, 0};
+    LadderLayout layout = new LadderLayout(next, destination, new byte[3]);
+
+    // Act
+    LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyze(layout);
+
+    // Assert
+    assertFalse(analysis.isFinishable(), "The goal can never be reached");
+    assertEquals(Double.POSITIVE_INFINITY, analysis.getExpectedTurns(), "Length should be infinite");
+  }
+
+  // ==================== Classic Board Tests ====================
+
+  @Test
+  @DisplayName("Should agree with the Monte Carlo simulator on the classic board")
+  void testAnalyze_ClassicBoard_AgreesWithSimulation() {
+    // Arrange
+    BoardLinear board = LadderGameBoardFactory.createClassicLadderBoard();
+    LadderSimulationReport report = new LadderGameSimulator(board, 1, 100_000).run(100_000);
+
+    // Act
+    LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyze(board);
+
+    // Assert - five standard errors of the simulated mean
+    double tolerance = 5 * analysis.getStandardDeviation() / Math.sqrt(report.getGamesPlayed());
+    assertEquals(analysis.getExpectedTurns(), report.getMeanLength(), tolerance,
+        "Simulated mean length should match the exact expectation");
+  }
+
+  @Test
+  @DisplayName("Should spread expected visits so they add up to the expected length")
+  void testAnalyze_ClassicBoard_VisitsSumToExpectedTurns() {
+    // Arrange
+    BoardLinear board = LadderGameBoardFactory.createClassicLadderBoard();
+
+    // Act
+    LadderBoardAnalysis analysis = LadderBoardAnalyzer.analyze(board);
+
+    // Assert
+    double sum = 0;
+    for (int position = 0; position < analysis.getBoardSize(); position++) {
+      sum += analysis.getExpectedVisits(position);
+    }
+    assertEquals(analysis.getExpectedTurns(), sum, 1e-6, "Visits should sum to the expected turns");
+    assertEquals(0.0, analysis.getVisitProbability(1), DELTA, "Tile 2 holds a ladder and is never occupied");
+  }
+
+  // ==================== Cache Tests ====================
+
+  @Test
+  @DisplayName("Should reuse the cached analysis for an equal layout")
+  void testAnalyze_EqualLayouts_ReturnsCachedAnalysis() {
+    // Arrange
+    BoardLinear first = LadderGameBoardFactory.createClassicLadderBoard();
+    BoardLinear second = LadderGameBoardFactory.createClassicLadderBoard();
+
+    // Act
+    LadderBoardAnalysis firstAnalysis = LadderBoardAnalyzer.analyze(first);
+    LadderBoardAnalysis secondAnalysis = LadderBoardAnalyzer.analyze(second);
+
+    // Assert
+    assertSame(firstAnalysis, secondAnalysis, "Equal layouts should share one cached analysis");
+    assertEquals(1, LadderBoardAnalyzer.getCacheSize(), "Only one layout should be cached");
+  }
+
+  @Test
+  @DisplayName("Should keep recently used layouts when the cache is full")
+  void testAnalyze_FullCache_EvictsLeastRecentlyUsed() {
+    // Arrange
+    LadderLayout recent = straightLayout(2);
+    LadderLayout oldest = straightLayout(3);
+    LadderBoardAnalysis recentAnalysis = LadderBoardAnalyzer.analyze(recent);
+    LadderBoardAnalysis oldestAnalysis = LadderBoardAnalyzer.analyze(oldest);
+    for (int size = 4; size <= LadderBoardAnalyzer.MAX_CACHED_LAYOUTS + 1; size++) {
+      LadderBoardAnalyzer.analyze(straightLayout(size));
+    }
+    LadderBoardAnalyzer.analyze(recent);
+
+    // Act
+    LadderBoardAnalyzer.analyze(straightLayout(LadderBoardAnalyzer.MAX_CACHED_LAYOUTS + 2));
+
+    // Assert
+    assertEquals(LadderBoardAnalyzer.MAX_CACHED_LAYOUTS, LadderBoardAnalyzer.getCacheSize(),
+        "The cache should stay at its limit");
+    assertSame(recentAnalysis, LadderBoardAnalyzer.analyze(recent),
+        "A recently used layout should stay cached");
+    assertNotSame(oldestAnalysis, LadderBoardAnalyzer.analyze(oldest),
+        "The least recently used layout should be evicted");
+  }
+
+  @Test
+  @DisplayName("Should reject null input")
+  void testAnalyze_NullInput_ThrowsException() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> LadderBoardAnalyzer.analyze((BoardLinear) null),
+        "Null board should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> LadderBoardAnalyzer.analyze((LadderLayout) null),
+        "Null layout should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,159 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.CompiledLadderBoard;
+import org.junit.jupiter.api.*;
+
+/**
+ * Test class for TurnResult following AAA pattern.
+ * Tests the rendered game log text and that a reused result is
+ * filled in consistently by the controller.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("TurnResult Test Suite")
+class TestTurnResult {
+
+  private TurnResult result;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Fresh result for each test
+    result = new TurnResult();
+  }
+
+  // ==================== Message Tests ====================
+
+  @Test
+  @DisplayName("Should render a skipped turn")
+  void testToMessage_Skipped_SkipLine() {
+    // Arrange
+    result.reset(0, 13);
+    result.markSkipped();
+
+    // Act
+    String message = result.toMessage("Alice");
+
+    // Assert
+    assertEquals("Alice skips their turn!\n", message, "Skipped turns should only mention the skip");
+  }
+
+  @Test
+  @DisplayName("Should render roll, effect, jump and win in order")
+  void testToMessage_FullTurn_AllLinesInOrder() {
+    // Arrange
+    result.reset(1, 76);
+    result.recordMove(5, 81);
+    result.recordJump(100);
+    result.markWon();
+
+    // Act
+    String message = result.toMessage("Bob");
+
+    // Assert
+    assertEquals("Bob rolled: 5\nMoved to tile 81\nLadder! Moved to tile 100\nBob wins the game!",
+        message, "The message should match the game log format");
+  }
+
+  @Test
+  @DisplayName("Should render a back to start effect")
+  void testToMessage_BackToStart_EffectLine() {
+    // Arrange
+    result.reset(0, 40);
+    result.recordMove(5, 45);
+    result.recordEffect(CompiledLadderBoard.EFFECT_BACK_TO_START, 1);
+
+    // Act
+    String message = result.toMessage("Alice");
+
+    // Assert
+    assertEquals("Alice rolled: 5\nMoved to tile 45\nEffect! Alice goes back to start\n", message,
+        "The effect line should follow the move line");
+    assertEquals(1, result.getFinalTileId(), "The player should end on the start tile");
+  }
+
+  // ==================== Reuse Tests ====================
+
+  @Test
+  @DisplayName("Should clear every field when reset")
+  void testReset_AfterFullTurn_FieldsCleared() {
+    // Arrange
+    result.reset(1, 76);
+    result.recordMove(5, 81);
+    result.recordEffect(CompiledLadderBoard.EFFECT_SKIP_TURN, 81);
+    result.recordJump(100);
+    result.markWon();
+
+    // Act
+    result.reset(0, 3);
+
+    // Assert
+    assertEquals(0, result.getPlayerIndex(), "Player index should be replaced");
+    assertEquals(0, result.getRoll(), "Roll should be cleared");
+    assertEquals(CompiledLadderBoard.EFFECT_NONE, result.getEffect(), "Effect should be cleared");
+    assertFalse(result.isJumped(), "Jump flag should be cleared");
+    assertFalse(result.isWon(), "Win flag should be cleared");
+    assertEquals(3, result.getFinalTileId(), "Final tile should start at the start tile");
+  }
+
+  @Test
+  @DisplayName("Should fill the same result for every controller turn")
+  void testPlayTurn_ReusedResult_ConsistentWithPlayers() {
+    // Arrange
+    LadderGameController controller = new LadderGameController(false, 42L);
+    int playerCount = controller.getPlayers().size();
+    int expectedIndex = 0;
+
+    for (int turn = 0; turn < 50; turn++) {
+      // Act
+      TurnResult returned = controller.playTurn(result);
+
+      // Assert
+      assertSame(result, returned, "The given result should be returned");
+      assertEquals(expectedIndex, result.getPlayerIndex(), "The result should belong to the current player");
+      assertEquals(controller.getPlayers().get(expectedIndex).getCurrentTile().getTileId(),
+          result.getFinalTileId(), "The final tile should match the player's position");
+      if (!result.isSkipped()) {
+        assertTrue(result.getRoll() >= 1 && result.getRoll() <= 6, "Roll should be a die value");
+      }
+      if (result.isWon()) {
+        break;
+      }
+      expectedIndex = (expectedIndex + 1) % playerCount;
+    }
+  }
+
+  @Test
+  @DisplayName("Should render the same text as the string turn API")
+  void testPlayTurn_SameSeed_SameTextAsStringApi() {
+    // Arrange
+    LadderGameController textController = new LadderGameController(false, 7L);
+    LadderGameController resultController = new LadderGameController(false, 7L);
+
+    for (int turn = 0; turn < 30; turn++) {
+      // Act
+      String expected = textController.playTurn();
+      String actual = resultController.describeTurn(resultController.playTurn(result));
+
+      // Assert
+      assertEquals(expected, actual, "Both turn APIs should produce the same log text");
+      if (result.isWon()) {
+        break;
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject a null result")
+  void testPlayTurn_NullResult_ThrowsException() {
+    // Arrange
+    LadderGameController controller = new LadderGameController(false, 1L);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> controller.playTurn(null),
+        "Null result should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,111 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.LadderGameController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.TurnResult;
+import org.junit.jupiter.api.*;
+
+/**
+ * Test class for PackedLadderState following AAA pattern.
+ * Tests field packing across word boundaries, copies, equality and
+ * the round trip through the ladder controller.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("PackedLadderState Test Suite")
+class TestPackedLadderState {
+
+  // ==================== Packing Tests ====================
+
+  @Test
+  @DisplayName("Should fit four players on the classic board in one word")
+  void testConstructor_ClassicBoard_SingleWord() {
+    // Act
+    PackedLadderState state = new PackedLadderState(4, 100);
+
+    // Assert
+    assertEquals(1, state.toWords().length, "Four players on 100 tiles should need one long");
+    assertEquals(0, state.getCurrentPlayerIndex(), "First player should start");
+    assertEquals(0, state.getPosition(3), "Every player should start on position 0");
+  }
+
+  @Test
+  @DisplayName("Should keep every field independent across word boundaries")
+  void testSetters_ManyPlayersLargeBoard_FieldsIndependent() {
+    // Arrange
+    PackedLadderState state = new PackedLadderState(7, 1_000_000);
+
+    // Act
+    for (int seat = 0; seat < 7; seat++) {
+      state.setPosition(seat, 999_999 - seat * 12_345);
+      state.setSkipTurn(seat, seat % 2 == 0);
+    }
+    state.setCurrentPlayerIndex(6);
+
+    // Assert
+    for (int seat = 0; seat < 7; seat++) {
+      assertEquals(999_999 - seat * 12_345, state.getPosition(seat), "Position of seat " + seat);
+      assertEquals(seat % 2 == 0, state.isSkipTurn(seat), "Skip flag of seat " + seat);
+    }
+    assertEquals(6, state.getCurrentPlayerIndex(), "Current player should be kept");
+  }
+
+  @Test
+  @DisplayName("Should copy independently and compare by content")
+  void testCopy_ModifiedCopy_OriginalUnchanged() {
+    // Arrange
+    PackedLadderState state = new PackedLadderState(3, 100);
+    state.setPosition(1, 42);
+
+    // Act
+    PackedLadderState copy = state.copy();
+
+    // Assert
+    assertEquals(state, copy, "Copy should equal the original");
+    assertEquals(state.hashCode(), copy.hashCode(), "Equal states should have equal hashes");
+    copy.setSkipTurn(1, true);
+    assertNotEquals(state, copy, "Changing the copy should not change the original");
+    assertFalse(state.isSkipTurn(1), "Original skip flag should be unchanged");
+  }
+
+  @Test
+  @DisplayName("Should reject positions and seats outside the state")
+  void testSetters_InvalidArguments_ThrowsException() {
+    // Arrange
+    PackedLadderState state = new PackedLadderState(2, 100);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> state.setPosition(0, 100),
+        "Position past the board should throw IllegalArgumentException");
+    assertThrows(IndexOutOfBoundsException.class, () -> state.getPosition(2),
+        "Missing seat should throw IndexOutOfBoundsException");
+    assertThrows(IndexOutOfBoundsException.class, () -> state.setCurrentPlayerIndex(2),
+        "Missing current player should throw IndexOutOfBoundsException");
+    assertThrows(IllegalArgumentException.class, () -> new PackedLadderState(0, 100),
+        "Zero players should throw IllegalArgumentException");
+  }
+
+  // ==================== Controller Tests ====================
+
+  @Test
+  @DisplayName("Should restore a captured game so it continues identically")
+  void testApplyPackedState_CapturedState_SameContinuation() {
+    // Arrange
+    LadderGameController controller = new LadderGameController(false, 99L);
+    TurnResult result = new TurnResult();
+    for (int turn = 0; turn < 10; turn++) {
+      controller.playTurn(result);
+    }
+    PackedLadderState captured = controller.capturePackedState();
+
+    // Act
+    LadderGameController restored = new LadderGameController(false, 99L);
+    restored.applyPackedState(captured);
+
+    // Assert
+    assertEquals(captured, restored.capturePackedState(), "Restored game should capture the same state");
+  }
+}
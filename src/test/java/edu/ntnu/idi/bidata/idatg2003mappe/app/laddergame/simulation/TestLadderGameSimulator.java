@@ -0,0 +1,137 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardLinear;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Test class for LadderGameSimulator following AAA pattern.
+ * Tests that simulated batches account for every game and that the
+ * collected statistics are consistent with each other.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.1
+ * @since 17.10.2026
+ */
+@DisplayName("LadderGameSimulator Test Suite")
+class TestLadderGameSimulator {
+
+  private BoardLinear classicBoard;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Fresh classic board for each test
+    classicBoard = LadderGameBoardFactory.createClassicLadderBoard();
+  }
+
+  // ==================== Run Tests ====================
+
+  @Test
+  @DisplayName("Should account for every simulated game")
+  void testRun_ClassicBoard_AllGamesRecorded() {
+    // Arrange
+    LadderGameSimulator simulator = new LadderGameSimulator(classicBoard, 3, 10_000);
+
+    // Act
+    LadderSimulationReport report = simulator.run(5_000);
+
+    // Assert
+    long wins = Arrays.stream(report.getWinsBySeat()).sum();
+    long lengths = Arrays.stream(report.getLengthHistogram()).sum();
+    assertEquals(5_000, report.getGamesPlayed(), "Every game should be recorded");
+    assertEquals(report.getGamesPlayed(), wins + report.getUnfinishedGames(),
+        "Every game should end with a winner or as unfinished");
+    assertEquals(wins, lengths, "Every finished game should be in the length histogram");
+  }
+
+  @Test
+  @DisplayName("Should record a landing for every turn that was played")
+  void testRun_ClassicBoard_LandingsMatchLastTileWins() {
+    // Arrange
+    LadderGameSimulator simulator = new LadderGameSimulator(classicBoard, 2, 10_000);
+
+    // Act
+    LadderSimulationReport report = simulator.run(1_000);
+
+    // Assert
+    long[] landings = report.getLandingCounts();
+    assertEquals(100, landings.length, "There should be one counter per tile");
+    assertEquals(report.getGamesPlayed() - report.getUnfinishedGames(), landings[99],
+        "Each finished game ends with exactly one landing on the last tile");
+    assertEquals(0, landings[1], "Tile 2 holds a ladder, so no turn can end there");
+  }
+
+  @Test
+  @DisplayName("Should report unfinished games when the turn cap is reached")
+  void testRun_TinyTurnCap_AllGamesUnfinished() {
+    // Arrange
+    LadderGameSimulator simulator = new LadderGameSimulator(classicBoard, 4, 4);
+
+    // Act
+    LadderSimulationReport report = simulator.run(100);
+
+    // Assert
+    assertEquals(100, report.getUnfinishedGames(), "No game can finish in four turns with four players");
+    assertEquals(0.0, report.getMeanLength(), "Mean length should be zero without finished games");
+  }
+
+  @Test
+  @DisplayName("Should produce identical reports for the same seed")
+  void testRun_SameSeed_IdenticalReports() {
+    // Arrange
+    LadderGameSimulator simulator = new LadderGameSimulator(classicBoard, 4, 10_000);
+
+    // Act
+    LadderSimulationReport first = simulator.run(20_000, 2024L);
+    LadderSimulationReport second = simulator.run(20_000, 2024L);
+
+    // Assert
+    assertArrayEquals(first.getLengthHistogram(), second.getLengthHistogram(),
+        "Length histograms should match for the same seed");
+    assertArrayEquals(first.getWinsBySeat(), second.getWinsBySeat(),
+        "Wins by seat should match for the same seed");
+    assertArrayEquals(first.getLandingCounts(), second.getLandingCounts(),
+        "Landing counts should match for the same seed");
+  }
+
+  @Test
+  @DisplayName("Should play a single game with the given rolls")
+  void testPlayGame_SameRolls_SameResult() {
+    // Arrange
+    LadderGameSimulator simulator = new LadderGameSimulator(classicBoard, 3, 10_000);
+    SplittableRandom first = new SplittableRandom(5L);
+    SplittableRandom second = new SplittableRandom(5L);
+
+    // Act
+    int turn = simulator.playGame(() -> first.nextInt(1, 7));
+    int again = simulator.playGame(() -> second.nextInt(1, 7));
+    int capped = new LadderGameSimulator(classicBoard, 3, 1).playGame(() -> 1);
+
+    // Assert
+    assertTrue(turn > 0, "Game should be won within the turn cap");
+    assertEquals(turn, again, "Same rolls should win in the same turn");
+    assertEquals(0, capped, "Game cut off by the turn cap should not be won");
+  }
+
+  // ==================== Validation Tests ====================
+
+  @Test
+  @DisplayName("Should reject invalid simulator arguments")
+  void testConstructor_InvalidArguments_ThrowsException() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new LadderGameSimulator(null, 2, 100),
+        "Null board should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new LadderGameSimulator(classicBoard, 0, 100),
+        "Zero players should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new LadderGameSimulator(classicBoard, 2, 0),
+        "Zero turn cap should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class,
+        () -> new LadderGameSimulator(classicBoard, 2, 100).run(-1),
+        "Negative game count should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,280 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller.MissingDiamondController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for MissingDiamondBot and DiamondSearchState following AAA pattern.
+ * Tests state capture and copying, hidden token shuffling, the bot's choices
+ * and a computer turn played through the controller.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.2
+ * @since 17.10.2026
+ */
+@DisplayName("MissingDiamondBot Test Suite")
+class TestMissingDiamondBot {
+
+  private MissingDiamond game;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Two players on the default map
+    game = new MissingDiamond(2);
+  }
+
+  // ==================== State Tests ====================
+
+  @Test
+  @DisplayName("Should capture positions, money and tokens of the game")
+  void testCapture_NewGame_MatchesGame() {
+    // Act
+    DiamondSearchState state = DiamondSearchState.capture(game);
+
+    // Assert
+    assertEquals(2, state.getPlayerCount(), "Both players should be captured");
+    assertEquals(0, state.getCurrentPlayer(), "First player should be to move");
+    assertEquals(-1, state.getWinner(), "Nobody should have won yet");
+    Player first = game.getPlayers().get(0);
+    assertEquals(first.getCurrentTile().getTileId(), state.getPositionTileId(0), "Position should match");
+    assertEquals(game.getBanker().getBalance(first), state.getMoney(0), "Money should match");
+    long tokens = game.getBoard().getTiles().stream().filter(game::hasTokenAtTile).count();
+    assertEquals(tokens, state.getTokenCount(), "Every token on the board should be captured");
+  }
+
+  @Test
+  @DisplayName("Should copy independently of the original")
+  void testCopy_ModifiedCopy_OriginalUnchanged() {
+    // Arrange
+    DiamondSearchState state = DiamondSearchState.capture(game);
+    int start = state.getPositionTileId(0);
+
+    // Act
+    DiamondSearchState copy = state.copy();
+    copy.moveTo(copy.destinations(1)[0]);
+    copy.endTurn();
+
+    // Assert
+    assertEquals(start, state.getPositionTileId(0), "Original position should be unchanged");
+    assertEquals(0, state.getCurrentPlayer(), "Original turn should be unchanged");
+    assertEquals(1, copy.getCurrentPlayer(), "Copy should have moved on");
+  }
+
+  @Test
+  @DisplayName("Should share the board rules between captures of the same board")
+  void testCapture_SameBoardTwice_SharesRules() {
+    // Arrange
+    DiamondSearchState before = DiamondSearchState.capture(game);
+    Player player = game.getCurrentPlayer();
+    player.placePlayer(player.getCurrentTile().getNextTiles().get(0));
+
+    // Act
+    DiamondSearchState after = DiamondSearchState.capture(game);
+    before.copyFrom(after);
+
+    // Assert
+    assertEquals(player.getCurrentTile().getTileId(), before.getPositionTileId(0),
+        "States of the same board should copy into each other");
+    assertThrows(IllegalArgumentException.class,
+        () -> before.copyFrom(DiamondSearchState.capture(new MissingDiamond(2))),
+        "States of another board should not share the rules");
+  }
+
+  @Test
+  @DisplayName("Should shuffle hidden tokens without changing which tiles hold them")
+  void testDeterminize_Shuffled_SameTokenTiles() {
+    // Arrange
+    DiamondSearchState state = DiamondSearchState.capture(game);
+    DiamondSearchState shuffled = state.copy();
+
+    // Act
+    shuffled.determinize(new SplittableRandom(3));
+
+    // Assert
+    assertEquals(state.getTokenCount(), shuffled.getTokenCount(), "Token count should be unchanged");
+    for (Tile tile : game.getBoard().getTiles()) {
+      assertEquals(state.hasTokenAtTileId(tile.getTileId()), shuffled.hasTokenAtTileId(tile.getTileId()),
+          "Tile " + tile.getTileId() + " should keep or lack its token");
+    }
+  }
+
+  // ==================== Decision Tests ====================
+
+  @Test
+  @DisplayName("Should return to a start tile when holding the diamond")
+  void testChooseMove_DiamondAndStartInReach_MovesHome() {
+    // Arrange
+    Player player = game.getCurrentPlayer();
+    Tile start = player.getCurrentTile();
+    Tile neighbor = start.getNextTiles().get(0);
+    player.placePlayer(neighbor);
+    player.addInventoryItem("diamond");
+    DiamondSearchState state = DiamondSearchState.capture(game);
+    MissingDiamondBot bot = new MissingDiamondBot(10_000, 2, 200, 42L);
+
+    // Act
+    BotDecision decision = bot.chooseMove(state, 1);
+
+    // Assert
+    assertEquals(BotDecision.Kind.MOVE, decision.getKind(), "Bot should move");
+    assertTrue(game.getTokenSystem().isStartingTile(game.getBoard().getTileById(decision.getTileId())),
+        "Bot should move onto a start tile to win");
+  }
+
+  @Test
+  @DisplayName("Should only choose legal token actions")
+  void testChooseTokenAction_NoMoney_NeverBuys() {
+    // Arrange
+    Player player = game.getCurrentPlayer();
+    Tile tokenTile = game.getBoard().getTiles().stream()
+        .filter(game::hasTokenAtTile)
+        .findFirst()
+        .orElseThrow();
+    player.placePlayer(tokenTile);
+    game.getBanker().withdraw(player, game.getBanker().getBalance(player));
+    DiamondSearchState state = DiamondSearchState.capture(game);
+    MissingDiamondBot bot = new MissingDiamondBot(10_000, 2, 100, 7L);
+
+    // Act
+    BotDecision decision = bot.chooseTokenAction(state);
+
+    // Assert
+    assertNotEquals(BotDecision.Kind.BUY_TOKEN_FLIP, decision.getKind(), "Bot without money should not buy");
+    assertNotEquals(BotDecision.Kind.MOVE, decision.getKind(), "Token decision should not be a move");
+  }
+
+  @Test
+  @DisplayName("Should make the same choice with the same seed and playout cap")
+  void testChooseMove_SameSeed_SameDecision() {
+    // Arrange
+    DiamondSearchState state = DiamondSearchState.capture(game);
+
+    // Act
+    BotDecision first = new MissingDiamondBot(10_000, 3, 50, 11L).chooseMove(state, 4);
+    BotDecision second = new MissingDiamondBot(10_000, 3, 50, 11L).chooseMove(state, 4);
+
+    // Assert
+    assertEquals(first, second, "Seeded searches should agree");
+  }
+
+  @Test
+  @DisplayName("Should reject invalid bot settings and rolls")
+  void testConstructor_InvalidArguments_ThrowsException() {
+    // Arrange
+    DiamondSearchState state = DiamondSearchState.capture(game);
+    MissingDiamondBot bot = new MissingDiamondBot(10);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new MissingDiamondBot(0),
+        "Zero time budget should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new MissingDiamondBot(10, 0, 1, 1L),
+        "Zero workers should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> bot.chooseMove(state, 7),
+        "Roll above the die should throw IllegalArgumentException");
+  }
+
+  // ==================== Match Tests ====================
+
+  @Test
+  @DisplayName("Should play the same match with the same seed")
+  void testPlay_SameSeed_SameResult() {
+    // Arrange
+    DiamondSearchState start = DiamondSearchState.capture(game);
+    DiamondMatch first = new DiamondMatch(start, new RandomDiamondStrategy(1L), new RandomDiamondStrategy(2L));
+    DiamondMatch second = new DiamondMatch(start, new RandomDiamondStrategy(1L), new RandomDiamondStrategy(2L));
+
+    // Act
+    int firstWinner = first.play(new SplittableRandom(8), 2_000);
+    int secondWinner = second.play(new SplittableRandom(8), 2_000);
+
+    // Assert
+    assertEquals(firstWinner, secondWinner, "Winner should be reproducible");
+    assertEquals(first.getTurns(), second.getTurns(), "Match length should be reproducible");
+    assertTrue(first.getTurns() <= 2_000, "Match should stop at the turn cap");
+    assertEquals(0, start.getCurrentPlayer(), "Start state should be unchanged");
+  }
+
+  @Test
+  @DisplayName("Should reject a strategy that makes an illegal move")
+  void testPlay_IllegalMove_ThrowsException() {
+    // Arrange
+    DiamondStrategy cheater = new DiamondStrategy() {
+      @Override
+      public BotDecision chooseMove(DiamondSearchState state, int roll) {
+        return BotDecision.moveTo(-42);
+      }
+
+      @Override
+      public BotDecision chooseTokenAction(DiamondSearchState state) {
+        return BotDecision.endTurn();
+      }
+    };
+    DiamondMatch match = new DiamondMatch(DiamondSearchState.capture(game), cheater, cheater);
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> match.play(new SplittableRandom(1), 10),
+        "Illegal move should throw IllegalStateException");
+    assertThrows(IllegalArgumentException.class,
+        () -> new DiamondMatch(DiamondSearchState.capture(game), cheater),
+        "Missing seat should throw IllegalArgumentException");
+  }
+
+  // ==================== Controller Tests ====================
+
+  @Test
+  @DisplayName("Should play a whole computer turn through the controller")
+  void testPlayBotTurn_DirectDelivery_TurnPasses() throws Exception {
+    // Arrange
+    MissingDiamondController controller = new MissingDiamondController();
+    controller.setBot(new MissingDiamondBot(10_000, 2, 50, 5L));
+    Player first = controller.getCurrentPlayer();
+
+    // Act
+    String result = controller.playBotTurn(Runnable::run).get(30, TimeUnit.SECONDS);
+
+    // Assert
+    assertNotNull(result, "Turn should be described");
+    assertFalse(controller.isBotThinking(), "Bot should be done");
+    assertTrue(controller.isGameFinished() || controller.getCurrentPlayer() != first
+            || controller.getPlayers().size() == 1,
+        "Turn should pass unless the game ended");
+    assertTrue(controller.isGameFinished() || !controller.hasRolled(), "Next player should be able to roll");
+  }
+
+  @Test
+  @DisplayName("Should drop a computer decision made for a turn that has ended")
+  void testPlayBotTurn_TurnEndedWhileThinking_DecisionDropped() throws Exception {
+    // Arrange
+    MissingDiamondController controller = new MissingDiamondController();
+    controller.setBot(new MissingDiamondBot(10_000, 2, 50, 5L));
+    BlockingQueue<Runnable> deliveries = new LinkedBlockingQueue<>();
+    CompletableFuture<String> turn = controller.playBotTurn(deliveries::add);
+    Assumptions.assumeFalse(turn.isDone(), "The roll should leave the computer a move to choose");
+    Runnable delivery = deliveries.poll(30, TimeUnit.SECONDS);
+    assertNotNull(delivery, "Move decision should be delivered");
+
+    // Act
+    controller.endTurn();
+    Player next = controller.getCurrentPlayer();
+    delivery.run();
+    String result = turn.get(30, TimeUnit.SECONDS);
+
+    // Assert
+    assertTrue(result.contains("dropped"), "Stale decision should be reported as dropped");
+    assertEquals(next, controller.getCurrentPlayer(), "Stale decision should not end the next turn");
+    assertFalse(controller.hasRolled(), "Next player should still be able to roll");
+    assertTrue(deliveries.isEmpty(), "No token decision should follow a dropped move");
+    assertFalse(controller.isBotThinking(), "Bot should be done");
+  }
+}
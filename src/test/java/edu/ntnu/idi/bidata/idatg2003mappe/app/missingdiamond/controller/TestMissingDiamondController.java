@@ -0,0 +1,89 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game.MissingDiamondSnapshot;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+
+/**
+ * Test class for MissingDiamondController following AAA pattern.
+ * Tests that a turn passed for lack of valid moves is saved and restored
+ * as the start of the next player's turn.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("MissingDiamondController Test Suite")
+class TestMissingDiamondController {
+
+  private MissingDiamondController controller;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Default game on the default map
+    controller = new MissingDiamondController();
+  }
+
+  /**
+   * Places the current player on a tile and queues a roll that leaves them without
+   * a valid move.
+   */
+  static void queueRollWithoutMoves(MissingDiamondController controller) {
+    MissingDiamond game = controller.getGame();
+    Player player = game.getCurrentPlayer();
+    int playerIndex = game.getPlayers().indexOf(player);
+    for (Tile tile : game.getBoard().getTiles()) {
+      player.placePlayer(tile);
+      for (int roll = 1; roll <= 6; roll++) {
+        game.restoreTurn(playerIndex, roll, false, null);
+        boolean stuck = game.getPossibleMovesForCurrentRoll().isEmpty();
+        game.restoreTurn(playerIndex, 0, false, null);
+        if (stuck) {
+          controller.getDie().queueRolls(roll);
+          return;
+        }
+      }
+    }
+    fail("The default map should have a tile and roll without valid moves");
+  }
+
+  // ==================== No Valid Move Tests ====================
+
+  @Test
+  @DisplayName("Should clear the roll when a turn is passed for lack of valid moves")
+  void testPlayTurn_NoValidMove_RollCleared() {
+    // Arrange
+    queueRollWithoutMoves(controller);
+
+    // Act
+    String result = controller.playTurn();
+
+    // Assert
+    assertTrue(result.contains("No valid moves available"), "Turn should be passed");
+    assertEquals(0, controller.getGame().getCurrentRoll(), "Next player should not have a roll");
+    assertFalse(controller.hasRolled(), "Next player should be able to roll");
+  }
+
+  @Test
+  @DisplayName("Should let the next player roll after restoring a save made when a turn was passed")
+  void testApplySnapshot_AfterNoValidMove_NextPlayerCanRoll() {
+    // Arrange
+    queueRollWithoutMoves(controller);
+    controller.playTurn();
+    MissingDiamondSnapshot snapshot = controller.createSnapshot();
+    MissingDiamondController restored = new MissingDiamondController();
+
+    // Act
+    restored.applySnapshot(snapshot);
+    String result = restored.playTurn();
+
+    // Assert
+    assertEquals(0, snapshot.getCurrentRoll(), "Snapshot should not hold the passed roll");
+    assertFalse(result.contains("complete your current action"), "Next player should be able to roll");
+    assertTrue(result.contains("rolled a"), "Next player should have rolled");
+  }
+}
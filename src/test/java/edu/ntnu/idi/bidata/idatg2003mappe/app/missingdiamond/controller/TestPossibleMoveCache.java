@@ -0,0 +1,116 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+/**
+ * Test class for PossibleMoveCache following AAA pattern.
+ * Tests that moves are computed once per turn and recomputed when the roll,
+ * the player's tile or the board changes.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("PossibleMoveCache Test Suite")
+class TestPossibleMoveCache {
+
+  private MissingDiamond game;
+  private PossibleMoveCache cache;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Two players on the default map, first player has rolled
+    game = new MissingDiamond(2);
+    cache = new PossibleMoveCache(game);
+    game.playTurn();
+  }
+
+  // ==================== Lookup Tests ====================
+
+  @Test
+  @DisplayName("Should match the moves computed by the game")
+  void testGetMoves_AfterRoll_MatchesGame() {
+    // Act
+    List<Tile> moves = cache.getMoves();
+
+    // Assert
+    assertEquals(game.getPossibleMovesForCurrentRoll().size(), moves.size(), "Move count should match");
+    for (Tile move : game.getPossibleMovesForCurrentRoll()) {
+      assertTrue(moves.contains(move), "Cached moves should contain tile " + move.getTileId());
+      assertTrue(cache.contains(move.getTileId()), "Lookup should find tile " + move.getTileId());
+    }
+    assertFalse(cache.contains(game.getCurrentPlayer().getCurrentTile().getTileId()),
+        "The player's own tile should not be a move");
+  }
+
+  @Test
+  @DisplayName("Should return an unmodifiable list")
+  void testGetMoves_Modified_ThrowsException() {
+    // Act & Assert
+    assertThrows(UnsupportedOperationException.class, () -> cache.getMoves().clear(),
+        "Cached moves should not be modifiable");
+  }
+
+  // ==================== Invalidation Tests ====================
+
+  @Test
+  @DisplayName("Should reuse the moves within a turn")
+  void testGetMoves_SameTurn_SameInstance() {
+    // Act
+    List<Tile> first = cache.getMoves();
+    List<Tile> second = cache.getMoves();
+
+    // Assert
+    assertSame(first, second, "Moves should only be computed once per turn");
+  }
+
+  @Test
+  @DisplayName("Should recompute the moves after an explicit invalidation")
+  void testInvalidate_SameTurn_Recomputed() {
+    // Arrange
+    List<Tile> first = cache.getMoves();
+
+    // Act
+    cache.invalidate();
+
+    // Assert
+    assertNotSame(first, cache.getMoves(), "Invalidated moves should be computed again");
+    assertEquals(first, cache.getMoves(), "Moves for the same turn should be unchanged");
+  }
+
+  @Test
+  @DisplayName("Should recompute the moves when the board changes")
+  void testGetMoves_BoardConnected_Recomputed() {
+    // Arrange
+    List<Tile> first = cache.getMoves();
+    Tile start = game.getCurrentPlayer().getCurrentTile();
+    Tile isolated = new Tile(9_999);
+    game.getBoard().addTileToBoard(isolated);
+
+    // Act
+    game.getBoard().connectTiles(start, isolated);
+
+    // Assert
+    assertNotSame(first, cache.getMoves(), "Board change should invalidate the moves");
+  }
+
+  @Test
+  @DisplayName("Should recompute the moves when the player moves")
+  void testGetMoves_PlayerMoved_Recomputed() {
+    // Arrange
+    List<Tile> first = cache.getMoves();
+    assertFalse(first.isEmpty(), "The first player should be able to move from the start");
+
+    // Act
+    game.movePlayerToTile(first.get(0));
+
+    // Assert
+    assertTrue(cache.getMoves().isEmpty(), "No moves should remain once the roll is used");
+  }
+}
@@ -0,0 +1,205 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.markers.*;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test class for HiddenTokenPool and TokenAdvice following AAA pattern.
+ * Tests the counts after placing and revealing tokens and the expected value
+ * of the free roll and the paid flip.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("HiddenTokenPool Test Suite")
+class TestHiddenTokenPool {
+
+  private HiddenTokenPool pool;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - One gem of 1000, one bandit and one diamond
+    pool = new HiddenTokenPool();
+    pool.add(new RedGem());
+    pool.add(new Bandit());
+    pool.add(new Diamond());
+  }
+
+  // ==================== Count Tests ====================
+
+  @Test
+  @DisplayName("Should count every token placed by the token system")
+  void testInitializeTokens_FullBoard_AllTokensCounted() {
+    // Arrange
+    TokenSystem tokenSystem = new TokenSystem();
+    List<Tile> cities = new ArrayList<>();
+    for (int id = 0; id < 30; id++) {
+      cities.add(new Tile(id));
+    }
+
+    // Act
+    tokenSystem.initializeTokens(cities);
+
+    // Assert
+    HiddenTokenPool hidden = tokenSystem.getHiddenTokens();
+    assertEquals(30, hidden.getHiddenCount(), "Every city should hold a hidden token");
+    assertEquals(5, hidden.getHiddenCount("RedGem"), "All rubies should be hidden");
+    assertEquals(4, hidden.getHiddenCount("Bandit"), "All bandits should be hidden");
+    assertEquals(3, hidden.getHiddenCount("Visa"), "All visas should be hidden");
+    assertEquals(7, hidden.getHiddenCount("Blank"), "Remaining cities should hold blanks");
+    assertEquals(1.0 / 30, hidden.getDiamondChance(), 1e-9, "Diamond should be one of thirty");
+  }
+
+  @Test
+  @DisplayName("Should forget a token when it is revealed")
+  void testRemoveTokenFromTile_Revealed_CountDecreases() {
+    // Arrange
+    TokenSystem tokenSystem = new TokenSystem();
+    List<Tile> cities = List.of(new Tile(1), new Tile(2), new Tile(3));
+    tokenSystem.initializeTokens(cities);
+    Marker token = tokenSystem.getTokenAtTile(cities.get(0));
+
+    // Act
+    tokenSystem.removeTokenFromTile(cities.get(0));
+
+    // Assert
+    HiddenTokenPool hidden = tokenSystem.getHiddenTokens();
+    assertEquals(2, hidden.getHiddenCount(), "Revealed token should no longer be hidden");
+    int left = hidden.getHiddenCounts().values().stream().mapToInt(Integer::intValue).sum();
+    assertEquals(2, left, "Counts by type should add up to the hidden tokens");
+    assertNotNull(token, "A token should have been placed");
+  }
+
+  // ==================== Expected Value Tests ====================
+
+  @Test
+  @DisplayName("Should weigh gem rewards against losing the balance to a bandit")
+  void testGetExpectedMoneyChange_MixedTokens_CorrectValue() {
+    // Act
+    double expected = pool.getExpectedMoneyChange(600);
+
+    // Assert
+    assertEquals((1000 - 600) / 3.0, expected, 1e-9, "Gem minus bandit over three tokens");
+    assertEquals(1.0 / 3, pool.getBanditChance(), 1e-9, "One of three tokens is a bandit");
+  }
+
+  @Test
+  @DisplayName("Should halve the free roll and charge the paid flip")
+  void testAdvise_AffordableFlip_BothOptions() {
+    // Act
+    TokenAdvice advice = pool.advise(600);
+
+    // Assert
+    assertEquals(0.5 * (1000 - 600) / 3.0, advice.getFreeExpectedMoney(), 1e-9, "Free roll succeeds half the time");
+    assertEquals((1000 - 300) / 3.0 - 300, advice.getPaidExpectedMoney(), 1e-9,
+        "Paid flip costs 300 and a bandit takes the rest");
+    assertEquals(1.0 / 6, advice.getFreeDiamondChance(), 1e-9, "Free roll halves the diamond chance");
+    assertEquals(1.0 / 3, advice.getPaidDiamondChance(), 1e-9, "Paid flip always reveals");
+  }
+
+  @Test
+  @DisplayName("Should mark the paid flip as unaffordable without money")
+  void testAdvise_NoMoney_PaidNotAffordable() {
+    // Arrange
+    TokenSystem tokenSystem = new TokenSystem();
+    Banker banker = new Banker();
+    Player player = new Player("Alice", 1, "Blue", new Tile(1));
+    banker.registerPlayer(player);
+    banker.withdraw(player, banker.getBalance(player));
+
+    // Act
+    TokenAdvice advice = tokenSystem.adviseTokenDecision(player, banker);
+
+    // Assert
+    assertFalse(advice.isPaidAffordable(), "Flip should not be affordable");
+    assertEquals(0, advice.getHiddenTokens(), "Empty board has no hidden tokens");
+    assertTrue(advice.toString().contains("not affordable"), "Summary should say so");
+  }
+
+  // ==================== Applied Payout Tests ====================
+
+  /**
+   * Places a catalog with every kind of effect on five cities, the same way for every seed.
+   */
+  private static TokenSystem createEffectBoard(List<Tile> cities) {
+    Map<TokenType, Integer> counts = new LinkedHashMap<>();
+    counts.put(TokenType.DIAMOND, 1);
+    counts.put(TokenType.RUBY, 1);
+    counts.put(TokenType.BANDIT, 1);
+    counts.put(TokenType.VISA, 1);
+    counts.put(new TokenType("TaxCollector", 0, -500, null, false), 1);
+    TokenSystem tokenSystem = new TokenSystem(new Random(11L));
+    tokenSystem.initializeTokens(cities, new TokenCatalog(counts, cities.size()));
+    return tokenSystem;
+  }
+
+  private static Player createPlayer(Banker banker, int balance) {
+    Player player = new Player("Alice", 1, "Blue", new Tile(99));
+    banker.registerPlayer(player);
+    int start = banker.getBalance(player);
+    if (start > 0) {
+      banker.withdraw(player, start);
+    }
+    if (balance > 0) {
+      banker.deposit(player, balance);
+    }
+    return player;
+  }
+
+  /**
+   * Opens every token of the board in turn on a fresh copy and averages the money change.
+   */
+  private static double averageAppliedChange(int balance, boolean paid) {
+    List<Tile> cities = List.of(new Tile(1), new Tile(2), new Tile(3), new Tile(4), new Tile(5));
+    double total = 0;
+    for (Tile city : cities) {
+      TokenSystem tokenSystem = createEffectBoard(cities);
+      Banker banker = new Banker();
+      Player player = createPlayer(banker, balance);
+      if (paid) {
+        assertTrue(tokenSystem.buyTokenFlip(player, city, banker), "Flip should be bought");
+      } else {
+        assertNotNull(tokenSystem.openToken(player, city, banker), "Token should be opened");
+      }
+      total += banker.getBalance(player) - balance;
+    }
+    return total / cities.size();
+  }
+
+  @Test
+  @DisplayName("Should advise the money the token system actually pays for both options")
+  void testAdvise_EveryToken_MatchesAppliedPayout() {
+    for (int balance : new int[] {0, 300, 700, 1200}) {
+      // Arrange
+      List<Tile> cities = List.of(new Tile(1), new Tile(2), new Tile(3), new Tile(4), new Tile(5));
+      TokenSystem tokenSystem = createEffectBoard(cities);
+      Banker banker = new Banker();
+      Player player = createPlayer(banker, balance);
+
+      // Act
+      TokenAdvice advice = tokenSystem.adviseTokenDecision(player, banker);
+
+      // Assert
+      assertEquals(HiddenTokenPool.FREE_FLIP_CHANCE * averageAppliedChange(balance, false),
+          advice.getFreeExpectedMoney(), 1e-9, "Free roll advice should match the opened tokens at £" + balance);
+      assertEquals(balance >= TokenSystem.TOKEN_FLIP_COST, advice.isPaidAffordable(),
+          "Flip should be affordable from £" + TokenSystem.TOKEN_FLIP_COST);
+      if (advice.isPaidAffordable()) {
+        assertEquals(averageAppliedChange(balance, true), advice.getPaidExpectedMoney(), 1e-9,
+            "Paid flip advice should match the bought tokens at £" + balance);
+      }
+    }
+  }
+}
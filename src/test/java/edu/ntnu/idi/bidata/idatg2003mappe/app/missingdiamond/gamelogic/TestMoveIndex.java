@@ -0,0 +1,119 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardBranching;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Test class for MoveIndex following AAA pattern.
+ * Tests that indexed moves match the direct search on the default map
+ * and that the calculator rebuilds its index when the board changes.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.1
+ * @since 17.10.2026
+ */
+@DisplayName("MoveIndex Test Suite")
+class TestMoveIndex {
+
+  private BoardBranching board;
+  private Tile tile1;
+  private Tile tile2;
+  private Tile tile3;
+  private Tile tile4;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Small board: 1 - 2 - 3 - 4 with 3 as a special tile
+    board = new BoardBranching();
+    tile1 = new Tile(1);
+    tile2 = new Tile(2);
+    tile3 = new Tile(3);
+    tile4 = new Tile(4);
+    board.addMultipleTilesToBoard(tile1, tile2, tile3, tile4);
+    board.connectTiles(tile1, tile2);
+    board.connectTiles(tile2, tile3);
+    board.connectTiles(tile3, tile4);
+  }
+
+  // ==================== Lookup Tests ====================
+
+  @Test
+  @DisplayName("Should store exact-roll and special-tile destinations")
+  void testGetDestinationIds_SmallBoard_ExactAndSpecialStops() {
+    // Act
+    MoveIndex index = new MoveIndex(board.getTiles(), Set.of(3));
+
+    // Assert
+    assertArrayEquals(new int[] {2}, index.getDestinationIds(tile1, 1), "One step should reach tile 2");
+    int[] threeSteps = index.getDestinationIds(tile1, 3);
+    Arrays.sort(threeSteps);
+    assertArrayEquals(new int[] {3, 4}, threeSteps, "Special tile 3 should be an early stop");
+    assertTrue(index.contains(tile1, 3, tile3), "Special tile should be a legal destination");
+    assertFalse(index.contains(tile1, 3, tile2), "Normal tile short of the roll should not be legal");
+    assertFalse(index.covers(tile1, 7), "Rolls above the die should not be covered");
+  }
+
+  @Test
+  @DisplayName("Should return destinations as an unmodifiable set view")
+  void testGetDestinations_SmallBoard_UnmodifiableView() {
+    // Arrange
+    MoveIndex index = new MoveIndex(board.getTiles(), Set.of(3));
+
+    // Act
+    Set<Tile> destinations = index.getDestinations(tile1, 3);
+
+    // Assert
+    assertEquals(Set.of(tile3, tile4), destinations, "Special and exact-roll tiles should be included");
+    assertTrue(destinations.contains(tile3), "Special tile should be contained");
+    assertFalse(destinations.contains(tile2), "Normal tile short of the roll should not be contained");
+    assertThrows(UnsupportedOperationException.class, () -> destinations.add(tile1),
+        "The view should not be modifiable");
+  }
+
+  @Test
+  @DisplayName("Should match the direct search for every tile and roll on the default map")
+  void testGetDestinations_DefaultMap_MatchesSearch() {
+    // Arrange
+    MissingDiamond game = new MissingDiamond(2);
+    BoardBranching defaultBoard = game.getBoard();
+    Set<Integer> specialIds = new HashSet<>();
+    defaultBoard.getTiles().stream()
+        .filter(tile -> tile.getTileId() % 3 == 0)
+        .forEach(tile -> specialIds.add(tile.getTileId()));
+    MovementCalculator indexed = new MovementCalculator(specialIds, defaultBoard);
+    MovementCalculator searched = new MovementCalculator(specialIds);
+
+    for (Tile tile : defaultBoard.getTiles()) {
+      Player player = new Player("Tester", 1, "Red", tile);
+      for (int roll = 1; roll <= MoveIndex.MAX_ROLL; roll++) {
+        // Act & Assert
+        assertEquals(searched.getPossibleMoves(player, roll), indexed.getPossibleMoves(player, roll),
+            "Moves from tile " + tile.getTileId() + " with roll " + roll + " should match");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should rebuild the index when the board changes")
+  void testIsValidMove_BoardConnectedAfterLookup_IndexRebuilt() {
+    // Arrange
+    MovementCalculator calculator = new MovementCalculator(Set.of(), board);
+    Player player = new Player("Tester", 1, "Red", tile1);
+    assertFalse(calculator.isValidMove(player, tile4, 1), "Tile 4 should not be one step away yet");
+
+    // Act
+    board.connectTiles(tile1, tile4);
+
+    // Assert
+    assertTrue(calculator.isValidMove(player, tile4, 1), "New connection should be used after the change");
+  }
+}
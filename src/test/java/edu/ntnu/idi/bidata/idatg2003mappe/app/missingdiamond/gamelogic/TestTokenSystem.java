@@ -4,12 +4,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
 import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map.MapConfig;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.BoardGraph;
 import edu.ntnu.idi.bidata.idatg2003mappe.markers.*;
 import org.junit.jupiter.api.*;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Comprehensive test class for TokenSystem following AAA pattern.
@@ -463,6 +468,153 @@ class TestTokenSystem {
         "Player balance should remain 299 after failed purchase");
   }
 
+  // ==================== Token Mix Tests ====================
+
+  @Test
+  @DisplayName("Should place the same tokens on the same tiles with the same seed")
+  void testInitializeTokens_SameSeed_SamePlacement() {
+    // Arrange
+    List<Tile> cities = createLargeCityTilesList(40);
+    TokenSystem first = new TokenSystem(new Random(17));
+    TokenSystem second = new TokenSystem(new Random(17));
+
+    // Act
+    first.initializeTokens(cities);
+    second.initializeTokens(cities);
+
+    // Assert
+    for (Tile city : cities) {
+      assertEquals(first.getTokenAtTile(city).getType(), second.getTokenAtTile(city).getType(),
+          "Tile " + city.getTileId() + " should hold the same token type");
+    }
+  }
+
+  @Test
+  @DisplayName("Should use the token mix of the map")
+  void testInitializeTokens_CustomMix_CountsFollowMix() {
+    // Arrange
+    List<Tile> cities = createLargeCityTilesList(20);
+    MapConfig.TokenMix mix = new MapConfig.TokenMix(2, 0, 0, 0, 1, 20);
+
+    // Act
+    tokenSystem.initializeTokens(cities, mix);
+
+    // Assert
+    HiddenTokenPool hidden = tokenSystem.getHiddenTokens();
+    assertEquals(20, hidden.getHiddenCount(), "Every city should get a token");
+    assertEquals(2, hidden.getHiddenCount("RedGem"), "Mix asks for two rubies");
+    assertEquals(0, hidden.getHiddenCount("Bandit"), "Mix asks for no bandits");
+    assertEquals(1, hidden.getHiddenCount("Visa"), "Mix asks for one visa");
+    assertEquals(16, hidden.getHiddenCount("Blank"), "Remaining cities should be blank");
+  }
+
+  @Test
+  @DisplayName("Should scale the mix on a very large map")
+  void testInitializeTokens_TenThousandCities_MixScaled() {
+    // Arrange
+    List<Tile> cities = createLargeCityTilesList(10_000);
+
+    // Act
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> tokenSystem.initializeTokens(cities),
+        "Placement on a large map should be fast");
+
+    // Assert
+    HiddenTokenPool hidden = tokenSystem.getHiddenTokens();
+    assertEquals(10_000, countTokensOnTiles(cities), "Every city should hold a token");
+    assertEquals(Math.round(5 * 10_000 / 32.0), hidden.getHiddenCount("RedGem"), "Rubies should scale with the map");
+    assertEquals(Math.round(4 * 10_000 / 32.0), hidden.getHiddenCount("Bandit"), "Bandits should scale with the map");
+    assertEquals(1, hidden.getHiddenCount("Diamond"), "There should still be one diamond");
+  }
+
+  @Test
+  @DisplayName("Should keep the standard mix on maps up to the reference size")
+  void testScaledTo_SmallMap_Unchanged() {
+    // Arrange
+    MapConfig.TokenMix mix = new MapConfig.TokenMix();
+
+    TokenCatalog catalog = mix.toCatalog();
+
+    // Act
+    TokenCatalog scaled = catalog.scaledTo(20);
+
+    // Assert
+    assertSame(catalog, scaled, "Small maps should not scale the mix");
+    assertEquals(5, scaled.getCount(TokenType.RUBY), "Standard mix has five rubies");
+    assertThrows(IllegalArgumentException.class, () -> new MapConfig.TokenMix(-1, 0, 0, 0, 0, 1),
+        "Negative count should throw IllegalArgumentException");
+  }
+
+  @Test
+  @DisplayName("Should mark the diamond as found when it is opened")
+  void testOpenToken_Diamond_DiamondFound() {
+    // Arrange - Only the diamond and blanks, so the diamond is always dealt
+    tokenSystem.initializeTokens(cityTiles, TokenCatalog.standard(0, 0, 0, 0, 0, cityTiles.size()));
+    Tile diamondTile = cityTiles.stream()
+        .filter(tile -> tokenSystem.getTokenAtTile(tile).getEffect().isDiamond())
+        .findFirst().orElseThrow();
+
+    // Act
+    Marker token = tokenSystem.openToken(testPlayer1, diamondTile, banker);
+
+    // Assert
+    Diamond diamond = assertInstanceOf(Diamond.class, token, "Standard diamond should be a Diamond");
+    assertFalse(diamond.isMissing(), "Opened diamond should no longer be missing");
+    assertTrue(tokenSystem.isDiamondFound(), "Token system should know the diamond is found");
+    assertTrue(testPlayer1.hasInventoryItem("diamond"), "Player should hold the diamond");
+  }
+
+  // ==================== Token Store Tests ====================
+
+  @Test
+  @DisplayName("Should track tiles with tokens and revealed tiles")
+  void testRemoveTokenFromTile_TokenTaken_MovesToRevealed() {
+    // Arrange
+    tokenSystem.initializeTokens(cityTiles);
+    BoardGraph graph = tokenSystem.getGraph();
+    int index = graph.indexOf(cityTile2);
+
+    // Act
+    Marker removed = tokenSystem.removeTokenFromTile(cityTile2);
+
+    // Assert
+    assertNotNull(removed, "Every city should hold a token");
+    assertFalse(tokenSystem.hasTokenAtTile(cityTile2), "Taken token should be gone");
+    assertNull(tokenSystem.getTokenAtTileId(11), "ID lookup should agree");
+    assertFalse(tokenSystem.getTokenTiles().get(index), "Tile should no longer hold a token");
+    assertTrue(tokenSystem.getRevealedTiles().get(index), "Tile should be revealed");
+    assertEquals(2, tokenSystem.getTokenTiles().cardinality(), "Two tokens should remain");
+    assertSame(tokenSystem.getTokenAtTile(cityTile1), tokenSystem.getTokenAtTileId(10),
+        "Lookups by tile and by ID should agree");
+  }
+
+  @Test
+  @DisplayName("Should find tokens in reach of a tile on the board graph")
+  void testGetTokenTilesWithin_LinkedCities_ReturnsTokensInReach() {
+    // Arrange - Path 1 - 10 - 11 - 12
+    startingTile1.addTileToTileBranch(cityTile1);
+    cityTile1.addTileToTileBranch(cityTile2);
+    cityTile2.addTileToTileBranch(cityTile3);
+    BoardGraph graph = new BoardGraph(List.of(startingTile1, cityTile1, cityTile2, cityTile3));
+    tokenSystem.setBoardGraph(graph);
+    tokenSystem.initializeTokens(cityTiles);
+    tokenSystem.removeTokenFromTile(cityTile1);
+
+    // Act
+    List<Tile> inReach = tokenSystem.getTokenTilesWithin(startingTile1, 2);
+    BitSet candidates = new BitSet();
+    candidates.set(graph.indexOf(cityTile1));
+    candidates.set(graph.indexOf(cityTile3));
+
+    // Assert
+    assertEquals(List.of(cityTile2), inReach, "Only the remaining token within two steps should be found");
+    assertEquals(1, tokenSystem.tokenTilesAmong(candidates).cardinality(), "Only tile 12 still holds a token");
+    assertThrows(IllegalArgumentException.class, () -> tokenSystem.getTokenTilesWithin(new Tile(99), 1),
+        "Tile off the board should throw IllegalArgumentException");
+    tokenSystem.setBoardGraph(new BoardGraph(List.of(startingTile2)));
+    assertThrows(IllegalArgumentException.class, () -> tokenSystem.initializeTokens(cityTiles),
+        "City off the board should throw IllegalArgumentException");
+  }
+
   // ==================== Helper Methods ====================
 
   /**
@@ -0,0 +1,244 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.app.tournament;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.DiamondSearchState;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.ai.RandomDiamondStrategy;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.board.LadderGameBoardFactory;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test class for TournamentRunner, EloRatings and MapStatistics following AAA pattern.
+ * Tests the rating updates, streaming of results, resuming an interrupted tournament
+ * and recovery from a damaged results file or one written by another setup.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.1
+ * @since 17.10.2026
+ */
+@DisplayName("TournamentRunner Test Suite")
+class TestTournamentRunner {
+
+  private static DiamondSearchState diamondStart;
+
+  @TempDir
+  Path directory;
+
+  @BeforeAll
+  static void setUpAll() {
+    // Arrange - Capturing the map once keeps every runner on the same start
+    diamondStart = DiamondSearchState.capture(new MissingDiamond(2));
+  }
+
+  private TournamentRunner createRunner(String name, int threads) {
+    TournamentRunner runner = new TournamentRunner(directory.resolve(name + ".csv"),
+        directory.resolve(name + ".json"), 99L, threads);
+    runner.addStrategy("random-a", RandomDiamondStrategy::new);
+    runner.addStrategy("random-b", RandomDiamondStrategy::new);
+    runner.addStrategy("random-c", RandomDiamondStrategy::new);
+    runner.addDiamondMap("diamond", diamondStart);
+    runner.addLadderBoard("ladder", LadderGameBoardFactory.createClassicLadderBoard(), 2);
+    return runner;
+  }
+
+  // ==================== Elo Tests ====================
+
+  @Test
+  @DisplayName("Should move equal ratings by half the K factor in a two-player match")
+  void testRecordMatch_EqualRatings_HalfKFactor() {
+    // Arrange
+    EloRatings ratings = new EloRatings();
+
+    // Act
+    ratings.recordMatch(List.of("a", "b"), 0);
+
+    // Assert
+    assertEquals(EloRatings.INITIAL_RATING + EloRatings.K_FACTOR / 2, ratings.getRating("a"), 1e-9,
+        "Winner should gain half the K factor");
+    assertEquals(EloRatings.INITIAL_RATING - EloRatings.K_FACTOR / 2, ratings.getRating("b"), 1e-9,
+        "Loser should lose half the K factor");
+    assertEquals(1, ratings.getMatches("a"), "Winner should have one match");
+  }
+
+  @Test
+  @DisplayName("Should keep the total rating when several players meet")
+  void testRecordMatch_ThreePlayers_RatingConserved() {
+    // Arrange
+    EloRatings ratings = new EloRatings();
+    ratings.recordMatch(List.of("a", "b"), 0);
+
+    // Act
+    ratings.recordMatch(List.of("a", "b", "c"), 2);
+    ratings.recordMatch(List.of("c", "a", "b"), -1);
+
+    // Assert
+    double total = ratings.getRating("a") + ratings.getRating("b") + ratings.getRating("c");
+    assertEquals(3 * EloRatings.INITIAL_RATING, total, 1e-9, "Ratings should only move between players");
+    assertTrue(ratings.getRating("c") > EloRatings.INITIAL_RATING, "Winner of the three-player match should gain");
+  }
+
+  @Test
+  @DisplayName("Should not rate a strategy against itself")
+  void testRecordMatch_SameStrategy_Unchanged() {
+    // Arrange
+    EloRatings ratings = new EloRatings();
+
+    // Act
+    ratings.recordMatch(List.of("a", "a"), 1);
+
+    // Assert
+    assertEquals(EloRatings.INITIAL_RATING, ratings.getRating("a"), 1e-9, "Self-play should not change the rating");
+    assertThrows(IllegalArgumentException.class, () -> ratings.recordMatch(List.of("a", "b"), 2),
+        "Winner outside the seats should throw IllegalArgumentException");
+  }
+
+  // ==================== Statistics Tests ====================
+
+  @Test
+  @DisplayName("Should count seat wins and ignore abandoned matches in averages")
+  void testRecordMatch_MixedResults_CorrectStatistics() {
+    // Arrange
+    MapStatistics statistics = new MapStatistics("map", 2);
+
+    // Act
+    statistics.recordMatch(0, 10);
+    statistics.recordMatch(1, 20);
+    statistics.recordMatch(0, 30);
+    statistics.recordMatch(-1, 2_000);
+
+    // Assert
+    assertEquals(4, statistics.getMatches(), "Every match should be counted");
+    assertEquals(1, statistics.getUnfinished(), "One match should be unfinished");
+    assertEquals(2.0 / 3, statistics.getWinRate(0), 1e-9, "First seat should win two of three");
+    assertEquals(20.0, statistics.getAverageTurns(), 1e-9, "Average should only use finished matches");
+  }
+
+  // ==================== Runner Tests ====================
+
+  @Test
+  @DisplayName("Should stream one row per match and write a summary")
+  void testRun_NewTournament_ResultsAndSummaryWritten() throws Exception {
+    // Arrange
+    TournamentRunner runner = createRunner("fresh", 4);
+
+    // Act
+    long completed = runner.run(30);
+
+    // Assert
+    assertEquals(30, completed, "Every match should be committed");
+    List<String> lines = Files.readAllLines(directory.resolve("fresh.csv"));
+    assertEquals(32, lines.size(), "Setup, header and one row per match");
+    assertEquals("\"#tournament\",\"99\",\"random-a|random-b|random-c\"", lines.get(0),
+        "First row should name the seed and strategies");
+    String summary = Files.readString(directory.resolve("fresh.json"));
+    assertTrue(summary.contains("\"strategies\""), "Summary should list the strategies");
+    assertTrue(summary.contains("random-a"), "Summary should hold ratings");
+    assertEquals(15, runner.getMapStatistics("diamond").getMatches(), "Maps should take turns");
+    assertEquals(15, runner.getMapStatistics("ladder").getMatches(), "Maps should take turns");
+  }
+
+  @Test
+  @DisplayName("Should give the same results when a tournament is resumed")
+  void testRun_Resumed_SameAsUninterrupted() throws Exception {
+    // Arrange
+    createRunner("whole", 3).run(40);
+    createRunner("split", 2).run(17);
+
+    // Act
+    TournamentRunner resumed = createRunner("split", 4);
+    resumed.run(40);
+
+    // Assert
+    assertEquals(Files.readAllLines(directory.resolve("whole.csv")),
+        Files.readAllLines(directory.resolve("split.csv")), "Results should not depend on interruptions");
+    TournamentRunner replayed = createRunner("whole", 1);
+    replayed.run(40);
+    assertEquals(replayed.getRatings().getRatings(), resumed.getRatings().getRatings(),
+        "Ratings should be rebuilt from the results file");
+  }
+
+  @Test
+  @DisplayName("Should drop a row cut short at the end of the results file")
+  void testRun_TruncatedLastRow_Repaired() throws Exception {
+    // Arrange
+    createRunner("crash", 2).run(10);
+    Files.writeString(directory.resolve("crash.csv"), "\"10\",\"diam",
+        java.nio.file.StandardOpenOption.APPEND);
+
+    // Act
+    TournamentRunner runner = createRunner("crash", 2);
+    runner.run(12);
+
+    // Assert
+    assertEquals(12, runner.getCompletedMatches(), "Play should continue after the valid rows");
+    assertEquals(14, Files.readAllLines(directory.resolve("crash.csv")).size(), "Damaged row should be gone");
+  }
+
+  @Test
+  @DisplayName("Should refuse results written by another tournament setup")
+  void testRun_OtherMapOrder_ThrowsException() throws IOException, FileHandlingException {
+    // Arrange
+    createRunner("other", 2).run(4);
+    TournamentRunner reordered = new TournamentRunner(directory.resolve("other.csv"),
+        directory.resolve("other.json"), 99L, 2);
+    reordered.addStrategy("random-a", RandomDiamondStrategy::new);
+    reordered.addLadderBoard("ladder", LadderGameBoardFactory.createClassicLadderBoard(), 2);
+    reordered.addDiamondMap("diamond", diamondStart);
+
+    // Act & Assert
+    assertThrows(FileHandlingException.class, () -> reordered.run(8),
+        "Resuming with another map order should throw FileHandlingException");
+  }
+
+  @Test
+  @DisplayName("Should refuse results written with another seed or other strategies")
+  void testRun_OtherSeedOrStrategies_ThrowsException() throws IOException, FileHandlingException {
+    // Arrange
+    createRunner("setup", 2).run(4);
+    TournamentRunner reseeded = new TournamentRunner(directory.resolve("setup.csv"),
+        directory.resolve("setup.json"), 100L, 2);
+    reseeded.addStrategy("random-a", RandomDiamondStrategy::new);
+    reseeded.addStrategy("random-b", RandomDiamondStrategy::new);
+    reseeded.addStrategy("random-c", RandomDiamondStrategy::new);
+    reseeded.addDiamondMap("diamond", diamondStart);
+    reseeded.addLadderBoard("ladder", LadderGameBoardFactory.createClassicLadderBoard(), 2);
+    TournamentRunner fewer = new TournamentRunner(directory.resolve("setup.csv"),
+        directory.resolve("setup.json"), 99L, 2);
+    fewer.addStrategy("random-a", RandomDiamondStrategy::new);
+    fewer.addStrategy("random-b", RandomDiamondStrategy::new);
+    fewer.addDiamondMap("diamond", diamondStart);
+    fewer.addLadderBoard("ladder", LadderGameBoardFactory.createClassicLadderBoard(), 2);
+
+    // Act & Assert
+    assertThrows(FileHandlingException.class, () -> reseeded.run(8),
+        "Resuming with another seed should throw FileHandlingException");
+    assertThrows(FileHandlingException.class, () -> fewer.run(8),
+        "Resuming with other strategies should throw FileHandlingException");
+    assertEquals(4, createRunner("setup", 2).run(4), "The original setup should still resume");
+  }
+
+  @Test
+  @DisplayName("Should reject invalid setup")
+  void testSetup_InvalidArguments_ThrowsException() {
+    // Arrange
+    TournamentRunner runner = createRunner("invalid", 1);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> runner.addStrategy("a|b", RandomDiamondStrategy::new),
+        "Separator in a name should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> runner.addStrategy("random-a", RandomDiamondStrategy::new),
+        "Duplicate strategy should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> runner.addDiamondMap("diamond", diamondStart),
+        "Duplicate map should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> runner.run(-1),
+        "Negative match count should throw IllegalArgumentException");
+  }
+}
@@ -333,4 +333,51 @@ class TestBanker {
     assertEquals(501, banker.getBalance(testPlayer1),
         "Balance should be 500 + 1 = 501");
   }
-}
\ No newline at end of file
+
+  // ==================== Transaction Tests ====================
+
+  @Test
+  @DisplayName("Should keep every change of a successful transaction")
+  void testTransaction_StepsSucceed_ChangesKept() {
+    // Arrange
+    banker.registerPlayer(testPlayer1);
+    banker.registerPlayer(testPlayer2);
+
+    // Act
+    boolean kept = banker.transaction(() -> {
+      banker.withdraw(testPlayer1, 300);
+      banker.deposit(testPlayer2, 300);
+      return true;
+    });
+
+    // Assert
+    assertTrue(kept, "Transaction should be kept");
+    assertEquals(200, banker.getBalance(testPlayer1), "Payer should have paid");
+    assertEquals(800, banker.getBalance(testPlayer2), "Payee should have received");
+    assertEquals(0, banker.getLedger().getTransactionDepth(), "No transaction should be open");
+  }
+
+  @Test
+  @DisplayName("Should undo every change of a failed or throwing transaction")
+  void testTransaction_StepsFailOrThrow_ChangesUndone() {
+    // Arrange
+    banker.registerPlayer(testPlayer1);
+
+    // Act
+    boolean kept = banker.transaction(() -> {
+      banker.withdraw(testPlayer1, 300);
+      return banker.withdraw(testPlayer1, 300);
+    });
+    assertThrows(IllegalStateException.class, () -> banker.transaction(() -> {
+      banker.deposit(testPlayer1, 1000);
+      throw new IllegalStateException("Token effect failed");
+    }), "Exception should pass through the transaction");
+
+    // Assert
+    assertFalse(kept, "Transaction without enough money should be undone");
+    assertEquals(500, banker.getBalance(testPlayer1), "Balance should be unchanged");
+    assertEquals(-1, banker.getAccountSlot(testPlayer2), "Unregistered player should have no slot");
+    assertThrows(IllegalArgumentException.class, () -> banker.transaction(null),
+        "Null steps should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,171 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.banker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for Ledger following AAA pattern.
+ * Tests primitive accounts, nested transactions, rollback, the audit trail and listeners.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.1
+ * @since 17.10.2026
+ */
+@DisplayName("Ledger Test Suite")
+class TestLedger {
+
+  private Ledger ledger;
+  private int alice;
+  private int bob;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Two accounts and a small audit trail
+    ledger = new Ledger(4);
+    alice = ledger.openAccount(500);
+    bob = ledger.openAccount(100);
+  }
+
+  // ==================== Account Tests ====================
+
+  @Test
+  @DisplayName("Should deposit and withdraw by slot")
+  void testDepositWithdraw_ValidSlots_BalancesChange() {
+    // Act
+    ledger.deposit(alice, 250);
+    boolean paid = ledger.withdraw(bob, 100);
+    boolean overdrawn = ledger.withdraw(bob, 1);
+
+    // Assert
+    assertEquals(750, ledger.getBalance(alice), "Alice should have 750");
+    assertTrue(paid, "Bob can pay his whole balance");
+    assertFalse(overdrawn, "Bob cannot go below zero");
+    assertEquals(0, ledger.getBalance(bob), "Bob should have nothing left");
+    assertThrows(IllegalArgumentException.class, () -> ledger.getBalance(2),
+        "Unknown slot should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> ledger.deposit(alice, 0),
+        "Zero amount should throw IllegalArgumentException");
+  }
+
+  // ==================== Transaction Tests ====================
+
+  @Test
+  @DisplayName("Should roll back only the innermost transaction")
+  void testRollback_NestedTransaction_OuterChangesKept() {
+    // Arrange
+    ledger.begin();
+    ledger.withdraw(alice, 300);
+
+    // Act
+    ledger.begin();
+    ledger.deposit(bob, 1000);
+    ledger.rollback();
+    ledger.commit();
+
+    // Assert
+    assertEquals(200, ledger.getBalance(alice), "Outer withdrawal should be kept");
+    assertEquals(100, ledger.getBalance(bob), "Inner deposit should be undone");
+    assertEquals(0, ledger.getTransactionDepth(), "Every transaction should be closed");
+    assertThrows(IllegalStateException.class, () -> ledger.commit(),
+        "Commit without transaction should throw IllegalStateException");
+    assertThrows(IllegalStateException.class, () -> ledger.rollback(),
+        "Rollback without transaction should throw IllegalStateException");
+  }
+
+  @Test
+  @DisplayName("Should undo inner commits when the outer transaction rolls back")
+  void testRollback_OuterAfterInnerCommit_EverythingUndone() {
+    // Arrange
+    ledger.begin();
+    ledger.setBalance(alice, 0, TransactionKind.WITHDRAWAL);
+    ledger.begin();
+    ledger.deposit(bob, 50);
+    ledger.commit();
+
+    // Act
+    ledger.rollback();
+
+    // Assert
+    assertEquals(500, ledger.getBalance(alice), "Alice's balance should be restored");
+    assertEquals(100, ledger.getBalance(bob), "Bob's balance should be restored");
+    assertEquals(0, ledger.getAuditCount(), "Nothing should have been committed");
+  }
+
+  @Test
+  @DisplayName("Should apply and revert many transactions without drift")
+  void testRollback_ManyTransactions_BalancesRestored() {
+    // Act
+    for (int i = 0; i < 100_000; i++) {
+      ledger.begin();
+      if (ledger.withdraw(alice, 300)) {
+        ledger.deposit(bob, 1000 + i % 7);
+      }
+      ledger.rollback();
+    }
+
+    // Assert
+    assertEquals(500, ledger.getBalance(alice), "Alice's balance should be restored");
+    assertEquals(100, ledger.getBalance(bob), "Bob's balance should be restored");
+  }
+
+  // ==================== Audit Tests ====================
+
+  @Test
+  @DisplayName("Should keep the latest committed changes in order")
+  void testGetAuditTrail_MoreChangesThanCapacity_KeepsLatest() {
+    // Arrange
+    ledger.deposit(alice, 1);
+    ledger.begin();
+    ledger.deposit(alice, 2);
+    ledger.withdraw(bob, 3);
+    ledger.commit();
+    ledger.begin();
+    ledger.deposit(alice, 99);
+    ledger.rollback();
+    ledger.deposit(bob, 4);
+    ledger.deposit(bob, 5);
+
+    // Act
+    List<LedgerEntry> trail = ledger.getAuditTrail();
+
+    // Assert
+    assertEquals(5, ledger.getAuditCount(), "Rolled back change should not be audited");
+    assertEquals(4, trail.size(), "Only the audit capacity should be kept");
+    assertEquals(1, trail.get(0).getSequence(), "Oldest kept entry should be the second change");
+    assertEquals(-3, trail.get(1).getChange(), "Withdrawal should be negative");
+    assertEquals(bob, trail.get(3).getSlot(), "Last change was to Bob");
+    assertEquals(106, trail.get(3).getBalanceAfter(), "Balance after the last change should be 106");
+  }
+
+  // ==================== Listener Tests ====================
+
+  @Test
+  @DisplayName("Should report committed changes to every listener until it is removed")
+  void testAddListener_TwoListeners_BothReported() {
+    // Arrange
+    List<Integer> first = new ArrayList<>();
+    List<Integer> second = new ArrayList<>();
+    LedgerListener firstListener = (slot, kind, change, balanceAfter) -> first.add(balanceAfter);
+    ledger.addListener(firstListener);
+    ledger.addListener((slot, kind, change, balanceAfter) -> second.add(change));
+
+    // Act
+    ledger.deposit(alice, 10);
+    boolean removed = ledger.removeListener(firstListener);
+    ledger.begin();
+    ledger.withdraw(bob, 20);
+    ledger.commit();
+
+    // Assert
+    assertEquals(List.of(510), first, "First listener should see the change before it was removed");
+    assertEquals(List.of(10, -20), second, "Second listener should see every committed change");
+    assertTrue(removed, "Added listener should be removed");
+    assertFalse(ledger.removeListener(firstListener), "Removed listener should not be removed again");
+    assertThrows(IllegalArgumentException.class, () -> ledger.addListener(null),
+        "Null listener should throw IllegalArgumentException");
+  }
+}
@@ -59,4 +59,87 @@ class TestDie {
     assertThrows(IllegalArgumentException.class, () -> die.setDieValue(-1),
         "Expected an IllegalArgumentException when setting a negative value.");
   }
+
+  //Tests that dice with the same seed roll the same sequence
+
+  @Test
+  void testSeededDiceRollSameSequence() {
+    Die first = new Die(99L);
+    Die second = new Die(99L);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.rollDie(), second.rollDie(), "Seeded dice should roll identical sequences.");
+    }
+  }
+
+  //Tests that splitting seeded dice is reproducible
+
+  @Test
+  void testSplitIsReproducible() {
+    Die first = new Die(7L).split();
+    Die second = new Die(7L).split();
+    int[] firstRolls = new int[50];
+    int[] secondRolls = new int[50];
+    first.rollMany(firstRolls);
+    second.rollMany(secondRolls);
+    assertArrayEquals(firstRolls, secondRolls, "Dice split from equal seeds should roll the same values.");
+  }
+
+  //Tests that rollMany fills the buffer with valid values without notifying observers
+
+  @Test
+  void testRollManyDoesNotNotifyObservers() {
+    int[] notifications = new int[1];
+    die.addObserver(value -> notifications[0]++);
+    int[] rolls = new int[1_000];
+
+    die.rollMany(rolls);
+
+    for (int roll : rolls) {
+      assertTrue(roll >= 1 && roll <= 6, "Every bulk roll should be between 1 and 6.");
+    }
+    assertEquals(0, notifications[0], "Bulk rolls should not notify observers.");
+    assertEquals(rolls[rolls.length - 1], die.getDieValue(), "Die value should be the last bulk roll.");
+  }
+
+  //Tests that single rolls still notify observers
+
+  @Test
+  void testRollDieNotifiesObservers() {
+    int[] lastValue = new int[1];
+    die.addObserver(value -> lastValue[0] = value);
+
+    int roll = die.rollDie();
+
+    assertEquals(roll, lastValue[0], "Observers should receive the rolled value.");
+  }
+
+  //Tests that queued rolls are returned in order before the die is random again
+
+  @Test
+  void testQueuedRollsAreReturnedFirst() {
+    int[] lastValue = new int[1];
+    die.addObserver(value -> lastValue[0] = value);
+
+    die.queueRolls(6, 1, 4);
+
+    assertEquals(6, die.rollDie(), "First queued roll should be returned first.");
+    assertEquals(1, die.rollDie(), "Second queued roll should be returned next.");
+    assertEquals(4, die.rollDie(), "Third queued roll should be returned last.");
+    assertEquals(4, lastValue[0], "Observers should receive queued rolls.");
+    assertEquals(0, die.getQueuedRollCount(), "Queue should be used up.");
+    int roll = die.rollDie();
+    assertTrue(roll >= 1 && roll <= 6, "Die should be random again after the queue.");
+  }
+
+  //Tests that rolls outside 1-6 cannot be queued
+
+  @Test
+  void testQueueRollsRejectsInvalidValues() {
+    assertThrows(IllegalArgumentException.class, () -> die.queueRolls(0),
+        "Queuing 0 should throw an exception.");
+    assertThrows(IllegalArgumentException.class, () -> die.queueRolls(3, 7),
+        "Queuing 7 should throw an exception.");
+    assertThrows(IllegalArgumentException.class, () -> die.queueRolls((int[]) null),
+        "Queuing null should throw an exception.");
+  }
 }
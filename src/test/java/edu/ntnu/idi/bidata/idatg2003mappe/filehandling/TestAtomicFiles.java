@@ -0,0 +1,72 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Test class for AtomicFiles following AAA pattern.
+ * Tests that files are replaced whole and no temporary files are left behind.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("AtomicFiles Test Suite")
+class TestAtomicFiles {
+
+  @TempDir
+  Path tempDir;
+
+  // ==================== Write Tests ====================
+
+  @Test
+  @DisplayName("Should create missing folders and write the file")
+  void testWrite_MissingFolder_CreatesFile() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("saves").resolve("game.sav");
+
+    // Act
+    AtomicFiles.write(file, new byte[] {1, 2, 3});
+
+    // Assert
+    assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(file), "File should hold the data");
+  }
+
+  @Test
+  @DisplayName("Should replace an existing file without leaving temporary files")
+  void testWrite_ExistingFile_ReplacedWithoutTemporaryFiles() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("game.sav");
+    AtomicFiles.write(file, new byte[] {1, 2, 3, 4, 5, 6});
+
+    // Act
+    AtomicFiles.write(file, new byte[] {9});
+
+    // Assert
+    assertArrayEquals(new byte[] {9}, Files.readAllBytes(file), "File should hold only the new data");
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertEquals(1, files.count(), "Only the saved file should be left in the folder");
+    }
+  }
+
+  @Test
+  @DisplayName("Should throw IllegalArgumentException for null arguments")
+  void testWrite_NullArguments_ThrowsException() {
+    // Arrange
+    Path file = tempDir.resolve("game.sav");
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> AtomicFiles.write(null, new byte[0]),
+        "Null file should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> AtomicFiles.write(file, null),
+        "Null data should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,176 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller.MissingDiamondController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.common.observer.BoardGameObserver;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for AutosaveService following AAA pattern.
+ * Tests background writing, coalescing of bursts, failure reporting and
+ * autosaving a Missing Diamond game after every turn.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("AutosaveService Test Suite")
+class TestAutosaveService {
+
+  @TempDir
+  Path tempDir;
+
+  private AutosaveService<Integer> service;
+
+  @AfterEach
+  void tearDown() {
+    if (service != null) {
+      service.close();
+    }
+  }
+
+  // ==================== Writer Tests ====================
+
+  @Test
+  @DisplayName("Should return at once and keep only the latest state of a burst")
+  void testSubmit_BurstWhileWriting_CoalescesToLatest() throws Exception {
+    // Arrange
+    List<Integer> saved = new CopyOnWriteArrayList<>();
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    service = new AutosaveService<>("test-writer", state -> {
+      if (state == 1) {
+        writing.countDown();
+        awaitQuietly(release);
+      }
+      saved.add(state);
+    });
+
+    // Act
+    service.submit(1);
+    assertTrue(writing.await(5, TimeUnit.SECONDS), "First state should be written");
+    service.submit(2);
+    service.submit(3);
+    service.submit(4);
+    release.countDown();
+    service.flush();
+
+    // Assert
+    assertEquals(List.of(1, 4), saved, "Only the latest state of the burst should be written");
+    assertEquals(4, service.getSubmittedCount(), "Every state should be counted as submitted");
+    assertEquals(2, service.getWrittenCount(), "Two states should be written");
+  }
+
+  @Test
+  @DisplayName("Should report failed saves and keep saving")
+  void testSubmit_FailingSave_ReportsAndContinues() {
+    // Arrange
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    List<Integer> saved = new CopyOnWriteArrayList<>();
+    service = new AutosaveService<>("test-writer", state -> {
+      if (state < 0) {
+        throw new FileHandlingException("Disk full");
+      }
+      saved.add(state);
+    });
+    service.setFailureHandler(failure::set);
+
+    // Act
+    service.submit(-1);
+    service.flush();
+    service.submit(5);
+    service.flush();
+
+    // Assert
+    assertEquals("Disk full", failure.get().getMessage(), "Failure should be reported");
+    assertEquals(List.of(5), saved, "Later states should still be saved");
+  }
+
+  @Test
+  @DisplayName("Should write the waiting state on close and refuse states afterwards")
+  void testClose_WaitingState_WrittenThenRejects() {
+    // Arrange
+    List<Integer> saved = new CopyOnWriteArrayList<>();
+    service = new AutosaveService<>("test-writer", saved::add);
+    service.submit(7);
+
+    // Act
+    service.close();
+
+    // Assert
+    assertEquals(List.of(7), saved, "Waiting state should be written before closing");
+    assertThrows(IllegalStateException.class, () -> service.submit(8),
+        "Submit after close should throw IllegalStateException");
+    assertThrows(IllegalArgumentException.class, () -> new AutosaveService<Integer>("x", null),
+        "Null action should throw IllegalArgumentException");
+  }
+
+  // ==================== Game Autosave Tests ====================
+
+  @Test
+  @DisplayName("Should save the game in the background after every turn")
+  void testEndTurn_WithAutosave_SavesSnapshot() throws Exception {
+    // Arrange
+    MissingDiamondController controller = new MissingDiamondController();
+    MissingDiamondSaveStore store = new MissingDiamondSaveStore(tempDir.resolve("auto.mdsave"));
+    AutosaveService<MissingDiamondSnapshot> autosave = new AutosaveService<>("test-autosave", store::save);
+    controller.addObserver(new TurnObserver(() -> autosave.submit(controller.createSnapshot())));
+
+    // Act
+    controller.endTurn();
+    controller.endTurn();
+    autosave.close();
+
+    // Assert
+    assertEquals(controller.createSnapshot(), store.load(), "Save should hold the state after the last turn");
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Runs an action whenever the turn changes.
+   */
+  private static final class TurnObserver
+      implements BoardGameObserver {
+    private final Runnable onTurn;
+
+    TurnObserver(Runnable onTurn) {
+      this.onTurn = onTurn;
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, Tile fromTile, Tile toTile) {
+    }
+
+    @Override
+    public void onDieRolled(Player player, int rollValue) {
+    }
+
+    @Override
+    public void onGameEnded(Player winner) {
+    }
+
+    @Override
+    public void onTurnChanged(Player newCurrentPlayer) {
+      onTurn.run();
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test class for GameStateBinaryCodec following AAA pattern.
+ * Tests round trips through files and memory, the size compared to the JSON
+ * export and rejecting foreign, truncated and newer saves.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("GameStateBinaryCodec Test Suite")
+class TestGameStateBinaryCodec {
+
+  @TempDir
+  Path tempDir;
+
+  private GameStateBinaryCodec codec;
+  private GameState gameState;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - A ladder game state with four players
+    codec = new GameStateBinaryCodec();
+    gameState = new GameState();
+    gameState.setGameType(GameType.LADDER_GAME);
+    gameState.setCurrentPlayerIndex(2);
+    gameState.setRandomLadders(true);
+    gameState.setPlayerPositions(List.of(
+        new GameState.PlayerPosition("Alice", 1, 17),
+        new GameState.PlayerPosition("Bjørn", 2, 90),
+        new GameState.PlayerPosition("Carl", 3, 1),
+        new GameState.PlayerPosition("Dina", 4, -1)));
+  }
+
+  // ==================== Round Trip Tests ====================
+
+  @Test
+  @DisplayName("Should read back the state written to a file")
+  void testReadWrite_File_RoundTrip() throws FileHandlingException {
+    // Arrange
+    String path = tempDir.resolve("saves/game.sav").toString();
+
+    // Act
+    codec.write(gameState, path);
+    GameState loaded = codec.read(path);
+
+    // Assert
+    assertEquals(GameType.LADDER_GAME, loaded.getGameType(), "Game type should be kept");
+    assertEquals(2, loaded.getCurrentPlayerIndex(), "Current player should be kept");
+    assertTrue(loaded.isRandomLadders(), "Random ladders flag should be kept");
+    assertNotNull(loaded.getSaveTime(), "Writing should stamp the save time");
+    assertEquals(4, loaded.getPlayerPositions().size(), "Every player should be kept");
+    for (int i = 0; i < 4; i++) {
+      GameState.PlayerPosition expected = gameState.getPlayerPositions().get(i);
+      GameState.PlayerPosition actual = loaded.getPlayerPositions().get(i);
+      assertEquals(expected.getName(), actual.getName(), "Name should be kept");
+      assertEquals(expected.getId(), actual.getId(), "ID should be kept");
+      assertEquals(expected.getTileId(), actual.getTileId(), "Tile should be kept");
+    }
+  }
+
+  @Test
+  @DisplayName("Should keep the save time and large numbers when encoding in memory")
+  void testEncodeDecode_Memory_KeepsValues() throws FileHandlingException {
+    // Arrange
+    gameState.setSaveTime("2026-10-17 12:00:00");
+    gameState.setPlayerPositions(List.of(
+        new GameState.PlayerPosition(null, Integer.MAX_VALUE, Integer.MIN_VALUE)));
+
+    // Act
+    GameState loaded = GameStateBinaryCodec.decode(GameStateBinaryCodec.encode(gameState));
+
+    // Assert
+    assertEquals("2026-10-17 12:00:00", loaded.getSaveTime(), "Save time should be kept");
+    GameState.PlayerPosition position = loaded.getPlayerPositions().get(0);
+    assertNull(position.getName(), "Missing name should stay missing");
+    assertEquals(Integer.MAX_VALUE, position.getId(), "Largest ID should be kept");
+    assertEquals(Integer.MIN_VALUE, position.getTileId(), "Smallest tile ID should be kept");
+  }
+
+  @Test
+  @DisplayName("Should be much smaller than the JSON export")
+  void testWrite_ComparedToJson_IsSmaller() throws Exception {
+    // Arrange
+    Path binary = tempDir.resolve("game.sav");
+    Path json = tempDir.resolve("game.json");
+
+    // Act
+    codec.write(gameState, binary.toString());
+    new BoardFileHandler().write(gameState, json.toString());
+
+    // Assert
+    assertTrue(Files.size(binary) * 5 < Files.size(json),
+        "Binary save should be less than a fifth of the JSON export");
+    assertEquals(GameType.LADDER_GAME, new BoardFileHandler().read(json.toString()).getGameType(),
+        "JSON export should keep the game type");
+  }
+
+  // ==================== Validation Tests ====================
+
+  @Test
+  @DisplayName("Should reject data that is not a binary save")
+  void testDecode_ForeignData_ThrowsException() {
+    // Act & Assert
+    assertThrows(FileHandlingException.class, () -> GameStateBinaryCodec.decode(new byte[0]),
+        "Empty data should throw FileHandlingException");
+    assertThrows(FileHandlingException.class,
+        () -> GameStateBinaryCodec.decode("{\"currentPlayerIndex\":0}".getBytes()),
+        "JSON should throw FileHandlingException");
+    assertThrows(FileHandlingException.class, () -> codec.read(tempDir.resolve("missing").toString()),
+        "Missing file should throw FileHandlingException");
+  }
+
+  @Test
+  @DisplayName("Should reject truncated saves and saves from newer versions")
+  void testDecode_TruncatedOrNewer_ThrowsException() {
+    // Arrange
+    byte[] data = GameStateBinaryCodec.encode(gameState);
+    byte[] truncated = Arrays.copyOf(data, data.length - 3);
+    byte[] newer = data.clone();
+    newer[4] = GameStateBinaryCodec.SCHEMA_VERSION + 1;
+
+    // Act & Assert
+    assertThrows(FileHandlingException.class, () -> GameStateBinaryCodec.decode(truncated),
+        "Truncated save should throw FileHandlingException");
+    FileHandlingException e = assertThrows(FileHandlingException.class,
+        () -> GameStateBinaryCodec.decode(newer), "Newer save should throw FileHandlingException");
+    assertTrue(e.getMessage().contains("version"), "Message should name the version");
+  }
+}
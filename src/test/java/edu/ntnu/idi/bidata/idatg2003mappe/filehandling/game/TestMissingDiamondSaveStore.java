@@ -0,0 +1,185 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.gamelogic.TokenSystem;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Test class for MissingDiamondSnapshot and MissingDiamondSaveStore following AAA pattern.
+ * Tests restoring a complete game, delta saves, compaction and ignoring stale or
+ * mismatched saves.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("MissingDiamondSaveStore Test Suite")
+class TestMissingDiamondSaveStore {
+
+  @TempDir
+  Path tempDir;
+
+  private MissingDiamond game;
+  private Path saveFile;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - A two player game on the default map
+    game = new MissingDiamond(2);
+    saveFile = tempDir.resolve("saves/game.mdsave");
+  }
+
+  /**
+   * Plays part of a turn: the first player opens a token, gets a visa and rolls.
+   */
+  private void playSomeMoves() {
+    TokenSystem tokens = game.getTokenSystem();
+    Tile tile = tokens.getGraph().getTile(tokens.getTokenTiles().nextSetBit(0));
+    Player player = game.getPlayers().get(0);
+    player.placePlayer(tile);
+    tokens.openToken(player, tile, game.getBanker());
+    player.addInventoryItem("visa");
+    game.getPlayers().get(1).setSkipTurn(true);
+    game.playTurn();
+  }
+
+  // ==================== Snapshot Tests ====================
+
+  @Test
+  @DisplayName("Should restore tokens, reveals, balances, inventories, skip flags and roll")
+  void testRestore_NewGame_MatchesSavedGame() {
+    // Arrange
+    playSomeMoves();
+    MissingDiamondSnapshot saved = MissingDiamondSnapshot.capture(game, true);
+    MissingDiamond other = new MissingDiamond(2);
+
+    // Act
+    saved.restore(other);
+
+    // Assert
+    assertEquals(saved, MissingDiamondSnapshot.capture(other, true), "Restored game should match the save");
+    TokenSystem tokens = game.getTokenSystem();
+    TokenSystem restored = other.getTokenSystem();
+    assertEquals(tokens.getTokenTiles(), restored.getTokenTiles(), "Tokens should be on the same tiles");
+    assertEquals(tokens.getRevealedTiles(), restored.getRevealedTiles(), "Same tiles should be revealed");
+    tokens.getTokenTiles().stream().forEach(i -> assertEquals(
+        tokens.getTokenAtTile(tokens.getGraph().getTile(i)).getType(),
+        restored.getTokenAtTile(restored.getGraph().getTile(i)).getType(), "Token types should match"));
+    Player first = other.getPlayers().get(0);
+    assertEquals(game.getBanker().getBalance(game.getPlayers().get(0)), other.getBanker().getBalance(first),
+        "Balance should be restored");
+    assertTrue(first.hasInventoryItem("visa"), "Inventory should be restored");
+    assertTrue(other.getPlayers().get(1).isSkipTurn(), "Skip flag should be restored");
+    assertEquals(game.getCurrentRoll(), other.getCurrentRoll(), "Roll should be restored");
+    assertEquals(game.getTokenSystem().getHiddenTokens().getHiddenCount(),
+        restored.getHiddenTokens().getHiddenCount(), "Hidden token counts should be rebuilt");
+  }
+
+  @Test
+  @DisplayName("Should reject a snapshot of another number of players without changing the game")
+  void testRestore_OtherPlayerCount_ThrowsException() {
+    // Arrange
+    MissingDiamondSnapshot threePlayers = MissingDiamondSnapshot.capture(new MissingDiamond(3));
+    MissingDiamondSnapshot before = MissingDiamondSnapshot.capture(game);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> threePlayers.restore(game),
+        "Player count mismatch should throw IllegalArgumentException");
+    assertEquals(before, MissingDiamondSnapshot.capture(game), "Game should be unchanged");
+  }
+
+  // ==================== Delta Save Tests ====================
+
+  @Test
+  @DisplayName("Should write later saves as small deltas and load the latest state")
+  void testSave_SecondSave_WritesDelta() throws Exception {
+    // Arrange
+    MissingDiamondSaveStore store = new MissingDiamondSaveStore(saveFile);
+    store.save(MissingDiamondSnapshot.capture(game));
+    playSomeMoves();
+    MissingDiamondSnapshot latest = MissingDiamondSnapshot.capture(game);
+
+    // Act
+    boolean full = store.save(latest);
+
+    // Assert
+    assertFalse(full, "Second save should be a delta");
+    assertEquals(1, store.getDeltaSaveCount(), "One delta since the snapshot");
+    assertTrue(Files.size(store.getDeltaFile()) * 4 < Files.size(saveFile),
+        "Delta should be much smaller than the snapshot");
+    assertEquals(latest, new MissingDiamondSaveStore(saveFile).load(), "Loading should apply the delta");
+  }
+
+  @Test
+  @DisplayName("Should compact into a full snapshot after the compaction interval")
+  void testSave_AfterInterval_WritesFullSnapshot() throws Exception {
+    // Arrange
+    MissingDiamondSaveStore store = new MissingDiamondSaveStore(saveFile, 2);
+    Player player = game.getPlayers().get(0);
+
+    // Act
+    boolean first = store.save(MissingDiamondSnapshot.capture(game));
+    game.getBanker().deposit(player, 100);
+    boolean second = store.save(MissingDiamondSnapshot.capture(game));
+    game.getBanker().deposit(player, 100);
+    boolean third = store.save(MissingDiamondSnapshot.capture(game));
+    game.getBanker().deposit(player, 100);
+    boolean fourth = store.save(MissingDiamondSnapshot.capture(game));
+
+    // Assert
+    assertTrue(first, "First save should be full");
+    assertFalse(second, "Second save should be a delta");
+    assertFalse(third, "Third save should be a delta");
+    assertTrue(fourth, "Save after two deltas should be compacted");
+    assertFalse(Files.exists(store.getDeltaFile()), "Compaction should remove the delta");
+    assertEquals(MissingDiamondSnapshot.capture(game), store.load(), "Compacted save should hold the latest state");
+  }
+
+  @Test
+  @DisplayName("Should ignore a delta written against an older snapshot")
+  void testLoad_StaleDelta_Ignored() throws Exception {
+    // Arrange
+    MissingDiamondSaveStore store = new MissingDiamondSaveStore(saveFile);
+    store.save(MissingDiamondSnapshot.capture(game));
+    playSomeMoves();
+    store.save(MissingDiamondSnapshot.capture(game));
+    Path staleDelta = tempDir.resolve("stale.delta");
+    Files.copy(store.getDeltaFile(), staleDelta);
+    MissingDiamondSnapshot compacted = MissingDiamondSnapshot.capture(game);
+    new MissingDiamondSaveStore(saveFile).save(compacted);
+    Files.copy(staleDelta, store.getDeltaFile(), StandardCopyOption.REPLACE_EXISTING);
+
+    // Act
+    MissingDiamondSnapshot loaded = store.load();
+
+    // Assert
+    assertEquals(compacted, loaded, "Stale delta should not be applied");
+    assertEquals(0, store.getDeltaSaveCount(), "Stale delta should not count");
+  }
+
+  @Test
+  @DisplayName("Should reject files that are not saves")
+  void testLoad_CorruptFile_ThrowsException() throws Exception {
+    // Arrange
+    MissingDiamondSaveStore store = new MissingDiamondSaveStore(saveFile);
+    Files.createDirectories(saveFile.getParent());
+    Files.writeString(saveFile, "Player Name,ID,Color,Position");
+
+    // Act & Assert
+    assertThrows(FileHandlingException.class, store::load, "Text file should throw FileHandlingException");
+    assertThrows(FileHandlingException.class, () -> new MissingDiamondSaveStore(tempDir.resolve("none")).load(),
+        "Missing save should throw FileHandlingException");
+    assertThrows(IllegalArgumentException.class, () -> new MissingDiamondSaveStore(saveFile, 0),
+        "Zero interval should throw IllegalArgumentException");
+  }
+}
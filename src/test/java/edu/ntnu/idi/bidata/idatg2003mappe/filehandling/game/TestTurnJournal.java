@@ -0,0 +1,233 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.LadderGameController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.laddergame.controller.TurnResult;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.controller.MissingDiamondController;
+import edu.ntnu.idi.bidata.idatg2003mappe.app.missingdiamond.model.MissingDiamond;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for TurnJournal, TurnJournalReader and TurnJournalReplayer following AAA pattern.
+ * Tests recording both games, recovering them by replay and ignoring batches cut short.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.2
+ * @since 17.10.2026
+ */
+@DisplayName("TurnJournal Test Suite")
+class TestTurnJournal {
+
+  @TempDir
+  Path tempDir;
+
+  private Path journalFile;
+
+  @BeforeEach
+  void setUp() {
+    journalFile = tempDir.resolve("game.journal");
+  }
+
+  private static void playLadderTurns(LadderGameController controller, int turns) {
+    TurnResult result = new TurnResult();
+    for (int i = 0; i < turns && !result.isWon(); i++) {
+      controller.playTurn(result);
+    }
+  }
+
+  /**
+   * Places the current player on a tile and queues a roll that leaves them without
+   * a valid move, so the turn is passed.
+   */
+  private static void queueRollWithoutMoves(MissingDiamondController controller) {
+    MissingDiamond game = controller.getGame();
+    Player player = game.getCurrentPlayer();
+    int playerIndex = game.getPlayers().indexOf(player);
+    for (Tile tile : game.getBoard().getTiles()) {
+      player.placePlayer(tile);
+      for (int roll = 1; roll <= 6; roll++) {
+        game.restoreTurn(playerIndex, roll, false, null);
+        boolean stuck = game.getPossibleMovesForCurrentRoll().isEmpty();
+        game.restoreTurn(playerIndex, 0, false, null);
+        if (stuck) {
+          controller.getDie().queueRolls(roll);
+          return;
+        }
+      }
+    }
+    fail("The default map should have a tile and roll without valid moves");
+  }
+
+  // ==================== Ladder Game Tests ====================
+
+  @Test
+  @DisplayName("Should rebuild a ladder game from its journal")
+  void testRecoverLadderGame_AfterTurns_MatchesGame() throws Exception {
+    // Arrange
+    LadderGameController controller = new LadderGameController(true, 42L);
+    TurnJournal journal = TurnJournal.start(journalFile, controller);
+    playLadderTurns(controller, 25);
+    journal.flush();
+
+    // Act
+    LadderGameController recovered =
+        TurnJournalReplayer.recoverLadderGame(new TurnJournalReader(journalFile));
+
+    // Assert
+    assertEquals(controller.capturePackedState(), recovered.capturePackedState(),
+        "Recovered game should match the recorded game");
+    assertEquals(controller.getCurrentPlayerIndex(), recovered.getCurrentPlayerIndex(),
+        "Recovered game should continue with the same player");
+    assertTrue(journal.getBatchCount() > 0, "Every turn should be written as a batch");
+    journal.close();
+  }
+
+  @Test
+  @DisplayName("Should mark the journal of a won game as finished")
+  void testReader_WonGame_IsFinished() throws Exception {
+    // Arrange
+    LadderGameController controller = new LadderGameController(false, 7L);
+    TurnJournal journal = TurnJournal.start(journalFile, controller);
+
+    // Act
+    playLadderTurns(controller, 100_000);
+    journal.close();
+    TurnJournalReader reader = new TurnJournalReader(journalFile);
+
+    // Assert
+    assertTrue(reader.isFinished(), "Journal of a won game should be finished");
+    assertEquals(TurnEventType.GAME_ENDED, reader.getType(reader.getEventCount() - 1),
+        "Last event should be the end of the game");
+  }
+
+  @Test
+  @DisplayName("Should ignore a batch cut short by a crash")
+  void testReader_TornBatch_Ignored() throws Exception {
+    // Arrange
+    LadderGameController controller = new LadderGameController(true, 3L);
+    TurnJournal journal = TurnJournal.start(journalFile, controller);
+    playLadderTurns(controller, 10);
+    journal.close();
+    int events = new TurnJournalReader(journalFile).getEventCount();
+    ByteBuffer torn = ByteBuffer.allocate(11).putInt(40).putInt(12345).put(new byte[] {1, 2, 3});
+    Files.write(journalFile, torn.array(), StandardOpenOption.APPEND);
+
+    // Act
+    TurnJournalReader reader = new TurnJournalReader(journalFile);
+    LadderGameController recovered = TurnJournalReplayer.recoverLadderGame(reader);
+
+    // Assert
+    assertEquals(events, reader.getEventCount(), "Batch cut short should be ignored");
+    assertEquals(controller.capturePackedState(), recovered.capturePackedState(),
+        "Game should be recovered to the last complete turn");
+  }
+
+  // ==================== Missing Diamond Tests ====================
+
+  @Test
+  @DisplayName("Should rebuild a Missing Diamond game with tokens and balances")
+  void testRecoverMissingDiamond_AfterTurns_MatchesSnapshot() throws Exception {
+    // Arrange
+    MissingDiamondController controller = new MissingDiamondController();
+    TurnJournal journal = TurnJournal.start(journalFile, controller);
+    for (int i = 0; i < 12 && !controller.isGameFinished(); i++) {
+      controller.playBotTurn(Runnable::run).get(30, TimeUnit.SECONDS);
+    }
+    journal.flush();
+
+    // Act
+    MissingDiamondController recovered =
+        TurnJournalReplayer.recoverMissingDiamond(new TurnJournalReader(journalFile));
+
+    // Assert
+    assertEquals(controller.createSnapshot(), recovered.createSnapshot(),
+        "Recovered game should match the recorded game");
+    journal.close();
+  }
+
+  @Test
+  @DisplayName("Should rebuild a game from a checkpoint taken after a turn without valid moves")
+  void testRecoverMissingDiamond_TurnWithoutMoves_MatchesSnapshot() throws Exception {
+    // Arrange
+    MissingDiamondController controller = new MissingDiamondController();
+    queueRollWithoutMoves(controller);
+    controller.playTurn();
+    TurnJournal journal = TurnJournal.start(journalFile, controller);
+    queueRollWithoutMoves(controller);
+    controller.playTurn();
+    for (int i = 0; i < 6 && !controller.isGameFinished(); i++) {
+      controller.playBotTurn(Runnable::run).get(30, TimeUnit.SECONDS);
+    }
+    journal.flush();
+
+    // Act
+    TurnJournalReader reader = new TurnJournalReader(journalFile);
+    MissingDiamondController recovered = TurnJournalReplayer.recoverMissingDiamond(reader);
+
+    // Assert
+    assertEquals(0, MissingDiamondSnapshotCodec.decode(reader.getCheckpoint()).getCurrentRoll(),
+        "Checkpoint should not hold the passed roll");
+    assertEquals(controller.createSnapshot(), recovered.createSnapshot(),
+        "Recovered game should match the recorded game");
+    journal.close();
+  }
+
+  @Test
+  @DisplayName("Should reject a journal whose payouts the replay does not make")
+  void testRecoverMissingDiamond_PayoutNotReplayed_ThrowsException() throws Exception {
+    // Arrange
+    MissingDiamondController controller = new MissingDiamondController();
+    TurnJournal journal = TurnJournal.start(journalFile, controller);
+    Banker banker = controller.getBanker();
+    Player first = controller.getCurrentPlayer();
+    banker.getLedger().deposit(banker.getAccountSlot(first), 100);
+    controller.endTurn();
+    journal.close();
+    TurnJournalReader reader = new TurnJournalReader(journalFile);
+
+    // Act & Assert
+    assertEquals(100, reader.getValue(0), "Deposit should be recorded");
+    assertEquals(banker.getBalance(first), reader.getBalanceAfter(0),
+        "Balance after the deposit should be recorded");
+    assertThrows(FileHandlingException.class, () -> TurnJournalReplayer.recoverMissingDiamond(reader),
+        "A payout the replay does not make should throw FileHandlingException");
+  }
+
+  // ==================== Error Tests ====================
+
+  @Test
+  @DisplayName("Should reject files that are not journals")
+  void testReader_NotJournal_ThrowsException() throws Exception {
+    // Arrange
+    Files.write(journalFile, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+    // Act & Assert
+    assertThrows(FileHandlingException.class, () -> new TurnJournalReader(journalFile),
+        "Reading a file that is not a journal should throw FileHandlingException");
+  }
+
+  @Test
+  @DisplayName("Should reject replaying a journal of another game")
+  void testRecover_WrongGame_ThrowsException() throws Exception {
+    // Arrange
+    LadderGameController controller = new LadderGameController(false, 1L);
+    TurnJournal.start(journalFile, controller).close();
+    TurnJournalReader reader = new TurnJournalReader(journalFile);
+
+    // Act & Assert
+    assertThrows(FileHandlingException.class, () -> TurnJournalReplayer.recoverMissingDiamond(reader),
+        "Replaying a ladder journal as Missing Diamond should throw FileHandlingException");
+  }
+}
@@ -0,0 +1,149 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.Banker;
+import edu.ntnu.idi.bidata.idatg2003mappe.banker.TransactionKind;
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test class for BankJournal and BankJournalReader following AAA pattern.
+ * Tests journaling a banker, rebuilding balances, appending to an existing
+ * journal, attaching a journal again and rejecting files that are not journals.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.1
+ * @since 17.10.2026
+ */
+@DisplayName("BankJournal Test Suite")
+class TestBankJournal {
+
+  @TempDir
+  Path tempDir;
+
+  private Path journalFile;
+  private Banker banker;
+  private Player alice;
+  private Player bob;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Two players with a banker
+    journalFile = tempDir.resolve("bank.journal");
+    banker = new Banker();
+    Tile start = new Tile(1);
+    alice = new Player("Alice", 1, "Blue", start);
+    bob = new Player("Bob", 2, "Red", start);
+    banker.registerPlayer(alice);
+  }
+
+  // ==================== Journal Tests ====================
+
+  @Test
+  @DisplayName("Should record committed changes and rebuild balances at any point")
+  void testBalancesAt_JournaledGame_MatchesBanker() throws Exception {
+    // Arrange
+    try (BankJournal journal = new BankJournal(journalFile)) {
+      journal.attach(banker.getLedger());
+      banker.registerPlayer(bob);
+
+      // Act
+      banker.deposit(alice, 1000, TransactionKind.TOKEN_PAYOUT);
+      banker.transaction(() -> banker.withdraw(bob, 300, TransactionKind.TOKEN_FLIP) && false);
+      banker.withdraw(alice, banker.getBalance(alice), TransactionKind.TOKEN_LOSS);
+      banker.deposit(bob, 50);
+    }
+
+    // Assert
+    try (BankJournalReader reader = new BankJournalReader(journalFile)) {
+      assertEquals(5, reader.getRecordCount(), "Two openings and three committed changes");
+      assertArrayEquals(new int[] {1500, 500}, reader.balancesAt(3), "Alice had 1500 before the bandit");
+      assertArrayEquals(new int[] {banker.getBalance(alice), banker.getBalance(bob)}, reader.getFinalBalances(),
+          "Final balances should match the banker");
+      List<JournalRecord> history = reader.getHistory(banker.getAccountSlot(alice));
+      assertEquals(TransactionKind.TOKEN_LOSS, history.get(2).getKind(), "Alice's last change was the bandit");
+      assertEquals(-1500, history.get(2).getChange(), "The bandit took everything");
+      assertEquals(0, history.get(2).getBalanceAfter(), "Alice should be left with nothing");
+    }
+  }
+
+  @Test
+  @DisplayName("Should take opening records as balances when a journal is attached again")
+  void testBalancesAt_ReattachedJournal_BalancesNotDoubled() throws Exception {
+    // Arrange
+    banker.registerPlayer(bob);
+    try (BankJournal journal = new BankJournal(journalFile)) {
+      journal.attach(banker.getLedger());
+      banker.deposit(alice, 200);
+    }
+
+    // Act
+    try (BankJournal reopened = new BankJournal(journalFile)) {
+      reopened.attach(banker.getLedger());
+      banker.withdraw(bob, 100);
+      assertThrows(IllegalStateException.class, () -> reopened.attach(banker.getLedger()),
+          "Attaching twice should throw IllegalStateException");
+    }
+    banker.deposit(bob, 999);
+
+    // Assert
+    try (BankJournalReader reader = new BankJournalReader(journalFile)) {
+      assertEquals(6, reader.getRecordCount(), "Two openings per attach and one change each");
+      assertArrayEquals(new int[] {banker.getBalance(alice), banker.getBalance(bob) - 999},
+          reader.getFinalBalances(), "Balances should match the banker when the journal was closed");
+    }
+  }
+
+  @Test
+  @DisplayName("Should append to an existing journal across chunks")
+  void testAppend_ReopenedJournal_KeepsOldRecords() throws Exception {
+    // Arrange
+    int records = BankJournal.RECORDS_PER_CHUNK + 10;
+    try (BankJournal journal = new BankJournal(journalFile)) {
+      for (int i = 0; i < records; i++) {
+        journal.append(i, 0, TransactionKind.DEPOSIT, 1, i + 1);
+      }
+    }
+
+    // Act
+    try (BankJournal reopened = new BankJournal(journalFile)) {
+      assertEquals(records, reopened.getRecordCount(), "Existing records should be found");
+      reopened.append(records, 1, TransactionKind.DEPOSIT, 7, 7);
+    }
+
+    // Assert
+    try (BankJournalReader reader = new BankJournalReader(journalFile)) {
+      assertEquals(records + 1, reader.getRecordCount(), "New record should follow the old ones");
+      assertArrayEquals(new int[] {records, 7}, reader.getFinalBalances(), "Every change should be summed");
+      assertEquals(records, reader.getTime(records), "Record fields should be read back");
+      assertThrows(IndexOutOfBoundsException.class, () -> reader.getChange(records + 1),
+          "Index past the last record should throw IndexOutOfBoundsException");
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject files that are not bank journals")
+  void testOpen_NotAJournal_ThrowsException() throws Exception {
+    // Arrange
+    Path textFile = tempDir.resolve("notes.txt");
+    Files.writeString(textFile, "Alice lost her money to a bandit");
+    BankJournal closed = new BankJournal(journalFile);
+    closed.close();
+
+    // Act & Assert
+    assertThrows(FileHandlingException.class, () -> new BankJournalReader(textFile),
+        "Text file should throw FileHandlingException");
+    assertThrows(FileHandlingException.class, () -> new BankJournal(textFile),
+        "Text file should throw FileHandlingException");
+    assertThrows(IllegalStateException.class, () -> closed.append(0, 0, TransactionKind.DEPOSIT, 1, 1),
+        "Closed journal should throw IllegalStateException");
+  }
+}
@@ -0,0 +1,217 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.JsonParsingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test class for MapConfigJsonCodec following AAA pattern.
+ * Tests writing and reading maps, the bundled map, skipped fields and malformed JSON.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("MapConfigJsonCodec Test Suite")
+class TestMapConfigJsonCodec {
+
+  @TempDir
+  Path tempDir;
+
+  private static MapConfig createMap(int locations) {
+    MapConfig mapConfig = new MapConfig();
+    mapConfig.setName("Test Map");
+    for (int id = 1; id <= locations; id++) {
+      mapConfig.addLocation(new MapConfig.Location(id, "City " + id, id / (double) (locations + 1),
+          0.5, id % 7 == 0));
+      if (id > 1) {
+        mapConfig.addConnection(id - 1, id);
+      }
+    }
+    return mapConfig;
+  }
+
+  private static MapConfig roundTrip(MapConfig mapConfig) throws FileHandlingException {
+    StringWriter writer = new StringWriter();
+    MapConfigJsonCodec.write(mapConfig, writer);
+    return MapConfigJsonCodec.read(new StringReader(writer.toString()));
+  }
+
+  // ==================== Round Trip Tests ====================
+
+  @Test
+  @DisplayName("Should read back the locations and connections it wrote")
+  void testRoundTrip_Map_KeepsLocationsAndConnections() throws FileHandlingException {
+    // Arrange
+    MapConfig mapConfig = createMap(20);
+
+    // Act
+    MapConfig read = roundTrip(mapConfig);
+
+    // Assert
+    assertEquals("Test Map", read.getName(), "Name should be kept");
+    assertEquals(20, read.getLocations().size(), "All locations should be read");
+    MapConfig.Location location = read.getLocations().get(6);
+    assertEquals(7, location.getId(), "Location ID should be kept");
+    assertEquals("City 7", location.getName(), "Location name should be kept");
+    assertEquals(7 / 21.0, location.getXPercent(), "X position should be kept exactly");
+    assertTrue(location.isSpecial(), "Special flag should be kept");
+    assertEquals(19, read.getConnectionCount(), "All connections should be read");
+    assertEquals(4, read.getConnections().get(3).getFromId(), "Connection source should be kept");
+    assertEquals(5, read.getConnectionToId(3), "Connection target should be kept");
+  }
+
+  @Test
+  @DisplayName("Should read back the token mix and token catalog it wrote")
+  void testRoundTrip_Tokens_KeepsMixAndCatalog() throws FileHandlingException {
+    // Arrange
+    MapConfig mapConfig = createMap(3);
+    mapConfig.setTokens(new MapConfig.TokenMix(1, 2, 3, 4, 5, 6));
+    mapConfig.setTokenCatalog(List.of(
+        new MapConfig.TokenDefinition("Diamond", 0, 0, false, null, true, 1),
+        new MapConfig.TokenDefinition("Visa", 0, 0, false, "Visa", false, 2)));
+
+    // Act
+    MapConfig read = roundTrip(mapConfig);
+
+    // Assert
+    assertEquals(4, read.getTokens().getBandits(), "Token mix should be kept");
+    assertEquals(6, read.getTokens().getReferenceCities(), "Reference city count should be kept");
+    assertEquals(2, read.getTokenCatalog().size(), "All token definitions should be read");
+    assertTrue(read.getTokenCatalog().get(0).isDiamond(), "Diamond flag should be kept");
+    assertNull(read.getTokenCatalog().get(0).getItem(), "Missing item should stay missing");
+    assertEquals("Visa", read.getTokenCatalog().get(1).getItem(), "Item should be kept");
+    assertEquals(2, read.getTokenCatalog().get(1).getCount(), "Token count should be kept");
+  }
+
+  @Test
+  @DisplayName("Should stream a large map to a file and back")
+  void testFileHandler_LargeMap_WrittenAndRead() throws FileHandlingException {
+    // Arrange
+    MapConfigFileHandler handler = new MapConfigFileHandler();
+    String file = tempDir.resolve("maps").resolve("large.json").toString();
+    MapConfig mapConfig = createMap(50_000);
+
+    // Act
+    handler.write(mapConfig, file);
+    MapConfig read = handler.read(file);
+
+    // Assert
+    assertEquals(50_000, read.getLocations().size(), "All locations should be read");
+    assertEquals(49_999, read.getConnectionCount(), "All connections should be read");
+    assertEquals(50_000, read.getConnectionToId(49_998), "Last connection should be read");
+  }
+
+  // ==================== Reading Tests ====================
+
+  @Test
+  @DisplayName("Should read the bundled default map")
+  void testReadFromResource_DefaultMap_HasLocationsAndConnections() throws FileHandlingException {
+    // Arrange
+    MapConfigFileHandler handler = new MapConfigFileHandler();
+
+    // Act
+    MapConfig mapConfig = handler.readFromResource(MapConfigFileHandler.getDefaultMapResource());
+
+    // Assert
+    assertFalse(mapConfig.getLocations().isEmpty(), "Default map should have locations");
+    assertTrue(mapConfig.getConnectionCount() > 0, "Default map should have connections");
+    assertNotNull(mapConfig.getName(), "Default map should have a name");
+  }
+
+  @Test
+  @DisplayName("Should skip unknown fields and null values")
+  void testRead_UnknownFieldsAndNulls_Skipped() throws FileHandlingException {
+    // Arrange
+    String json = "{\"version\": {\"major\": [1, 2]}, \"name\": null,"
+        + " \"locations\": [{\"id\": 3, \"colour\": \"red\", \"xPercent\": 0.25}],"
+        + " \"connections\": [{\"fromId\": 3, \"toId\": 4, \"weight\": 1.5}], \"tokenCatalog\": null}";
+
+    // Act
+    MapConfig mapConfig = MapConfigJsonCodec.read(new StringReader(json));
+
+    // Assert
+    assertNull(mapConfig.getName(), "Null name should be read as missing");
+    assertEquals(3, mapConfig.getLocations().get(0).getId(), "Known location fields should be read");
+    assertEquals(0.25, mapConfig.getLocations().get(0).getXPercent(), "Position should be read");
+    assertEquals(4, mapConfig.getConnectionToId(0), "Known connection fields should be read");
+    assertNull(mapConfig.getTokenCatalog(), "Null catalog should be read as missing");
+  }
+
+  @Test
+  @DisplayName("Should use the standard counts missing from a token mix")
+  void testRead_PartialTokenMix_UsesStandardCounts() throws FileHandlingException {
+    // Arrange
+    String json = "{\"tokens\": {\"bandits\": 9}}";
+
+    // Act
+    MapConfig mapConfig = MapConfigJsonCodec.read(new StringReader(json));
+
+    // Assert
+    assertEquals(9, mapConfig.getTokens().getBandits(), "Given count should be read");
+    assertEquals(5, mapConfig.getTokens().getRubies(), "Missing count should be standard");
+    assertEquals(32, mapConfig.getTokens().getReferenceCities(), "Missing reference should be standard");
+  }
+
+  // ==================== Error Tests ====================
+
+  @Test
+  @DisplayName("Should reject malformed JSON")
+  void testRead_MalformedJson_ThrowsException() {
+    // Arrange
+    String json = "{\"locations\": [{\"id\": 1,";
+
+    // Act & Assert
+    assertThrows(JsonParsingException.class, () -> MapConfigJsonCodec.read(new StringReader(json)),
+        "Cut-off JSON should throw JsonParsingException");
+  }
+
+  @Test
+  @DisplayName("Should reject values of the wrong type")
+  void testRead_WrongType_ThrowsException() {
+    // Arrange
+    String json = "{\"connections\": [{\"fromId\": \"first\", \"toId\": 2}]}";
+
+    // Act & Assert
+    assertThrows(JsonParsingException.class, () -> MapConfigJsonCodec.read(new StringReader(json)),
+        "A text ID should throw JsonParsingException");
+  }
+
+  @Test
+  @DisplayName("Should reject invalid token counts")
+  void testRead_NegativeTokenCount_ThrowsException() {
+    // Arrange
+    String json = "{\"tokens\": {\"rubies\": -1}}";
+
+    // Act & Assert
+    assertThrows(JsonParsingException.class, () -> MapConfigJsonCodec.read(new StringReader(json)),
+        "A negative count should throw JsonParsingException");
+  }
+
+  // ==================== Connection List Tests ====================
+
+  @Test
+  @DisplayName("Should change the connection list as any list")
+  void testConnections_ListChanges_Applied() {
+    // Arrange
+    MapConfig mapConfig = createMap(4);
+
+    // Act
+    mapConfig.getConnections().remove(0);
+    mapConfig.getConnections().add(0, new MapConfig.Connection(4, 1));
+
+    // Assert
+    assertEquals(3, mapConfig.getConnectionCount(), "Connection count should be kept");
+    assertEquals(4, mapConfig.getConnectionFromId(0), "Inserted connection should be first");
+    assertEquals(2, mapConfig.getConnectionFromId(1), "Later connections should move up");
+  }
+}
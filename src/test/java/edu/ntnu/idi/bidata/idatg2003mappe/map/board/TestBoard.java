@@ -310,4 +310,54 @@ class TestBoard {
     assertEquals(tile1, start1, "Start tile should be consistent");
     assertEquals(tile2, byId1, "Retrieved tile should be consistent");
   }
-}
\ No newline at end of file
+
+  // ==================== Tile Index Tests ====================
+
+  @Test
+  @DisplayName("Should find tiles added after the first lookup")
+  void testGetTileById_TilesAddedAfterLookup_Found() {
+    // Arrange
+    board.addTileToBoard(tile1);
+    assertSame(tile1, board.getTileById(1), "First tile should be found");
+
+    // Act
+    board.addTileToBoard(tile2);
+    board.addTileToBoard(new Tile(1_000_000));
+
+    // Assert
+    assertSame(tile2, board.getTileById(2), "Tile inside the index range should be found");
+    assertEquals(1_000_000, board.getTileById(1_000_000).getTileId(),
+        "Tile far outside the index range should be found");
+    assertNull(board.getTileById(3), "Missing tile should return null");
+  }
+
+  @Test
+  @DisplayName("Should return the first tile added for duplicate IDs")
+  void testGetTileById_DuplicateIds_FirstTileWins() {
+    // Arrange
+    Tile duplicate = new Tile(1);
+
+    // Act
+    board.addMultipleTilesToBoard(tile1, duplicate);
+
+    // Assert
+    assertSame(tile1, board.getTileById(1), "The first tile with the ID should be returned");
+    assertEquals(2, board.getTileCount(), "Both tiles should still be on the board");
+  }
+
+  @Test
+  @DisplayName("Should look up tiles with sparse and negative IDs")
+  void testGetTileById_SparseIds_Found() {
+    // Arrange
+    Tile negative = new Tile(-5);
+    Tile far = new Tile(Integer.MAX_VALUE);
+
+    // Act
+    board.addMultipleTilesToBoard(negative, tile1, far);
+
+    // Assert
+    assertSame(negative, board.getTileById(-5), "Negative ID should be found");
+    assertSame(far, board.getTileById(Integer.MAX_VALUE), "Large ID should be found");
+    assertNull(board.getTileById(0), "Missing tile should return null");
+  }
+}
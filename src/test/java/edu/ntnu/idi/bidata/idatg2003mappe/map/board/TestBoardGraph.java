@@ -0,0 +1,191 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.map.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Test class for BoardGraph following AAA pattern.
+ * Tests the compressed neighbour storage, tile lookups and the
+ * BitSet frontier reachability on small and large boards.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.1
+ * @since 17.10.2026
+ */
+@DisplayName("BoardGraph Test Suite")
+class TestBoardGraph {
+
+  private BoardBranching board;
+  private Tile tile1;
+  private Tile tile2;
+  private Tile tile3;
+  private Tile tile4;
+  private Tile tile5;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Path 1 - 2 - 3 - 4 with a branch 2 - 5
+    board = new BoardBranching();
+    tile1 = new Tile(1);
+    tile2 = new Tile(2);
+    tile3 = new Tile(3);
+    tile4 = new Tile(4);
+    tile5 = new Tile(5);
+    board.addMultipleTilesToBoard(tile1, tile2, tile3, tile4, tile5);
+    board.connectTiles(tile1, tile2);
+    board.connectTiles(tile2, tile3);
+    board.connectTiles(tile3, tile4);
+    board.connectTiles(tile2, tile5);
+  }
+
+  // ==================== Structure Tests ====================
+
+  @Test
+  @DisplayName("Should store each neighbour once even when connected twice")
+  void testNeighborsOf_RepeatedConnection_Deduplicated() {
+    // Arrange
+    board.connectTiles(tile1, tile2);
+
+    // Act
+    BoardGraph graph = board.getGraph();
+
+    // Assert
+    assertEquals(5, graph.size(), "Graph should hold every tile");
+    assertEquals(8, graph.getNeighborEntryCount(), "Four connections should give eight entries");
+    assertArrayEquals(new int[] {1}, graph.neighborsOf(graph.indexOf(tile1)), "Tile 1 should have one neighbour");
+    assertArrayEquals(new int[] {0, 2, 4}, graph.neighborsOf(graph.indexOf(tile2)),
+        "Tile 2 neighbours should keep link order");
+    assertEquals(3, graph.degree(graph.indexOf(tile2)), "Tile 2 should have three neighbours");
+  }
+
+  @Test
+  @DisplayName("Should find tiles by reference and by ID")
+  void testIndexOf_KnownAndUnknownTiles_ReturnsIndexOrMinusOne() {
+    // Act
+    BoardGraph graph = board.getGraph();
+
+    // Assert
+    assertSame(tile4, graph.getTile(graph.indexOfId(4)), "ID lookup should find tile 4");
+    assertEquals(graph.indexOf(tile3), graph.indexOfId(3), "Both lookups should agree");
+    assertEquals(-1, graph.indexOfId(42), "Unknown ID should give -1");
+    assertEquals(-1, graph.indexOf(new Tile(1)), "Tile not on the board should give -1");
+    assertThrows(IndexOutOfBoundsException.class, () -> graph.getTile(5),
+        "Index past the graph should throw IndexOutOfBoundsException");
+  }
+
+  @Test
+  @DisplayName("Should find tiles with sparse and repeated IDs")
+  void testIndexOf_SparseAndRepeatedIds_ReturnsIndex() {
+    // Arrange
+    Tile far = new Tile(5_000_000);
+    Tile twin = new Tile(2);
+    BoardGraph sparse = new BoardGraph(List.of(tile1, far));
+    BoardGraph repeated = new BoardGraph(List.of(tile1, tile2, twin));
+
+    // Act & Assert
+    assertEquals(1, sparse.indexOfId(5_000_000), "Far ID should be found without a table");
+    assertEquals(1, sparse.indexOf(far), "Far tile should be found by reference");
+    assertEquals(-1, sparse.indexOfId(-3), "Negative ID should give -1");
+    assertEquals(1, repeated.indexOfId(2), "Repeated ID should give the first tile");
+    assertEquals(1, repeated.indexOf(tile2), "First tile with the ID should keep its index");
+    assertEquals(2, repeated.indexOf(twin), "Second tile with the ID should be found by reference");
+  }
+
+  @Test
+  @DisplayName("Should reuse the graph until the board changes")
+  void testGetGraph_BoardModified_Rebuilt() {
+    // Arrange
+    BoardGraph first = board.getGraph();
+    assertSame(first, board.getGraph(), "Unchanged board should reuse the graph");
+
+    // Act
+    board.connectTiles(tile4, tile5);
+
+    // Assert
+    BoardGraph second = board.getGraph();
+    assertNotSame(first, second, "Modified board should get a new graph");
+    assertEquals(2, second.degree(second.indexOf(tile4)), "New connection should be included");
+  }
+
+  // ==================== Reachability Tests ====================
+
+  @Test
+  @DisplayName("Should spread the frontier by shortest distance")
+  void testReachableInSteps_FromTile1_ReturnsLayers() {
+    // Arrange
+    BoardGraph graph = board.getGraph();
+    BitSet source = new BitSet();
+    source.set(graph.indexOf(tile1));
+
+    // Act
+    BitSet twoSteps = graph.reachableInSteps(source, 2);
+    BitSet withinTwo = graph.reachableWithin(source, 2);
+
+    // Assert
+    assertEquals(bits(graph, tile3, tile5), twoSteps, "Tiles 3 and 5 are two steps away");
+    assertEquals(bits(graph, tile1, tile2, tile3, tile5), withinTwo, "Tile 4 is three steps away");
+    assertThrows(IllegalArgumentException.class, () -> graph.reachableInSteps(source, -1),
+        "Negative steps should throw IllegalArgumentException");
+  }
+
+  @Test
+  @DisplayName("Should give an empty graph for a board without tiles")
+  void testGetGraph_EmptyBoard_EmptyGraph() {
+    // Arrange
+    BoardBranching empty = new BoardBranching();
+
+    // Act
+    BoardGraph graph = empty.getGraph();
+
+    // Assert
+    assertEquals(0, graph.size(), "Empty board should have no tiles in its graph");
+    assertEquals(0, graph.getNeighborEntryCount(), "Empty board should have no connections");
+  }
+
+  @Test
+  @DisplayName("Should handle a board with more than 100 000 tiles")
+  void testReachableWithin_LargeGrid_CountsDiamond() {
+    // Arrange - 320 x 320 grid
+    int side = 320;
+    BoardBranching grid = new BoardBranching();
+    Tile[] cells = new Tile[side * side];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = new Tile(i);
+      grid.addTileToBoard(cells[i]);
+    }
+    for (int row = 0; row < side; row++) {
+      for (int col = 0; col < side; col++) {
+        int i = row * side + col;
+        if (col + 1 < side) {
+          grid.connectTiles(cells[i], cells[i + 1]);
+        }
+        if (row + 1 < side) {
+          grid.connectTiles(cells[i], cells[i + side]);
+        }
+      }
+    }
+
+    // Act
+    BoardGraph graph = grid.getGraph();
+    BitSet center = new BitSet();
+    center.set(graph.indexOfId(160 * side + 160));
+    BitSet reached = graph.reachableWithin(center, 6);
+
+    // Assert
+    assertEquals(side * side, graph.size(), "Every grid cell should be indexed");
+    assertEquals(2 * 6 * 7 + 1, reached.cardinality(), "Six steps on a grid should reach a diamond of 85 cells");
+  }
+
+  private static BitSet bits(BoardGraph graph, Tile... tiles) {
+    BitSet set = new BitSet();
+    for (Tile tile : tiles) {
+      set.set(graph.indexOf(tile));
+    }
+    return set;
+  }
+}
@@ -0,0 +1,170 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.map.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.entity.player.Player;
+import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
+import org.junit.jupiter.api.*;
+
+/**
+ * Test class for CompiledLadderBoard following AAA pattern.
+ * Tests that the compiled jump table resolves moves, ladders and effects
+ * the same way as the linked tiles of the board it was compiled from.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("CompiledLadderBoard Test Suite")
+class TestCompiledLadderBoard {
+
+  private BoardLinear classicBoard;
+  private CompiledLadderBoard compiled;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Compile a fresh classic board for each test
+    classicBoard = LadderGameBoardFactory.createClassicLadderBoard();
+    compiled = classicBoard.getCompiledBoard();
+  }
+
+  // ==================== Compilation Tests ====================
+
+  @Test
+  @DisplayName("Should compile every tile of the board")
+  void testCompile_ClassicBoard_ContainsAllTiles() {
+    // Arrange - done in setUp
+
+    // Act
+    int size = compiled.size();
+
+    // Assert
+    assertEquals(100, size, "Compiled board should have 100 tiles");
+    assertEquals(classicBoard.getStartTile(), compiled.tileAt(compiled.getStartIndex()),
+        "Start index should map to the start tile");
+  }
+
+  @Test
+  @DisplayName("Should reuse the compiled board until tiles are added")
+  void testGetCompiledBoard_AddTile_RecompilesBoard() {
+    // Arrange
+    CompiledLadderBoard first = classicBoard.getCompiledBoard();
+
+    // Act
+    classicBoard.addTileToBoard(new Tile(101));
+    CompiledLadderBoard second = classicBoard.getCompiledBoard();
+
+    // Assert
+    assertSame(first, compiled, "Compiled board should be cached");
+    assertNotSame(first, second, "Adding a tile should invalidate the compiled board");
+    assertEquals(101, second.size(), "Recompiled board should include the new tile");
+  }
+
+  @Test
+  @DisplayName("Should reject compiling an empty board")
+  void testGetCompiledBoard_EmptyBoard_ThrowsException() {
+    // Arrange
+    BoardLinear emptyBoard = new BoardLinear();
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, emptyBoard::getCompiledBoard,
+        "Compiling an empty board should throw IllegalStateException");
+  }
+
+  // ==================== Movement Tests ====================
+
+  @Test
+  @DisplayName("Should match tile links for every tile and roll")
+  void testAdvance_AllTilesAndRolls_MatchesTileLinks() {
+    // Arrange - done in setUp
+
+    for (int index = 0; index < compiled.size(); index++) {
+      for (int roll = 1; roll <= 6; roll++) {
+        // Act
+        Tile expected = compiled.tileAt(index).getTileAtDistance(roll);
+        Tile actual = compiled.tileAt(compiled.advance(index, roll));
+
+        // Assert
+        assertSame(expected, actual, "Move from index " + index + " with roll " + roll);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should stop at the last tile when overshooting")
+  void testAdvance_Overshoot_StopsAtLastTile() {
+    // Arrange
+    int index = compiled.indexOfId(98);
+
+    // Act
+    int landed = compiled.advance(index, 6);
+
+    // Assert
+    assertEquals(100, compiled.tileAt(landed).getTileId(), "Overshooting should stop at tile 100");
+  }
+
+  @Test
+  @DisplayName("Should reject negative step counts")
+  void testAdvance_NegativeSteps_ThrowsException() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> compiled.advance(0, -1),
+        "Negative steps should throw IllegalArgumentException");
+  }
+
+  // ==================== Ladder and Effect Tests ====================
+
+  @Test
+  @DisplayName("Should resolve ladders and snakes to their destinations")
+  void testDestinationOf_LadderAndSnake_ReturnsDestination() {
+    // Arrange
+    int ladderStart = compiled.indexOfId(2);
+    int snakeStart = compiled.indexOfId(99);
+    int plainTile = compiled.indexOfId(3);
+
+    // Act & Assert
+    assertEquals(38, compiled.tileAt(compiled.destinationOf(ladderStart)).getTileId(),
+        "Ladder on tile 2 should lead to tile 38");
+    assertEquals(81, compiled.tileAt(compiled.destinationOf(snakeStart)).getTileId(),
+        "Snake on tile 99 should lead to tile 81");
+    assertFalse(compiled.hasDestination(plainTile), "Tile 3 should have no ladder or snake");
+    assertEquals(plainTile, compiled.destinationOf(plainTile),
+        "Tiles without ladders should point to themselves");
+  }
+
+  @Test
+  @DisplayName("Should compile tile effects to effect codes")
+  void testEffectOf_ClassicEffects_ReturnsCodes() {
+    // Act & Assert
+    assertEquals(CompiledLadderBoard.EFFECT_SKIP_TURN, compiled.effectOf(compiled.indexOfId(13)),
+        "Tile 13 should have the skip turn effect");
+    assertEquals(CompiledLadderBoard.EFFECT_BACK_TO_START, compiled.effectOf(compiled.indexOfId(45)),
+        "Tile 45 should have the back to start effect");
+    assertEquals(CompiledLadderBoard.EFFECT_NONE, compiled.effectOf(compiled.indexOfId(50)),
+        "Tile 50 should have no effect");
+  }
+
+  // ==================== Lookup Tests ====================
+
+  @Test
+  @DisplayName("Should return -1 for tiles that are not on the board")
+  void testIndexOf_UnknownTile_ReturnsMinusOne() {
+    // Act & Assert
+    assertEquals(-1, compiled.indexOf(new Tile(5)), "A different tile with the same id is not on the board");
+    assertEquals(-1, compiled.indexOf(null), "Null should not be found");
+    assertEquals(-1, compiled.indexOfId(0), "Id 0 should not be found");
+    assertEquals(-1, compiled.indexOfId(Integer.MAX_VALUE), "Extreme ids should not be found");
+  }
+
+  @Test
+  @DisplayName("Should move player through the compiled board")
+  void testMovePlayer_CompiledBoard_MovesPlayer() {
+    // Arrange
+    Player player = new Player("Alice", 1, "Red", classicBoard.getStartTile());
+
+    // Act
+    player.movePlayer(4, compiled);
+
+    // Assert
+    assertEquals(5, player.getCurrentTile().getTileId(), "Player should move from tile 1 to tile 5");
+  }
+}
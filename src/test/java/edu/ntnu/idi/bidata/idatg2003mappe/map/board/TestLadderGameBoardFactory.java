@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import edu.ntnu.idi.bidata.idatg2003mappe.map.Tile;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+import java.util.stream.IntStream;
+
 /**
  * Unit tests for the LadderGameBoardFactory class.
  * Tests the creation of both classic and random ladder game boards.
@@ -221,6 +224,78 @@ class TestLadderGameBoardFactory {
     assertTrue(boardsAreDifferent, "Two random boards should be different from each other");
   }
 
+  /**
+   * Test that the same seed produces the same random board and that every
+   * requested ladder and snake is actually placed.
+   */
+  @Test
+  void testSeededRandomConnectionsAreReproducibleAndComplete() {
+    // Act
+    int[] first = LadderGameBoardFactory.generateRandomConnections(new Random(42));
+    int[] second = LadderGameBoardFactory.generateRandomConnections(new Random(42));
+
+    // Assert
+    assertArrayEquals(first, second, "The same seed should give the same connections");
+    long ladders = IntStream.range(0, 100).filter(i -> first[i] > i).count();
+    long snakes = IntStream.range(0, 100).filter(i -> first[i] < i).count();
+    assertEquals(8, ladders, "Only successful placements should count, so all 8 ladders exist");
+    assertEquals(8, snakes, "Only successful placements should count, so all 8 snakes exist");
+    assertEquals(99, first[99], "The last tile should never hold a snake");
+  }
+
+  /**
+   * Test that the primitive layout matches the compiled layout of the built board.
+   */
+  @Test
+  void testCreateLayoutMatchesCompiledBoard() {
+    // Arrange
+    int[] connections = LadderGameBoardFactory.generateRandomConnections(new Random(7));
+
+    // Act
+    LadderLayout layout = LadderGameBoardFactory.createLayout(connections);
+    BoardLinear board = LadderGameBoardFactory.createLadderBoard(connections);
+
+    // Assert
+    assertEquals(board.getCompiledBoard().getLayout(), layout,
+        "Layout without tiles should equal the layout compiled from the board");
+  }
+
+  /**
+   * Test that large random boards scale ladders, snakes and effects with their size.
+   */
+  @Test
+  void testLargeRandomBoardScalesWithSize() {
+    // Act
+    BoardLinear board = LadderGameBoardFactory.createRandomLadderBoard(100_000, new Random(3));
+
+    // Assert
+    assertEquals(100_000, board.getTileCount(), "The board should have the requested size");
+    assertEquals(100_000, board.getTileById(100_000).getTileId(), "The goal tile should be found by ID");
+    assertNull(board.getTileById(100_000).getNextTile(), "The goal tile should be the last tile");
+    assertEquals("skipTurn", board.getTileById(99_913).getEffect(),
+        "Skip turn tiles should repeat in every block of 100 tiles");
+    assertEquals("backToStart", board.getTileById(45).getEffect(), "Back to start tile should exist");
+    assertNotEquals("backToStart", board.getTileById(99_945).getEffect(),
+        "Back to start tile should not repeat");
+    long connections = board.getTiles().stream().filter(tile -> tile.getDestinationTile() != null).count();
+    assertTrue(connections > 10_000, "Ladders and snakes should grow with the board size");
+  }
+
+  /**
+   * Test that random boards smaller than the minimum size are rejected.
+   */
+  @Test
+  void testTooSmallRandomBoardThrows() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> LadderGameBoardFactory.createRandomLadderBoard(
+            LadderGameBoardFactory.MIN_RANDOM_BOARD_SIZE - 1, new Random(1)),
+        "Boards below the minimum size should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class,
+        () -> LadderGameBoardFactory.createLadderBoard(new int[] {0, 5}),
+        "Connections outside the board should throw IllegalArgumentException");
+  }
+
   /**
    * Helper method to assert that a tile has the correct destination.
    */
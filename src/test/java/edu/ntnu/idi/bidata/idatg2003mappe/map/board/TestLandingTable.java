@@ -0,0 +1,134 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.map.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * Test class for LandingTable following AAA pattern.
+ * Tests end-of-board clamping, effect handling, chained ladders and snakes,
+ * and that looping chains still come to rest.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("LandingTable Test Suite")
+class TestLandingTable {
+
+  private static final int SIZE = 12;
+
+  private int[] next;
+  private int[] destination;
+  private byte[] effect;
+
+  @BeforeEach
+  void setUp() {
+    // Arrange - Plain 12-tile path without ladders or effects
+    next = new int[SIZE];
+    destination = new int[SIZE];
+    effect = new byte[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      next[i] = Math.min(i + 1, SIZE - 1);
+      destination[i] = i;
+    }
+  }
+
+  private LandingTable table() {
+    return new LadderLayout(next, destination, effect).getLandingTable();
+  }
+
+  // ==================== Movement Tests ====================
+
+  @Test
+  @DisplayName("Should walk the roll and clamp at the last tile")
+  void testRestingIndexOf_PlainPath_WalksAndClamps() {
+    // Act
+    LandingTable landings = table();
+
+    // Assert
+    assertEquals(4, landings.restingIndexOf(1, 3), "Roll should be walked along the path");
+    assertEquals(SIZE - 1, landings.restingIndexOf(9, 6), "Overshooting rolls should stop at the goal");
+    assertFalse(landings.isJumped(1, 3), "No ladder should be reported");
+    assertEquals(SIZE, landings.size(), "Table should cover every position");
+  }
+
+  @Test
+  @DisplayName("Should follow a ladder that ends on another ladder")
+  void testRestingIndexOf_ChainedLadders_FollowedToEnd() {
+    // Arrange
+    destination[2] = 5;
+    destination[5] = 9;
+
+    // Act
+    LandingTable landings = table();
+
+    // Assert
+    assertEquals(9, landings.restingIndexOf(0, 2), "Both ladders should be climbed");
+    assertTrue(landings.isJumped(0, 2), "The roll should be reported as a jump");
+    assertEquals(9, landings.restingIndexOf(0, 5), "Landing on the second ladder should climb it");
+  }
+
+  @Test
+  @DisplayName("Should come to rest on chains that loop back on themselves")
+  void testRestingIndexOf_LoopingChain_StopsBeforeRepeating() {
+    // Arrange
+    destination[3] = 7;
+    destination[7] = 3;
+
+    // Act
+    LandingTable landings = table();
+
+    // Assert
+    int resting = landings.restingIndexOf(0, 3);
+    assertTrue(resting == 3 || resting == 7, "The player should rest on a tile of the loop");
+  }
+
+  // ==================== Effect Tests ====================
+
+  @Test
+  @DisplayName("Should send the player back to start and follow a ladder from there")
+  void testEffectOf_BackToStart_RestsOnStartChain() {
+    // Arrange
+    effect[4] = CompiledLadderBoard.EFFECT_BACK_TO_START;
+    destination[0] = 6;
+
+    // Act
+    LandingTable landings = table();
+
+    // Assert
+    assertEquals(CompiledLadderBoard.EFFECT_BACK_TO_START, landings.effectOf(1, 3),
+        "The landed tile's effect should be reported");
+    assertEquals(6, landings.restingIndexOf(1, 3), "The ladder on the start tile should be followed");
+  }
+
+  @Test
+  @DisplayName("Should report skip effects only for the landed tile")
+  void testEffectOf_SkipTurnBehindLadder_NotApplied() {
+    // Arrange
+    effect[2] = CompiledLadderBoard.EFFECT_SKIP_TURN;
+    destination[1] = 8;
+    effect[8] = CompiledLadderBoard.EFFECT_SKIP_TURN;
+
+    // Act
+    LandingTable landings = table();
+
+    // Assert
+    assertEquals(CompiledLadderBoard.EFFECT_SKIP_TURN, landings.effectOf(0, 2), "Landed tile should skip");
+    assertEquals(CompiledLadderBoard.EFFECT_NONE, landings.effectOf(0, 1),
+        "Tiles reached through a ladder should not trigger their effect");
+  }
+
+  @Test
+  @DisplayName("Should reject rolls outside the table")
+  void testRestingIndexOf_InvalidRoll_ThrowsException() {
+    // Arrange
+    LandingTable landings = table();
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> landings.restingIndexOf(0, 0),
+        "Zero roll should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> landings.restingIndexOf(0, LandingTable.MAX_ROLL + 1),
+        "Roll above the die should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,192 @@
+package edu.ntnu.idi.bidata.idatg2003mappe.markers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.exceptionhandling.FileHandlingException;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map.MapConfig;
+import edu.ntnu.idi.bidata.idatg2003mappe.filehandling.map.MapConfigJsonCodec;
+import org.junit.jupiter.api.*;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test class for TokenCatalog, TokenType and CatalogMarker following AAA pattern.
+ * Tests shared effects, catalog validation, scaling, token creation and
+ * catalogs defined in map JSON.
+ *
+ * @author Simen Gudbrandsen and Frikk Breadsroed
+ * @version 1.0.0
+ * @since 17.10.2026
+ */
+@DisplayName("TokenCatalog Test Suite")
+class TestTokenCatalog {
+
+  // ==================== Token Type Tests ====================
+
+  @Test
+  @DisplayName("Should share one effect between every token of a type")
+  void testCreateMarker_SameType_SharesEffect() {
+    // Act
+    Marker first = TokenType.RUBY.createMarker();
+    Marker second = TokenType.RUBY.createMarker();
+
+    // Assert
+    assertSame(first.getEffect(), second.getEffect(), "Tokens of one type should share their effect");
+    assertSame(first.getEffect(), first.getEffect(), "Revealing twice should not create an effect");
+    assertEquals("RedGem", first.getType(), "Catalog ruby should keep the marker type name");
+    assertEquals(1000, first.getEffect().getMoneyChange(), "Ruby should pay 1000");
+    assertSame(TokenEffectResult.loseAllMoney(), TokenType.BANDIT.getEffect(), "Bandit should use the shared effect");
+    assertSame(new RedGem().getEffect(), new RedGem().getEffect(), "Marker classes should share their effect too");
+  }
+
+  @Test
+  @DisplayName("Should give catalog tokens the same effects as the marker classes")
+  void testStandardTypes_MatchMarkerClasses() {
+    // Arrange
+    Marker[] classic = {new Diamond(), new RedGem(), new GreenGem(), new YellowGem(), new Bandit(), new Visa()};
+    TokenType[] types = {TokenType.DIAMOND, TokenType.RUBY, TokenType.EMERALD, TokenType.TOPAZ,
+        TokenType.BANDIT, TokenType.VISA};
+
+    // Act & Assert
+    for (int i = 0; i < types.length; i++) {
+      TokenEffectResult expected = classic[i].getEffect();
+      TokenEffectResult actual = types[i].getEffect();
+      assertEquals(classic[i].getType(), types[i].getName(), "Names should match");
+      assertEquals(classic[i].getValue(), types[i].getValue(), "Values should match");
+      assertEquals(expected.getMoneyChange(), actual.getMoneyChange(), types[i] + " money should match");
+      assertEquals(expected.getInventoryItem(), actual.getInventoryItem(), types[i] + " item should match");
+      assertEquals(expected.isDiamond(), actual.isDiamond(), types[i] + " diamond flag should match");
+    }
+  }
+
+  @Test
+  @DisplayName("Should create the marker classes for the standard types")
+  void testCreateMarker_StandardTypes_MarkerClasses() {
+    // Act
+    Marker diamond = TokenType.DIAMOND.createMarker();
+    Marker ruby = TokenType.RUBY.createMarker();
+    Marker custom = new TokenType("GoldNugget", 50, 250, null, false).createMarker();
+
+    // Assert
+    assertInstanceOf(Diamond.class, diamond, "Diamond type should create a Diamond");
+    assertInstanceOf(RedGem.class, ruby, "Ruby type should create a RedGem");
+    assertInstanceOf(BlankMarker.class, TokenType.BLANK.createMarker(), "Blank type should create a BlankMarker");
+    assertInstanceOf(CatalogMarker.class, custom, "Map types should create catalog markers");
+    assertSame(TokenType.RUBY.getEffect(), ruby.getEffect(), "Type and marker class should share one effect");
+  }
+
+  @Test
+  @DisplayName("Should reject invalid token types")
+  void testTokenType_InvalidArguments_ThrowsException() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new TokenType(" ", 0, 0, null, false),
+        "Blank name should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new TokenType("Gold", 0, 500, null, true),
+        "Paying diamond should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new CatalogMarker(null),
+        "Null type should throw IllegalArgumentException");
+  }
+
+  // ==================== Catalog Tests ====================
+
+  @Test
+  @DisplayName("Should create the standard tokens followed by blanks")
+  void testCreateTokens_StandardCatalog_FillsWithBlanks() {
+    // Arrange
+    TokenCatalog catalog = TokenCatalog.standard();
+
+    // Act
+    List<Marker> tokens = catalog.createTokens(30);
+
+    // Assert
+    assertEquals(30, tokens.size(), "One token per city");
+    assertEquals(23, catalog.getTokenCount(), "Standard catalog should hold 23 tokens");
+    assertTrue(tokens.get(0).getEffect().isDiamond(), "Diamond should come first");
+    assertEquals(1, tokens.stream().filter(t -> t.getEffect().isDiamond()).count(), "Exactly one diamond");
+    assertEquals(7, tokens.stream().filter(t -> t.getType().equals("Blank")).count(), "Seven blank fillers");
+    assertEquals(4, catalog.getCount(TokenType.BANDIT), "Four bandits");
+  }
+
+  @Test
+  @DisplayName("Should scale every type except the diamond on big maps")
+  void testScaledTo_DoubleCities_DoublesCounts() {
+    // Arrange
+    TokenCatalog catalog = TokenCatalog.standard();
+
+    // Act
+    TokenCatalog scaled = catalog.scaledTo(64);
+
+    // Assert
+    assertSame(catalog, catalog.scaledTo(32), "Small maps should keep the catalog");
+    assertEquals(1, scaled.getCount(TokenType.DIAMOND), "Diamond should not scale");
+    assertEquals(10, scaled.getCount(TokenType.RUBY), "Rubies should double");
+    assertEquals(6, scaled.getCount(TokenType.VISA), "Visas should double");
+    assertEquals(64, scaled.getReferenceCities(), "Scaled catalog should be meant for the new map");
+  }
+
+  @Test
+  @DisplayName("Should reject catalogs without exactly one diamond or with repeated names")
+  void testConstructor_InvalidCatalog_ThrowsException() {
+    // Arrange
+    Map<TokenType, Integer> noDiamond = new LinkedHashMap<>();
+    noDiamond.put(TokenType.RUBY, 3);
+    Map<TokenType, Integer> twice = new LinkedHashMap<>();
+    twice.put(TokenType.DIAMOND, 1);
+    twice.put(TokenType.RUBY, 1);
+    twice.put(new TokenType("RedGem", 1, 1, null, false), 1);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new TokenCatalog(noDiamond, 32),
+        "Missing diamond should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new TokenCatalog(twice, 32),
+        "Repeated name should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> TokenCatalog.standard(-1, 0, 0, 0, 0, 32),
+        "Negative count should throw IllegalArgumentException");
+  }
+
+  // ==================== Map Catalog Tests ====================
+
+  @Test
+  @DisplayName("Should read new token types from map JSON")
+  void testCreateTokenCatalog_JsonDefinitions_NewTypes() throws FileHandlingException {
+    // Arrange
+    String json = "{\"name\":\"Gold Rush\",\"tokenCatalog\":["
+        + "{\"type\":\"Diamond\",\"value\":2000,\"diamond\":true,\"count\":1},"
+        + "{\"type\":\"GoldNugget\",\"value\":50,\"money\":250,\"count\":6},"
+        + "{\"type\":\"TaxCollector\",\"money\":-500,\"count\":2},"
+        + "{\"type\":\"Robber\",\"loseAllMoney\":true,\"count\":1},"
+        + "{\"type\":\"Passport\",\"item\":\"visa\",\"count\":2}]}";
+
+    // Act
+    TokenCatalog catalog = MapConfigJsonCodec.read(new StringReader(json)).createTokenCatalog();
+
+    // Assert
+    assertEquals(12, catalog.getTokenCount(), "Every defined token should be counted");
+    assertEquals(TokenCatalog.STANDARD_REFERENCE_CITIES, catalog.getReferenceCities(),
+        "Map without a mix should use the standard reference city count");
+    TokenType nugget = catalog.getType("GoldNugget");
+    assertEquals(250, nugget.getEffect().getMoneyChange(), "Nugget should pay 250");
+    assertEquals(-500, catalog.getType("TaxCollector").getEffect().getMoneyChange(), "Tax should cost 500");
+    assertTrue(catalog.getType("Robber").getEffect().isLoseAllMoney(), "Robber should take everything");
+    assertEquals("visa", catalog.getType("Passport").getEffect().getInventoryItem(), "Passport should give a visa");
+    assertNull(catalog.getType("RedGem"), "Standard types should not be added");
+  }
+
+  @Test
+  @DisplayName("Should use the standard types with the map's mix when no catalog is defined")
+  void testCreateTokenCatalog_OnlyMix_StandardTypes() {
+    // Arrange
+    MapConfig config = new MapConfig();
+    config.setTokens(new MapConfig.TokenMix(1, 2, 3, 4, 5, 20));
+
+    // Act
+    TokenCatalog catalog = config.createTokenCatalog();
+
+    // Assert
+    assertEquals(3, catalog.getCount(TokenType.TOPAZ), "Mix counts should be kept");
+    assertEquals(20, catalog.getReferenceCities(), "Mix reference city count should be kept");
+  }
+}